@@ -0,0 +1,62 @@
+package com.example.springbatch.jmh;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionProductDto;
+import com.example.springbatch.job.mysql_to_bigquery.reader.AuctionProductRowMapper;
+
+// AuctionProductRowMapper.mapRow 한 행 변환 비용
+// 메모리 ResultSet(H2 SimpleResultSet) 사용 => JDBC 드라이버/네트워크 비용 제외, 컬럼 조회 + DTO 생성만 측정
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuctionProductRowMapperBenchmark {
+
+	private static final int ROWS = 10_000;
+
+	private final AuctionProductRowMapper rowMapper = new AuctionProductRowMapper();
+	private SimpleResultSet resultSet;
+	private int rowNum;
+
+	@Setup
+	public void setUp() {
+		resultSet = new SimpleResultSet();
+		resultSet.addColumn("auction_id", Types.BIGINT, 19, 0);
+		resultSet.addColumn("product_id", Types.BIGINT, 19, 0);
+		resultSet.addColumn("product_name", Types.VARCHAR, 255, 0);
+		resultSet.addColumn("product_category", Types.VARCHAR, 50, 0);
+		resultSet.addColumn("max_price", Types.DECIMAL, 15, 0);
+		resultSet.addColumn("auction_start_time", Types.TIMESTAMP, 26, 6);
+		resultSet.addColumn("auction_end_time", Types.TIMESTAMP, 26, 6);
+		resultSet.addColumn("last_modified", Types.TIMESTAMP, 26, 6);
+
+		List<AuctionProductDto> items = BenchmarkData.auctionProducts(ROWS, 42);
+		for (AuctionProductDto item : items) {
+			resultSet.addRow(item.getAuctionId(), item.getProductId(), item.getProductName(),
+				item.getProductCategory(), item.getMaxPrice(), item.getAuctionStartTime(), item.getAuctionEndTime(),
+				item.getLastModified());
+		}
+	}
+
+	@Benchmark
+	public AuctionProductDto mapRow() throws SQLException {
+		if (!resultSet.next()) {
+			resultSet.beforeFirst();
+			resultSet.next();
+			rowNum = 0;
+		}
+		return rowMapper.mapRow(resultSet, rowNum++);
+	}
+}
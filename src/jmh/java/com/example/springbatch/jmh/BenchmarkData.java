@@ -0,0 +1,78 @@
+package com.example.springbatch.jmh;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionProductDto;
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+
+// 벤치마크용 데이터 => 운영 데이터와 비슷한 분포 (고정 seed)
+// 상품명 길이 다양 + 일부 쉼표/따옴표 포함, 가격 로그 정규 분포 + 10% NULL, modified_at 대체로 증가 + 일부 같은 시각
+final class BenchmarkData {
+
+	private static final String[] CATEGORIES = {"전자기기", "패션", "가구", "도서", "스포츠", "완구", "식품", "뷰티"};
+	private static final String[] NAME_WORDS = {"프리미엄", "한정판", "중고", "새상품", "빈티지", "Pro", "Max", "Lite",
+		"세트", "에디션", "2025", "정품", "\"특가\"", "무료배송,", "리퍼"};
+	private static final long BASE_TIME = Timestamp.valueOf("2025-01-01 00:00:00").getTime();
+
+	private BenchmarkData() {}
+
+	static List<AuctionProductDto> auctionProducts(int count, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		List<AuctionProductDto> items = new ArrayList<>(count);
+		long modifiedAt = BASE_TIME;
+		for (int i = 0; i < count; i++) {
+			// 80% 는 증가, 20% 는 직전과 같은 시각 (일괄 수정)
+			if (random.nextDouble() < 0.8) {
+				modifiedAt += 1 + random.nextInt(5_000);
+			}
+			long startTime = BASE_TIME + random.nextLong(90L * 24 * 60 * 60 * 1000);
+			items.add(AuctionProductDto.builder()
+				.auctionId(1_000_000L + i)
+				.productId(1L + (long)Math.floor(Math.pow(random.nextDouble(), 3) * 50_000)) // 인기 상품 쏠림
+				.productName(productName(random))
+				.productCategory(CATEGORIES[(int)Math.floor(Math.pow(random.nextDouble(), 2) * CATEGORIES.length)])
+				.maxPrice(random.nextDouble() < 0.1 ? null
+					: BigDecimal.valueOf(Math.round(Math.exp(9 + gaussian(random) * 1.5))))
+				.auctionStartTime(new Timestamp(startTime))
+				.auctionEndTime(new Timestamp(startTime + (1 + random.nextInt(7)) * 24L * 60 * 60 * 1000))
+				.lastModified(new Timestamp(modifiedAt))
+				.build());
+		}
+		return items;
+	}
+
+	static List<AuctionsWinningBidDto> winningBids(int count, long seed) {
+		List<AuctionsWinningBidDto> items = new ArrayList<>(count);
+		for (AuctionProductDto item : auctionProducts(count, seed)) {
+			items.add(AuctionsWinningBidDto.builder()
+				.auctionId(item.getAuctionId())
+				.productId(item.getProductId())
+				.productName(item.getProductName())
+				.productCategory(item.getProductCategory())
+				.maxPrice(item.getMaxPrice() != null ? item.getMaxPrice().longValue() : null)
+				.auctionStartTime(item.getAuctionStartTime().toInstant())
+				.auctionEndTime(item.getAuctionEndTime().toInstant())
+				.lastModified(item.getLastModified().toInstant())
+				.build());
+		}
+		return items;
+	}
+
+	private static String productName(SplittableRandom random) {
+		int words = 1 + random.nextInt(6);
+		StringBuilder name = new StringBuilder("상품");
+		for (int i = 0; i < words; i++) {
+			name.append(' ').append(NAME_WORDS[random.nextInt(NAME_WORDS.length)]);
+		}
+		return name.toString();
+	}
+
+	// Box-Muller
+	private static double gaussian(SplittableRandom random) {
+		return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+	}
+}
@@ -0,0 +1,63 @@
+package com.example.springbatch.jmh;
+
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+import com.example.springbatch.staging.CsvStagingEncoder;
+import com.example.springbatch.staging.DirectBufferPool;
+import com.example.springbatch.staging.PooledBufferOutputStream;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+// BigQueryItemWriter 의 chunk CSV 인코딩 비용 (chunk 하나 = 호출 한 번)
+// Writer 와 같은 CsvMapper 설정 + 같은 Direct 버퍼 풀 경로 사용
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CsvEncodingBenchmark {
+
+	@Param({"1000", "5000"})
+	public int chunkSize;
+
+	private List<AuctionsWinningBidDto> items;
+	private CsvStagingEncoder<AuctionsWinningBidDto> encoder;
+	private DirectBufferPool bufferPool;
+
+	@Setup
+	public void setUp() {
+		items = BenchmarkData.winningBids(chunkSize, 42);
+
+		CsvMapper csvMapper = new CsvMapper();
+		csvMapper.registerModule(new JavaTimeModule());
+		csvMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSSSSS");
+		sdf.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
+		csvMapper.setDateFormat(sdf);
+		encoder = new CsvStagingEncoder<>(csvMapper, AuctionsWinningBidDto.class);
+
+		bufferPool = new DirectBufferPool(1024 * 1024, 64, 300);
+	}
+
+	@Benchmark
+	public long encodeChunk() throws Exception {
+		PooledBufferOutputStream out = encoder.encode(items, bufferPool);
+		try {
+			return out.size();
+		} finally {
+			out.release();
+		}
+	}
+}
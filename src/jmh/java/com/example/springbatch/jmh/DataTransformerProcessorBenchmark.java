@@ -0,0 +1,82 @@
+package com.example.springbatch.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.LoggerFactory;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionProductDto;
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+import com.example.springbatch.job.mysql_to_bigquery.processor.DataTransformerProcessor;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+
+// DataTransformerProcessor.process 한 건 변환 비용
+// logLevel=INFO: 운영 설정 (debug 로그 비활성 => 인자 평가/레벨 검사 비용만)
+// logLevel=DEBUG: debug 로그 활성 => DTO toString 포맷팅 비용 포함 (출력은 버림)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataTransformerProcessorBenchmark {
+
+	private static final int ITEMS = 10_000;
+
+	@Param({"INFO", "DEBUG"})
+	public String logLevel;
+
+	private final DataTransformerProcessor processor = new DataTransformerProcessor();
+	private List<AuctionProductDto> items;
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		items = BenchmarkData.auctionProducts(ITEMS, 42);
+
+		// 콘솔 출력 비용을 제외하기 위해 메시지 포맷팅만 하고 버리는 appender 로 교체
+		LoggerContext context = (LoggerContext)LoggerFactory.getILoggerFactory();
+		Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+		root.detachAndStopAllAppenders();
+		FormattingDiscardAppender appender = new FormattingDiscardAppender();
+		appender.setContext(context);
+		appender.start();
+		root.addAppender(appender);
+		root.setLevel(ch.qos.logback.classic.Level.INFO);
+		context.getLogger(DataTransformerProcessor.class).setLevel(ch.qos.logback.classic.Level.toLevel(logLevel));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		((LoggerContext)LoggerFactory.getILoggerFactory()).reset();
+	}
+
+	@Benchmark
+	public AuctionsWinningBidDto process() throws Exception {
+		AuctionProductDto item = items.get(index);
+		index = (index + 1) % ITEMS;
+		return processor.process(item);
+	}
+
+	// 메시지를 실제로 포맷팅한 뒤 버리는 appender (layout/IO 비용 제외)
+	static class FormattingDiscardAppender extends AppenderBase<ILoggingEvent> {
+
+		private int length;
+
+		@Override
+		protected void append(ILoggingEvent event) {
+			length += event.getFormattedMessage().length();
+		}
+	}
+}
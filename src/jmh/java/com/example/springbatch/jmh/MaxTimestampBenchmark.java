@@ -0,0 +1,58 @@
+package com.example.springbatch.jmh;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+import com.example.springbatch.job.mysql_to_bigquery.writer.BigQueryItemWriter;
+
+// BigQueryItemWriter.updateMaxTimestampInContext 비용 (chunk 하나 = 호출 한 번)
+// private 메서드이므로 MethodHandle 로 직접 호출 => Writer 의 다른 단계(인코딩/업로드) 제외
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MaxTimestampBenchmark {
+
+	@Param({"1000", "5000"})
+	public int chunkSize;
+
+	private BigQueryItemWriter writer;
+	private MethodHandle updateMaxTimestampInContext;
+	private List<AuctionsWinningBidDto> items;
+
+	@Setup
+	public void setUp() throws Exception {
+		items = new ArrayList<>(BenchmarkData.winningBids(chunkSize, 42));
+
+		writer = new BigQueryItemWriter(null, "benchmark-bucket", null, null);
+		JobExecution jobExecution = new JobExecution(new JobInstance(1L, "benchmarkJob"), 1L, new JobParameters());
+		StepExecution stepExecution = new StepExecution("benchmarkStep", jobExecution, 1L);
+		writer.saveStepExecution(stepExecution);
+
+		updateMaxTimestampInContext = MethodHandles.privateLookupIn(BigQueryItemWriter.class, MethodHandles.lookup())
+			.findVirtual(BigQueryItemWriter.class, "updateMaxTimestampInContext",
+				MethodType.methodType(void.class, List.class));
+	}
+
+	@Benchmark
+	public void updateMaxTimestamp() throws Throwable {
+		updateMaxTimestampInContext.invoke(writer, items);
+	}
+}
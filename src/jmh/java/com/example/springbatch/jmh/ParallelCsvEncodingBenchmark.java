@@ -0,0 +1,68 @@
+package com.example.springbatch.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+import com.example.springbatch.job.mysql_to_bigquery.writer.BigQueryItemWriter;
+import com.example.springbatch.staging.CsvStagingEncoder;
+import com.example.springbatch.staging.DirectBufferPool;
+import com.example.springbatch.staging.ParallelCsvEncoder;
+import com.example.springbatch.staging.PooledBufferOutputStream;
+
+// 큰 chunk 의 slice 병렬 인코딩 속도 => slice 크기/병렬도(코어 수)별 비교
+// sliceRows = 0 은 기존처럼 한 번에 인코딩 (기준값) => 속도 향상 = 기준값 시간 / 각 조합 시간
+// ./gradlew jmh -Pjmh.includes=ParallelCsvEncodingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelCsvEncodingBenchmark {
+
+	@Param({"50000"})
+	public int chunkSize;
+
+	@Param({"0", "2500", "10000"})
+	public int sliceRows;
+
+	@Param({"2", "4", "8"})
+	public int parallelism;
+
+	private List<AuctionsWinningBidDto> items;
+	private CsvStagingEncoder<AuctionsWinningBidDto> encoder;
+	private DirectBufferPool bufferPool;
+	private ParallelCsvEncoder parallelEncoder;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		items = BenchmarkData.winningBids(chunkSize, 42);
+		encoder = new CsvStagingEncoder<>(BigQueryItemWriter.createCsvMapper(), AuctionsWinningBidDto.class);
+		bufferPool = new DirectBufferPool(1024 * 1024, 256, 300);
+		parallelEncoder = new ParallelCsvEncoder(sliceRows > 0 ? 1 : 0, sliceRows, parallelism);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		parallelEncoder.destroy();
+	}
+
+	@Benchmark
+	public long encodeChunk() throws Exception {
+		PooledBufferOutputStream out = parallelEncoder.encode(encoder, items, bufferPool);
+		try {
+			return out.size();
+		} finally {
+			out.release();
+		}
+	}
+}
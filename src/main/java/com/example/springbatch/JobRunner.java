@@ -6,9 +6,14 @@ import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import com.example.springbatch.lease.SingleFlightJobLauncher;
+import com.example.springbatch.restart.InPlaceRestartResolver;
+import com.example.springbatch.streaming.StreamingJobLauncher;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,6 +24,9 @@ public class JobRunner implements CommandLineRunner { // 테스트를 위해 애
 
 	private final JobLauncher jobLauncher;
 	private final Job mysqlToBigQueryJob;
+	private final StreamingJobLauncher streamingJobLauncher;
+	private final SingleFlightJobLauncher singleFlightJobLauncher; // 다른 노드/실행과 겹치지 않도록 lease 를 잡고 실행
+	private final InPlaceRestartResolver inPlaceRestartResolver; // 스텝 도중 실패한 실행이 있으면 그 위치부터 재시작
 
 
 	// CommandLineRunner 인터페이스 메서드
@@ -33,10 +41,20 @@ public class JobRunner implements CommandLineRunner { // 테스트를 위해 애
 			.toJobParameters();
 
 		try {
-			jobLauncher.run(mysqlToBigQueryJob, jobParameters); // Job 실행
+			// 재시작할 실행이 있으면 그 실행의 파라미터 => 같은 JobInstance 를 마지막 커밋 위치부터 이어서 실행
+			jobParameters = inPlaceRestartResolver.resolve(mysqlToBigQueryJob, jobParameters);
+			singleFlightJobLauncher.run(jobLauncher, mysqlToBigQueryJob, jobParameters); // Job 실행
 			log.info("JobRunner: 작업 성공");
+		} catch (JobExecutionAlreadyRunningException e) {
+			log.info("JobRunner: 다른 실행이 진행 중이라 시작하지 않음: {}", e.getMessage());
 		} catch (Exception e) {
 			log.error("JobRunner: 작업 실패", e);
 		}
+
+		// 스트리밍 모드: 배치 실행으로 밀린 구간(또는 초기 스냅샷)을 처리한 뒤 상주 실행 시작
+		if (streamingJobLauncher.isEnabled()) {
+			log.info("JobRunner: 스트리밍 모드 시작");
+			streamingJobLauncher.start();
+		}
 	}
 }
\ No newline at end of file
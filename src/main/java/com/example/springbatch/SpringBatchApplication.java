@@ -1,5 +1,7 @@
 package com.example.springbatch;
 
+import java.util.Map;
+
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -9,7 +11,12 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 public class SpringBatchApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(SpringBatchApplication.class, args);
+		SpringApplication application = new SpringApplication(SpringBatchApplication.class);
+		// 기본값 (application.yml 설정이 우선) => ETL 메트릭(/actuator/prometheus), 실행 기록 추이(/actuator/runstats) 노출
+		// 진행 상황/수동 실행(/actuator/etlprogress) 은 작업을 시작할 수 있으므로 기본 노출하지 않음
+		// => 인증(Spring Security 또는 내부망 게이트웨이) 뒤에서만 include 에 추가
+		application.setDefaultProperties(Map.of("management.endpoints.web.exposure.include", "health,prometheus,runstats"));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,271 @@
+package com.example.springbatch.change;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+import com.example.springbatch.metrics.EtlMetrics;
+import com.example.springbatch.progress.BackfillParameters;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ChangeDetectionProcessor implements ItemProcessor<AuctionsWinningBidDto, AuctionsWinningBidDto>,
+	StepExecutionListener, ChunkListener, ItemStream, DisposableBean { // 내보내는 컬럼이 바뀌지 않은 행을 Writer 전에 걸러냄
+	// auctions/product 의 modified_at 은 내보내지 않는 컬럼이 바뀌어도 갱신됨 => 같은 값을 다시 인코딩/업로드/로드하게 됨
+	// auction_id 별로 내보내는 컬럼의 64 bit 해시를 메모리 맵 파일(MappedLongLongMap)에 보관하고 같으면 null 반환 (filter)
+	// 해시는 BigQuery 로드가 성공한 뒤에만 파일에 반영 => 로드가 실패한 실행의 행을 다음 실행에서 건너뛰지 않음
+	// 건너뛴 행의 최신 타임스탬프는 process() 에서 ExecutionContext 에 쓰지 않고 모아 두었다가 chunk 커밋 시점(update)에 반영
+	// => 아직 커밋되지 않은 chunk 의 행 때문에 watermark 가 앞서 나가지 않음
+	// chunk 스텝만 stream 으로 등록 (staged 모드는 Tasklet 이 batch 마다 걸러진 행을 포함한 최신 타임스탬프를 커밋 시 반영)
+
+	private static final String MAX_TIMESTAMP_KEY = "maxProcessedTimestampInChunk"; // Writer/리스너와 같은 키
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final long NULL_MARK = 0x9e3779b97f4a7c15L; // null 과 빈 값/0 을 구분
+	private static final long MISSING = 0; // 해시는 0 이 되지 않도록 조정 => 저장된 값이 없음을 뜻함
+
+	private final boolean enabled;
+	private final Path storePath;
+	private final int initialCapacity;
+	private final String jobName;
+
+	private final LongAdder hits = new LongAdder(); // 건너뛴 행 수
+	private final LongAdder checked = new LongAdder(); // 검사한 행 수
+	private final Counter unchangedRows;
+	private final Counter changedRows;
+	private final Counter skippedBytes;
+
+	private MappedLongLongMap store; // 처음 사용하는 스텝에서 열림
+	private boolean bypass; // backfill => 걸러내지 않고 해시만 갱신
+	private Timestamp filteredMaxTimestamp; // 아직 커밋되지 않은 chunk 에서 건너뛴 행의 최신 타임스탬프
+
+	// 이번 스텝에서 Writer 로 보낸 행의 (auction_id, 해시) => 로드 성공 시 저장소에 반영
+	private long[] pendingKeys = new long[1024];
+	private long[] pendingHashes = new long[1024];
+	private int pendingCount;
+
+	// 생성자
+	@Autowired
+	public ChangeDetectionProcessor(
+		@Value("${app.batch.change-detection.enabled:false}") boolean enabled,
+		@Value("${app.batch.change-detection.dir:${user.home}/.etl/change-detection}") String storeDir,
+		@Value("${app.batch.change-detection.initial-capacity:1048576}") int initialCapacity,
+		@Value("${app.batch.job-name}") String jobName) {
+		this.enabled = enabled;
+		this.storePath = Path.of(storeDir, jobName + ".map");
+		this.initialCapacity = initialCapacity;
+		this.jobName = jobName;
+		this.unchangedRows = EtlMetrics.changeDetectionRows(jobName, "unchanged");
+		this.changedRows = EtlMetrics.changeDetectionRows(jobName, "changed");
+		this.skippedBytes = EtlMetrics.changeDetectionSkippedBytes(jobName);
+		EtlMetrics.changeDetectionHitRatio(jobName, hits, checked);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		this.bypass = BackfillParameters.isBackfill(stepExecution.getJobParameters());
+		this.pendingCount = 0;
+		clearFilteredMaxTimestamp();
+		if (store == null) {
+			try {
+				store = MappedLongLongMap.open(storePath, initialCapacity);
+				log.info("변경 감지 저장소 열기: 경로 = {}, 항목 = {}", storePath, store.size());
+			} catch (IOException e) {
+				throw new UncheckedIOException("변경 감지 저장소 열기 실패: " + storePath, e);
+			}
+		}
+	}
+
+	@Override
+	public AuctionsWinningBidDto process(AuctionsWinningBidDto item) {
+		if (item.getAuctionId() == null) {
+			return item;
+		}
+
+		long hash = hash(item);
+		checked.increment();
+		if (!bypass && store.get(item.getAuctionId(), MISSING) == hash) {
+			// BigQuery 에 같은 값이 이미 있음 => 건너뛰지만 다시 읽지 않도록 타임스탬프는 반영
+			hits.increment();
+			unchangedRows.increment();
+			skippedBytes.increment(estimateCsvBytes(item));
+			trackFilteredTimestamp(item.getLastModified());
+			return null;
+		}
+
+		changedRows.increment();
+		addPending(item.getAuctionId(), hash);
+		return item;
+	}
+
+	// chunk 커밋 직전 (ExecutionContext 저장 전) 호출 => 이번 chunk 에서 건너뛴 행의 타임스탬프 반영
+	@Override
+	public synchronized void update(ExecutionContext executionContext) {
+		if (filteredMaxTimestamp == null) {
+			return;
+		}
+		Timestamp current = (Timestamp)executionContext.get(MAX_TIMESTAMP_KEY);
+		if (current == null || filteredMaxTimestamp.after(current)) {
+			executionContext.put(MAX_TIMESTAMP_KEY, filteredMaxTimestamp);
+		}
+		filteredMaxTimestamp = null;
+	}
+
+	// 롤백된 chunk 의 행은 다시 읽으므로 모아 둔 타임스탬프 버림
+	@Override
+	public void afterChunkError(ChunkContext context) {
+		clearFilteredMaxTimestamp();
+	}
+
+	// 로드 리스너보다 먼저 등록 => afterStep 은 등록 역순으로 호출되므로 로드 결과가 반영된 종료 상태를 봄
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		if (!ExitStatus.COMPLETED.getExitCode().equals(stepExecution.getExitStatus().getExitCode())) {
+			log.info("변경 감지: 스텝 실패 => 해시 반영 안함: 대기 = {}", pendingCount);
+			pendingCount = 0;
+			return null;
+		}
+
+		try {
+			int full = 0;
+			for (int i = 0; i < pendingCount; i++) {
+				if (!store.put(pendingKeys[i], pendingHashes[i])) {
+					full++;
+				}
+			}
+			store.force();
+			if (full > 0) {
+				log.warn("변경 감지 저장소가 가득 차 새 경매의 해시를 저장하지 못함: 경로 = {}, 개수 = {}", storePath, full);
+			}
+			log.info("변경 감지 해시 반영: 작업 = {}, 반영 = {}, 저장소 항목 = {}", jobName, pendingCount, store.size());
+		} catch (IOException e) {
+			// 해시를 반영하지 못해도 다음 실행에서 다시 로드할 뿐 => 스텝 결과는 바꾸지 않음
+			log.warn("변경 감지 해시 반영 실패: 경로 = {}, 오류 = {}", storePath, e.getMessage());
+		} finally {
+			pendingCount = 0;
+			if (pendingKeys.length > 1024) {
+				pendingKeys = new long[1024];
+				pendingHashes = new long[1024];
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void destroy() throws IOException {
+		if (store != null) {
+			store.close();
+		}
+	}
+
+	// 내보내는 컬럼(auction_id 제외)의 64 bit 해시 (FNV-1a 변형 + murmur3 마무리)
+	public static long hash(AuctionsWinningBidDto item) {
+		long h = FNV_OFFSET;
+		h = mix(h, item.getProductId());
+		h = mix(h, item.getProductName());
+		h = mix(h, item.getProductCategory());
+		h = mix(h, item.getMaxPrice());
+		h = mix(h, item.getAuctionStartTime());
+		h = mix(h, item.getAuctionEndTime());
+
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb53a85ec8d63L;
+		h ^= h >>> 33;
+		return h == MISSING ? 1 : h;
+	}
+
+	private static long mix(long h, Long value) {
+		return value == null ? step(h, NULL_MARK) : step(step(h, 1), value);
+	}
+
+	private static long mix(long h, String value) {
+		if (value == null) {
+			return step(h, NULL_MARK);
+		}
+		h = step(h, value.length());
+		for (int i = 0; i < value.length(); i++) {
+			h = step(h, value.charAt(i));
+		}
+		return h;
+	}
+
+	private static long mix(long h, Instant value) {
+		return value == null ? step(h, NULL_MARK) : step(step(h, value.getEpochSecond()), value.getNano());
+	}
+
+	private static long step(long h, long value) {
+		return (h ^ value) * FNV_PRIME;
+	}
+
+	// 건너뛴 행의 CSV 크기 추정 => 인코딩 없이 필드 길이 합 + 구분자
+	private static long estimateCsvBytes(AuctionsWinningBidDto item) {
+		return length(item.getAuctionId()) + length(item.getProductId()) + length(item.getProductName())
+			+ length(item.getProductCategory()) + length(item.getMaxPrice())
+			+ length(item.getAuctionStartTime()) + length(item.getAuctionEndTime())
+			+ 7; // 쉼표 6 + 줄바꿈 1
+	}
+
+	private static int length(Long value) {
+		return value == null ? 0 : Long.toString(value).length();
+	}
+
+	private static int length(String value) {
+		return value == null ? 0 : value.length();
+	}
+
+	private static int length(Instant value) {
+		return value == null ? 0 : value.toString().length();
+	}
+
+	// staged 실행 모드에서는 여러 변환 스레드가 호출
+	private synchronized void trackFilteredTimestamp(Instant lastModified) {
+		if (lastModified == null) {
+			return;
+		}
+		Timestamp timestamp = Timestamp.from(lastModified);
+		if (filteredMaxTimestamp == null || timestamp.after(filteredMaxTimestamp)) {
+			filteredMaxTimestamp = timestamp;
+		}
+	}
+
+	private synchronized void clearFilteredMaxTimestamp() {
+		filteredMaxTimestamp = null;
+	}
+
+	private synchronized void addPending(long key, long hash) {
+		if (pendingCount == pendingKeys.length) {
+			pendingKeys = Arrays.copyOf(pendingKeys, pendingCount * 2);
+			pendingHashes = Arrays.copyOf(pendingHashes, pendingCount * 2);
+		}
+		pendingKeys[pendingCount] = key;
+		pendingHashes[pendingCount] = hash;
+		pendingCount++;
+	}
+}
@@ -0,0 +1,217 @@
+package com.example.springbatch.change;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class MappedLongLongMap implements Closeable { // 메모리 맵 파일 위의 long => long 해시 맵 (open addressing, linear probing)
+	// 힙에 Long 박싱/엔트리 객체를 만들지 않고, 프로세스가 재시작돼도 파일에 내용이 남음
+	// 파일 구조: [헤더 64 byte][슬롯 (key 8 byte, value 8 byte) x capacity]
+	// key 0 은 빈 슬롯 표시 => 실제 key 0 은 헤더에 따로 저장
+	// 삭제는 지원하지 않음 (경매 ID 는 계속 늘어나기만 함)
+
+	private static final long MAGIC = 0x45544c4348474d31L; // "ETLCHGM1"
+	private static final int HEADER_BYTES = 64;
+	private static final int SLOT_BYTES = 16;
+	private static final int MAGIC_OFFSET = 0;
+	private static final int CAPACITY_OFFSET = 8;
+	private static final int SIZE_OFFSET = 16;
+	private static final int HAS_ZERO_KEY_OFFSET = 24;
+	private static final int ZERO_VALUE_OFFSET = 32;
+
+	private static final double MAX_LOAD_FACTOR = 0.7;
+	public static final int MAX_CAPACITY = 1 << 26; // 파일 하나를 MappedByteBuffer 하나로 매핑 (2GB 미만) => 약 4700 만 개까지 저장
+
+	private final Path path;
+	private FileChannel channel;
+	private MappedByteBuffer buffer;
+	private int capacity; // 슬롯 수 (2 의 거듭제곱)
+	private long size;
+
+	private MappedLongLongMap(Path path, FileChannel channel, MappedByteBuffer buffer) {
+		this.path = path;
+		this.channel = channel;
+		this.buffer = buffer;
+		this.capacity = (int)buffer.getLong(CAPACITY_OFFSET);
+		this.size = buffer.getLong(SIZE_OFFSET);
+	}
+
+	// 파일이 있으면 기존 내용을 그대로 매핑, 없거나 형식이 다르면 새로 생성
+	public static MappedLongLongMap open(Path path, int initialCapacity) throws IOException {
+		Files.createDirectories(path.toAbsolutePath().getParent());
+		if (Files.exists(path) && Files.size(path) >= HEADER_BYTES) {
+			FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+			long capacity = header.getLong(CAPACITY_OFFSET);
+			if (header.getLong(MAGIC_OFFSET) == MAGIC && Long.bitCount(capacity) == 1 && capacity <= MAX_CAPACITY
+				&& channel.size() == mappedBytes((int)capacity)) {
+				return new MappedLongLongMap(path, channel,
+					channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedBytes((int)capacity)));
+			}
+			channel.close();
+			log.warn("변경 감지 파일 형식이 맞지 않아 새로 생성: 경로 = {}", path);
+		}
+		FileChannel channel = create(path, tableSizeFor(initialCapacity));
+		return new MappedLongLongMap(path, channel,
+			channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+	}
+
+	// key 의 값 조회 (없으면 defaultValue)
+	public synchronized long get(long key, long defaultValue) {
+		if (key == 0) {
+			return buffer.getLong(HAS_ZERO_KEY_OFFSET) != 0 ? buffer.getLong(ZERO_VALUE_OFFSET) : defaultValue;
+		}
+		int mask = capacity - 1;
+		for (int slot = (int)(mix(key) & mask); ; slot = (slot + 1) & mask) {
+			long offset = slotOffset(slot);
+			long stored = buffer.getLong((int)offset);
+			if (stored == key) {
+				return buffer.getLong((int)offset + 8);
+			}
+			if (stored == 0) {
+				return defaultValue;
+			}
+		}
+	}
+
+	// key 의 값 저장 => 최대 크기에 도달해 새 key 를 넣을 수 없으면 false
+	public synchronized boolean put(long key, long value) throws IOException {
+		if (key == 0) {
+			if (buffer.getLong(HAS_ZERO_KEY_OFFSET) == 0) {
+				buffer.putLong(ZERO_VALUE_OFFSET, value);
+				buffer.putLong(HAS_ZERO_KEY_OFFSET, 1);
+				buffer.putLong(SIZE_OFFSET, ++size);
+			} else {
+				buffer.putLong(ZERO_VALUE_OFFSET, value);
+			}
+			return true;
+		}
+		if (size + 1 > (long)(capacity * MAX_LOAD_FACTOR)) {
+			if (capacity >= MAX_CAPACITY) {
+				return update(key, value); // 더 키울 수 없음 => 이미 있는 key 만 갱신
+			}
+			resize(capacity << 1);
+		}
+		if (insert(buffer, capacity, key, value)) {
+			buffer.putLong(SIZE_OFFSET, ++size);
+		}
+		return true;
+	}
+
+	public synchronized long size() {
+		return size;
+	}
+
+	// 변경 내용을 디스크에 반영
+	public synchronized void force() {
+		buffer.force();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		buffer.force();
+		channel.close();
+	}
+
+	private boolean update(long key, long value) {
+		int mask = capacity - 1;
+		for (int slot = (int)(mix(key) & mask); ; slot = (slot + 1) & mask) {
+			long offset = slotOffset(slot);
+			long stored = buffer.getLong((int)offset);
+			if (stored == key) {
+				buffer.putLong((int)offset + 8, value);
+				return true;
+			}
+			if (stored == 0) {
+				return false;
+			}
+		}
+	}
+
+	// 새 key 면 true
+	// 새 슬롯은 value 를 먼저 쓰고 key 를 씀 => 중간에 프로세스가 죽어도 key 만 있고 value 가 없는 슬롯은 남지 않음
+	private static boolean insert(MappedByteBuffer target, int targetCapacity, long key, long value) {
+		int mask = targetCapacity - 1;
+		for (int slot = (int)(mix(key) & mask); ; slot = (slot + 1) & mask) {
+			long offset = slotOffset(slot);
+			long stored = target.getLong((int)offset);
+			if (stored == key) {
+				target.putLong((int)offset + 8, value);
+				return false;
+			}
+			if (stored == 0) {
+				target.putLong((int)offset + 8, value);
+				target.putLong((int)offset, key);
+				return true;
+			}
+		}
+	}
+
+	// 두 배 크기의 새 파일에 다시 넣고 원래 파일을 교체 => 교체 전에 죽으면 원래 파일이 그대로 남음
+	private void resize(int newCapacity) throws IOException {
+		Path resized = path.resolveSibling(path.getFileName() + ".resize");
+		try (FileChannel newChannel = create(resized, newCapacity)) {
+			MappedByteBuffer newBuffer = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, newChannel.size());
+			for (int slot = 0; slot < capacity; slot++) {
+				long offset = slotOffset(slot);
+				long key = buffer.getLong((int)offset);
+				if (key != 0) {
+					insert(newBuffer, newCapacity, key, buffer.getLong((int)offset + 8));
+				}
+			}
+			newBuffer.putLong(HAS_ZERO_KEY_OFFSET, buffer.getLong(HAS_ZERO_KEY_OFFSET));
+			newBuffer.putLong(ZERO_VALUE_OFFSET, buffer.getLong(ZERO_VALUE_OFFSET));
+			newBuffer.putLong(SIZE_OFFSET, size);
+			newBuffer.force();
+		}
+		channel.close();
+		Files.move(resized, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedBytes(newCapacity));
+		log.info("변경 감지 해시 맵 확장: 경로 = {}, 슬롯 = {} => {}, 항목 = {}", path, capacity, newCapacity, size);
+		capacity = newCapacity;
+	}
+
+	private static FileChannel create(Path path, int capacity) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+			StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedBytes(capacity)); // 파일 크기 확보 (0 으로 채워짐)
+		header.putLong(CAPACITY_OFFSET, capacity);
+		header.putLong(SIZE_OFFSET, 0);
+		header.putLong(MAGIC_OFFSET, MAGIC);
+		header.force();
+		return channel;
+	}
+
+	private static long mappedBytes(int capacity) {
+		return HEADER_BYTES + (long)capacity * SLOT_BYTES;
+	}
+
+	private static long slotOffset(int slot) {
+		return HEADER_BYTES + (long)slot * SLOT_BYTES;
+	}
+
+	private static int tableSizeFor(int capacity) {
+		int size = Integer.highestOneBit(Math.max(16, Math.min(capacity, MAX_CAPACITY)) - 1) << 1;
+		return Math.min(size, MAX_CAPACITY);
+	}
+
+	// 연속된 경매 ID 가 이웃 슬롯에 몰리지 않도록 섞음 (murmur3 fmix64)
+	private static long mix(long key) {
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		key *= 0xc4ceb53a85ec8d63L;
+		key ^= key >>> 33;
+		return key;
+	}
+}
@@ -1,36 +1,66 @@
 package com.example.springbatch.config;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.sql.DataSource;
 
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.builder.TaskletStepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.batch.item.database.Order;
-import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
 import org.springframework.batch.item.database.support.MySqlPagingQueryProvider;
+import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.batch.item.support.CompositeItemReader;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import com.example.springbatch.change.ChangeDetectionProcessor;
+import com.example.springbatch.enrichment.ProductEnrichmentProcessor;
+import com.example.springbatch.jfr.ChunkLifecycleJfrListener;
+import com.example.springbatch.jfr.JfrRecordingJobListener;
 import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionProductDto;
 import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
 import com.example.springbatch.job.mysql_to_bigquery.reader.AuctionProductRowMapper;
+import com.example.springbatch.job.mysql_to_bigquery.reader.AuctionRowMapper;
 import com.example.springbatch.listener.IncrementalTimestampStepListener;
+import com.example.springbatch.metrics.StageMetricsListener;
+import com.example.springbatch.progress.BackfillParameters;
 import com.example.springbatch.provider.MySqlCustomPagingQueryProvider;
+import com.example.springbatch.reader.PrefetchingItemReader;
+import com.example.springbatch.reader.SourceThrottle;
+import com.example.springbatch.reader.TimedJdbcPagingItemReader;
+import com.example.springbatch.shard.ShardRegistry;
+import com.example.springbatch.shard.ShardWatermarkListener;
+import com.example.springbatch.shard.ShardedItemReader;
+import com.example.springbatch.snapshot.SnapshotDecider;
+import com.example.springbatch.staged.StagedPipelineTasklet;
+import com.example.springbatch.staged.StagedPipelineTaskletFactory;
+import com.example.springbatch.stats.StepRunStatsCleanupListener;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,6 +72,8 @@ public class BatchJobConfig { //  배치 작업 설정 => ETL 파이프라인
 	private final DataSource dataSource; // DB 연결 정보
 	private final int chunkSize; // 한 번에 처리할 데이터 개수
 	private final String jobName; // 배치 작업의 이름
+	private final int prefetchDepth; // 미리 읽어둘 페이지 수 (0 이면 prefetch 안함)
+	private final int maxItemCount; // 한 번 실행에서 읽을 최대 행 수 (0 이하면 제한 없음)
 
 	// 작업 관리 + 기록 도구
 	private final JobRepository jobRepository; // 작업 기록 저장소 => 어디까지 진행했는지 기록
@@ -51,68 +83,231 @@ public class BatchJobConfig { //  배치 작업 설정 => ETL 파이프라인
 	private final ItemProcessor<AuctionProductDto, AuctionsWinningBidDto> processor; // 읽어온 데이터를 BigQuery 형식으로 변환
 	private final ItemWriter<AuctionsWinningBidDto> writer; // 변환된 데이터를 BigQuery 에 적재
 	private final IncrementalTimestampStepListener listener; // Step 실행 전후에 마지막 처리 시각을 관리
+	private final JfrRecordingJobListener jfrRecordingListener; // 설정/JobParameter 에 따라 Job 실행을 JFR 로 기록
+	private final ChangeDetectionProcessor changeDetectionProcessor; // 내보내는 컬럼이 바뀌지 않은 행 걸러냄 (설정으로 활성화)
+	private final ProductEnrichmentProcessor productEnrichmentProcessor; // enrichment=cache 모드에서 상품 정보를 캐시로 채움
+	private final StagedPipelineTaskletFactory stagedPipelineTaskletFactory; // execution-mode=staged 에서 단계별 파이프라인 생성
+	private final SourceThrottle sourceThrottle; // 원본 MySQL 읽기 속도 제한 (설정으로 활성화)
+	private final ShardRegistry shardRegistry; // 샤드별 DataSource (sharding.enabled=true 일 때)
+	private final ShardWatermarkListener shardWatermarkListener; // 샤드별 watermark 조회/갱신
+
+	// lastProcessedTimestamp 가 null 일 경우 기본값
+	public static final String DEFAULT_LAST_PROCESSED_TIMESTAMP = "2025-01-01 00:00:00";
+
+	// auctions/product 조인 => 증분 Reader 와 스냅샷 Reader 가 같은 컬럼을 읽음
+	public static final String AUCTION_PRODUCT_SELECT =
+		"a.id AS auction_id, p.id AS product_id, p.product_name, p.category AS product_category, "
+			+ "a.max_price, a.start_time AS auction_start_time, a.end_time AS auction_end_time, "
+			+ "GREATEST(a.modified_at, p.modified_at) AS last_modified";
+	public static final String AUCTION_PRODUCT_FROM = "auctions a JOIN product p ON a.product_id = p.id";
+
+	// enrichment=cache 모드 => auctions 만 읽음 (상품 컬럼은 캐시에서 채움)
+	public static final String AUCTION_SELECT =
+		"a.id AS auction_id, a.product_id, a.max_price, a.start_time AS auction_start_time, "
+			+ "a.end_time AS auction_end_time, a.modified_at AS last_modified";
 
 	// 생성자
 	@Autowired
 	public BatchJobConfig(DataSource dataSource,
 		@Value("${app.batch.chunk-size}") int chunkSize,
 		@Value("${app.batch.job-name}") String jobName,
+		@Value("${app.batch.reader.prefetch-depth:2}") int prefetchDepth,
+		@Value("${app.batch.reader.max-item-count:5000}") int maxItemCount,
 		JobRepository jobRepository,
 		PlatformTransactionManager transactionManager,
-		ItemReader<AuctionProductDto> reader,// => Extract
+		@Qualifier("mysqlItemReader") ItemReader<AuctionProductDto> reader,// => Extract
 		ItemProcessor<AuctionProductDto, AuctionsWinningBidDto> processor, // =>Transform
-		ItemWriter<AuctionsWinningBidDto> writer, // => Load
-		IncrementalTimestampStepListener listener) {
+		@Qualifier("bigQueryItemWriter") ItemWriter<AuctionsWinningBidDto> writer, // => Load (스냅샷 Writer 와 구분)
+		IncrementalTimestampStepListener listener,
+		JfrRecordingJobListener jfrRecordingListener,
+		ChangeDetectionProcessor changeDetectionProcessor,
+		ProductEnrichmentProcessor productEnrichmentProcessor,
+		StagedPipelineTaskletFactory stagedPipelineTaskletFactory,
+		SourceThrottle sourceThrottle,
+		ShardRegistry shardRegistry,
+		ShardWatermarkListener shardWatermarkListener) {
 
 		this.dataSource = dataSource;
 		this.chunkSize = chunkSize;
 		this.jobName = jobName;
+		this.prefetchDepth = prefetchDepth;
+		this.maxItemCount = maxItemCount;
 		this.jobRepository = jobRepository;
 		this.transactionManager = transactionManager;
 		this.reader = reader;
 		this.processor = processor;
 		this.writer = writer;
 		this.listener = listener;
+		this.jfrRecordingListener = jfrRecordingListener;
+		this.changeDetectionProcessor = changeDetectionProcessor;
+		this.productEnrichmentProcessor = productEnrichmentProcessor;
+		this.stagedPipelineTaskletFactory = stagedPipelineTaskletFactory;
+		this.sourceThrottle = sourceThrottle;
+		this.shardRegistry = shardRegistry;
+		this.shardWatermarkListener = shardWatermarkListener;
+	}
+
+	// auctions/product 조인 keyset 페이징 쿼리 제공자 => Reader 와 시작 시 인덱스 검사에서 함께 사용
+	public static MySqlCustomPagingQueryProvider auctionProductQueryProvider() {
+		return auctionProductQueryProvider(false);
+	}
+
+	// upperBounded: backfill 실행 => :backfillTo 이하의 행만 읽음
+	public static MySqlCustomPagingQueryProvider auctionProductQueryProvider(boolean upperBounded) {
+		String where = "GREATEST(a.modified_at, p.modified_at) > :lastProcessedTimestamp";
+		if (upperBounded) {
+			where += " AND GREATEST(a.modified_at, p.modified_at) <= :" + BackfillParameters.TO;
+		}
+
+		return new MySqlCustomPagingQueryProvider(AUCTION_PRODUCT_SELECT, AUCTION_PRODUCT_FROM, where);
+	}
+
+	// enrichment=cache 모드의 auctions keyset 페이징 쿼리 => (modified_at, id) 인덱스로 정렬 가능
+	public static MySqlCustomPagingQueryProvider auctionQueryProvider(boolean upperBounded) {
+		String where = "a.modified_at > :lastProcessedTimestamp";
+		if (upperBounded) {
+			where += " AND a.modified_at <= :" + BackfillParameters.TO;
+		}
+		Map<String, Order> sortKeys = new LinkedHashMap<>();
+		sortKeys.put("last_modified", Order.ASCENDING); // a.modified_at
+		sortKeys.put("auction_id", Order.ASCENDING); // a.id
+		return new MySqlCustomPagingQueryProvider(AUCTION_SELECT, "auctions a", where, sortKeys, true);
+	}
+
+	// 상품이 바뀐 경매 재방출 쿼리 => 이미 watermark 를 지난 경매만 (이후 경매는 증분 쿼리가 읽음)
+	public static MySqlCustomPagingQueryProvider productReemitQueryProvider() {
+		Map<String, Order> sortKeys = new LinkedHashMap<>();
+		sortKeys.put("auction_id", Order.ASCENDING);
+		return new MySqlCustomPagingQueryProvider(AUCTION_SELECT, "auctions a",
+			"a.product_id IN (:" + ProductEnrichmentProcessor.REEMIT_PRODUCT_IDS_KEY + ") "
+				+ "AND a.modified_at <= :lastProcessedTimestamp",
+			sortKeys);
 	}
 
 	// ItemReader 정의
 	@Bean
 	@StepScope // 각 Step 이 시작될 때마다 새로운 Bean 인스턴스가 생성되도록 함 => 간섭 방지
-	public JdbcPagingItemReader<AuctionProductDto> mysqlItemReader(
+	public ItemStreamReader<AuctionProductDto> mysqlItemReader(
 		// #{stepExecutionContext['lastProcessedTimestamp']}: step 이 실행될 때 stepExecutionContext 에서 lastProcessedTimestamp 가져옴
 		// stepExecutionContext 에 lastProcessedTimestamp 값을 넣는 것은 Listener(IncrementalTimestampStepListener)에서 UPDATE 해줌
-		@Value("#{stepExecutionContext['lastProcessedTimestamp']}") Timestamp lastProcessedTimestamp
+		@Value("#{stepExecutionContext['lastProcessedTimestamp']}") Timestamp lastProcessedTimestamp,
+		// backfill 실행일 때만 값이 있음 (구간 상한)
+		@Value("#{jobParameters['" + BackfillParameters.TO + "']}") String backfillTo,
+		// enrichment=cache 모드에서 ProductEnrichmentProcessor 가 스텝 시작 시 넣음
+		@Value("#{stepExecutionContext['" + ProductEnrichmentProcessor.REEMIT_PRODUCT_IDS_KEY + "']}") List<Long> reemitProductIds,
+		// sharding.enabled=true 일 때 ShardWatermarkListener 가 스텝 시작 시 넣음
+		@Value("#{stepExecutionContext['" + ShardWatermarkListener.SHARD_WATERMARKS_KEY + "']}") Map<String, Timestamp> shardWatermarks
 	) {
 		log.info("mysqlItemReader 빈 생성 시작. lastProcessedTimestamp 값: {}", lastProcessedTimestamp);
 
 		// 데이터 가져올 SQL 쿼리 설정
 		// Custom Provider 사용
-		String baseSelect = "a.id AS auction_id, p.id AS product_id, p.product_name, p.category AS product_category, "
-			+ "a.max_price, a.start_time AS auction_start_time, a.end_time AS auction_end_time, "
-			+ "GREATEST(a.modified_at, p.modified_at) AS last_modified";
-		String from = "auctions a JOIN product p ON a.product_id = p.id";
-		String where = "GREATEST(a.modified_at, p.modified_at) > :lastProcessedTimestamp";
-
-		MySqlCustomPagingQueryProvider queryProvider = new MySqlCustomPagingQueryProvider(baseSelect, from, where);
+		boolean backfill = backfillTo != null;
+		boolean enrichFromCache = productEnrichmentProcessor.isEnabled();
+		MySqlCustomPagingQueryProvider queryProvider = enrichFromCache
+			? auctionQueryProvider(backfill)
+			: auctionProductQueryProvider(backfill);
 
 		Map<String, Object> parameterValues = new HashMap<>();
 
 		// lastProcessedTimestamp 가 null 일 경우 기본값
-		String defaultTimestamp = "2025-01-01 00:00:00";
 		parameterValues.put("lastProcessedTimestamp",
-			lastProcessedTimestamp == null ? defaultTimestamp : lastProcessedTimestamp);
-
-		return new JdbcPagingItemReaderBuilder<AuctionProductDto>()
-			.name("mysqlAuctionProductReader")
-			.dataSource(this.dataSource)
-			.queryProvider(queryProvider)
-			.parameterValues(parameterValues)
-			.pageSize(this.chunkSize)
-			// DB 컬럼명과 DTO 필드명이 같으면 커스텀 매퍼 안쓰고 내장된 BeanPropertyRowMapper 써도 됨
-			// 하지만 BeanPropertyRowMapper 는 set 기반이기에 build 방식으로 쓰기 위해서 커스텀 매퍼 따로 만들어줌
-			.rowMapper(new AuctionProductRowMapper())
-			.maxItemCount(5000)
-			.build();
+			lastProcessedTimestamp == null ? DEFAULT_LAST_PROCESSED_TIMESTAMP : lastProcessedTimestamp);
+		if (backfill) {
+			parameterValues.put(BackfillParameters.TO, Timestamp.valueOf(backfillTo));
+		}
+
+		if (shardRegistry.isEnabled()) {
+			return shardedReader(queryProvider, parameterValues, shardWatermarks, enrichFromCache, backfill);
+		}
+
+		// 페이지 쿼리 지연 시간을 측정하는 JdbcPagingItemReader
+		TimedJdbcPagingItemReader<AuctionProductDto> reader = new TimedJdbcPagingItemReader<>();
+		reader.setName("mysqlAuctionProductReader");
+		reader.setDataSource(this.dataSource);
+		reader.setQueryProvider(queryProvider);
+		reader.setParameterValues(parameterValues);
+		reader.setPageSize(this.chunkSize);
+		// DB 컬럼명과 DTO 필드명이 같으면 커스텀 매퍼 안쓰고 내장된 BeanPropertyRowMapper 써도 됨
+		// 하지만 BeanPropertyRowMapper 는 set 기반이기에 build 방식으로 쓰기 위해서 커스텀 매퍼 따로 만들어줌
+		reader.setRowMapper(enrichFromCache ? new AuctionRowMapper() : new AuctionProductRowMapper());
+		// backfill 은 구간 자체가 상한이므로 실행당 최대 행 수를 적용하지 않음
+		reader.setMaxItemCount(maxItemCount > 0 && !backfill ? maxItemCount : Integer.MAX_VALUE);
+		reader.setThrottle(sourceThrottle); // 페이지 쿼리마다 원본 DB 상태에 맞춘 속도 한도 적용
+		try {
+			reader.afterPropertiesSet();
+		} catch (Exception e) {
+			throw new IllegalStateException("mysqlItemReader 초기화 실패", e);
+		}
+
+		ItemStreamReader<AuctionProductDto> source = reader;
+		if (enrichFromCache && reemitProductIds != null && !reemitProductIds.isEmpty()) {
+			// 상품이 바뀐 경매를 먼저 읽고 이어서 증분 쿼리 => Reader 이름이 달라 재시작 상태가 섞이지 않음
+			source = new CompositeItemReader<AuctionProductDto>(List.<ItemStreamReader<? extends AuctionProductDto>>of(
+				productReemitReader(parameterValues, reemitProductIds), reader));
+		}
+
+		if (prefetchDepth <= 0) {
+			return source;
+		}
+		// 현재 chunk 를 처리/업로드 하는 동안 다음 페이지를 별도 커넥션으로 미리 조회
+		return new PrefetchingItemReader<>("mysqlAuctionProductReader", source, this.chunkSize, prefetchDepth);
+	}
+
+	// sharding.enabled=true: 샤드마다 같은 keyset 쿼리를 자기 watermark 부터 동시에 실행 => 도착한 페이지 순서로 같은 Writer 에 전달
+	// 샤드 Reader 가 각자 미리 읽으므로 prefetch 는 쓰지 않음, 상품 재방출은 기본 DataSource 기준이라 샤드 모드에서는 적용 안함
+	private ItemStreamReader<AuctionProductDto> shardedReader(MySqlCustomPagingQueryProvider queryProvider,
+		Map<String, Object> parameterValues, Map<String, Timestamp> shardWatermarks, boolean enrichFromCache,
+		boolean backfill) {
+		RowMapper<AuctionProductDto> rowMapper = enrichFromCache ? new AuctionRowMapper() : new AuctionProductRowMapper();
+		List<ShardedItemReader.ShardSource<AuctionProductDto>> sources = new ArrayList<>();
+		for (ShardRegistry.Shard shard : shardRegistry.getShards()) {
+			Map<String, Object> shardParameters = new HashMap<>(parameterValues);
+			if (!backfill && shardWatermarks != null && shardWatermarks.containsKey(shard.name())) {
+				shardParameters.put("lastProcessedTimestamp", shardWatermarks.get(shard.name()));
+			}
+
+			TimedJdbcPagingItemReader<AuctionProductDto> reader = new TimedJdbcPagingItemReader<>();
+			reader.setName("mysqlAuctionProductReader-" + shard.name()); // 샤드별 재시작 상태 키 구분
+			reader.setDataSource(shard.dataSource());
+			reader.setQueryProvider(queryProvider);
+			reader.setParameterValues(shardParameters);
+			reader.setPageSize(this.chunkSize);
+			reader.setRowMapper(rowMapper);
+			// 실행당 최대 행 수는 샤드마다 적용 => 밀린 샤드가 다른 샤드의 몫을 쓰지 않음
+			reader.setMaxItemCount(maxItemCount > 0 && !backfill ? maxItemCount : Integer.MAX_VALUE);
+			reader.setThrottle(sourceThrottle);
+			try {
+				reader.afterPropertiesSet();
+			} catch (Exception e) {
+				throw new IllegalStateException("샤드 Reader 초기화 실패: " + shard.name(), e);
+			}
+			sources.add(new ShardedItemReader.ShardSource<>(shard.name(), reader));
+		}
+		return new ShardedItemReader<>(this.jobName, sources, AuctionProductDto::getLastModified, this.chunkSize,
+			Math.max(1, prefetchDepth));
+	}
+
+	private TimedJdbcPagingItemReader<AuctionProductDto> productReemitReader(Map<String, Object> incrementalParameters,
+		List<Long> reemitProductIds) {
+		Map<String, Object> parameterValues = new HashMap<>();
+		parameterValues.put("lastProcessedTimestamp", incrementalParameters.get("lastProcessedTimestamp"));
+		parameterValues.put(ProductEnrichmentProcessor.REEMIT_PRODUCT_IDS_KEY, reemitProductIds);
+
+		TimedJdbcPagingItemReader<AuctionProductDto> reader = new TimedJdbcPagingItemReader<>();
+		reader.setName("mysqlProductReemitReader");
+		reader.setDataSource(this.dataSource);
+		reader.setQueryProvider(productReemitQueryProvider());
+		reader.setParameterValues(parameterValues);
+		reader.setPageSize(this.chunkSize);
+		reader.setRowMapper(new AuctionRowMapper());
+		reader.setThrottle(sourceThrottle);
+		try {
+			reader.afterPropertiesSet();
+		} catch (Exception e) {
+			throw new IllegalStateException("상품 재방출 Reader 초기화 실패", e);
+		}
+		return reader;
 	}
 
 	// Reader, Processor, Writer, Listener 를 하나로 묶음
@@ -120,31 +315,108 @@ public class BatchJobConfig { //  배치 작업 설정 => ETL 파이프라인
 	public Step mysqlToBigQueryStep() {
 		log.info("mysqlToBigQueryStep 빈 생성 시작");
 
+		// 상품 캐시 보강 => 변환 => 변경 감지 순서로 연결 (활성화된 단계만)
+		List<ItemProcessor<?, ?>> processors = new ArrayList<>();
+		if (productEnrichmentProcessor.isEnabled()) {
+			processors.add(productEnrichmentProcessor);
+		}
+		processors.add(this.processor);
+		if (changeDetectionProcessor.isEnabled()) {
+			processors.add(changeDetectionProcessor); // 바뀌지 않은 행은 Writer 로 가지 않음
+		}
+		ItemProcessor<AuctionProductDto, AuctionsWinningBidDto> processorChain = this.processor;
+		if (processors.size() > 1) {
+			CompositeItemProcessor<AuctionProductDto, AuctionsWinningBidDto> composite = new CompositeItemProcessor<>();
+			composite.setDelegates(processors);
+			processorChain = composite;
+		}
+
+		if (stagedPipelineTaskletFactory.isEnabled()) {
+			return stagedStep(processorChain);
+		}
+
+		// chunk 구간별 JFR 이벤트 (기록 중이 아니면 비용 거의 없음)
+		// 여러 리스너 인터페이스를 구현하므로 타입별로 각각 등록
+		ChunkLifecycleJfrListener jfrListener = new ChunkLifecycleJfrListener();
+
 		// StepBuilder: mysqlToBigQueryStep 라는 이름으로 Step 만듦
-		return new StepBuilder("mysqlToBigQueryStep", jobRepository)
+		SimpleStepBuilder<AuctionProductDto, AuctionsWinningBidDto> builder = new StepBuilder("mysqlToBigQueryStep", jobRepository)
 			// <읽어올 데이터 타입, 가공 후 내보낼 데이터 타입> 지정
 			.<AuctionProductDto, AuctionsWinningBidDto>chunk(
 				this.chunkSize,
 				transactionManager // 실패하면 transactionManager 으로 롤백
 			)
 			.reader(this.reader)
-			.processor(this.processor)
+			.processor(processorChain);
+
+		builder.listener(new StepRunStatsCleanupListener()); // 가장 먼저 등록 => afterStep 이 마지막에 호출되어 통계 정리
+		// 상품 보강/변경 감지는 로드 리스너보다 먼저 등록 => afterStep 이 로드 결과를 본 뒤 호출됨
+		if (productEnrichmentProcessor.isEnabled()) {
+			builder.listener(productEnrichmentProcessor);
+		}
+		if (changeDetectionProcessor.isEnabled()) {
+			builder.listener((StepExecutionListener)changeDetectionProcessor);
+			builder.listener((ChunkListener)changeDetectionProcessor);
+			builder.stream(changeDetectionProcessor); // 건너뛴 행의 타임스탬프를 chunk 커밋 시점에 반영
+		}
+		if (shardRegistry.isEnabled()) {
+			builder.listener(shardWatermarkListener); // 샤드 watermark 도 로드 성공 후에만 갱신
+		}
+
+		return builder
 			.writer(this.writer)
 			.listener(this.listener)
+			.listener(new StageMetricsListener(this.jobName)) // 단계별 처리 행 수 메트릭
+			.listener((ChunkListener)jfrListener)
+			.listener((ItemReadListener<Object>)jfrListener)
+			.listener((ItemProcessListener<Object, Object>)jfrListener)
+			.listener((ItemWriteListener<Object>)jfrListener)
+			.build();
+	}
+
+	// execution-mode=staged: read/transform/encode/upload 를 단계별 스레드로 겹쳐 실행하는 Tasklet 스텝
+	// => Writer 를 쓰지 않으므로 spool 모드는 적용되지 않음 (batch 하나 = GCS 객체 하나)
+	private Step stagedStep(ItemProcessor<AuctionProductDto, AuctionsWinningBidDto> processorChain) {
+		StagedPipelineTasklet tasklet = stagedPipelineTaskletFactory.create(
+			(ItemStreamReader<AuctionProductDto>)this.reader, processorChain, this.chunkSize);
+
+		TaskletStepBuilder builder = new StepBuilder("mysqlToBigQueryStep", jobRepository)
+			.tasklet(tasklet, transactionManager);
+		builder.listener(new StepRunStatsCleanupListener());
+		// Tasklet 이 구현한 StepExecutionListener 는 TaskletStep 이 마지막에 등록
+		// afterStep 은 등록 역순 => 파이프라인(스레드 종료) => 로드 리스너 => 변경 감지/상품 보강 순서로 호출
+		if (productEnrichmentProcessor.isEnabled()) {
+			builder.listener(productEnrichmentProcessor);
+		}
+		if (changeDetectionProcessor.isEnabled()) {
+			builder.listener((StepExecutionListener)changeDetectionProcessor); // stream 미등록 => 타임스탬프는 Tasklet 이 batch 로 반영
+		}
+		if (shardRegistry.isEnabled()) {
+			builder.listener(shardWatermarkListener);
+		}
+		return builder
+			.listener(this.listener)
+			.listener(new StageMetricsListener(this.jobName)) // 커밋(반복)마다 단계별 처리 행 수 메트릭
 			.build();
 	}
 
 	// Step 을 묶어서 최종적인 하나의 완성된 Job 정의
-	// 현재는 step 이 하나뿐이지만, 여러 개의 step 을 순서대로 연결할 수 있음
+	// 시작 시 SnapshotDecider 가 선택 => 초기 스냅샷(파티션 추출 => 교체 로드) 또는 증분 스텝
 	@Bean
-	public Job mysqlToBigQueryJob() {
+	public Job mysqlToBigQueryJob(SnapshotDecider snapshotDecider,
+		@Qualifier("snapshotPartitionStep") Step snapshotPartitionStep,
+		@Qualifier("snapshotLoadStep") Step snapshotLoadStep) {
 		log.info("mysqlToBigQueryJob 빈을 생성: {}", this.jobName);
 
 		return new JobBuilder(this.jobName, jobRepository)
 			// incrementer: 작업을 실행할 때마다 run.id 식별자 1씩 증가
 			.incrementer(new RunIdIncrementer())
+			.listener(this.jfrRecordingListener)
 			// 시작할 스텝 정의
-			.start(mysqlToBigQueryStep())
+			.start(snapshotDecider)
+			.on(SnapshotDecider.SNAPSHOT).to(snapshotPartitionStep).next(snapshotLoadStep)
+			.from(snapshotDecider).on("*").to(mysqlToBigQueryStep())
+			.end()
 			.build();
 	}
 
@@ -0,0 +1,21 @@
+package com.example.springbatch.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.example.springbatch.startup.LazyGcpClientPostProcessor;
+
+@Configuration
+public class FastStartupConfig { // 짧은 컨테이너 실행용 빠른 시작 모드
+	// 증분 실행이 짧으면 컨텍스트 시작(GCP 클라이언트 생성 포함)이 전체 실행 시간의 상당 부분
+	// app.startup.lazy-gcp-clients=true => GCP 클라이언트를 처음 사용할 때 생성 (NOOP 실행은 만들지 않음)
+	// AOT 처리, AppCDS 아카이브 생성, 시작 시간 측정은 build.gradle 참고
+
+	// static + Environment => 빈 정의 단계에서 실행되므로 @Value 대신 Environment 에서 직접 읽음
+	@Bean
+	public static LazyGcpClientPostProcessor lazyGcpClientPostProcessor(Environment environment) {
+		return new LazyGcpClientPostProcessor(
+			environment.getProperty("app.startup.lazy-gcp-clients", Boolean.class, false));
+	}
+}
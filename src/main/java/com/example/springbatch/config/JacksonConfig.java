@@ -2,6 +2,7 @@ package com.example.springbatch.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
@@ -20,7 +21,9 @@ public class JacksonConfig { // 데이터를 JSON 형식으로 직렬화
 		return objectMapper;
 	}
 
+	// Writer 는 스텝마다 자체 CsvMapper 사용 => 주입받는 곳이 생길 때만 생성 (시작 시간 단축)
 	@Bean
+	@Lazy
 	public CsvMapper csvMapper() {
 		CsvMapper csvMapper = new CsvMapper();
 
@@ -0,0 +1,60 @@
+package com.example.springbatch.config;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.springbatch.repository.CheckpointCoalescingInterceptor;
+import com.example.springbatch.repository.CompactExecutionContextSerializer;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@Slf4j
+public class JobRepositoryConfig { // app.batch.repository.mode=lightweight 일 때 Job 저장소 메타데이터 기록량 축소
+	// Job 저장소 테이블은 추출 대상과 같은 MySQL => chunk 가 작으면 chunk 마다의 메타데이터 기록이 실행 시간의 상당 부분
+	// 1. 컨텍스트를 compact 형식으로 직렬화 => 대부분 SHORT_CONTEXT 에 들어가 CLOB 기록 없음
+	// 2. 실행 중 스텝의 컨텍스트/카운터 저장을 checkpoint-interval-chunks 마다로 합침
+
+	private static final String MODE_LIGHTWEIGHT = "lightweight";
+	private static final String STAGING_MODE_SPOOL = "spool";
+
+	// Spring Boot 가 ExecutionContextSerializer 빈을 JobRepository/JobExplorer 에 사용
+	@Bean
+	@ConditionalOnProperty(name = "app.batch.repository.mode", havingValue = MODE_LIGHTWEIGHT)
+	public ExecutionContextSerializer compactExecutionContextSerializer() {
+		return new CompactExecutionContextSerializer();
+	}
+
+	// static => 다른 빈보다 먼저 등록되어 JobRepository 빈 생성 시 적용
+	@Bean
+	public static BeanPostProcessor checkpointCoalescingPostProcessor(
+		@Value("${app.batch.repository.mode:default}") String repositoryMode,
+		@Value("${app.batch.repository.checkpoint-interval-chunks:10}") int checkpointIntervalChunks,
+		@Value("${app.batch.staging.mode:direct}") String stagingMode) {
+		boolean enabled = MODE_LIGHTWEIGHT.equalsIgnoreCase(repositoryMode) && checkpointIntervalChunks > 1;
+		if (enabled && STAGING_MODE_SPOOL.equalsIgnoreCase(stagingMode)) {
+			// 스풀 manifest 는 chunk 마다 진행 상태를 기록 => 컨텍스트가 뒤처지면 복구 시 같은 행을 두 번 적재
+			log.warn("스풀 staging 모드 => 스텝 컨텍스트는 chunk 마다 저장 (checkpoint 간격 무시)");
+			enabled = false;
+		}
+		if (enabled) {
+			log.info("경량 Job 저장소 모드: checkpoint 간격 = {} chunk", checkpointIntervalChunks);
+		}
+
+		boolean coalesce = enabled;
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (coalesce && bean instanceof JobRepository jobRepository) {
+					return CheckpointCoalescingInterceptor.wrap(jobRepository, checkpointIntervalChunks);
+				}
+				return bean;
+			}
+		};
+	}
+}
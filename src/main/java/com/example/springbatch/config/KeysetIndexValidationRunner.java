@@ -0,0 +1,57 @@
+package com.example.springbatch.config;
+
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import com.example.springbatch.enrichment.ProductEnrichmentProcessor;
+import com.example.springbatch.provider.KeysetIndexValidator;
+
+@Component
+public class KeysetIndexValidationRunner implements ApplicationRunner, Ordered {
+	// 애플리케이션 시작 시 mysqlToBigQueryJob Reader 쿼리의 실행 계획 검사
+	// => JobRunner 보다 먼저 실행되어 fail 모드에서는 작업 시작 전에 애플리케이션이 종료됨
+	// auctions/product 조인은 GREATEST(...) 로 정렬하므로 인덱스를 탈 수 없음 => 기본값은 warn
+	// enrichment=cache 모드는 auctions 만 (modified_at, id) 로 정렬하므로 인덱스가 있으면 통과
+
+	private final DataSource dataSource;
+	private final int chunkSize;
+	private final String jobName;
+	private final String indexValidationMode; // off, warn, fail
+	private final boolean enrichFromCache;
+
+	// 생성자
+	@Autowired
+	public KeysetIndexValidationRunner(DataSource dataSource,
+		@Value("${app.batch.chunk-size}") int chunkSize,
+		@Value("${app.batch.job-name}") String jobName,
+		@Value("${app.batch.reader.index-validation:warn}") String indexValidationMode,
+		@Value("${app.batch.reader.enrichment:join}") String enrichment) {
+		this.dataSource = dataSource;
+		this.chunkSize = chunkSize;
+		this.jobName = jobName;
+		this.indexValidationMode = indexValidationMode;
+		this.enrichFromCache = ProductEnrichmentProcessor.MODE_CACHE.equals(enrichment.toLowerCase(Locale.ROOT));
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		new KeysetIndexValidator(dataSource, indexValidationMode).validate(jobName,
+			enrichFromCache ? BatchJobConfig.auctionQueryProvider(false) : BatchJobConfig.auctionProductQueryProvider(),
+			Map.of("lastProcessedTimestamp", BatchJobConfig.DEFAULT_LAST_PROCESSED_TIMESTAMP),
+			chunkSize);
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+}
@@ -0,0 +1,126 @@
+package com.example.springbatch.config;
+
+import java.io.IOException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.springbatch.jfr.JfrRecordingJobListener;
+import com.example.springbatch.lease.SingleFlightJobLauncher;
+import com.example.springbatch.pipeline.ConnectionBudgetDataSource;
+import com.example.springbatch.pipeline.PipelineDefinition;
+import com.example.springbatch.pipeline.PipelineDefinitionLoader;
+import com.example.springbatch.pipeline.PipelineJobFactory;
+import com.example.springbatch.pipeline.PipelineJobLauncher;
+import com.example.springbatch.provider.KeysetIndexValidator;
+import com.example.springbatch.reader.SourceThrottle;
+import com.example.springbatch.staging.DirectBufferPool;
+import com.example.springbatch.stats.RunStatsRepository;
+import com.example.springbatch.stats.RunStatsSettings;
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.storage.Storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "app.pipelines.enabled", havingValue = "true")
+public class PipelineConfig { // YAML 로 선언한 파이프라인들을 Job 으로 만들어 공유 스레드 풀에서 동시에 실행
+	// 파이프라인 Job 은 빈으로 등록하지 않음 => Spring Boot 의 Job 자동 실행/단일 Job 주입에 영향 없음
+
+	private final DataSource dataSource;
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final JobLauncher jobLauncher;
+	private final JdbcTemplate jdbcTemplate;
+	private final BigQuery bigquery;
+	private final Storage storage;
+	private final DirectBufferPool bufferPool;
+	private final JfrRecordingJobListener jfrRecordingListener;
+	private final SourceThrottle sourceThrottle; // 원본 MySQL 읽기 속도 제한 (모든 Reader 공유)
+	private final RunStatsRepository runStatsRepository;
+	private final RunStatsSettings runStatsSettings;
+
+	private final String definitionLocation; // 파이프라인 정의 파일 위치 패턴
+	private final int maxConcurrentPipelines; // 동시에 실행할 파이프라인 수
+	private final int connectionBudget; // 모든 파이프라인이 함께 쓰는 최대 커넥션 수
+	private final int connectionsPerPipeline; // 파이프라인 하나가 가질 수 있는 최대 커넥션 수
+	private final long connectionAcquireTimeoutMillis;
+	private final String gcsBucketName;
+	private final String indexValidationMode; // 정렬 키 인덱스 검사 (off, warn, fail)
+
+	// 생성자
+	@Autowired
+	public PipelineConfig(DataSource dataSource,
+		JobRepository jobRepository,
+		PlatformTransactionManager transactionManager,
+		JobLauncher jobLauncher,
+		JdbcTemplate jdbcTemplate,
+		BigQuery bigquery,
+		Storage storage,
+		DirectBufferPool bufferPool,
+		JfrRecordingJobListener jfrRecordingListener,
+		SourceThrottle sourceThrottle,
+		RunStatsRepository runStatsRepository,
+		RunStatsSettings runStatsSettings,
+		@Value("${app.pipelines.definitions:classpath*:pipelines/*.yml}") String definitionLocation,
+		@Value("${app.pipelines.max-concurrent:4}") int maxConcurrentPipelines,
+		@Value("${app.pipelines.connection-budget:4}") int connectionBudget,
+		@Value("${app.pipelines.connections-per-pipeline:0}") int connectionsPerPipeline,
+		@Value("${app.pipelines.connection-acquire-timeout-ms:600000}") long connectionAcquireTimeoutMillis,
+		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName,
+		@Value("${app.batch.reader.index-validation:warn}") String indexValidationMode) {
+		this.dataSource = dataSource;
+		this.jobRepository = jobRepository;
+		this.transactionManager = transactionManager;
+		this.jobLauncher = jobLauncher;
+		this.jdbcTemplate = jdbcTemplate;
+		this.bigquery = bigquery;
+		this.storage = storage;
+		this.bufferPool = bufferPool;
+		this.jfrRecordingListener = jfrRecordingListener;
+		this.sourceThrottle = sourceThrottle;
+		this.runStatsRepository = runStatsRepository;
+		this.runStatsSettings = runStatsSettings;
+		this.definitionLocation = definitionLocation;
+		this.maxConcurrentPipelines = maxConcurrentPipelines;
+		this.connectionBudget = connectionBudget;
+		// 0 이면 예산을 동시 실행 수로 나눈 몫 (올림) => 동시에 도는 파이프라인마다 최소 한 개
+		this.connectionsPerPipeline = connectionsPerPipeline > 0
+			? connectionsPerPipeline
+			: Math.max(1, (connectionBudget + maxConcurrentPipelines - 1) / Math.max(1, maxConcurrentPipelines));
+		this.connectionAcquireTimeoutMillis = connectionAcquireTimeoutMillis;
+		this.gcsBucketName = gcsBucketName;
+		this.indexValidationMode = indexValidationMode;
+	}
+
+	@Bean(destroyMethod = "shutdown")
+	public PipelineJobLauncher pipelineJobLauncher(SingleFlightJobLauncher singleFlightJobLauncher) throws IOException {
+		List<PipelineDefinition> definitions = new PipelineDefinitionLoader().load(definitionLocation);
+		log.info("pipelineJobLauncher 빈 생성 시작: 파이프라인 개수 = {}, 동시 실행 = {}, 커넥션 예산 = {}, 파이프라인당 = {}",
+			definitions.size(), maxConcurrentPipelines, connectionBudget, connectionsPerPipeline);
+
+		// 모든 파이프라인 Reader 가 공유하는 커넥션 예산 (파이프라인마다 몫까지만 사용)
+		ConnectionBudgetDataSource readerDataSource = new ConnectionBudgetDataSource(dataSource, connectionBudget,
+			connectionsPerPipeline, connectionAcquireTimeoutMillis);
+
+		PipelineJobFactory jobFactory = new PipelineJobFactory(jobRepository, transactionManager, readerDataSource,
+			jdbcTemplate, bigquery, storage, gcsBucketName, bufferPool,
+			new KeysetIndexValidator(dataSource, indexValidationMode), jfrRecordingListener, sourceThrottle,
+			runStatsRepository, runStatsSettings);
+		List<Job> pipelineJobs = definitions.stream().map(jobFactory::create).toList();
+
+		return new PipelineJobLauncher(jobLauncher, singleFlightJobLauncher, pipelineJobs, maxConcurrentPipelines);
+	}
+}
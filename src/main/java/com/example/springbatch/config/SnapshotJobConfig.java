@@ -0,0 +1,170 @@
+package com.example.springbatch.config;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionProductDto;
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+import com.example.springbatch.job.mysql_to_bigquery.reader.AuctionProductRowMapper;
+import com.example.springbatch.load.BigQueryMergeLoader;
+import com.example.springbatch.provider.MySqlCustomPagingQueryProvider;
+import com.example.springbatch.reader.SourceThrottle;
+import com.example.springbatch.reader.TimedJdbcPagingItemReader;
+import com.example.springbatch.snapshot.AuctionIdRangePartitioner;
+import com.example.springbatch.snapshot.SnapshotDecider;
+import com.example.springbatch.snapshot.SnapshotLoadTasklet;
+import com.example.springbatch.snapshot.SnapshotPartitionWriter;
+import com.example.springbatch.staging.DirectBufferPool;
+import com.example.springbatch.stats.StepRunStatsCleanupListener;
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.storage.Storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@Slf4j
+public class SnapshotJobConfig { // 초기 스냅샷 => PK 범위 파티션 병렬 추출 + WRITE_TRUNCATE 로드 + 증분 모드 전환
+	// mysqlToBigQueryJob 시작 시 SnapshotDecider 가 스냅샷/증분 중 선택 (BatchJobConfig 에서 연결)
+
+	public static final String WORKER_STEP_NAME = "snapshotWorkerStep";
+
+	private final DataSource dataSource;
+	private final JdbcTemplate jdbcTemplate;
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final String jobName;
+	private final boolean auto; // 메타데이터가 없으면 자동으로 스냅샷 실행
+	private final int gridSize; // 병렬 파티션 수
+	private final int pageSize; // 파티션 Reader 페이지 크기 (= chunk 크기)
+	private final long fileSizeBytes; // 스테이징 파일 하나의 최대 크기
+	private final SourceThrottle sourceThrottle; // 원본 MySQL 읽기 속도 제한 (파티션 Reader 가 함께 나눠 씀)
+
+	// 생성자
+	@Autowired
+	public SnapshotJobConfig(DataSource dataSource,
+		JdbcTemplate jdbcTemplate,
+		JobRepository jobRepository,
+		PlatformTransactionManager transactionManager,
+		@Value("${app.batch.job-name}") String jobName,
+		@Value("${app.batch.snapshot.auto:true}") boolean auto,
+		@Value("${app.batch.snapshot.grid-size:4}") int gridSize,
+		@Value("${app.batch.snapshot.page-size:10000}") int pageSize,
+		@Value("${app.batch.snapshot.file-size-bytes:1073741824}") long fileSizeBytes,
+		SourceThrottle sourceThrottle) {
+		this.dataSource = dataSource;
+		this.jdbcTemplate = jdbcTemplate;
+		this.jobRepository = jobRepository;
+		this.transactionManager = transactionManager;
+		this.jobName = jobName;
+		this.auto = auto;
+		this.gridSize = gridSize;
+		this.pageSize = pageSize;
+		this.fileSizeBytes = fileSizeBytes;
+		this.sourceThrottle = sourceThrottle;
+	}
+
+	@Bean
+	public SnapshotDecider snapshotDecider() {
+		return new SnapshotDecider(jdbcTemplate, jobName, auto);
+	}
+
+	// 파티션 하나의 PK 범위를 PK 순서로 읽음 => GREATEST(...) 정렬이 없어 인덱스 range 스캔
+	@Bean
+	@StepScope
+	public ItemStreamReader<AuctionProductDto> snapshotItemReader(
+		@Value("#{stepExecutionContext['" + AuctionIdRangePartitioner.MIN_ID_KEY + "']}") Long minId,
+		@Value("#{stepExecutionContext['" + AuctionIdRangePartitioner.MAX_ID_KEY + "']}") Long maxId,
+		@Value("#{stepExecutionContext['" + AuctionIdRangePartitioner.HIGH_WATERMARK_KEY + "']}") Timestamp highWatermark) {
+		Map<String, Order> sortKeys = new LinkedHashMap<>();
+		sortKeys.put("auction_id", Order.ASCENDING);
+		MySqlCustomPagingQueryProvider queryProvider = new MySqlCustomPagingQueryProvider(
+			BatchJobConfig.AUCTION_PRODUCT_SELECT, BatchJobConfig.AUCTION_PRODUCT_FROM,
+			"a.id BETWEEN :minId AND :maxId AND GREATEST(a.modified_at, p.modified_at) <= :highWatermark", sortKeys);
+
+		TimedJdbcPagingItemReader<AuctionProductDto> reader = new TimedJdbcPagingItemReader<>();
+		reader.setName("snapshotReader");
+		reader.setDataSource(dataSource);
+		reader.setQueryProvider(queryProvider);
+		reader.setParameterValues(Map.of("minId", minId, "maxId", maxId, "highWatermark", highWatermark));
+		reader.setPageSize(pageSize);
+		reader.setRowMapper(new AuctionProductRowMapper());
+		// Writer 가 파티션 전체를 파일 단위로 마감하므로 중간 위치에서 재시작하지 않음 => 실패한 파티션은 처음부터
+		reader.setSaveState(false);
+		reader.setThrottle(sourceThrottle);
+		try {
+			reader.afterPropertiesSet();
+		} catch (Exception e) {
+			throw new IllegalStateException("snapshotItemReader 초기화 실패", e);
+		}
+		return reader;
+	}
+
+	@Bean
+	@StepScope
+	public SnapshotPartitionWriter snapshotItemWriter(Storage storage,
+		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName,
+		DirectBufferPool bufferPool,
+		BigQueryMergeLoader mergeLoader) {
+		return new SnapshotPartitionWriter(storage, gcsBucketName, bufferPool, fileSizeBytes, mergeLoader.isEnabled());
+	}
+
+	// 파티션마다 같은 Step 을 다른 스레드에서 실행 => Reader/Writer 는 @StepScope 로 파티션별 인스턴스
+	@Bean
+	public Step snapshotWorkerStep(@Qualifier("snapshotItemReader") ItemStreamReader<AuctionProductDto> snapshotItemReader,
+		ItemProcessor<AuctionProductDto, AuctionsWinningBidDto> processor,
+		SnapshotPartitionWriter snapshotItemWriter) {
+		return new StepBuilder(WORKER_STEP_NAME, jobRepository)
+			.<AuctionProductDto, AuctionsWinningBidDto>chunk(pageSize, transactionManager)
+			.reader(snapshotItemReader)
+			.processor(processor)
+			.writer(snapshotItemWriter)
+			.listener(new StepRunStatsCleanupListener()) // 파티션 스텝은 batch_run_stats 를 기록하지 않음 => 통계만 정리
+			.build();
+	}
+
+	@Bean
+	public Step snapshotPartitionStep(@Qualifier("snapshotWorkerStep") Step snapshotWorkerStep) {
+		log.info("snapshotPartitionStep 빈 생성 시작: 파티션 = {}", gridSize);
+
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("snapshot-");
+		taskExecutor.setConcurrencyLimit(gridSize);
+
+		return new StepBuilder("snapshotPartitionStep", jobRepository)
+			.partitioner(WORKER_STEP_NAME, new AuctionIdRangePartitioner(jdbcTemplate))
+			.step(snapshotWorkerStep)
+			.gridSize(gridSize)
+			.taskExecutor(taskExecutor)
+			.build();
+	}
+
+	@Bean
+	public Step snapshotLoadStep(JobExplorer jobExplorer, BigQuery bigquery, Storage storage,
+		BigQueryMergeLoader mergeLoader,
+		@Value("${spring.cloud.gcp.bigquery.dataset-name}") String datasetName,
+		@Value("${spring.cloud.gcp.bigquery.table-name}") String tableName) {
+		return new StepBuilder("snapshotLoadStep", jobRepository)
+			.tasklet(new SnapshotLoadTasklet(jdbcTemplate, jobExplorer, bigquery, storage, jobName, datasetName,
+				tableName, WORKER_STEP_NAME, mergeLoader), transactionManager)
+			.build();
+	}
+}
@@ -0,0 +1,154 @@
+package com.example.springbatch.enrichment;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.example.springbatch.metrics.EtlMetrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class ProductCache { // product_id => 상품 정보 캐시 (크기 제한 LRU)
+	// product 는 작고 자주 읽히는 차원 테이블 => 페이지마다 조인하지 않고 메모리에서 채움
+	// 처음 사용할 때 최근 수정된 상품부터 maxEntries 개를 미리 적재하고, 이후에는 modified_at 기준으로 바뀐 상품만 다시 읽음
+
+	private static final String PRODUCT_COLUMNS = "id, product_name, category, modified_at";
+	private static final RowMapper<Product> PRODUCT_ROW_MAPPER = (rs, rowNum) -> new Product(
+		rs.getLong("id"), rs.getString("product_name"), rs.getString("category"), rs.getTimestamp("modified_at"));
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int maxEntries;
+	private final Map<Long, Product> entries; // 접근 순서 LinkedHashMap => 가장 오래 쓰이지 않은 상품부터 제거
+
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter evictions;
+	private final Timer refreshTimer;
+	private final Counter refreshRows;
+
+	private boolean warmed;
+
+	public record Product(Long id, String name, String category, Timestamp modifiedAt) {}
+
+	// 증분 갱신 결과 => 바뀐 상품 ID 와 그 범위의 최신 modified_at (바뀐 상품이 없으면 null)
+	// deferredProducts: 재방출 상한을 넘어 다음 실행으로 미룬 상품 수 (캐시에는 이미 반영됨)
+	public record Refresh(List<Long> changedProductIds, Timestamp maxModifiedAt, int deferredProducts) {}
+
+	public ProductCache(JdbcTemplate jdbcTemplate, int maxEntries, String job) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Product> eldest) {
+				if (size() > ProductCache.this.maxEntries) {
+					ProductCache.this.evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+		this.hits = EtlMetrics.productCacheLookups(job, "hit");
+		this.misses = EtlMetrics.productCacheLookups(job, "miss");
+		this.evictions = EtlMetrics.productCacheEvictions(job);
+		this.refreshTimer = EtlMetrics.productCacheRefreshTimer(job);
+		this.refreshRows = EtlMetrics.productCacheRefreshRows(job);
+		EtlMetrics.productCacheSize(job, this, ProductCache::size);
+	}
+
+	// 상품 조회 => 캐시에 없으면 한 건 조회 후 보관 (삭제된 상품이면 null)
+	public Product get(Long productId) {
+		synchronized (entries) {
+			Product product = entries.get(productId);
+			if (product != null) {
+				hits.increment();
+				return product;
+			}
+		}
+		misses.increment();
+		List<Product> loaded = jdbcTemplate.query(
+			"SELECT " + PRODUCT_COLUMNS + " FROM product WHERE id = ?", PRODUCT_ROW_MAPPER, productId);
+		if (loaded.isEmpty()) {
+			return null;
+		}
+		Product product = loaded.get(0);
+		synchronized (entries) {
+			entries.put(productId, product);
+		}
+		return product;
+	}
+
+	// since 이후 수정된 상품을 다시 읽어 캐시 갱신
+	public Refresh refresh(Timestamp since) {
+		return refresh(since, 0);
+	}
+
+	// maxChangedProducts > 0 => modified_at 순서로 그 개수까지만 바뀐 상품으로 반환 (같은 modified_at 의 상품은 함께 포함)
+	// => 나머지는 maxModifiedAt 이후이므로 다음 실행의 갱신에서 다시 바뀐 상품으로 읽힘
+	public Refresh refresh(Timestamp since, int maxChangedProducts) {
+		long start = System.nanoTime();
+		if (!warmed) {
+			warm();
+		}
+
+		List<Product> changed = jdbcTemplate.query(
+			"SELECT " + PRODUCT_COLUMNS + " FROM product WHERE modified_at > ? ORDER BY modified_at, id",
+			PRODUCT_ROW_MAPPER, since);
+		int included = changed.size();
+		if (maxChangedProducts > 0 && included > maxChangedProducts) {
+			included = maxChangedProducts;
+			Timestamp boundary = changed.get(included - 1).modifiedAt();
+			while (included < changed.size() && changed.get(included).modifiedAt().equals(boundary)) {
+				included++; // 다음 실행은 modified_at > maxModifiedAt 부터 읽으므로 같은 시각의 상품을 나누지 않음
+			}
+		}
+		List<Long> changedIds = new ArrayList<>(included);
+		Timestamp maxModifiedAt = null;
+		synchronized (entries) {
+			for (int i = 0; i < changed.size(); i++) {
+				Product product = changed.get(i);
+				entries.put(product.id(), product);
+				if (i < included) {
+					changedIds.add(product.id());
+					maxModifiedAt = product.modifiedAt();
+				}
+			}
+		}
+
+		long elapsed = System.nanoTime() - start;
+		refreshTimer.record(elapsed, TimeUnit.NANOSECONDS);
+		refreshRows.increment(changed.size());
+		log.info("상품 캐시 갱신: 기준 = {}, 바뀐 상품 = {}, 캐시 크기 = {}, 소요 = {} 밀리초", since, changed.size(), size(),
+			TimeUnit.NANOSECONDS.toMillis(elapsed));
+		return new Refresh(changedIds, maxModifiedAt, changed.size() - included);
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	// 처음 한 번 최근 수정된 상품부터 캐시 크기만큼 적재 => 초반 miss 마다 한 건씩 조회하지 않도록
+	private void warm() {
+		List<Product> products = jdbcTemplate.query(
+			"SELECT " + PRODUCT_COLUMNS + " FROM product ORDER BY modified_at DESC LIMIT ?", PRODUCT_ROW_MAPPER,
+			maxEntries);
+		synchronized (entries) {
+			for (int i = products.size() - 1; i >= 0; i--) { // 최근 상품이 가장 나중에 접근된 것으로 남도록 역순
+				entries.put(products.get(i).id(), products.get(i));
+			}
+		}
+		refreshRows.increment(products.size());
+		warmed = true;
+		log.info("상품 캐시 초기 적재: 상품 = {}", products.size());
+	}
+}
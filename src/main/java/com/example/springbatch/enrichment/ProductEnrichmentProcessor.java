@@ -0,0 +1,142 @@
+package com.example.springbatch.enrichment;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.springbatch.config.BatchJobConfig;
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionProductDto;
+import com.example.springbatch.progress.BackfillParameters;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ProductEnrichmentProcessor implements ItemProcessor<AuctionProductDto, AuctionProductDto>,
+	StepExecutionListener { // enrichment=cache 모드: auctions 만 읽은 행에 상품 정보를 캐시에서 채움
+	// 스텝 시작 시 product.modified_at 기준으로 캐시를 갱신하고, 바뀐 상품 ID 를 ExecutionContext 에 넣음
+	// => Reader 가 그 상품의 경매를 다시 읽음 (auctions.modified_at 이 그대로여도 상품 이름/카테고리가 바뀌었으므로)
+	// 상품 watermark 는 batch_job_metadata 에 "<작업 이름>:product" 로 따로 저장 => 로드가 성공한 뒤에만 갱신
+	// 재방출 목록은 chunk 커밋마다 ExecutionContext 와 함께 저장되고 IN 목록으로 펼쳐짐
+	// => 실행당 reemit-max-products 개까지만 넣고 나머지는 상품 watermark 를 그만큼만 진행해 다음 실행으로 미룸
+
+	public static final String MODE_CACHE = "cache";
+	public static final String REEMIT_PRODUCT_IDS_KEY = "reemitProductIds"; // 경매를 다시 읽을 상품 ID 목록
+
+	private final boolean enabled;
+	private final JdbcTemplate jdbcTemplate;
+	private final String jobName;
+	private final String productWatermarkName; // batch_job_metadata 의 job_name
+	private final ProductCache cache;
+	private final int reemitMaxProducts; // 실행당 재방출할 최대 상품 수 (0 이하 => 제한 없음)
+
+	private Timestamp pendingProductWatermark; // 이번 스텝이 반영한 상품 범위의 끝 (로드 성공 시 저장)
+
+	// 생성자
+	@Autowired
+	public ProductEnrichmentProcessor(JdbcTemplate jdbcTemplate,
+		@Value("${app.batch.reader.enrichment:join}") String enrichment,
+		@Value("${app.batch.reader.product-cache-size:100000}") int cacheSize,
+		@Value("${app.batch.reader.reemit-max-products:1000}") int reemitMaxProducts,
+		@Value("${app.batch.job-name}") String jobName) {
+		this.enabled = MODE_CACHE.equals(enrichment.toLowerCase(Locale.ROOT));
+		this.jdbcTemplate = jdbcTemplate;
+		this.jobName = jobName;
+		this.productWatermarkName = jobName + ":product";
+		this.cache = enabled ? new ProductCache(jdbcTemplate, cacheSize, jobName) : null;
+		this.reemitMaxProducts = reemitMaxProducts;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		pendingProductWatermark = null;
+		// backfill 은 auctions.modified_at 구간만 다시 읽음 => 상품 재방출/상품 watermark 는 건드리지 않음
+		if (BackfillParameters.isBackfill(stepExecution.getJobParameters())) {
+			stepExecution.getExecutionContext().put(REEMIT_PRODUCT_IDS_KEY, new ArrayList<Long>());
+			return;
+		}
+
+		Timestamp since = findWatermark(productWatermarkName);
+		if (since == null) {
+			// 조인 모드에서 전환한 첫 실행 => 작업 watermark 가 GREATEST(auctions, product) 기준이므로 그 이후만 보면 됨
+			since = findWatermark(jobName);
+		}
+		if (since == null) {
+			since = Timestamp.valueOf(BatchJobConfig.DEFAULT_LAST_PROCESSED_TIMESTAMP); // Reader 의 기본 watermark 와 같은 기준
+		}
+
+		ProductCache.Refresh refresh = cache.refresh(since, reemitMaxProducts);
+		if (stepExecution.getExecutionContext().containsKey(REEMIT_PRODUCT_IDS_KEY)) {
+			// 재시작: Reader 위치가 이전 재방출 목록 기준 => 목록은 그대로 두고 상품 watermark 도 진행하지 않음
+			// (그 사이 바뀐 상품의 경매는 다음 실행에서 재방출)
+			log.info("재시작: 이전 실행의 상품 재방출 목록 유지: 작업 = {}", jobName);
+			return;
+		}
+		pendingProductWatermark = refresh.maxModifiedAt();
+		stepExecution.getExecutionContext().put(REEMIT_PRODUCT_IDS_KEY, new ArrayList<>(refresh.changedProductIds()));
+		if (!refresh.changedProductIds().isEmpty()) {
+			log.info("상품 변경으로 경매 재방출: 작업 = {}, 상품 = {}", jobName, refresh.changedProductIds().size());
+		}
+		if (refresh.deferredProducts() > 0) {
+			log.info("재방출 상한 초과 => 다음 실행으로 미룸: 작업 = {}, 상품 = {}, 상한 = {}", jobName,
+				refresh.deferredProducts(), reemitMaxProducts);
+		}
+	}
+
+	@Override
+	public AuctionProductDto process(AuctionProductDto item) {
+		ProductCache.Product product = item.getProductId() == null ? null : cache.get(item.getProductId());
+		if (product == null) {
+			return null; // 조인 모드와 같이 상품이 없는 경매는 내보내지 않음
+		}
+		return AuctionProductDto.builder()
+			.auctionId(item.getAuctionId())
+			.productId(item.getProductId())
+			.productName(product.name())
+			.productCategory(product.category())
+			.maxPrice(item.getMaxPrice())
+			.auctionStartTime(item.getAuctionStartTime())
+			.auctionEndTime(item.getAuctionEndTime())
+			.lastModified(item.getLastModified()) // auctions.modified_at => Reader 의 keyset/watermark 와 같은 기준
+			.build();
+	}
+
+	// 로드 리스너보다 먼저 등록 => afterStep 은 등록 역순으로 호출되므로 로드 결과가 반영된 종료 상태를 봄
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		if (pendingProductWatermark != null
+			&& ExitStatus.COMPLETED.getExitCode().equals(stepExecution.getExitStatus().getExitCode())) {
+			int updatedRows = jdbcTemplate.update(
+				"UPDATE batch_job_metadata SET last_processed_timestamp = ? WHERE job_name = ?",
+				pendingProductWatermark, productWatermarkName);
+			if (updatedRows == 0) {
+				jdbcTemplate.update(
+					"INSERT INTO batch_job_metadata (job_name, last_processed_timestamp) VALUES (?, ?)",
+					productWatermarkName, pendingProductWatermark);
+			}
+			log.info("상품 watermark 갱신: 작업 = {}, 타임스탬프 = {}", jobName, pendingProductWatermark);
+		}
+		pendingProductWatermark = null;
+		return null;
+	}
+
+	private Timestamp findWatermark(String name) {
+		List<Timestamp> watermarks = jdbcTemplate.queryForList(
+			"SELECT last_processed_timestamp FROM batch_job_metadata WHERE job_name = ?", Timestamp.class, name);
+		return watermarks.isEmpty() ? null : watermarks.get(0);
+	}
+}
@@ -0,0 +1,99 @@
+package com.example.springbatch.jfr;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+public class ChunkLifecycleJfrListener
+	implements ChunkListener, ItemReadListener<Object>, ItemProcessListener<Object, Object>, ItemWriteListener<Object> {
+	// chunk 하나를 읽기 => 변환 => (Writer: 인코딩/업로드 이벤트는 Writer 에서 기록) => 커밋 구간으로 나눠 JFR 이벤트 기록
+	// chunk 처리 순서: beforeChunk => 전체 read => 전체 process => write => ExecutionContext 저장/커밋 => afterChunk
+	// 스텝 하나가 한 스레드에서 chunk 를 순서대로 처리하므로 현재 chunk 상태를 필드로 보관
+
+	private StepExecution stepExecution;
+	private ChunkReadEvent readEvent;
+	private ChunkProcessEvent processEvent;
+	private ContextCommitEvent commitEvent;
+	private int readRows;
+	private int processedRows;
+	private int filteredRows;
+	private int writtenRows;
+
+	@Override
+	public void beforeChunk(ChunkContext context) {
+		stepExecution = context.getStepContext().getStepExecution();
+		readRows = 0;
+		processedRows = 0;
+		filteredRows = 0;
+		writtenRows = 0;
+		processEvent = null;
+		commitEvent = null;
+		readEvent = ChunkReadEvent.start();
+	}
+
+	@Override
+	public void afterRead(Object item) {
+		readRows++;
+	}
+
+	@Override
+	public void beforeProcess(Object item) {
+		if (processEvent == null) {
+			endRead();
+			processEvent = ChunkProcessEvent.start();
+		}
+	}
+
+	@Override
+	public void afterProcess(Object item, Object result) {
+		if (result == null) {
+			filteredRows++;
+		} else {
+			processedRows++;
+		}
+	}
+
+	@Override
+	public void beforeWrite(Chunk<?> items) {
+		endRead(); // Processor 가 없는 스텝
+		if (processEvent != null) {
+			processEvent.finish(stepExecution, processedRows, filteredRows);
+			processEvent = null;
+		}
+		writtenRows = items.size();
+	}
+
+	@Override
+	public void afterWrite(Chunk<?> items) {
+		commitEvent = ContextCommitEvent.start();
+	}
+
+	@Override
+	public void afterChunk(ChunkContext context) {
+		endRead(); // 빈 chunk (더 읽을 데이터 없음)
+		if (commitEvent != null) {
+			commitEvent.finish(stepExecution, writtenRows);
+			commitEvent = null;
+		}
+	}
+
+	@Override
+	public void afterChunkError(ChunkContext context) {
+		// 롤백된 chunk 의 구간은 기록하지 않음
+		readEvent = null;
+		processEvent = null;
+		commitEvent = null;
+	}
+
+	private void endRead() {
+		if (readEvent == null) {
+			return;
+		}
+		readEvent.finish(stepExecution, readRows);
+		readEvent = null;
+	}
+}
@@ -0,0 +1,35 @@
+package com.example.springbatch.jfr;
+
+import org.springframework.batch.core.StepExecution;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("etl.ChunkProcess")
+@Label("Chunk Process")
+@Category({"ETL", "Chunk"})
+@Description("chunk 의 모든 항목 Processor 변환")
+public class ChunkProcessEvent extends EtlStepEvent {
+
+	@Label("Rows")
+	int rows;
+
+	@Label("Filtered Rows")
+	int filteredRows;
+
+	public static ChunkProcessEvent start() {
+		ChunkProcessEvent event = new ChunkProcessEvent();
+		event.begin();
+		return event;
+	}
+
+	public void finish(StepExecution stepExecution, int rows, int filteredRows) {
+		if (endFor(stepExecution)) {
+			this.rows = rows;
+			this.filteredRows = filteredRows;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.example.springbatch.jfr;
+
+import org.springframework.batch.core.StepExecution;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("etl.ChunkRead")
+@Label("Chunk Read")
+@Category({"ETL", "Chunk"})
+@Description("chunk 시작 ~ 마지막 항목 읽기 완료 (prefetch 대기 포함)")
+public class ChunkReadEvent extends EtlStepEvent {
+
+	@Label("Rows")
+	int rows;
+
+	public static ChunkReadEvent start() {
+		ChunkReadEvent event = new ChunkReadEvent();
+		event.begin();
+		return event;
+	}
+
+	public void finish(StepExecution stepExecution, int rows) {
+		if (endFor(stepExecution)) {
+			this.rows = rows;
+			commit();
+		}
+	}
+}
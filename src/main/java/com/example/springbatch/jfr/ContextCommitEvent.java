@@ -0,0 +1,36 @@
+package com.example.springbatch.jfr;
+
+import org.springframework.batch.core.StepExecution;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("etl.ContextCommit")
+@Label("Context Commit")
+@Category({"ETL", "Chunk"})
+@Description("Writer 완료 ~ chunk 커밋 완료 (ExecutionContext/StepExecution 저장 + 트랜잭션 커밋)")
+public class ContextCommitEvent extends EtlStepEvent {
+
+	@Label("Rows")
+	int rows;
+
+	@Label("Commit Count")
+	long commitCount;
+
+	public static ContextCommitEvent start() {
+		ContextCommitEvent event = new ContextCommitEvent();
+		event.begin();
+		return event;
+	}
+
+	// 커밋 수는 기록할 때만 읽음
+	public void finish(StepExecution stepExecution, int rows) {
+		if (endFor(stepExecution)) {
+			this.rows = rows;
+			this.commitCount = stepExecution.getCommitCount();
+			commit();
+		}
+	}
+}
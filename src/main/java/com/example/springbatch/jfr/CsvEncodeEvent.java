@@ -0,0 +1,42 @@
+package com.example.springbatch.jfr;
+
+import org.springframework.batch.core.StepExecution;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("etl.CsvEncode")
+@Label("CSV Encode")
+@Category({"ETL", "Chunk"})
+@Description("chunk CSV 인코딩")
+public class CsvEncodeEvent extends EtlStepEvent {
+
+	@Label("Rows")
+	int rows;
+
+	@Label("Slices")
+	@Description("병렬 인코딩 slice 수 (1 이면 스텝 스레드에서 한 번에 인코딩)")
+	int slices = 1;
+
+	@Label("Bytes")
+	@DataAmount
+	long bytes;
+
+	public static CsvEncodeEvent start() {
+		CsvEncodeEvent event = new CsvEncodeEvent();
+		event.begin();
+		return event;
+	}
+
+	public void finish(StepExecution stepExecution, int rows, int slices, long bytes) {
+		if (endFor(stepExecution)) {
+			this.rows = rows;
+			this.slices = slices;
+			this.bytes = bytes;
+			commit();
+		}
+	}
+}
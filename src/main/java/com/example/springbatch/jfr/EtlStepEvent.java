@@ -0,0 +1,55 @@
+package com.example.springbatch.jfr;
+
+import org.springframework.batch.core.StepExecution;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+@Category("ETL")
+@StackTrace(false) // 단계 구간 측정용 => 스택 수집 비용 제외
+public abstract class EtlStepEvent extends Event { // ETL 단계 JFR 이벤트 공통 필드 (작업 이름, 실행 ID)
+	// 기록 중인 Recording 이 없으면 shouldCommit() 이 false => 값 설정/commit 을 건너뛰어 비용 거의 없음
+
+	@Label("Job")
+	String job;
+
+	@Label("Job Execution ID")
+	long jobExecutionId;
+
+	@Label("Step Execution ID")
+	long stepExecutionId;
+
+	public void setStep(StepExecution stepExecution) {
+		setStep(stepExecution.getJobExecution().getJobInstance().getJobName(), stepExecution.getJobExecutionId(),
+			stepExecution.getId());
+	}
+
+	public void setStep(String job, Long jobExecutionId, Long stepExecutionId) {
+		this.job = job;
+		this.jobExecutionId = jobExecutionId == null ? 0 : jobExecutionId; // 저장되지 않은 실행 => 0
+		this.stepExecutionId = stepExecutionId == null ? 0 : stepExecutionId;
+	}
+
+	// 구간 종료 => 기록 중이면 스텝 필드를 채우고 true (하위 이벤트가 나머지 필드를 채운 뒤 commit)
+	protected boolean endFor(StepExecution stepExecution) {
+		end();
+		if (!shouldCommit()) {
+			return false;
+		}
+		if (stepExecution != null) {
+			setStep(stepExecution);
+		}
+		return true;
+	}
+
+	protected boolean endFor(String job, Long jobExecutionId, Long stepExecutionId) {
+		end();
+		if (!shouldCommit()) {
+			return false;
+		}
+		setStep(job, jobExecutionId, stepExecutionId);
+		return true;
+	}
+}
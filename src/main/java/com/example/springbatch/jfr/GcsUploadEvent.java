@@ -0,0 +1,52 @@
+package com.example.springbatch.jfr;
+
+import org.springframework.batch.core.StepExecution;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("etl.GcsUpload")
+@Label("GCS Upload")
+@Category({"ETL", "Chunk"})
+@Description("GCS 객체 업로드 (mode: chunk, spool)")
+public class GcsUploadEvent extends EtlStepEvent {
+
+	@Label("Mode")
+	String mode;
+
+	@Label("Object")
+	String objectName;
+
+	@Label("Bytes")
+	@DataAmount
+	long bytes;
+
+	public static GcsUploadEvent start() {
+		GcsUploadEvent event = new GcsUploadEvent();
+		event.begin();
+		return event;
+	}
+
+	public void finish(StepExecution stepExecution, String mode, String objectName, long bytes) {
+		if (endFor(stepExecution)) {
+			commitWith(mode, objectName, bytes);
+		}
+	}
+
+	// 스풀 업로드 => StepExecution 없이 스텝 실행 ID 만 알고 있음
+	public void finish(String job, Long stepExecutionId, String mode, String objectName, long bytes) {
+		if (endFor(job, null, stepExecutionId)) {
+			commitWith(mode, objectName, bytes);
+		}
+	}
+
+	private void commitWith(String mode, String objectName, long bytes) {
+		this.mode = mode;
+		this.objectName = objectName;
+		this.bytes = bytes;
+		commit();
+	}
+}
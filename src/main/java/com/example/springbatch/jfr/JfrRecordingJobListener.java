@@ -0,0 +1,99 @@
+package com.example.springbatch.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class JfrRecordingJobListener implements JobExecutionListener { // Job 실행 하나를 JFR Recording 으로 기록
+	// 기록 대상: app.batch.jfr.record-jobs 에 포함된 작업 (* 이면 전체) 또는 JobParameter jfr=true 로 실행한 경우
+	// Job 종료 시 <dump-dir>/<작업>-<jobExecutionId>.jfr 로 저장 => JDK Mission Control / jfr print --categories ETL 로 확인
+
+	public static final String JOB_PARAMETER = "jfr";
+	private static final String ALL_JOBS = "*";
+
+	private final Set<String> recordJobs;
+	private final Path dumpDirectory;
+	private final String settings; // JFR 설정 이름 (default: 오버헤드 1% 미만, profile: 상세)
+
+	private final Map<Long, Recording> recordings = new ConcurrentHashMap<>(); // jobExecutionId => 진행 중인 Recording
+
+	// 생성자
+	@Autowired
+	public JfrRecordingJobListener(@Value("${app.batch.jfr.record-jobs:}") String recordJobs,
+		@Value("${app.batch.jfr.dump-dir:${java.io.tmpdir}/etl-jfr}") String dumpDirectory,
+		@Value("${app.batch.jfr.settings:default}") String settings) {
+		this.recordJobs = Arrays.stream(recordJobs.split(","))
+			.map(String::trim)
+			.filter(name -> !name.isEmpty())
+			.collect(Collectors.toSet());
+		this.dumpDirectory = Paths.get(dumpDirectory);
+		this.settings = settings;
+	}
+
+	@Override
+	public void beforeJob(JobExecution jobExecution) {
+		String jobName = jobExecution.getJobInstance().getJobName();
+		if (!shouldRecord(jobExecution)) {
+			return;
+		}
+
+		try {
+			Files.createDirectories(dumpDirectory);
+			Path destination = dumpDirectory.resolve(jobName + "-" + jobExecution.getId() + ".jfr");
+
+			Recording recording = new Recording(Configuration.getConfiguration(settings));
+			recording.setName("etl-" + jobName + "-" + jobExecution.getId());
+			recording.setToDisk(true);
+			recording.setDestination(destination); // stop() 시점에 파일로 저장
+			recording.start();
+			recordings.put(jobExecution.getId(), recording);
+			log.info("JFR 기록 시작: 작업 = {}, 실행 ID = {}, 파일 = {}", jobName, jobExecution.getId(), destination);
+		} catch (IOException | ParseException | RuntimeException e) {
+			// 기록 실패가 Job 실행을 막지 않도록 로그만 남김
+			log.warn("JFR 기록 시작 실패: 작업 = {}, 오류 = {}", jobName, e.getMessage());
+		}
+	}
+
+	@Override
+	public void afterJob(JobExecution jobExecution) {
+		Recording recording = recordings.remove(jobExecution.getId());
+		if (recording == null) {
+			return;
+		}
+		try {
+			recording.stop();
+			log.info("JFR 기록 저장: 작업 = {}, 실행 ID = {}, 파일 = {}",
+				jobExecution.getJobInstance().getJobName(), jobExecution.getId(), recording.getDestination());
+		} catch (RuntimeException e) {
+			log.warn("JFR 기록 저장 실패: 실행 ID = {}, 오류 = {}", jobExecution.getId(), e.getMessage());
+		} finally {
+			recording.close();
+		}
+	}
+
+	private boolean shouldRecord(JobExecution jobExecution) {
+		if ("true".equalsIgnoreCase(jobExecution.getJobParameters().getString(JOB_PARAMETER))) {
+			return true;
+		}
+		return recordJobs.contains(ALL_JOBS) || recordJobs.contains(jobExecution.getJobInstance().getJobName());
+	}
+}
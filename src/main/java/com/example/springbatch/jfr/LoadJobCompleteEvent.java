@@ -0,0 +1,50 @@
+package com.example.springbatch.jfr;
+
+import org.springframework.batch.core.StepExecution;
+
+import com.google.cloud.bigquery.JobStatistics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("etl.LoadJobComplete")
+@Label("BigQuery Load Complete")
+@Category({"ETL", "BigQuery"})
+@Description("BigQuery 로드 작업 완료 대기 (waitFor)")
+public class LoadJobCompleteEvent extends EtlStepEvent {
+
+	@Label("Load Job ID")
+	String loadJobId;
+
+	@Label("Successful")
+	boolean successful;
+
+	@Label("Rows")
+	long rows;
+
+	@Label("Input Bytes")
+	@DataAmount
+	long bytes;
+
+	public static LoadJobCompleteEvent start() {
+		LoadJobCompleteEvent event = new LoadJobCompleteEvent();
+		event.begin();
+		return event;
+	}
+
+	// stats 가 null 이면 실패한 로드
+	public void finish(StepExecution stepExecution, String loadJobId, JobStatistics.LoadStatistics stats) {
+		if (endFor(stepExecution)) {
+			this.loadJobId = loadJobId;
+			this.successful = stats != null;
+			if (stats != null) {
+				this.rows = stats.getOutputRows() == null ? 0 : stats.getOutputRows();
+				this.bytes = stats.getInputBytes() == null ? 0 : stats.getInputBytes();
+			}
+			commit();
+		}
+	}
+}
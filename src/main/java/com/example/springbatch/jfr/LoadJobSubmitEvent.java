@@ -0,0 +1,35 @@
+package com.example.springbatch.jfr;
+
+import org.springframework.batch.core.StepExecution;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("etl.LoadJobSubmit")
+@Label("BigQuery Load Submit")
+@Category({"ETL", "BigQuery"})
+@Description("BigQuery 로드 작업 생성 요청")
+public class LoadJobSubmitEvent extends EtlStepEvent {
+
+	@Label("Load Job ID")
+	String loadJobId;
+
+	@Label("Files")
+	int files;
+
+	public static LoadJobSubmitEvent start() {
+		LoadJobSubmitEvent event = new LoadJobSubmitEvent();
+		event.begin();
+		return event;
+	}
+
+	public void finish(StepExecution stepExecution, String loadJobId, int files) {
+		if (endFor(stepExecution)) {
+			this.loadJobId = loadJobId;
+			this.files = files;
+			commit();
+		}
+	}
+}
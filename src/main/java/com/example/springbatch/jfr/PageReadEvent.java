@@ -0,0 +1,36 @@
+package com.example.springbatch.jfr;
+
+import org.springframework.batch.core.StepExecution;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("etl.PageRead")
+@Label("Page Read")
+@Category({"ETL", "Read"})
+@Description("keyset 페이지 쿼리 한 번 (prefetch 사용 시 prefetch 스레드에서 기록)")
+public class PageReadEvent extends EtlStepEvent {
+
+	@Label("Reader")
+	String reader;
+
+	@Label("Rows")
+	int rows;
+
+	public static PageReadEvent start() {
+		PageReadEvent event = new PageReadEvent();
+		event.begin();
+		return event;
+	}
+
+	// stepExecution 은 스텝 밖에서 연 Reader 면 null
+	public void finish(StepExecution stepExecution, String reader, int rows) {
+		if (endFor(stepExecution)) {
+			this.reader = reader;
+			this.rows = rows;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package com.example.springbatch.job.mysql_to_bigquery.reader;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionProductDto;
+
+import org.springframework.jdbc.core.RowMapper;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class AuctionRowMapper implements RowMapper<AuctionProductDto> {
+	// enrichment=cache 모드용 매퍼 => auctions 컬럼만 읽고 상품 이름/카테고리는 ProductEnrichmentProcessor 가 채움
+
+	@Override
+	public AuctionProductDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+		return AuctionProductDto.builder()
+			.auctionId(rs.getLong("auction_id"))
+			.productId(rs.getLong("product_id"))
+			.maxPrice(rs.getBigDecimal("max_price"))
+			.auctionStartTime(rs.getTimestamp("auction_start_time"))
+			.auctionEndTime(rs.getTimestamp("auction_end_time"))
+			.lastModified(rs.getTimestamp("last_modified"))
+			.build();
+	}
+}
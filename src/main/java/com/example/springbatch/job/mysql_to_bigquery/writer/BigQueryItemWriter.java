@@ -1,17 +1,18 @@
 package com.example.springbatch.job.mysql_to_bigquery.writer;
 
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStreamWriter;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.BeforeStep;
@@ -22,15 +23,34 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.example.springbatch.jfr.CsvEncodeEvent;
+import com.example.springbatch.jfr.GcsUploadEvent;
 import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+import com.example.springbatch.load.BigQueryMergeLoader;
+import com.example.springbatch.metrics.EtlMetrics;
+import com.example.springbatch.staging.CsvStagingEncoder;
+import com.example.springbatch.staging.DirectBufferPool;
+import com.example.springbatch.staging.ParallelCsvEncoder;
+import com.example.springbatch.staging.PooledBufferOutputStream;
+import com.example.springbatch.staging.SpoolStagingService;
+import com.example.springbatch.stats.StepRunStats;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
-import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -42,38 +62,104 @@ public class BigQueryItemWriter implements ItemWriter<AuctionsWinningBidDto> {
 	private final Storage storage; // GCS 클라이언트 주입
 	private final String gcsBucketName; // application.yml 값 주입
 	private final CsvMapper csvMapper; // CSV 변환기 (Jackson 사용)
+	private final CsvStagingEncoder<AuctionsWinningBidDto> csvEncoder; // chunk 를 CSV 로 인코딩
+	private final DirectBufferPool bufferPool; // 인코딩에 재사용하는 Direct 버퍼 풀
+	private final SpoolStagingService spoolStagingService; // spool 모드일 때 chunk 를 로컬 스풀 파일에 모음
+	private final ParallelCsvEncoder parallelCsvEncoder; // 큰 chunk 를 나눠 병렬 인코딩 (null 이면 사용 안함)
 
 	private StepExecution stepExecution;
+	private Timer csvEncodeTimer; // CSV 인코딩 시간
+	private DistributionSummary csvEncodeBytes; // CSV 인코딩 크기
+	private Timer gcsUploadTimer; // chunk 단위 GCS 업로드 시간
 	private static final String GCS_FILE_URIS_KEY = "gcsFileUris"; // ExecutionContext 에 GCS 파일 경로 리스트를 저장할 때 사용할 키
 	private static final String MAX_TIMESTAMP_KEY = "maxProcessedTimestampInChunk"; // ExecutionContext 에 처리된 데이터 중 최신 타임스탬프 값을 저장할 때 사용할 키
 
 	// BigQuery 에서 사용하는 타임스탬프 형식 정의 => SimpleDateFormat 사용
 	// SimpleDateFormat:  Java 에서 날짜/시간을 특정 형식의 문자열로 변환하거나, 반대로 특정 형식의 문자열을 날짜/시간으로 변환/파싱할 때 사용하는 도구
-	private static final String BQ_TIMESTAMP_PATTERN = "yyyy-MM-dd HH:mm:ss.SSSSSS";
+	public static final String BQ_TIMESTAMP_PATTERN = "yyyy-MM-dd HH:mm:ss.SSSSSS";
+	// 파이프라인 Writer 등 Jackson 을 쓰지 않는 인코더도 같은 형식으로 기록하도록 공유
+	public static final DateTimeFormatter BQ_DATETIME_FORMAT = DateTimeFormatter.ofPattern(BQ_TIMESTAMP_PATTERN);
+	private static final DateTimeFormatter BQ_INSTANT_FORMAT = DateTimeFormatter.ISO_INSTANT; // BigQuery TIMESTAMP 가 그대로 인식
 
 
 	// 생성자
 	@Autowired
 	public BigQueryItemWriter(Storage storage,
-		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName) {
+		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName,
+		DirectBufferPool bufferPool,
+		SpoolStagingService spoolStagingService,
+		ParallelCsvEncoder parallelCsvEncoder,
+		BigQueryMergeLoader mergeLoader) {
 		this.storage = storage;
 		this.gcsBucketName = gcsBucketName;
+		this.bufferPool = bufferPool;
+		this.spoolStagingService = spoolStagingService;
+		this.parallelCsvEncoder = parallelCsvEncoder;
 
-		this.csvMapper = new CsvMapper();
-		this.csvMapper.registerModule(new JavaTimeModule());
-		this.csvMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		// merge 모드면 MERGE 중복 제거 기준인 last_modified 를 마지막 열로 포함
+		this.csvMapper = createCsvMapper(mergeLoader != null && mergeLoader.isEnabled());
+
+		// AuctionsWinningBidDto 구조를 바탕으로 CSV 스키마 생성 (한 번만)
+		this.csvEncoder = new CsvStagingEncoder<>(this.csvMapper, AuctionsWinningBidDto.class);
+	}
+
+	// 병렬 인코딩 없이 생성
+	public BigQueryItemWriter(Storage storage, String gcsBucketName, DirectBufferPool bufferPool,
+		SpoolStagingService spoolStagingService) {
+		this(storage, gcsBucketName, bufferPool, spoolStagingService, null, null);
+	}
+
+	// BigQuery 로드용 CSV 변환기 생성 => 스냅샷 Writer 도 같은 형식으로 기록
+	public static CsvMapper createCsvMapper() {
+		return createCsvMapper(false);
+	}
+
+	// includeLastModified => merge 모드 staging 용으로 last_modified 를 마지막 열에 추가 (BigQueryMergeLoader.tableSchema)
+	public static CsvMapper createCsvMapper(boolean includeLastModified) {
+		CsvMapper csvMapper = new CsvMapper();
+		if (includeLastModified) {
+			csvMapper.addMixIn(AuctionsWinningBidDto.class, LastModifiedColumnMixIn.class);
+		}
+		csvMapper.registerModule(new JavaTimeModule());
+		// Instant 는 formatInstant 와 같은 형식 (JavaTimeModule 보다 나중에 등록한 모듈이 우선)
+		SimpleModule instantModule = new SimpleModule();
+		instantModule.addSerializer(Instant.class, new StdSerializer<>(Instant.class) {
+			@Override
+			public void serialize(Instant value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+				gen.writeString(formatInstant(value));
+			}
+		});
+		csvMapper.registerModule(instantModule);
+		csvMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 		SimpleDateFormat sdf = new SimpleDateFormat(BQ_TIMESTAMP_PATTERN);
 		sdf.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
-		this.csvMapper.setDateFormat(sdf);
+		csvMapper.setDateFormat(sdf);
+		return csvMapper;
+	}
 
+	// BigQuery TIMESTAMP 열 형식 (ISO-8601, UTC)
+	public static String formatInstant(Instant instant) {
+		return BQ_INSTANT_FORMAT.format(instant);
+	}
+
+	// BigQuery DATETIME 열 형식 (LocalDateTime.toString 은 0초를 생략하므로 패턴으로 변환)
+	public static String formatDateTime(LocalDateTime dateTime) {
+		return BQ_DATETIME_FORMAT.format(dateTime);
 	}
 
 
 	@BeforeStep // Step 시작 전에 StepExecution 객체를 받아오기
 	public void saveStepExecution(StepExecution stepExecution) {
 		this.stepExecution = stepExecution;
-		// ExecutionContext 에 파일 URI 리스트 초기화
-		this.stepExecution.getExecutionContext().put(GCS_FILE_URIS_KEY, new ArrayList<String>());
+		// ExecutionContext 에 파일 URI 리스트 초기화 (재시작이면 이전 실행이 마지막 커밋까지 업로드한 목록 유지)
+		if (!this.stepExecution.getExecutionContext().containsKey(GCS_FILE_URIS_KEY)) {
+			this.stepExecution.getExecutionContext().put(GCS_FILE_URIS_KEY, new ArrayList<String>());
+		}
+
+		String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+		this.csvEncodeTimer = EtlMetrics.csvEncodeTimer(jobName);
+		this.csvEncodeBytes = EtlMetrics.csvEncodeBytes(jobName);
+		this.gcsUploadTimer = EtlMetrics.gcsUploadTimer(jobName, "chunk");
 	}
 
 
@@ -86,51 +172,88 @@ public class BigQueryItemWriter implements ItemWriter<AuctionsWinningBidDto> {
 			return;
 		}
 
-		// 데이터를 CSV 으로 변환
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-		OutputStreamWriter writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
-
-		// AuctionsWinningBidDto 구조를 바탕으로 CSV 스키마 생성
-		CsvSchema schema = csvMapper.schemaFor(AuctionsWinningBidDto.class).withoutHeader();
-
-		try {
-			// 준비된 스키마와 writer 를 사용하여 items 리스트의 데이터를 CSV 형식으로 변환하여 outputStream 에 작성
-			csvMapper.writer(schema).writeValue(writer, items);
-		} finally {
-			try { writer.close(); // 쓰기 작업이 끝나면 writer 닫음
-			} catch (Exception ignore) {}
+		// 데이터를 CSV 으로 변환 => 풀에서 빌린 Direct 버퍼에 기록
+		CsvEncodeEvent encodeEvent = CsvEncodeEvent.start();
+		long encodeStart = System.nanoTime();
+		int slices = parallelCsvEncoder == null ? 1 : parallelCsvEncoder.sliceCount(items.size());
+		PooledBufferOutputStream csvData = slices > 1
+			? parallelCsvEncoder.encode(csvEncoder, items, bufferPool) // slice 결과 segment 를 순서대로 이어 붙임
+			: csvEncoder.encode(items, bufferPool);
+		long encodeNanos = System.nanoTime() - encodeStart;
+		encodeEvent.finish(stepExecution, items.size(), slices, csvData.size());
+		csvEncodeTimer.record(encodeNanos, TimeUnit.NANOSECONDS);
+		csvEncodeBytes.record(csvData.size());
+		if (slices > 1) {
+			log.debug("CSV 병렬 인코딩: 행 = {}, slice = {}, 병렬도 = {}, 시간 = {} ms", items.size(), slices,
+				parallelCsvEncoder.getParallelism(), TimeUnit.NANOSECONDS.toMillis(encodeNanos));
 		}
-
-		// CSV 데이터를 바이트 배열 형태로 가져옴
-		byte[] csvData = outputStream.toByteArray();
-
-		// GCS 에 CSV 업로드
-		String gcsObjectName = generateGcsObjectName(); //  GCS 에 저장될 고유 이름 생성
-		BlobId blobId = BlobId.of(gcsBucketName, gcsObjectName);
-		BlobInfo blobInfo = BlobInfo.newBuilder(blobId).setContentType("text/csv").build();
+		StepRunStats.forStep(stepExecution).addEncode(encodeNanos, csvData.size());
 
 		try {
-			storage.create(blobInfo, csvData); // GCS 클라이언트(storage)를 사용하여 실제 파일 데이터(csvData)를 GCS 에 업로드
-			String gcsUri = "gs://" + gcsBucketName + "/" + gcsObjectName; // 업로드된 파일의 GCS 경로(URI) 생성
-
-			log.info("GCS 업로드 성공: URI = {}", gcsUri);
-
-			// 현재 단계의 ExecutionContext 에서 GCS 파일 URI 리스트를 가져와 방금 업로드한 파일의 URI 를 추가한 뒤 다시 ExecutionContext 에 저장
-			// => BigQuery 업로드 하기 위해 GCS에 업로드된 파일 알 수 있음
-			ExecutionContext executionContext = stepExecution.getExecutionContext();
-			List<String> gcsFileUris = (List<String>) executionContext.get(GCS_FILE_URIS_KEY);
-			if (gcsFileUris == null) {
-				gcsFileUris = new ArrayList<>();
+			// spool 모드: 로컬 스풀 파일에 추가 (한도 도달 시에만 업로드 URI 반환)
+			// 기본 모드: chunk 하나를 GCS 객체 하나로 바로 업로드
+			String gcsUri = spoolStagingService.isEnabled()
+				? spoolStagingService.append(stepExecution, csvData, findMaxTimestamp(items))
+				: uploadChunk(csvData);
+
+			if (gcsUri != null) {
+				// 현재 단계의 ExecutionContext 에서 GCS 파일 URI 리스트를 가져와 방금 업로드한 파일의 URI 를 추가한 뒤 다시 ExecutionContext 에 저장
+				// => BigQuery 업로드 하기 위해 GCS에 업로드된 파일 알 수 있음
+				ExecutionContext executionContext = stepExecution.getExecutionContext();
+				List<String> gcsFileUris = (List<String>) executionContext.get(GCS_FILE_URIS_KEY);
+				if (gcsFileUris == null) {
+					gcsFileUris = new ArrayList<>();
+				}
+				gcsFileUris.add(gcsUri);
+				executionContext.put(GCS_FILE_URIS_KEY, gcsFileUris);
 			}
-			gcsFileUris.add(gcsUri);
-			executionContext.put(GCS_FILE_URIS_KEY, gcsFileUris);
 
 			// 이번 chunk 에서 처리된 데이터 중 최신 타임스탬프를 찾아 ExecutionContext 에 업데이트
 			updateMaxTimestampInContext(items);
 
+			// 진행 상황 조회용 카운터 + keyset 위치
+			AuctionsWinningBidDto lastItem = items.get(items.size() - 1);
+			StepRunStats.forStep(stepExecution).addStaged(items.size(),
+				lastItem.getLastModified() == null ? null : Timestamp.from(lastItem.getLastModified()),
+				lastItem.getAuctionId());
+
 		} catch (Exception e) {
 			log.error("GCS 버킷에 데이터를 업로드하는 중 오류 발생: GCS 버킷 = {}", gcsBucketName);
 			throw new RuntimeException("데이터를 GCS 에 업로드하는 데 실패했습니다.", e);
+		} finally {
+			csvData.release(); // 업로드 성공/실패와 관계없이 버퍼 반납
+		}
+	}
+
+	// chunk 하나를 GCS 객체로 업로드하고 GCS URI 반환하는 메서드
+	private String uploadChunk(PooledBufferOutputStream csvData) throws Exception {
+		String gcsObjectName = generateGcsObjectName(); //  GCS 에 저장될 고유 이름 생성
+		BlobId blobId = BlobId.of(gcsBucketName, gcsObjectName);
+		BlobInfo blobInfo = BlobInfo.newBuilder(blobId).setContentType("text/csv").build();
+
+		GcsUploadEvent uploadEvent = GcsUploadEvent.start();
+		StepRunStats stepRunStats = StepRunStats.forStep(stepExecution);
+		long uploadStart = System.nanoTime();
+		stepRunStats.beginUpload();
+		try {
+			upload(blobInfo, csvData); // 인코딩된 버퍼를 복사 없이 GCS 채널에 그대로 기록
+		} finally {
+			stepRunStats.endUpload();
+		}
+		long uploadNanos = System.nanoTime() - uploadStart;
+		uploadEvent.finish(stepExecution, "chunk", gcsObjectName, csvData.size());
+		gcsUploadTimer.record(uploadNanos, TimeUnit.NANOSECONDS);
+		stepRunStats.addUpload(uploadNanos);
+		String gcsUri = "gs://" + gcsBucketName + "/" + gcsObjectName; // 업로드된 파일의 GCS 경로(URI) 생성
+
+		log.info("GCS 업로드 성공: URI = {}", gcsUri);
+		return gcsUri;
+	}
+
+	// 버퍼 segment 를 순서대로 GCS WriteChannel 에 기록하는 메서드
+	private void upload(BlobInfo blobInfo, PooledBufferOutputStream csvData) throws Exception {
+		try (WriteChannel channel = storage.writer(blobInfo)) {
+			csvData.writeTo(channel);
 		}
 	}
 
@@ -144,13 +267,9 @@ public class BigQueryItemWriter implements ItemWriter<AuctionsWinningBidDto> {
 
 	// ExecutionContext 에 최신 타임스탬프 저장 메서드
 	private void updateMaxTimestampInContext(List<? extends AuctionsWinningBidDto> items) {
-		Optional<Instant> maxInstantOpt = items.stream()
-			.map(AuctionsWinningBidDto::getLastModified)
-			.filter(java.util.Objects::nonNull)
-			.max(Comparator.naturalOrder());
+		Timestamp maxTimestampInChunk = findMaxTimestamp(items);
 
-		if (maxInstantOpt.isPresent()) {
-			Timestamp maxTimestampInChunk = Timestamp.from(maxInstantOpt.get());
+		if (maxTimestampInChunk != null) {
 			ExecutionContext executionContext = this.stepExecution.getExecutionContext();
 			Timestamp currentMaxTimestamp = (Timestamp) executionContext.get(MAX_TIMESTAMP_KEY);
 
@@ -162,4 +281,22 @@ public class BigQueryItemWriter implements ItemWriter<AuctionsWinningBidDto> {
 		}
 	}
 
+	// DTO 의 @JsonIgnore 를 풀고 컬럼 순서 맨 뒤에 last_modified 추가
+	@JsonPropertyOrder({"auctionId", "productId", "productName", "productCategory", "maxPrice", "auctionStartTime",
+		"auctionEndTime", "lastModified"})
+	private abstract static class LastModifiedColumnMixIn {
+		@JsonIgnore(false)
+		@JsonProperty(BigQueryMergeLoader.LAST_MODIFIED_FIELD)
+		private Instant lastModified;
+	}
+
+	// chunk 데이터 중 최신 타임스탬프 조회 메서드 (없으면 null)
+	private Timestamp findMaxTimestamp(List<? extends AuctionsWinningBidDto> items) {
+		Optional<Instant> maxInstantOpt = items.stream()
+			.map(AuctionsWinningBidDto::getLastModified)
+			.filter(java.util.Objects::nonNull)
+			.max(Comparator.naturalOrder());
+		return maxInstantOpt.map(Timestamp::from).orElse(null);
+	}
+
 }
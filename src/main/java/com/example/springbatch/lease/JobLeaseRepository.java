@@ -0,0 +1,81 @@
+package com.example.springbatch.lease;
+
+import java.util.List;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class JobLeaseRepository { // batch_job_lease 테이블 => 작업 이름별로 한 노드만 실행하도록 만료 시각이 있는 lease 관리
+	// 만료 판단은 DB 시각(CURRENT_TIMESTAMP) 기준 => 노드 사이 시계 차이와 무관
+
+	// MySQL, H2 에서 모두 실행 가능한 DDL => 처음 사용할 때 한 번 실행
+	private static final String CREATE_TABLE_SQL = """
+		CREATE TABLE IF NOT EXISTS batch_job_lease (
+			job_name VARCHAR(100) NOT NULL PRIMARY KEY,
+			owner VARCHAR(200) NOT NULL,
+			acquired_at TIMESTAMP(6) NOT NULL,
+			heartbeat_at TIMESTAMP(6) NOT NULL,
+			expires_at TIMESTAMP(6) NOT NULL
+		)""";
+
+	// 만료된 lease 인수 => UPDATE 는 최신 행을 잠그고 조건을 다시 확인하므로 동시에 인수해도 한 노드만 성공
+	private static final String TAKE_OVER_SQL = "UPDATE batch_job_lease SET owner = ?, "
+		+ "acquired_at = CURRENT_TIMESTAMP(6), heartbeat_at = CURRENT_TIMESTAMP(6), "
+		+ "expires_at = TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP(6)) "
+		+ "WHERE job_name = ? AND expires_at < CURRENT_TIMESTAMP(6)";
+
+	private static final String INSERT_SQL = "INSERT INTO batch_job_lease "
+		+ "(job_name, owner, acquired_at, heartbeat_at, expires_at) "
+		+ "VALUES (?, ?, CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6), TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP(6)))";
+
+	private static final String RENEW_SQL = "UPDATE batch_job_lease SET heartbeat_at = CURRENT_TIMESTAMP(6), "
+		+ "expires_at = TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP(6)) WHERE job_name = ? AND owner = ?";
+
+	private static final String RELEASE_SQL = "DELETE FROM batch_job_lease WHERE job_name = ? AND owner = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private volatile boolean tableReady;
+
+	public JobLeaseRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	// lease 가 없거나 만료됐으면 owner 로 획득 => 다른 owner 가 유효한 lease 를 갖고 있으면 false
+	public boolean tryAcquire(String jobName, String owner, long ttlSeconds) {
+		ensureTable();
+		if (jdbcTemplate.update(TAKE_OVER_SQL, owner, ttlSeconds, jobName) == 1) {
+			return true;
+		}
+		try {
+			return jdbcTemplate.update(INSERT_SQL, jobName, owner, ttlSeconds) == 1;
+		} catch (DuplicateKeyException e) {
+			return false; // 유효한 lease 가 있음 (또는 다른 노드가 방금 획득)
+		}
+	}
+
+	// heartbeat => 만료 시각 연장, 이미 다른 owner 가 인수했으면 false
+	public boolean renew(String jobName, String owner, long ttlSeconds) {
+		ensureTable();
+		return jdbcTemplate.update(RENEW_SQL, ttlSeconds, jobName, owner) == 1;
+	}
+
+	public void release(String jobName, String owner) {
+		ensureTable();
+		jdbcTemplate.update(RELEASE_SQL, jobName, owner);
+	}
+
+	// 현재 lease 보유자 (로그용)
+	public String findOwner(String jobName) {
+		ensureTable();
+		List<String> owners = jdbcTemplate.queryForList(
+			"SELECT owner FROM batch_job_lease WHERE job_name = ?", String.class, jobName);
+		return owners.isEmpty() ? null : owners.get(0);
+	}
+
+	private void ensureTable() {
+		if (!tableReady) {
+			jdbcTemplate.execute(CREATE_TABLE_SQL);
+			tableReady = true;
+		}
+	}
+}
@@ -0,0 +1,200 @@
+package com.example.springbatch.lease;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersIncrementer;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class SingleFlightJobLauncher implements DisposableBean { // 작업 이름별 DB lease 를 잡은 경우에만 Job 실행
+	// 시작 시 JobRunner, cron, 수동 실행, 여러 replica 가 매번 새 JobParameters 로 실행 => Spring Batch 만으로는 겹치는 실행을 막지 못함
+	// => 실행 전에 batch_job_lease 를 획득하고, 실행 중에는 heartbeat 로 만료 시각을 연장, 끝나면 반납
+	// 획득 실패 시 JobExecutionAlreadyRunningException (기존 호출부의 "이미 실행 중" 처리와 같게)
+	// 노드가 죽으면 heartbeat 가 멈춰 ttl 후 다른 노드가 인수
+	//
+	// 비동기 JobLauncher 로 실행하면 run() 이 바로 반환 => heartbeat 가 실행 종료를 확인한 뒤 반납
+	// heartbeat 가 lease 를 잃었으면 (DB 장애가 ttl 보다 길어 다른 노드가 인수) 실행 중인 Job 과 스텝에 중단 요청
+	// Job 을 감싸서 실행이 시작될 때 JobExecution 을 lease 에 연결 => 동기 실행도 run() 이 반환되기 전에 heartbeat 가 중단 가능
+
+	private final JobLeaseRepository repository;
+	private final boolean enabled;
+	private final long ttlSeconds;
+	private final String ownerPrefix; // pid@host
+	private final ScheduledExecutorService heartbeat;
+
+	private final Map<String, HeldLease> heldLeases = new ConcurrentHashMap<>(); // owner => 보유 중인 lease
+
+	// 생성자
+	@Autowired
+	public SingleFlightJobLauncher(JdbcTemplate jdbcTemplate,
+		@Value("${app.batch.lease.enabled:true}") boolean enabled,
+		@Value("${app.batch.lease.ttl-seconds:120}") long ttlSeconds,
+		@Value("${app.batch.lease.heartbeat-seconds:30}") long heartbeatSeconds) {
+		this.repository = new JobLeaseRepository(jdbcTemplate);
+		this.enabled = enabled;
+		this.ttlSeconds = Math.max(1, ttlSeconds);
+		this.ownerPrefix = ManagementFactory.getRuntimeMXBean().getName();
+		this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "job-lease-heartbeat");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = Math.max(1, Math.min(heartbeatSeconds, this.ttlSeconds / 2));
+		heartbeat.scheduleWithFixedDelay(this::heartbeatAll, interval, interval, TimeUnit.SECONDS);
+	}
+
+	// lease 이름 = Job 이름
+	public JobExecution run(JobLauncher jobLauncher, Job job, JobParameters jobParameters)
+		throws JobExecutionException {
+		return run(job.getName(), jobLauncher, job, jobParameters);
+	}
+
+	// leaseName: 같은 watermark 를 쓰는 Job 들이 공유할 이름 (예: 배치 Job 과 스트리밍 Job)
+	public JobExecution run(String leaseName, JobLauncher jobLauncher, Job job, JobParameters jobParameters)
+		throws JobExecutionException {
+		if (!enabled) {
+			return jobLauncher.run(job, jobParameters);
+		}
+
+		String owner = ownerPrefix + ":" + UUID.randomUUID();
+		if (!repository.tryAcquire(leaseName, owner, ttlSeconds)) {
+			throw new JobExecutionAlreadyRunningException(
+				"다른 실행이 lease 를 보유 중: 작업 = " + leaseName + ", 보유자 = " + repository.findOwner(leaseName));
+		}
+		HeldLease lease = new HeldLease(leaseName, owner);
+		heldLeases.put(owner, lease);
+		log.info("lease 획득: 작업 = {}, 보유자 = {}", leaseName, owner);
+
+		JobExecution execution;
+		try {
+			execution = jobLauncher.run(new LeaseBoundJob(job, lease), jobParameters);
+		} catch (JobExecutionException | RuntimeException e) {
+			release(lease);
+			throw e;
+		}
+
+		if (execution.isRunning()) {
+			lease.execution = execution; // 비동기 실행 => heartbeat 가 종료 확인 후 반납
+		} else {
+			release(lease);
+		}
+		return execution;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void destroy() {
+		// 실행 중인 lease 는 반납하지 않음 => 종료 중인 실행과 겹치지 않도록 ttl 만료 후 다른 노드가 인수
+		heartbeat.shutdownNow();
+	}
+
+	public void heartbeatAll() { // 스케줄러에서 주기적으로 호출
+		for (HeldLease lease : heldLeases.values()) {
+			try {
+				JobExecution execution = lease.execution;
+				if (execution != null && !execution.isRunning()) {
+					release(lease);
+				} else if (!repository.renew(lease.jobName, lease.owner, ttlSeconds)) {
+					lost(lease);
+				}
+			} catch (RuntimeException e) {
+				log.warn("lease heartbeat 실패 => 다음 주기에 재시도: 작업 = {}, 오류 = {}", lease.jobName, e.getMessage());
+			}
+		}
+	}
+
+	private void lost(HeldLease lease) {
+		heldLeases.remove(lease.owner);
+		log.error("lease 를 잃음 (다른 노드가 인수): 작업 = {}, 보유자 = {}", lease.jobName, lease.owner);
+		JobExecution execution = lease.execution;
+		if (execution != null && execution.isRunning()) {
+			execution.setStatus(BatchStatus.STOPPING); // 다음 스텝을 시작하지 않음
+			for (StepExecution stepExecution : execution.getStepExecutions()) {
+				stepExecution.setTerminateOnly(); // 다음 chunk 경계에서 중단
+			}
+		}
+	}
+
+	private void release(HeldLease lease) {
+		heldLeases.remove(lease.owner);
+		try {
+			repository.release(lease.jobName, lease.owner);
+			log.info("lease 반납: 작업 = {}, 보유자 = {}", lease.jobName, lease.owner);
+		} catch (RuntimeException e) {
+			log.warn("lease 반납 실패 => ttl 후 만료: 작업 = {}, 오류 = {}", lease.jobName, e.getMessage());
+		}
+	}
+
+	private static class HeldLease {
+		private final String jobName;
+		private final String owner;
+		private volatile JobExecution execution; // Job 이 시작되면 설정 (동기/비동기 모두)
+
+		private HeldLease(String jobName, String owner) {
+			this.jobName = jobName;
+			this.owner = owner;
+		}
+	}
+
+	// 실행을 시작하는 스레드(동기면 호출 스레드, 비동기면 TaskExecutor 스레드)에서 JobExecution 을 lease 에 연결
+	private static final class LeaseBoundJob implements Job {
+		private final Job delegate;
+		private final HeldLease lease;
+
+		private LeaseBoundJob(Job delegate, HeldLease lease) {
+			this.delegate = delegate;
+			this.lease = lease;
+		}
+
+		@Override
+		public String getName() {
+			return delegate.getName();
+		}
+
+		@Override
+		public boolean isRestartable() {
+			return delegate.isRestartable();
+		}
+
+		@Override
+		public void execute(JobExecution execution) {
+			lease.execution = execution;
+			delegate.execute(execution);
+		}
+
+		@Override
+		public JobParametersIncrementer getJobParametersIncrementer() {
+			return delegate.getJobParametersIncrementer();
+		}
+
+		@Override
+		public JobParametersValidator getJobParametersValidator() {
+			return delegate.getJobParametersValidator();
+		}
+	}
+}
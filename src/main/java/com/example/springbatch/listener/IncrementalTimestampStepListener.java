@@ -1,5 +1,16 @@
 package com.example.springbatch.listener;
 
+import com.example.springbatch.jfr.LoadJobCompleteEvent;
+import com.example.springbatch.jfr.LoadJobSubmitEvent;
+import com.example.springbatch.load.BigQueryMergeLoader;
+import com.example.springbatch.metrics.EtlMetrics;
+import com.example.springbatch.progress.BackfillParameters;
+import com.example.springbatch.staging.SpoolStagingService;
+import com.example.springbatch.stats.BatchRunStats;
+import com.example.springbatch.stats.RunStatsRepository;
+import com.example.springbatch.stats.RunStatsSettings;
+import com.example.springbatch.stats.RunStatsTrend;
+import com.example.springbatch.stats.StepRunStats;
 import com.google.cloud.bigquery.*;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
@@ -10,12 +21,14 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
@@ -23,6 +36,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
@@ -35,18 +49,50 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 	private final String datasetName; // BigQuery 데이터셋 이름
 	private final String tableName; // BigQuery 테이블 이름
 	private final String gcsBucketName; // GSC 버킷 이름
+	private final SpoolStagingService spoolStagingService; // spool 모드의 남은 스풀 업로드 및 복구 (null 이면 사용 안함)
+	private final Schema schema; // 로드 대상 BigQuery 테이블 스키마
+	private final RunStatsRepository runStatsRepository; // 스텝 실행마다 batch_run_stats 에 성능 기록
+	private final RunStatsSettings runStatsSettings; // 성능 저하 경고 기준 (/actuator/runstats 와 같은 설정)
+	private final BigQueryMergeLoader mergeLoader; // merge 모드의 staging + MERGE 로드 (null 이거나 비활성이면 WRITE_APPEND)
 
 	private static final String GCS_FILE_URIS_KEY = "gcsFileUris"; // ExecutionContext 에 GCS 파일 경로 리스트를 저장할 때 사용할 키
 	private static final String MAX_TIMESTAMP_KEY = "maxProcessedTimestampInChunk"; // ExecutionContext 에 처리된 데이터 중 최신 타임스탬프 값을 저장할 때 사용할 키
 	private static final String STEP_START_TIME_KEY = "stepStartTime"; // 시작 시간 저장을 위한 키 추가
+	// auctions_winning_bid 테이블 스키마 => mysqlToBigQueryJob 의 기본 로드 대상
+	public static final Schema AUCTIONS_WINNING_BID_SCHEMA = Schema.of(
+		Field.of("auction_id", StandardSQLTypeName.INT64),
+		Field.of("product_id", StandardSQLTypeName.INT64),
+		Field.of("product_name", StandardSQLTypeName.STRING),
+		Field.of("product_category", StandardSQLTypeName.STRING),
+		Field.of("max_price", StandardSQLTypeName.INT64),
+		Field.of("auction_start_time", StandardSQLTypeName.TIMESTAMP),
+		Field.of("auction_end_time", StandardSQLTypeName.TIMESTAMP)
+		// lastModified 포함 안함 (@JsonIgnore) => merge 모드는 BigQueryMergeLoader.tableSchema 로 마지막에 추가
+	);
+
+	private static final String RECOVERED_GCS_FILE_URIS_KEY = "recoveredGcsFileUris"; // 이전 실행의 스풀에서 복구한 GCS 파일 경로 리스트 키
 	// 생성자
+	@Autowired
 	public IncrementalTimestampStepListener(JdbcTemplate jdbcTemplate,
 		@Value("${app.batch.job-name}") String jobName,
 		BigQuery bigquery,
 		Storage storage,
 		@Value("${spring.cloud.gcp.bigquery.dataset-name}") String datasetName,
 		@Value("${spring.cloud.gcp.bigquery.table-name}") String tableName,
-		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName) {
+		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName,
+		SpoolStagingService spoolStagingService,
+		BigQueryMergeLoader mergeLoader,
+		RunStatsRepository runStatsRepository,
+		RunStatsSettings runStatsSettings) {
+		this(jdbcTemplate, jobName, bigquery, storage, datasetName, tableName, gcsBucketName, spoolStagingService,
+			AUCTIONS_WINNING_BID_SCHEMA, mergeLoader, runStatsRepository, runStatsSettings);
+	}
+
+	// 설정 기반 파이프라인용 생성자 => 파이프라인마다 작업 이름, 로드 대상 테이블, 스키마를 지정
+	public IncrementalTimestampStepListener(JdbcTemplate jdbcTemplate, String jobName, BigQuery bigquery,
+		Storage storage, String datasetName, String tableName, String gcsBucketName,
+		SpoolStagingService spoolStagingService, Schema schema, BigQueryMergeLoader mergeLoader,
+		RunStatsRepository runStatsRepository, RunStatsSettings runStatsSettings) {
 		this.jdbcTemplate = jdbcTemplate;
 		this.jobName = jobName;
 		this.bigquery = bigquery;
@@ -54,6 +100,11 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 		this.datasetName = datasetName;
 		this.tableName = tableName;
 		this.gcsBucketName = gcsBucketName;
+		this.spoolStagingService = spoolStagingService;
+		this.schema = schema;
+		this.runStatsRepository = runStatsRepository;
+		this.runStatsSettings = runStatsSettings;
+		this.mergeLoader = mergeLoader;
 	}
 
 	// Step 시작 되기 전에 실행
@@ -66,6 +117,26 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 
 		Timestamp lastProcessedTimestamp; // 마지막 처리 타임스탬프 저장 변수
 
+		// backfill 실행: 지정한 구간 시작부터 읽음 (메타데이터 조회/스풀 복구 안함)
+		if (BackfillParameters.isBackfill(stepExecution.getJobParameters())) {
+			lastProcessedTimestamp = BackfillParameters.from(stepExecution.getJobParameters());
+			log.info("Before Step: backfill 실행: 작업 = {}, 구간 = {} ~ {}", jobName, lastProcessedTimestamp,
+				BackfillParameters.to(stepExecution.getJobParameters()));
+			StepRunStats.forStep(stepExecution).setWatermarkFrom(lastProcessedTimestamp);
+			stepExecution.getExecutionContext().put("lastProcessedTimestamp", lastProcessedTimestamp);
+			return;
+		}
+
+		// 같은 JobInstance 재시작: 실패한 스텝의 ExecutionContext 를 이어받음
+		// => Reader 의 keyset 위치가 이전 하한 기준이므로 하한도 그대로 사용 (메타데이터 조회/스풀 복구 안함)
+		Object restoredTimestamp = stepExecution.getExecutionContext().get("lastProcessedTimestamp");
+		if (restoredTimestamp instanceof Timestamp restored) {
+			log.info("Before Step: 재시작: 이전 실행의 하한과 커밋 위치부터 이어서 읽음: 작업 = {}, 하한 = {}", jobName, restored);
+			EtlMetrics.recordWatermark(jobName, restored);
+			StepRunStats.forStep(stepExecution).setWatermarkFrom(restored);
+			return;
+		}
+
 		try {
 			// batch_job_metadata 테이블에서 현재 작업 이름에 해당하는 마지막 처리 타임스탬프를 조회
 			lastProcessedTimestamp = jdbcTemplate.queryForObject(
@@ -77,30 +148,56 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 			log.warn("마지막 처리 타임스탬프를 찾을 수 없음: 작업 = {}", jobName, e);
 			lastProcessedTimestamp = Timestamp.valueOf(LocalDateTime.MIN);
 		}
+
+		// 데이터 신선도 지표 => 현재 시각 - 마지막 처리 타임스탬프
+		EtlMetrics.recordWatermark(jobName, lastProcessedTimestamp);
+
+		// spool 모드: 이전 실행이 남긴 스풀을 마저 업로드하고, 스풀에 커밋된 시점 이후부터 읽도록 조정
+		lastProcessedTimestamp = recoverSpool(stepExecution, lastProcessedTimestamp);
+
 		// ExecutionContext 에 저장
+		StepRunStats.forStep(stepExecution).setWatermarkFrom(lastProcessedTimestamp); // 진행 상황 조회용
 		stepExecution.getExecutionContext().put("lastProcessedTimestamp", lastProcessedTimestamp);
 	}
 
 	// Step 완료 후에 실행
 	@Override
 	public ExitStatus afterStep(StepExecution stepExecution) {
-
-		// 스텝 실행 중 ExecutionContext 에 저장된 GCS 파일 경로 리스트를 가져옴
-		List<String> gcsFileUris = (List<String>)stepExecution.getExecutionContext().get(GCS_FILE_URIS_KEY);
+		// 실행 기록용 값 => 스텝 종료 시 batch_run_stats 에 저장
+		Timestamp watermarkTo = null; // 로드 성공 시 갱신된 타임스탬프 (null 이면 진행 없음)
+		int fileCount = 0;
+		long bqLoadDuration = 0;
+		JobStatistics.LoadStatistics loadStatistics = null;
+
+		// 스텝 실행 중 ExecutionContext 에 저장된 GCS 파일 경로 리스트 + 남은 스풀 + 복구한 스풀 파일 경로를 가져옴
+		List<String> gcsFileUris;
+		try {
+			gcsFileUris = collectGcsFileUris(stepExecution);
+		} catch (IOException e) {
+			log.error("After Step: 남은 스풀 업로드 실패: 스텝 = {}", stepExecution.getStepName(), e);
+			stepExecution.setExitStatus(ExitStatus.FAILED);
+			releaseSpool(stepExecution);
+			recordRunStats(stepExecution, null, fileCount, bqLoadDuration, null);
+			return ExitStatus.FAILED;
+		}
 
 		// 스텝이 성공적으로 완료되었고, GCS 에 로드된 파일이 있는지 확인
 		if (stepExecution.getExitStatus().equals(ExitStatus.COMPLETED) && !CollectionUtils.isEmpty(gcsFileUris)) {
 			log.info("After Step: BigQuery 로드 시작: 완료된 스텝 = {}, 파일 크기 = {}",
 				stepExecution.getStepName(), gcsFileUris.size());
 
+			fileCount = gcsFileUris.size();
+
 			// BigQuery 로드 시간 측정 시작
 			long bqLoadStartTime = System.currentTimeMillis();
 
 			// GCS 에 넣은 파일을 BigQuery 테이블로 로드
-			boolean loadJobSuccessful = runBigQueryLoadJob(gcsFileUris);
+			LoadResult loadResult = runBigQueryLoadJob(stepExecution, gcsFileUris);
+			boolean loadJobSuccessful = loadResult.successful();
+			loadStatistics = loadResult.statistics();
 
 			long bqLoadEndTime = System.currentTimeMillis();
-			long bqLoadDuration = bqLoadEndTime - bqLoadStartTime;
+			bqLoadDuration = bqLoadEndTime - bqLoadStartTime;
 			double bqLoadDurationSeconds = bqLoadDuration / 1000.0;
 			log.info("BigQuery 로드 (runBigQueryLoadJob) 실행 시간 = {} 밀리초 ({} 초)", bqLoadDuration, bqLoadDurationSeconds);
 			// BigQuery 로드 시간 측정 종료
@@ -113,12 +210,24 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 
 				// Timestamp 타입으로 변환
 				Timestamp maxTimestamp = (Timestamp)maxTimestampObj;
-				// 최신 타임스탬프로 업데이트
-				updateMetadataTimestamp(maxTimestamp);
+				if (BackfillParameters.isBackfill(stepExecution.getJobParameters())) {
+					// backfill 은 과거 구간 재적재 => 증분 실행의 마지막 처리 타임스탬프는 그대로 둠
+					log.info("backfill 로드 완료: 메타데이터 타임스탬프 갱신 안함: 작업 = {}", jobName);
+				} else {
+					// 최신 타임스탬프로 업데이트
+					updateMetadataTimestamp(maxTimestamp);
+					watermarkTo = maxTimestamp;
+				}
 
 				// 로드 성공 후 임시 GCS 파일 삭제
 				deleteGcsFiles(gcsFileUris);
 
+				// 로드된 스풀 상태 정리
+				if (spoolStagingService != null) {
+					spoolStagingService.complete(stepExecution);
+					spoolStagingService.completeRecovered();
+				}
+
 			} else {
 				log.error("BigQuery 로드 실패");
 				stepExecution.setExitStatus(ExitStatus.FAILED); // step 상태 변경
@@ -127,12 +236,24 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 		} else if (stepExecution.getExitStatus().equals(ExitStatus.COMPLETED)) {
 			// 스텝은 성공했지만, BigQuery 에 로드할 파일이 없는 경우 (처리할 데이터가 없는 경우)
 			log.info("After Step: 스텝이 완료 됐지만, BigQuery 에 로드할 파일 없음: 완료된 스텝 = {}", stepExecution.getStepName());
+
+			// 변경 감지로 모든 행을 건너뛴 경우 => BigQuery 에 이미 같은 값이 있으므로 건너뛴 행의 타임스탬프까지 진행
+			Timestamp skippedMaxTimestamp = (Timestamp)stepExecution.getExecutionContext().get(MAX_TIMESTAMP_KEY);
+			if (skippedMaxTimestamp != null && !BackfillParameters.isBackfill(stepExecution.getJobParameters())) {
+				updateMetadataTimestamp(skippedMaxTimestamp);
+				watermarkTo = skippedMaxTimestamp;
+			}
 		} else {
 			// 스텝 실패
 			log.warn("After Step: 스텝 실패: 실패한 스텝 = {}, 스텝 상태 = {}",
 				stepExecution.getStepName(), stepExecution.getExitStatus());
 		}
 
+		// 스텝 또는 로드가 실패한 경우 스풀을 다음 실행의 복구 대상으로 넘김
+		if (!stepExecution.getExitStatus().equals(ExitStatus.COMPLETED)) {
+			releaseSpool(stepExecution);
+		}
+
 		// Step 종료 시간 기록
 		LocalDateTime endTime = LocalDateTime.now();
 		ExecutionContext executionContext = stepExecution.getExecutionContext();
@@ -146,29 +267,88 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 				stepDuration.toSeconds());
 		}
 
+		// 실행 기록 저장 + 이전 실행 대비 성능 저하 확인
+		recordRunStats(stepExecution, watermarkTo, fileCount, bqLoadDuration, loadStatistics);
+
 		// 스텝 최종 상태 반환
 		return stepExecution.getExitStatus();
 	}
 
+	// 실패한 스텝의 스풀 해제 메서드
+	private void releaseSpool(StepExecution stepExecution) {
+		if (spoolStagingService != null && spoolStagingService.isEnabled()) {
+			spoolStagingService.release(stepExecution);
+		}
+	}
+
+	// 이전 실행의 스풀 복구 메서드 => 복구한 데이터의 최신 타임스탬프가 더 크면 그 값을 반환
+	private Timestamp recoverSpool(StepExecution stepExecution, Timestamp lastProcessedTimestamp) {
+		if (spoolStagingService == null || !spoolStagingService.isEnabled()) {
+			return lastProcessedTimestamp;
+		}
+
+		SpoolStagingService.SpoolRecovery recovery;
+		try {
+			recovery = spoolStagingService.recover();
+		} catch (IOException e) {
+			// 복구하지 못한 스풀을 두고 진행하면 같은 데이터를 다시 읽게 되므로 스텝 실패 처리
+			throw new IllegalStateException("이전 실행의 스풀 복구에 실패했습니다.", e);
+		}
+		if (recovery.gcsFileUris().isEmpty()) {
+			return lastProcessedTimestamp;
+		}
+
+		log.info("Before Step: 스풀 복구 완료: 파일 개수 = {}, 복구된 최신 타임스탬프 = {}",
+			recovery.gcsFileUris().size(), recovery.maxTimestamp());
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		executionContext.put(RECOVERED_GCS_FILE_URIS_KEY, new ArrayList<>(recovery.gcsFileUris()));
+
+		Timestamp recoveredMaxTimestamp = recovery.maxTimestamp();
+		if (recoveredMaxTimestamp != null && recoveredMaxTimestamp.after(lastProcessedTimestamp)) {
+			// 복구한 파일이 로드되면 메타데이터도 이 시점까지 갱신되도록 최대 타임스탬프로 기록
+			executionContext.put(MAX_TIMESTAMP_KEY, recoveredMaxTimestamp);
+			return recoveredMaxTimestamp;
+		}
+		return lastProcessedTimestamp;
+	}
+
+	// BigQuery 에 로드할 GCS 파일 경로 수집 메서드
+	private List<String> collectGcsFileUris(StepExecution stepExecution) throws IOException {
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		List<String> gcsFileUris = new ArrayList<>();
+
+		List<String> stagedFileUris = (List<String>)executionContext.get(GCS_FILE_URIS_KEY);
+		if (stagedFileUris != null) {
+			gcsFileUris.addAll(stagedFileUris);
+		}
+		List<String> recoveredFileUris = (List<String>)executionContext.get(RECOVERED_GCS_FILE_URIS_KEY);
+		if (recoveredFileUris != null) {
+			gcsFileUris.addAll(recoveredFileUris);
+		}
+
+		// 스텝이 성공한 경우에만 남은 스풀 업로드 (실패 시에는 다음 실행에서 복구)
+		if (stepExecution.getExitStatus().equals(ExitStatus.COMPLETED)
+			&& spoolStagingService != null && spoolStagingService.isEnabled()) {
+			String flushedUri = spoolStagingService.flush(stepExecution);
+			if (flushedUri != null) {
+				gcsFileUris.add(flushedUri);
+			}
+		}
+		return gcsFileUris;
+	}
+
 	// BigQuery 로드 메서드
-	private boolean runBigQueryLoadJob(List<String> gcsFileUris) {
+	private LoadResult runBigQueryLoadJob(StepExecution stepExecution, List<String> gcsFileUris) {
+
+		// merge 모드: staging 테이블에 로드 후 MERGE 로 upsert => 재실행/중복 로드에도 대상 테이블에 행이 중복되지 않음
+		if (mergeLoader != null && mergeLoader.isEnabled()) {
+			return runBigQueryMergeLoad(stepExecution, gcsFileUris);
+		}
 
 		try {
 			// BigQuery 테이블 식별하는 객체 생성
 			TableId tableId = TableId.of(datasetName, tableName);
 
-			// BigQuery 테이블 스키마 정의
-			Schema schema = Schema.of(
-				Field.of("auction_id", StandardSQLTypeName.INT64),
-				Field.of("product_id", StandardSQLTypeName.INT64),
-				Field.of("product_name", StandardSQLTypeName.STRING),
-				Field.of("product_category", StandardSQLTypeName.STRING),
-				Field.of("max_price", StandardSQLTypeName.INT64),
-				Field.of("auction_start_time", StandardSQLTypeName.TIMESTAMP),
-				Field.of("auction_end_time", StandardSQLTypeName.TIMESTAMP)
-				// lastModified 포함 안함 (@JsonIgnore)
-			);
-
 			// CSV 옵션 설정
 			// 헤더 행 없음 => CSV 첫 번째 줄부터 인식
 			CsvOptions csvOptions = CsvOptions.newBuilder().setSkipLeadingRows(0).build();
@@ -181,18 +361,24 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 				.build();
 
 			// 로드 작업 생성 및 실행
+			LoadJobSubmitEvent submitEvent = LoadJobSubmitEvent.start();
 			Job job = bigquery.create(JobInfo.newBuilder(loadConfig).build());
+			submitEvent.finish(stepExecution, String.valueOf(job.getJobId()), gcsFileUris.size());
 			log.info("BigQuery 로드 시작: 작업 = {}", job.getJobId());
 
 			// 작업 완료 대기 (동기 방식)
+			LoadJobCompleteEvent completeEvent = LoadJobCompleteEvent.start();
 			Job completedJob = job.waitFor();
+			boolean successful = completedJob != null && completedJob.getStatus().getError() == null;
+			JobStatistics.LoadStatistics stats = successful ? completedJob.getStatistics() : null;
+			completeEvent.finish(stepExecution, String.valueOf(job.getJobId()), stats);
 
 			// 작업이 성공적으로 완료되었는지 확인
-			if (completedJob != null && completedJob.getStatus().getError() == null) {
-				JobStatistics.LoadStatistics stats = completedJob.getStatistics();
+			if (successful) {
+				recordLoadJobTimes(stats);
 				log.info("BigQuery 로드 성공: 작업 = {}, 행 = {}, 데이터셋 = {}, 테이블 = {}",
 					completedJob.getJobId(), stats.getOutputRows(), datasetName, tableName);
-				return true;
+				return new LoadResult(true, stats);
 
 			} else {
 				String errorMessage = "알 수 없는 오류 발생";
@@ -201,17 +387,109 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 				}
 				log.error("BigQuery 로드 실패: 작업 = {}. 오류 = {}",
 					(job != null ? job.getJobId() : "N/A"), errorMessage);
-				return false;
+				return new LoadResult(false, null);
 			}
 
 			// BigQuery API 호출 중 오류 또는 작업 대기 중 인터럽트 발생 시
 		} catch (BigQueryException | InterruptedException e) {
 			log.error("BigQuery 로드 작업 실행 중 오류 발생: {}", e.getMessage(), e);
 			Thread.currentThread().interrupt(); // InterruptedException 발생 시 현재 스레드 인터럽트 상태 복원
-			return false;
+			return new LoadResult(false, null);
 		}
 	}
 
+	// staging + MERGE 로드 메서드
+	private LoadResult runBigQueryMergeLoad(StepExecution stepExecution, List<String> gcsFileUris) {
+		// staging 테이블 이름 => 실행마다 달라야 동시 실행/재시작이 서로의 staging 을 덮어쓰지 않음
+		String runSuffix = stepExecution.getJobExecutionId() + "_" + stepExecution.getId();
+
+		LoadJobSubmitEvent submitEvent = LoadJobSubmitEvent.start();
+		try {
+			JobStatistics.LoadStatistics stats = mergeLoader.load(datasetName, tableName, schema, gcsFileUris, runSuffix);
+			submitEvent.finish(stepExecution, "merge_" + runSuffix, gcsFileUris.size());
+			recordLoadJobTimes(stats);
+			log.info("BigQuery MERGE 로드 성공: 행 = {}, 데이터셋 = {}, 테이블 = {}",
+				stats.getOutputRows(), datasetName, tableName);
+			return new LoadResult(true, stats);
+
+		} catch (BigQueryException | IllegalStateException e) {
+			log.error("BigQuery MERGE 로드 실패: {}", e.getMessage(), e);
+			return new LoadResult(false, null);
+		} catch (InterruptedException e) {
+			log.error("BigQuery MERGE 로드 대기 중 인터럽트 발생: {}", e.getMessage(), e);
+			Thread.currentThread().interrupt();
+			return new LoadResult(false, null);
+		}
+	}
+
+	// 스텝 실행 기록 저장 메서드 => 기록 실패가 스텝 결과에 영향을 주지 않도록 예외는 로그만 남김
+	private void recordRunStats(StepExecution stepExecution, Timestamp watermarkTo, int fileCount, long loadMillis,
+		JobStatistics.LoadStatistics loadStatistics) {
+		StepRunStats stepRunStats = StepRunStats.remove(stepExecution);
+		try {
+			ExecutionContext executionContext = stepExecution.getExecutionContext();
+			Timestamp watermarkFrom = (Timestamp)executionContext.get("lastProcessedTimestamp");
+			LocalDateTime startTime = (LocalDateTime)executionContext.get(STEP_START_TIME_KEY);
+			LocalDateTime endTime = LocalDateTime.now();
+
+			BatchRunStats.BatchRunStatsBuilder builder = BatchRunStats.builder()
+				.jobName(jobName)
+				.jobExecutionId(stepExecution.getJobExecutionId())
+				.stepExecutionId(stepExecution.getId())
+				.status(stepExecution.getExitStatus() == null ? "UNKNOWN" : stepExecution.getExitStatus().getExitCode())
+				.startedAt(startTime == null ? null : Timestamp.valueOf(startTime))
+				.endedAt(Timestamp.valueOf(endTime))
+				.rowsRead(stepExecution.getReadCount())
+				.rowsWritten(stepExecution.getWriteCount())
+				.rowsFiltered(stepExecution.getFilterCount())
+				.bytesStaged(stepRunStats.getBytesStaged())
+				.fileCount(fileCount)
+				.stepMillis(startTime == null ? 0 : Duration.between(startTime, endTime).toMillis())
+				.readMillis(stepRunStats.getReadMillis())
+				.encodeMillis(stepRunStats.getEncodeMillis())
+				.uploadMillis(stepRunStats.getUploadMillis())
+				.loadMillis(loadMillis)
+				.watermarkFrom(watermarkFrom)
+				.watermarkTo(watermarkTo == null ? watermarkFrom : watermarkTo);
+
+			if (loadStatistics != null) {
+				builder.loadOutputRows(loadStatistics.getOutputRows())
+					.loadInputBytes(loadStatistics.getInputBytes())
+					.loadBadRecords(loadStatistics.getBadRecords());
+				if (loadStatistics.getCreationTime() != null && loadStatistics.getStartTime() != null
+					&& loadStatistics.getEndTime() != null) {
+					builder.loadQueueMillis(loadStatistics.getStartTime() - loadStatistics.getCreationTime())
+						.loadRunMillis(loadStatistics.getEndTime() - loadStatistics.getStartTime());
+				}
+			}
+			runStatsRepository.save(builder.build());
+
+			int baselineRuns = runStatsSettings.getBaselineRuns();
+			RunStatsTrend.Report report = RunStatsTrend.analyze(jobName,
+				runStatsRepository.findRecent(jobName, runStatsSettings.fetchSize(baselineRuns)),
+				baselineRuns, runStatsSettings.getRegressionThresholdPercent());
+			for (RunStatsTrend.MetricTrend regression : report.regressions()) {
+				log.warn("성능 저하 감지: 작업 = {}, 지표 = {}, 이번 실행 = {}, 기준 = {}, 변화 = {}%", jobName,
+					regression.name(), String.format("%.2f", regression.latest()),
+					String.format("%.2f", regression.baseline()), String.format("%.1f", regression.regressionPercent()));
+			}
+		} catch (Exception e) {
+			log.warn("batch_run_stats 기록 실패: 작업 = {}, 오류 = {}", jobName, e.getMessage());
+		}
+	}
+
+	// 로드 작업의 대기 시간(생성 ~ 시작)과 실행 시간(시작 ~ 종료) 기록 메서드
+	private void recordLoadJobTimes(JobStatistics stats) {
+		if (stats == null || stats.getCreationTime() == null || stats.getStartTime() == null
+			|| stats.getEndTime() == null) {
+			return;
+		}
+		EtlMetrics.loadQueueTimer(jobName)
+			.record(stats.getStartTime() - stats.getCreationTime(), TimeUnit.MILLISECONDS);
+		EtlMetrics.loadRunTimer(jobName)
+			.record(stats.getEndTime() - stats.getStartTime(), TimeUnit.MILLISECONDS);
+	}
+
 	// batch_job_metadata 타임스탬프 업데이트 메서드
 	private void updateMetadataTimestamp(Timestamp maxTimestamp) {
 		try {
@@ -220,7 +498,16 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 				maxTimestamp,
 				jobName
 			);
+			if (updatedRows == 0) {
+				// 처음 실행되는 작업(새 파이프라인 등)은 메타데이터 행이 없으므로 새로 추가
+				updatedRows = jdbcTemplate.update(
+					"INSERT INTO batch_job_metadata (job_name, last_processed_timestamp) VALUES (?, ?)",
+					jobName,
+					maxTimestamp
+				);
+			}
 			if (updatedRows > 0) {
+				EtlMetrics.recordWatermark(jobName, maxTimestamp);
 				log.info("batch_job_metadata 업데이트 성공: 작업 = '{}', 타임스탬프 = {}", jobName, maxTimestamp);
 			} else {
 				log.warn("batch_job_metadata 업데이트 실패: 작업 = '{}'", jobName);
@@ -282,4 +569,8 @@ public class IncrementalTimestampStepListener implements StepExecutionListener {
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	// BigQuery 로드 결과 (성공 여부, 로드 작업 통계)
+	private record LoadResult(boolean successful, JobStatistics.LoadStatistics statistics) {
+	}
+}
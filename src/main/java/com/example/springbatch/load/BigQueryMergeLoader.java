@@ -0,0 +1,276 @@
+package com.example.springbatch.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.Clustering;
+import com.google.cloud.bigquery.CsvOptions;
+import com.google.cloud.bigquery.Field;
+import com.google.cloud.bigquery.FieldValueList;
+import com.google.cloud.bigquery.Job;
+import com.google.cloud.bigquery.JobInfo;
+import com.google.cloud.bigquery.JobStatistics;
+import com.google.cloud.bigquery.LoadJobConfiguration;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.StandardSQLTypeName;
+import com.google.cloud.bigquery.StandardTableDefinition;
+import com.google.cloud.bigquery.Table;
+import com.google.cloud.bigquery.TableId;
+import com.google.cloud.bigquery.TableInfo;
+import com.google.cloud.bigquery.TableResult;
+import com.google.cloud.bigquery.TimePartitioning;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class BigQueryMergeLoader { // app.batch.load.mode=merge 일 때 WRITE_APPEND 대신 staging 테이블 + MERGE 로 upsert
+	// 1. 실행마다 staging 테이블에 로드 (만료 시간 설정 => 삭제 실패 시에도 자동 정리)
+	// 2. staging 이 포함하는 auction_end_time 파티션(UTC 일)만 대상으로 MERGE => 파티션 pruning
+	// 3. staging 테이블 삭제
+	// 대상 테이블이 없으면 auction_end_time 일 단위 파티션 + (product_category, auction_id) 클러스터링으로 생성
+	// 주의: 같은 경매의 auction_end_time 이 다른 날짜로 바뀌면 이전 파티션의 행과 매칭되지 않음 => 이전 행이 남음
+	//
+	// staging 파일에는 같은 auction_id 가 여러 번 있을 수 있음 (실행 중 갱신된 행을 뒤 페이지에서 다시 읽음,
+	// 재시작 시 이전 파일 재사용, 상품 변경 재발행) => 버전 컬럼(기본 last_modified) 기준으로 가장 최신 행만 반영
+	// merge 모드의 CSV 는 마지막 열에 last_modified 를 포함하고, staging/대상 테이블 스키마에도 이 컬럼을 추가
+
+	private static final String MODE_MERGE = "merge";
+	public static final String LAST_MODIFIED_FIELD = "last_modified"; // merge 모드 CSV 의 마지막 열
+	private static final int MAX_PARTITION_LITERALS = 1000; // 이보다 많으면 IN 목록 대신 최소~최대 범위로 pruning
+	private static final Duration STAGING_EXPIRATION = Duration.ofDays(1);
+
+	private final BigQuery bigquery;
+	private final boolean enabled;
+	private final String keyField; // MERGE 매칭 키
+	private final String versionField; // 같은 키 중 최신 행 선택 + 대상보다 최신일 때만 갱신
+	private final String partitionField;
+	private final List<String> clusterFields;
+
+	private final Set<TableId> ensuredTables = ConcurrentHashMap.newKeySet(); // 존재 확인이 끝난 대상 테이블
+
+	// 생성자
+	@Autowired
+	public BigQueryMergeLoader(BigQuery bigquery,
+		@Value("${app.batch.load.mode:append}") String loadMode,
+		@Value("${app.batch.load.merge.key-field:auction_id}") String keyField,
+		@Value("${app.batch.load.merge.version-field:" + LAST_MODIFIED_FIELD + "}") String versionField,
+		@Value("${app.batch.load.merge.partition-field:auction_end_time}") String partitionField,
+		@Value("${app.batch.load.merge.cluster-fields:product_category,auction_id}") String clusterFields) {
+		this.bigquery = bigquery;
+		this.enabled = MODE_MERGE.equals(loadMode.toLowerCase(Locale.ROOT));
+		if (enabled && (versionField == null || versionField.isBlank())) {
+			// 순서 없는 중복 제거는 이전 값으로 최신 행을 덮어쓸 수 있음 => 시작 실패
+			throw new IllegalStateException("merge 모드에는 app.batch.load.merge.version-field 가 필요합니다.");
+		}
+		this.keyField = keyField;
+		this.versionField = versionField;
+		this.partitionField = partitionField;
+		this.clusterFields = Arrays.stream(clusterFields.split(","))
+			.map(String::trim)
+			.filter(field -> !field.isEmpty())
+			.toList();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	// merge 모드에서 로드하는 테이블의 스키마 => 대상 스키마 + last_modified (CSV 마지막 열)
+	public Schema tableSchema(Schema schema) {
+		List<Field> fields = new ArrayList<>(schema.getFields());
+		if (fields.stream().noneMatch(field -> field.getName().equals(LAST_MODIFIED_FIELD))) {
+			fields.add(Field.newBuilder(LAST_MODIFIED_FIELD, StandardSQLTypeName.TIMESTAMP)
+				.setMode(Field.Mode.NULLABLE)
+				.build());
+		}
+		return Schema.of(fields);
+	}
+
+	// GCS 파일을 staging 에 로드하고 대상 테이블에 MERGE => staging 로드 작업의 통계 반환
+	// 실패 시 BigQueryException/IllegalStateException (대상 테이블은 MERGE 가 성공해야만 바뀜)
+	public JobStatistics.LoadStatistics load(String datasetName, String tableName, Schema targetSchema,
+		List<String> gcsFileUris, String runSuffix) throws InterruptedException {
+		TableId target = TableId.of(datasetName, tableName);
+		TableId staging = TableId.of(datasetName, tableName + "_staging_" + runSuffix);
+		Schema schema = tableSchema(targetSchema);
+		if (schema.getFields().stream().noneMatch(field -> field.getName().equals(versionField))) {
+			throw new IllegalStateException("MERGE 버전 컬럼이 스키마에 없음: " + versionField);
+		}
+		ensureTargetTable(target, schema);
+
+		try {
+			// 1. staging 로드
+			bigquery.create(TableInfo.newBuilder(staging, StandardTableDefinition.of(schema))
+				.setExpirationTime(System.currentTimeMillis() + STAGING_EXPIRATION.toMillis())
+				.build());
+			LoadJobConfiguration loadConfig = LoadJobConfiguration.newBuilder(staging, gcsFileUris)
+				.setFormatOptions(CsvOptions.newBuilder().setSkipLeadingRows(0).build())
+				.setSchema(schema)
+				.setWriteDisposition(JobInfo.WriteDisposition.WRITE_TRUNCATE)
+				.build();
+			Job loadJob = waitFor(bigquery.create(JobInfo.newBuilder(loadConfig).build()), "staging 로드");
+			JobStatistics.LoadStatistics loadStatistics = loadJob.getStatistics();
+
+			// 2. 이번 실행이 건드린 파티션만 MERGE
+			List<String> days = new ArrayList<>();
+			boolean hasNullPartition = false;
+			TableResult partitions = bigquery.query(QueryJobConfiguration.of(String.format(
+				"SELECT DISTINCT FORMAT_TIMESTAMP('%%F', %s, 'UTC') AS day FROM %s",
+				partitionField, quote(staging))));
+			for (FieldValueList row : partitions.iterateAll()) {
+				if (row.get("day").isNull()) {
+					hasNullPartition = true;
+				} else {
+					days.add(row.get("day").getStringValue());
+				}
+			}
+
+			List<String> columns = schema.getFields().stream().map(Field::getName).toList();
+			String mergeSql = buildMergeSql(quote(target), quote(staging), columns, keyField, versionField,
+				partitionField, days, hasNullPartition);
+			Job mergeJob = waitFor(bigquery.create(JobInfo.of(QueryJobConfiguration.newBuilder(mergeSql)
+				.setUseLegacySql(false)
+				.build())), "MERGE");
+			JobStatistics.QueryStatistics mergeStatistics = mergeJob.getStatistics();
+			log.info("BigQuery MERGE 성공: 대상 = {}, 파티션 = {}, 반영 행 = {}, 처리 바이트 = {}", target, days.size()
+				+ (hasNullPartition ? 1 : 0), mergeStatistics.getNumDmlAffectedRows(), mergeStatistics.getTotalBytesProcessed());
+			return loadStatistics;
+
+		} finally {
+			// 3. staging 삭제 (실패해도 만료 시간에 정리됨)
+			try {
+				bigquery.delete(staging);
+			} catch (Exception e) {
+				log.warn("staging 테이블 삭제 실패: 테이블 = {}, 오류 = {}", staging, e.getMessage());
+			}
+		}
+	}
+
+	// 대상 테이블이 없으면 파티션/클러스터링 테이블로 생성
+	// 이미 있으면 없는 컬럼만 추가해서 사용 (파티션이 없는 기존 테이블은 pruning 이 적용되지 않으므로 경고)
+	public void ensureTargetTable(TableId target, Schema schema) {
+		if (ensuredTables.contains(target)) {
+			return;
+		}
+		Table table = bigquery.getTable(target);
+		if (table == null) {
+			StandardTableDefinition definition = StandardTableDefinition.newBuilder()
+				.setSchema(schema)
+				.setTimePartitioning(timePartitioning())
+				.setClustering(clustering())
+				.build();
+			bigquery.create(TableInfo.of(target, definition));
+			log.info("BigQuery 대상 테이블 생성: 테이블 = {}, 파티션 = {}, 클러스터링 = {}", target, partitionField, clusterFields);
+		} else {
+			if (!(table.getDefinition() instanceof StandardTableDefinition definition)
+				|| definition.getTimePartitioning() == null) {
+				log.warn("BigQuery 대상 테이블에 파티션이 없음 => MERGE 가 테이블 전체를 읽음: 테이블 = {}", target);
+			}
+			addMissingColumns(table, schema);
+		}
+		ensuredTables.add(target);
+	}
+
+	// 기존 대상 테이블에 없는 컬럼(last_modified 등)을 NULLABLE 로 추가 => 기존 행의 값은 NULL
+	private void addMissingColumns(Table table, Schema schema) {
+		Schema current = table.getDefinition().getSchema();
+		if (current == null) {
+			return;
+		}
+		List<Field> fields = new ArrayList<>(current.getFields());
+		List<String> added = new ArrayList<>();
+		for (Field field : schema.getFields()) {
+			if (fields.stream().noneMatch(existing -> existing.getName().equals(field.getName()))) {
+				fields.add(field.toBuilder().setMode(Field.Mode.NULLABLE).build());
+				added.add(field.getName());
+			}
+		}
+		if (added.isEmpty()) {
+			return;
+		}
+		table.toBuilder()
+			.setDefinition(table.getDefinition().toBuilder().setSchema(Schema.of(fields)).build())
+			.build()
+			.update();
+		log.info("BigQuery 대상 테이블 컬럼 추가: 테이블 = {}, 컬럼 = {}", table.getTableId(), added);
+	}
+
+	// 로드 작업으로 테이블을 만들거나 교체할 때도 같은 파티션/클러스터링 적용 (스냅샷 WRITE_TRUNCATE 로드)
+	public LoadJobConfiguration.Builder applyTableLayout(LoadJobConfiguration.Builder builder) {
+		return builder.setTimePartitioning(timePartitioning()).setClustering(clustering());
+	}
+
+	private TimePartitioning timePartitioning() {
+		return TimePartitioning.newBuilder(TimePartitioning.Type.DAY).setField(partitionField).build();
+	}
+
+	private Clustering clustering() {
+		return Clustering.newBuilder().setFields(clusterFields).build();
+	}
+
+	// MERGE 문 생성
+	// staging 안에서 같은 키가 여러 번 있으면 버전 컬럼이 가장 큰 행만 사용 (MERGE 는 대상 행 하나에 원본 행이 여럿이면 실패)
+	// 대상 행이 더 최신이면 갱신하지 않음 => 늦게 로드된 이전 버전이 최신 값을 덮어쓰지 않음
+	public static String buildMergeSql(String target, String staging, List<String> columns, String keyField,
+		String versionField, String partitionField, List<String> days, boolean includeNullPartition) {
+		if (versionField == null || versionField.isBlank()) {
+			throw new IllegalArgumentException("MERGE 버전 컬럼이 필요합니다.");
+		}
+		String updates = columns.stream()
+			.filter(column -> !column.equals(keyField))
+			.map(column -> column + " = S." + column)
+			.collect(Collectors.joining(", "));
+
+		return "MERGE " + target + " T\n"
+			+ "USING (SELECT * FROM " + staging + " WHERE TRUE\n"
+			+ "  QUALIFY ROW_NUMBER() OVER (PARTITION BY " + keyField + " ORDER BY " + versionField + " DESC) = 1) S\n"
+			+ "ON T." + keyField + " = S." + keyField + " AND (" + partitionFilter(partitionField, days, includeNullPartition) + ")\n"
+			+ "WHEN MATCHED AND (T." + versionField + " IS NULL OR S." + versionField + " >= T." + versionField + ") THEN\n"
+			+ "  UPDATE SET " + updates + "\n"
+			+ "WHEN NOT MATCHED THEN\n"
+			+ "  INSERT (" + String.join(", ", columns) + ") VALUES (S." + String.join(", S.", columns) + ")";
+	}
+
+	// 대상 테이블의 파티션 컬럼을 상수로 제한 => BigQuery 가 MERGE 전에 나머지 파티션을 제외
+	private static String partitionFilter(String partitionField, List<String> days, boolean includeNullPartition) {
+		List<String> conditions = new ArrayList<>();
+		if (!days.isEmpty() && days.size() <= MAX_PARTITION_LITERALS) {
+			conditions.add("TIMESTAMP_TRUNC(T." + partitionField + ", DAY) IN ("
+				+ days.stream().sorted().map(day -> "TIMESTAMP '" + day + "'").collect(Collectors.joining(", ")) + ")");
+		} else if (!days.isEmpty()) {
+			List<String> sorted = days.stream().sorted().toList();
+			conditions.add("T." + partitionField + " >= TIMESTAMP '" + sorted.get(0) + "' AND T." + partitionField
+				+ " < TIMESTAMP_ADD(TIMESTAMP '" + sorted.get(sorted.size() - 1) + "', INTERVAL 1 DAY)");
+		}
+		if (includeNullPartition) {
+			conditions.add("T." + partitionField + " IS NULL");
+		}
+		return conditions.isEmpty() ? "FALSE" : String.join(" OR ", conditions);
+	}
+
+	private Job waitFor(Job job, String description) throws InterruptedException {
+		Job completedJob = job.waitFor();
+		if (completedJob == null || completedJob.getStatus().getError() != null) {
+			throw new IllegalStateException("BigQuery " + description + " 실패: "
+				+ (completedJob == null ? "작업 없음" : completedJob.getStatus().getError()));
+		}
+		return completedJob;
+	}
+
+	private static String quote(TableId tableId) {
+		return "`" + tableId.getDataset() + "." + tableId.getTable() + "`";
+	}
+}
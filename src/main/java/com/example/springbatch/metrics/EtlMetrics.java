@@ -0,0 +1,321 @@
+package com.example.springbatch.metrics;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+
+public final class EtlMetrics { // ETL 단계별 Micrometer 메트릭 정의
+	// Spring Batch 와 같은 전역 레지스트리에 등록 => actuator 의 Prometheus 레지스트리로 함께 노출
+	// 같은 이름의 메트릭은 태그 키가 모두 같아야 Prometheus 에서 수집 가능 => 메트릭 이름/태그는 이 클래스에서만 정의
+
+	public static final String PAGE_READ = "etl.reader.page"; // 페이지 쿼리 지연 시간
+	public static final String STAGE_ROWS = "etl.stage.rows"; // 단계별 처리 행 수 => rate() 로 rows/sec
+	public static final String CSV_ENCODE = "etl.csv.encode"; // CSV 인코딩 시간
+	public static final String CSV_ENCODE_BYTES = "etl.csv.encode.bytes"; // CSV 인코딩 결과 크기
+	public static final String GCS_UPLOAD = "etl.gcs.upload"; // GCS 업로드 지연 시간 (히스토그램)
+	public static final String LOAD_QUEUE = "etl.bigquery.load.queue"; // 로드 작업 생성 ~ 시작
+	public static final String LOAD_RUN = "etl.bigquery.load.run"; // 로드 작업 시작 ~ 종료
+	public static final String WATERMARK_LAG = "etl.watermark.lag"; // 현재 시각 - last_processed_timestamp
+	public static final String CHANGE_DETECTION_ROWS = "etl.change.detection.rows"; // 변경 감지 결과별 행 수
+	public static final String CHANGE_DETECTION_SKIPPED_BYTES = "etl.change.detection.skipped.bytes"; // 건너뛴 행의 CSV 크기 (추정)
+	public static final String CHANGE_DETECTION_HIT_RATIO = "etl.change.detection.hit.ratio"; // 건너뛴 행 / 검사한 행
+	public static final String PRODUCT_CACHE_LOOKUPS = "etl.product.cache.lookups"; // 상품 캐시 조회 (hit/miss)
+	public static final String PRODUCT_CACHE_EVICTIONS = "etl.product.cache.evictions"; // 크기 제한으로 제거된 상품 수
+	public static final String PRODUCT_CACHE_SIZE = "etl.product.cache.size"; // 캐시에 있는 상품 수
+	public static final String PRODUCT_CACHE_REFRESH = "etl.product.cache.refresh"; // 증분 갱신 시간
+	public static final String PRODUCT_CACHE_REFRESH_ROWS = "etl.product.cache.refresh.rows"; // 갱신/초기 적재로 읽은 상품 수
+	public static final String STAGED_QUEUE_OCCUPANCY = "etl.staged.queue.occupancy"; // 단계 입력 링 버퍼 점유율 (0~1)
+	public static final String STAGED_STAGE_BUSY = "etl.staged.stage.busy"; // 단계가 batch 를 처리한 시간
+	public static final String STAGED_STAGE_WAIT = "etl.staged.stage.wait"; // 단계가 입력/출력을 기다린 시간
+	public static final String SOURCE_THROTTLE_LIMIT = "etl.source.throttle.limit"; // 원본 읽기 속도 현재 한도 (초당)
+	public static final String SOURCE_THROTTLE_FRACTION = "etl.source.throttle.fraction"; // 최대 한도 대비 현재 한도 비율
+	public static final String SOURCE_THROTTLE_WAIT = "etl.source.throttle.wait"; // 속도 제한으로 페이지 쿼리가 기다린 시간
+	public static final String SOURCE_DB_HEALTH = "etl.source.db.health"; // 속도 조절에 쓰는 MySQL 상태 값
+	public static final String SHARD_ROWS = "etl.shard.rows"; // 샤드별 읽은 행 수
+	public static final String SHARD_WATERMARK_LAG = "etl.shard.watermark.lag"; // 현재 시각 - 샤드별 마지막 처리 타임스탬프
+	public static final String STREAMING_POLLS = "etl.streaming.polls"; // 스트리밍 모드 폴링 결과별 횟수
+	public static final String STREAMING_FRESHNESS = "etl.streaming.freshness"; // 행 변경 시각 ~ BigQuery 적재 완료
+	public static final String SCHEDULED_LAUNCHES = "etl.scheduler.launches"; // 스케줄 실행 요청/결과별 횟수
+	public static final String REPOSITORY_CHECKPOINTS = "etl.repository.checkpoints"; // chunk 커밋의 스텝 컨텍스트 저장/생략 횟수
+
+	// 작업별 마지막 처리 타임스탬프 (epoch millis) => 게이지가 조회 시점마다 지연 시간 계산
+	private static final Map<String, AtomicLong> WATERMARKS = new ConcurrentHashMap<>();
+	// 작업/샤드별 마지막 처리 타임스탬프 => 키: job + "/" + shard
+	private static final Map<String, AtomicLong> SHARD_WATERMARKS = new ConcurrentHashMap<>();
+
+	private EtlMetrics() {}
+
+	public static Timer pageReadTimer(String reader) {
+		return Timer.builder(PAGE_READ)
+			.description("keyset 페이지 쿼리 지연 시간")
+			.tag("reader", reader)
+			.publishPercentileHistogram()
+			.register(Metrics.globalRegistry);
+	}
+
+	// stage: read, process, write
+	public static Counter stageRows(String job, String stage) {
+		return Counter.builder(STAGE_ROWS)
+			.description("단계별 처리 행 수")
+			.tag("job", job)
+			.tag("stage", stage)
+			.baseUnit("rows")
+			.register(Metrics.globalRegistry);
+	}
+
+	public static Timer csvEncodeTimer(String job) {
+		return Timer.builder(CSV_ENCODE)
+			.description("chunk CSV 인코딩 시간")
+			.tag("job", job)
+			.register(Metrics.globalRegistry);
+	}
+
+	public static DistributionSummary csvEncodeBytes(String job) {
+		return DistributionSummary.builder(CSV_ENCODE_BYTES)
+			.description("chunk CSV 인코딩 크기")
+			.tag("job", job)
+			.baseUnit("bytes")
+			.register(Metrics.globalRegistry);
+	}
+
+	// mode: chunk (chunk 단위 업로드), spool (스풀 파일 composite 업로드)
+	public static Timer gcsUploadTimer(String job, String mode) {
+		return Timer.builder(GCS_UPLOAD)
+			.description("GCS 객체 업로드 지연 시간")
+			.tag("job", job)
+			.tag("mode", mode)
+			.publishPercentileHistogram()
+			.minimumExpectedValue(Duration.ofMillis(10))
+			.maximumExpectedValue(Duration.ofMinutes(10))
+			.register(Metrics.globalRegistry);
+	}
+
+	public static Timer loadQueueTimer(String job) {
+		return Timer.builder(LOAD_QUEUE)
+			.description("BigQuery 로드 작업 대기 시간")
+			.tag("job", job)
+			.register(Metrics.globalRegistry);
+	}
+
+	public static Timer loadRunTimer(String job) {
+		return Timer.builder(LOAD_RUN)
+			.description("BigQuery 로드 작업 실행 시간")
+			.tag("job", job)
+			.register(Metrics.globalRegistry);
+	}
+
+	// result: unchanged (건너뜀), changed (Writer 로 전달)
+	public static Counter changeDetectionRows(String job, String result) {
+		return Counter.builder(CHANGE_DETECTION_ROWS)
+			.description("변경 감지 결과별 행 수")
+			.tag("job", job)
+			.tag("result", result)
+			.baseUnit("rows")
+			.register(Metrics.globalRegistry);
+	}
+
+	public static Counter changeDetectionSkippedBytes(String job) {
+		return Counter.builder(CHANGE_DETECTION_SKIPPED_BYTES)
+			.description("변경 감지로 인코딩/업로드/로드를 건너뛴 CSV 크기 (추정)")
+			.tag("job", job)
+			.baseUnit("bytes")
+			.register(Metrics.globalRegistry);
+	}
+
+	public static void changeDetectionHitRatio(String job, LongAdder hits, LongAdder checked) {
+		Gauge.builder(CHANGE_DETECTION_HIT_RATIO, () -> {
+				long total = checked.sum();
+				return total == 0 ? 0 : (double)hits.sum() / total;
+			})
+			.description("변경 감지 적중률 (애플리케이션 시작 이후 누적)")
+			.tag("job", job)
+			.register(Metrics.globalRegistry);
+	}
+
+	// result: hit, miss
+	public static Counter productCacheLookups(String job, String result) {
+		return Counter.builder(PRODUCT_CACHE_LOOKUPS)
+			.description("상품 캐시 조회 수")
+			.tag("job", job)
+			.tag("result", result)
+			.register(Metrics.globalRegistry);
+	}
+
+	public static Counter productCacheEvictions(String job) {
+		return Counter.builder(PRODUCT_CACHE_EVICTIONS)
+			.description("크기 제한으로 상품 캐시에서 제거된 상품 수")
+			.tag("job", job)
+			.register(Metrics.globalRegistry);
+	}
+
+	public static <T> void productCacheSize(String job, T cache, ToDoubleFunction<T> size) {
+		Gauge.builder(PRODUCT_CACHE_SIZE, cache, size)
+			.description("상품 캐시에 있는 상품 수")
+			.tag("job", job)
+			.strongReference(true)
+			.register(Metrics.globalRegistry);
+	}
+
+	public static Timer productCacheRefreshTimer(String job) {
+		return Timer.builder(PRODUCT_CACHE_REFRESH)
+			.description("상품 캐시 증분 갱신 시간")
+			.tag("job", job)
+			.register(Metrics.globalRegistry);
+	}
+
+	public static Counter productCacheRefreshRows(String job) {
+		return Counter.builder(PRODUCT_CACHE_REFRESH_ROWS)
+			.description("상품 캐시 갱신으로 읽은 상품 수")
+			.tag("job", job)
+			.baseUnit("rows")
+			.register(Metrics.globalRegistry);
+	}
+
+	// queue: 입력을 받는 단계 이름 (transform, encode, upload, commit)
+	public static <T> void stagedQueueOccupancy(String job, String queue, T holder, ToDoubleFunction<T> occupancy) {
+		Gauge.builder(STAGED_QUEUE_OCCUPANCY, holder, occupancy)
+			.description("staged 파이프라인 단계 입력 버퍼 점유율")
+			.tag("job", job)
+			.tag("queue", queue)
+			.strongReference(true)
+			.register(Metrics.globalRegistry);
+	}
+
+	// stage: read, transform, encode, upload
+	public static Timer stagedStageBusy(String job, String stage) {
+		return Timer.builder(STAGED_STAGE_BUSY)
+			.description("staged 파이프라인 단계 처리 시간")
+			.tag("job", job)
+			.tag("stage", stage)
+			.register(Metrics.globalRegistry);
+	}
+
+	// side: input (앞 단계를 기다림), output (뒤 단계가 가득 차서 기다림 => backpressure)
+	public static Timer stagedStageWait(String job, String stage, String side) {
+		return Timer.builder(STAGED_STAGE_WAIT)
+			.description("staged 파이프라인 단계 대기 시간")
+			.tag("job", job)
+			.tag("stage", stage)
+			.tag("side", side)
+			.register(Metrics.globalRegistry);
+	}
+
+	// unit: rows, queries
+	public static <T> void sourceThrottleLimit(String unit, T throttle, ToDoubleFunction<T> limit) {
+		Gauge.builder(SOURCE_THROTTLE_LIMIT, throttle, limit)
+			.description("원본 MySQL 읽기 속도 현재 한도 (초당)")
+			.tag("unit", unit)
+			.register(Metrics.globalRegistry);
+	}
+
+	public static <T> void sourceThrottleFraction(T throttle, ToDoubleFunction<T> fraction) {
+		Gauge.builder(SOURCE_THROTTLE_FRACTION, throttle, fraction)
+			.description("원본 MySQL 읽기 속도 최대 한도 대비 현재 한도 비율")
+			.register(Metrics.globalRegistry);
+	}
+
+	public static Timer sourceThrottleWaitTimer() {
+		return Timer.builder(SOURCE_THROTTLE_WAIT)
+			.description("원본 읽기 속도 제한으로 페이지 쿼리가 기다린 시간")
+			.register(Metrics.globalRegistry);
+	}
+
+	// signal: threads_running, replica_lag_seconds (조회 실패/미설정이면 NaN)
+	public static <T> void sourceDbHealth(String signal, T throttle, ToDoubleFunction<T> value) {
+		Gauge.builder(SOURCE_DB_HEALTH, throttle, value)
+			.description("원본 MySQL 상태 (읽기 속도 조절 신호)")
+			.tag("signal", signal)
+			.register(Metrics.globalRegistry);
+	}
+
+	// 작업의 마지막 처리 타임스탬프 기록 => 처음 기록될 때 게이지 등록
+	public static void recordWatermark(String job, Timestamp watermark) {
+		if (watermark == null) {
+			return;
+		}
+		WATERMARKS.computeIfAbsent(job, name -> {
+			AtomicLong holder = new AtomicLong(watermark.getTime());
+			TimeGauge.builder(WATERMARK_LAG, holder, TimeUnit.MILLISECONDS,
+					value -> System.currentTimeMillis() - value.get())
+				.description("현재 시각과 마지막 처리 타임스탬프의 차이")
+				.tag("job", name)
+				.register(Metrics.globalRegistry);
+			return holder;
+		}).set(watermark.getTime());
+	}
+
+	public static Counter shardRows(String job, String shard) {
+		return Counter.builder(SHARD_ROWS)
+			.description("샤드별 읽은 행 수")
+			.tag("job", job)
+			.tag("shard", shard)
+			.baseUnit("rows")
+			.register(Metrics.globalRegistry);
+	}
+
+	// 샤드의 마지막 처리 타임스탬프 기록 => 느린 샤드의 지연이 작업 전체 지연에 묻히지 않도록 샤드별 게이지
+	public static void recordShardWatermark(String job, String shard, Timestamp watermark) {
+		if (watermark == null) {
+			return;
+		}
+		SHARD_WATERMARKS.computeIfAbsent(job + "/" + shard, key -> {
+			AtomicLong holder = new AtomicLong(watermark.getTime());
+			TimeGauge.builder(SHARD_WATERMARK_LAG, holder, TimeUnit.MILLISECONDS,
+					value -> System.currentTimeMillis() - value.get())
+				.description("현재 시각과 샤드별 마지막 처리 타임스탬프의 차이")
+				.tag("job", job)
+				.tag("shard", shard)
+				.register(Metrics.globalRegistry);
+			return holder;
+		}).set(watermark.getTime());
+	}
+
+	// result: empty (변경 없음), rows (micro-batch 적재)
+	public static Counter streamingPolls(String job, String result) {
+		return Counter.builder(STREAMING_POLLS)
+			.description("스트리밍 모드 폴링 횟수")
+			.tag("job", job)
+			.tag("result", result)
+			.register(Metrics.globalRegistry);
+	}
+
+	public static Timer streamingFreshnessTimer(String job) {
+		return Timer.builder(STREAMING_FRESHNESS)
+			.description("행 변경 시각부터 BigQuery 적재 완료까지 걸린 시간")
+			.tag("job", job)
+			.publishPercentileHistogram()
+			.minimumExpectedValue(Duration.ofMillis(100))
+			.maximumExpectedValue(Duration.ofHours(1))
+			.register(Metrics.globalRegistry);
+	}
+
+	// outcome: queued, coalesced, rejected (요청 시점), 이후 Job 종료 상태 (completed, failed, ...) 또는 error, skipped
+	public static Counter scheduledLaunches(String job, String outcome) {
+		return Counter.builder(SCHEDULED_LAUNCHES)
+			.description("스케줄 실행 요청 및 결과 횟수")
+			.tag("job", job)
+			.tag("outcome", outcome)
+			.register(Metrics.globalRegistry);
+	}
+
+	// result: persisted (DB 저장), deferred (checkpoint 간격 전이라 생략)
+	public static Counter repositoryCheckpoints(String step, String result) {
+		return Counter.builder(REPOSITORY_CHECKPOINTS)
+			.description("chunk 커밋 시 스텝 컨텍스트 저장 결과별 횟수")
+			.tag("step", step)
+			.tag("result", result)
+			.register(Metrics.globalRegistry);
+	}
+}
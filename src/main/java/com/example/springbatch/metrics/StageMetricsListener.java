@@ -0,0 +1,52 @@
+package com.example.springbatch.metrics;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+import io.micrometer.core.instrument.Counter;
+
+public class StageMetricsListener implements ChunkListener { // chunk 커밋마다 단계별 처리 행 수를 카운터에 반영
+	// 항목마다 리스너를 호출하지 않고, StepExecution 의 누적 카운트 차이만 더함
+	// read: Reader 가 읽은 행, process: Processor 를 통과한 행 (필터 제외), write: GCS 에 스테이징된 행
+
+	private final Counter readRows;
+	private final Counter processRows;
+	private final Counter writeRows;
+
+	// 같은 StepExecution 의 이전 chunk 까지 반영한 누적값
+	private Long stepExecutionId;
+	private long lastRead;
+	private long lastProcessed;
+	private long lastWritten;
+
+	public StageMetricsListener(String jobName) {
+		this.readRows = EtlMetrics.stageRows(jobName, "read");
+		this.processRows = EtlMetrics.stageRows(jobName, "process");
+		this.writeRows = EtlMetrics.stageRows(jobName, "write");
+	}
+
+	@Override
+	public void afterChunk(ChunkContext context) {
+		StepExecution stepExecution = context.getStepContext().getStepExecution();
+		if (!stepExecution.getId().equals(stepExecutionId)) {
+			stepExecutionId = stepExecution.getId();
+			lastRead = 0;
+			lastProcessed = 0;
+			lastWritten = 0;
+		}
+
+		long read = stepExecution.getReadCount();
+		// Processor 가 걸렀거나 건너뛴 행을 뺀 나머지 => Writer 결과(쓰기 건너뜀 포함)와 무관
+		long processed = read - stepExecution.getFilterCount() - stepExecution.getProcessSkipCount();
+		long written = stepExecution.getWriteCount();
+
+		readRows.increment(read - lastRead);
+		processRows.increment(processed - lastProcessed);
+		writeRows.increment(written - lastWritten);
+
+		lastRead = read;
+		lastProcessed = processed;
+		lastWritten = written;
+	}
+}
@@ -0,0 +1,129 @@
+package com.example.springbatch.pipeline;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.Assert;
+
+public class ConnectionBudgetDataSource extends DelegatingDataSource {
+	// 동시에 실행되는 파이프라인들이 함께 쓰는 커넥션 예산
+	// => 전체 파이프라인이 동시에 사용하는 커넥션 수를 permits 개로 제한
+	// 파이프라인마다 forPipeline() 으로 받은 DataSource 를 사용 => 파이프라인 하나가 가질 수 있는 커넥션은 몫(share)까지
+	// => 커넥션을 여러 개 요청하는 파이프라인도 자기 몫을 넘으면 전체 예산을 잡기 전에 대기 => 다른 파이프라인 몫은 남음
+	// 전체 예산은 fair 세마포어 => 몫 안의 요청끼리는 먼저 기다린 요청이 먼저 얻음
+	// Reader 의 페이지 쿼리 커넥션은 chunk 트랜잭션이 끝날 때 반납되므로 파이프라인들이 chunk 단위로 번갈아 실행됨
+
+	private final Semaphore permits;
+	private final int connectionsPerPipeline;
+	private final long acquireTimeoutMillis;
+
+	public ConnectionBudgetDataSource(DataSource targetDataSource, int maxConnections, int connectionsPerPipeline,
+		long acquireTimeoutMillis) {
+		super(targetDataSource);
+		Assert.isTrue(maxConnections > 0, "maxConnections 는 1 이상");
+		this.permits = new Semaphore(maxConnections, true);
+		this.connectionsPerPipeline = Math.max(1, Math.min(connectionsPerPipeline, maxConnections));
+		this.acquireTimeoutMillis = acquireTimeoutMillis;
+	}
+
+	// 파이프라인 하나가 쓰는 DataSource => 파이프라인 몫과 전체 예산을 차례로 얻음
+	public DataSource forPipeline(String pipelineName) {
+		Semaphore share = new Semaphore(connectionsPerPipeline, true);
+		return new DelegatingDataSource(this) {
+			@Override
+			public Connection getConnection() throws SQLException {
+				acquire(share, "파이프라인 커넥션 몫 대기 시간 초과: 파이프라인 = " + pipelineName);
+				try {
+					return withPermit(ConnectionBudgetDataSource.this.getConnection(), share);
+				} catch (SQLException | RuntimeException e) {
+					share.release();
+					throw e;
+				}
+			}
+
+			@Override
+			public Connection getConnection(String username, String password) throws SQLException {
+				acquire(share, "파이프라인 커넥션 몫 대기 시간 초과: 파이프라인 = " + pipelineName);
+				try {
+					return withPermit(ConnectionBudgetDataSource.this.getConnection(username, password), share);
+				} catch (SQLException | RuntimeException e) {
+					share.release();
+					throw e;
+				}
+			}
+		};
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		acquire(permits, "파이프라인 커넥션 예산 대기 시간 초과");
+		try {
+			return withPermit(super.getConnection(), permits);
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		acquire(permits, "파이프라인 커넥션 예산 대기 시간 초과");
+		try {
+			return withPermit(super.getConnection(username, password), permits);
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	public int getAvailablePermits() {
+		return permits.availablePermits();
+	}
+
+	public int getConnectionsPerPipeline() {
+		return connectionsPerPipeline;
+	}
+
+	private void acquire(Semaphore semaphore, String timeoutMessage) throws SQLException {
+		try {
+			if (!semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				throw new SQLTimeoutException(timeoutMessage + ": " + acquireTimeoutMillis + "ms");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("파이프라인 커넥션 대기 중 인터럽트 발생", e);
+		}
+	}
+
+	// close() 가 호출되면 permit 을 한 번만 반납하는 Connection 프록시
+	private static Connection withPermit(Connection target, Semaphore permit) {
+		AtomicBoolean released = new AtomicBoolean();
+		return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+			(proxy, method, args) -> {
+				if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+					try {
+						target.close();
+					} finally {
+						if (released.compareAndSet(false, true)) {
+							permit.release();
+						}
+					}
+					return null;
+				}
+				try {
+					return method.invoke(target, args);
+				} catch (InvocationTargetException e) {
+					throw e.getTargetException();
+				}
+			});
+	}
+}
@@ -0,0 +1,46 @@
+package com.example.springbatch.pipeline;
+
+import java.util.function.Function;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+public class DeferredItemStreamReader<T> implements ItemStreamReader<T> {
+	// 스텝이 열릴 때 ExecutionContext 를 보고 실제 Reader 를 생성하는 Reader
+	// => @StepScope 빈을 쓸 수 없는 설정 기반 파이프라인에서 실행마다 새 Reader 사용
+	// (beforeStep 에서 listener 가 넣은 lastProcessedTimestamp 를 open 시점에 읽을 수 있음)
+
+	private final Function<ExecutionContext, ItemStreamReader<T>> readerFactory;
+	private ItemStreamReader<T> delegate;
+
+	public DeferredItemStreamReader(Function<ExecutionContext, ItemStreamReader<T>> readerFactory) {
+		this.readerFactory = readerFactory;
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		delegate = readerFactory.apply(executionContext);
+		delegate.open(executionContext);
+	}
+
+	@Override
+	public T read() throws Exception {
+		return delegate.read();
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		if (delegate != null) {
+			delegate.update(executionContext);
+		}
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		if (delegate != null) {
+			delegate.close();
+			delegate = null;
+		}
+	}
+}
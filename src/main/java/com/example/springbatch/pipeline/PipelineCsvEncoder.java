@@ -0,0 +1,55 @@
+package com.example.springbatch.pipeline;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.springbatch.job.mysql_to_bigquery.writer.BigQueryItemWriter;
+
+public class PipelineCsvEncoder { // PipelineRecord 를 BigQuery 로드용 CSV 로 인코딩 (헤더 없음, RFC 4180)
+	// 시간 값은 BigQueryItemWriter 의 CSV 와 같은 형식으로 기록
+
+	// items 를 CSV 로 변환하여 out 에 기록
+	public void encode(List<? extends PipelineRecord> items, OutputStream out) throws IOException {
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+			for (PipelineRecord item : items) {
+				Object[] values = item.getValues();
+				for (int i = 0; i < values.length; i++) {
+					if (i > 0) {
+						writer.write(',');
+					}
+					writeValue(writer, values[i]);
+				}
+				writer.write('\n');
+			}
+		}
+	}
+
+	// null 은 빈 값, 문자열은 항상 따옴표로 감싸고 내부 따옴표는 "" 로 이스케이프
+	private void writeValue(Writer writer, Object value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		if (value instanceof String text) {
+			writer.write('"');
+			writer.write(text.replace("\"", "\"\""));
+			writer.write('"');
+		} else if (value instanceof BigDecimal decimal) {
+			writer.write(decimal.toPlainString());
+		} else if (value instanceof Instant instant) {
+			writer.write(BigQueryItemWriter.formatInstant(instant));
+		} else if (value instanceof LocalDateTime dateTime) {
+			writer.write(BigQueryItemWriter.formatDateTime(dateTime));
+		} else {
+			// 숫자/불리언, LocalDate 는 toString 형식을 BigQuery 가 그대로 인식
+			writer.write(value.toString());
+		}
+	}
+}
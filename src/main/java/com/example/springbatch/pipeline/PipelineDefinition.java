@@ -0,0 +1,100 @@
+package com.example.springbatch.pipeline;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.batch.item.database.Order;
+import org.springframework.util.Assert;
+
+import com.google.cloud.bigquery.Field;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.StandardSQLTypeName;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PipelineDefinition { // YAML 로 선언한 MySQL => BigQuery 동기화 파이프라인 하나의 정의
+
+	private String name; // 파이프라인 이름 => Job 이름, batch_job_metadata 의 job_name 으로 사용
+	private boolean enabled = true;
+
+	// 읽기 쿼리 => select/from/where 는 MySqlCustomPagingQueryProvider 에 그대로 전달
+	// where 에는 :lastProcessedTimestamp 파라미터를 사용
+	private String select;
+	private String from;
+	private String where;
+	private List<SortKey> sortKeys = new ArrayList<>(); // keyset 페이징 정렬 키 (순서대로)
+	private String watermarkColumn; // 증분 기준 타임스탬프 컬럼 (select 결과의 컬럼명)
+
+	private int pageSize = 1000;
+	private int maxItemCount = 0; // 한 번 실행에 읽을 최대 행 수 (0 이면 제한 없음)
+
+	private List<ColumnMapping> columns = new ArrayList<>(); // select 결과 컬럼 => BigQuery 컬럼 매핑 (CSV 순서)
+	private BigQueryTarget bigquery = new BigQueryTarget();
+
+	// 필수 값 검증
+	public void validate() {
+		Assert.hasText(name, "pipeline.name 필수");
+		Assert.hasText(select, "pipeline.select 필수: " + name);
+		Assert.hasText(from, "pipeline.from 필수: " + name);
+		Assert.hasText(where, "pipeline.where 필수: " + name);
+		Assert.notEmpty(sortKeys, "pipeline.sort-keys 필수: " + name);
+		Assert.hasText(watermarkColumn, "pipeline.watermark-column 필수: " + name);
+		Assert.notEmpty(columns, "pipeline.columns 필수: " + name);
+		Assert.isTrue(pageSize > 0, "pipeline.page-size 는 0 보다 커야 함: " + name);
+		Assert.hasText(bigquery.getDataset(), "pipeline.bigquery.dataset 필수: " + name);
+		Assert.hasText(bigquery.getTable(), "pipeline.bigquery.table 필수: " + name);
+		for (ColumnMapping column : columns) {
+			Assert.hasText(column.getSource(), "pipeline.columns[].source 필수: " + name);
+			Assert.notNull(column.getType(), "pipeline.columns[].type 필수: " + name);
+		}
+	}
+
+	// 정렬 키를 페이징 쿼리 제공자 형식으로 변환
+	public Map<String, Order> sortKeyMap() {
+		Map<String, Order> sortKeyMap = new LinkedHashMap<>();
+		for (SortKey sortKey : sortKeys) {
+			sortKeyMap.put(sortKey.getColumn(), sortKey.getOrder());
+		}
+		return sortKeyMap;
+	}
+
+	// 컬럼 매핑으로 BigQuery 스키마 생성
+	public Schema bigQuerySchema() {
+		List<Field> fields = new ArrayList<>(columns.size());
+		for (ColumnMapping column : columns) {
+			fields.add(Field.of(column.targetName(), column.getType()));
+		}
+		return Schema.of(fields);
+	}
+
+	@Getter
+	@Setter
+	public static class SortKey {
+		private String column;
+		private Order order = Order.ASCENDING;
+	}
+
+	@Getter
+	@Setter
+	public static class ColumnMapping {
+		private String source; // select 결과 컬럼명
+		private String target; // BigQuery 컬럼명 (생략 시 source 와 동일)
+		private StandardSQLTypeName type;
+
+		public String targetName() {
+			return target != null ? target : source;
+		}
+	}
+
+	@Getter
+	@Setter
+	public static class BigQueryTarget {
+		private String dataset;
+		private String table;
+	}
+}
@@ -0,0 +1,52 @@
+package com.example.springbatch.pipeline;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class PipelineDefinitionLoader { // YAML 파일에서 파이프라인 정의를 읽어옴
+	// 파일 하나에 파이프라인 하나 => 최상위 pipeline 키 아래에 정의
+
+	private static final String ROOT_KEY = "pipeline";
+
+	private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+	private final YamlPropertySourceLoader yamlLoader = new YamlPropertySourceLoader();
+
+	// location 패턴(예: classpath*:pipelines/*.yml)에 해당하는 모든 정의 로드 => enabled=false 인 정의는 제외
+	public List<PipelineDefinition> load(String locationPattern) throws IOException {
+		List<PipelineDefinition> definitions = new ArrayList<>();
+		Set<String> names = new HashSet<>();
+
+		for (Resource resource : resourceResolver.getResources(locationPattern)) {
+			List<PropertySource<?>> propertySources = yamlLoader.load(resource.getFilename(), resource);
+			PipelineDefinition definition = new Binder(ConfigurationPropertySources.from(propertySources))
+				.bind(ROOT_KEY, PipelineDefinition.class)
+				.orElseThrow(() -> new IllegalStateException("pipeline 정의가 없습니다: " + resource.getDescription()));
+
+			if (!definition.isEnabled()) {
+				log.info("비활성화된 파이프라인 건너뜀: 이름 = {}", definition.getName());
+				continue;
+			}
+			definition.validate();
+			if (!names.add(definition.getName())) {
+				throw new IllegalStateException("중복된 파이프라인 이름: " + definition.getName());
+			}
+			log.info("파이프라인 정의 로드: 이름 = {}, 파일 = {}", definition.getName(), resource.getFilename());
+			definitions.add(definition);
+		}
+		return definitions;
+	}
+}
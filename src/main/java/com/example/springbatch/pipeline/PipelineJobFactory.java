@@ -0,0 +1,151 @@
+package com.example.springbatch.pipeline;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.springbatch.config.BatchJobConfig;
+import com.example.springbatch.jfr.ChunkLifecycleJfrListener;
+import com.example.springbatch.jfr.JfrRecordingJobListener;
+import com.example.springbatch.listener.IncrementalTimestampStepListener;
+import com.example.springbatch.metrics.StageMetricsListener;
+import com.example.springbatch.provider.KeysetIndexValidator;
+import com.example.springbatch.provider.MySqlCustomPagingQueryProvider;
+import com.example.springbatch.reader.SourceThrottle;
+import com.example.springbatch.reader.TimedJdbcPagingItemReader;
+import com.example.springbatch.staging.DirectBufferPool;
+import com.example.springbatch.stats.RunStatsRepository;
+import com.example.springbatch.stats.RunStatsSettings;
+import com.example.springbatch.stats.StepRunStatsCleanupListener;
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.storage.Storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class PipelineJobFactory { // 파이프라인 정의 하나로 Reader, 매퍼, 스테이징 Writer, 리스너를 생성하여 Job 으로 묶음
+
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final ConnectionBudgetDataSource readerDataSource; // 커넥션 예산 => 파이프라인마다 forPipeline() 으로 몫을 나눔
+	private final JdbcTemplate jdbcTemplate; // batch_job_metadata 조회/갱신
+	private final BigQuery bigquery;
+	private final Storage storage;
+	private final String gcsBucketName;
+	private final DirectBufferPool bufferPool;
+	private final KeysetIndexValidator indexValidator; // 생성 시점에 정렬 키 인덱스 검사
+	private final JfrRecordingJobListener jfrRecordingListener; // 파이프라인 Job 실행 JFR 기록
+	private final SourceThrottle sourceThrottle; // 원본 읽기 속도 제한 (null 이면 제한 안함)
+	private final RunStatsRepository runStatsRepository;
+	private final RunStatsSettings runStatsSettings;
+
+	public PipelineJobFactory(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+		ConnectionBudgetDataSource readerDataSource, JdbcTemplate jdbcTemplate, BigQuery bigquery, Storage storage,
+		String gcsBucketName, DirectBufferPool bufferPool, KeysetIndexValidator indexValidator,
+		JfrRecordingJobListener jfrRecordingListener, SourceThrottle sourceThrottle,
+		RunStatsRepository runStatsRepository, RunStatsSettings runStatsSettings) {
+		this.jobRepository = jobRepository;
+		this.transactionManager = transactionManager;
+		this.readerDataSource = readerDataSource;
+		this.jdbcTemplate = jdbcTemplate;
+		this.bigquery = bigquery;
+		this.storage = storage;
+		this.gcsBucketName = gcsBucketName;
+		this.bufferPool = bufferPool;
+		this.indexValidator = indexValidator;
+		this.jfrRecordingListener = jfrRecordingListener;
+		this.sourceThrottle = sourceThrottle;
+		this.runStatsRepository = runStatsRepository;
+		this.runStatsSettings = runStatsSettings;
+	}
+
+	public Job create(PipelineDefinition definition) {
+		log.info("파이프라인 Job 생성: 이름 = {}, 대상 = {}.{}", definition.getName(),
+			definition.getBigquery().getDataset(), definition.getBigquery().getTable());
+
+		// 애플리케이션 시작 시 Job 을 만들므로, fail 모드에서는 filesort 가 있는 정의가 있으면 바로 시작 실패
+		indexValidator.validate(definition.getName(), createQueryProvider(definition),
+			Map.of("lastProcessedTimestamp", BatchJobConfig.DEFAULT_LAST_PROCESSED_TIMESTAMP), definition.getPageSize());
+
+		DataSource pipelineDataSource = readerDataSource.forPipeline(definition.getName()); // 실행이 바뀌어도 같은 몫
+		PipelineStagingWriter writer = new PipelineStagingWriter(definition.getName(), storage, gcsBucketName, bufferPool);
+
+		// 파이프라인마다 자기 이름으로 batch_job_metadata 를 관리하고, 정의된 스키마로 로드
+		// 설정 기반 파이프라인은 chunk 단위로 바로 업로드하므로 스풀은 사용하지 않음
+		// 파이프라인 테이블은 키/파티션 컬럼이 제각각이므로 MERGE 없이 WRITE_APPEND 로 로드
+		IncrementalTimestampStepListener listener = new IncrementalTimestampStepListener(jdbcTemplate,
+			definition.getName(), bigquery, storage,
+			definition.getBigquery().getDataset(), definition.getBigquery().getTable(), gcsBucketName,
+			null, definition.bigQuerySchema(), null, runStatsRepository, runStatsSettings);
+
+		ChunkLifecycleJfrListener jfrListener = new ChunkLifecycleJfrListener(); // Processor 가 없으므로 read/write/커밋 구간만 기록
+
+		Step step = new StepBuilder(definition.getName() + "Step", jobRepository)
+			.<PipelineRecord, PipelineRecord>chunk(definition.getPageSize(), transactionManager)
+			.reader(new DeferredItemStreamReader<>(executionContext -> createReader(definition, pipelineDataSource, executionContext)))
+			.writer(writer)
+			.listener(new StepRunStatsCleanupListener()) // 가장 먼저 등록 => 로드 리스너가 통계를 기록한 뒤 정리
+			.listener(listener)
+			.listener(new StageMetricsListener(definition.getName()))
+			.listener((ChunkListener)jfrListener)
+			.listener((ItemReadListener<Object>)jfrListener)
+			.listener((ItemWriteListener<Object>)jfrListener)
+			.build();
+
+		return new JobBuilder(definition.getName(), jobRepository)
+			.incrementer(new RunIdIncrementer())
+			.listener(jfrRecordingListener)
+			.start(step)
+			.build();
+	}
+
+	// 스텝이 열릴 때마다 lastProcessedTimestamp 를 파라미터로 가진 새 Reader 생성
+	private ItemStreamReader<PipelineRecord> createReader(PipelineDefinition definition, DataSource dataSource,
+		ExecutionContext executionContext) {
+		Object lastProcessedTimestamp = executionContext.get("lastProcessedTimestamp");
+
+		Map<String, Object> parameterValues = new HashMap<>();
+		parameterValues.put("lastProcessedTimestamp",
+			lastProcessedTimestamp == null ? BatchJobConfig.DEFAULT_LAST_PROCESSED_TIMESTAMP : lastProcessedTimestamp);
+
+		MySqlCustomPagingQueryProvider queryProvider = createQueryProvider(definition);
+
+		TimedJdbcPagingItemReader<PipelineRecord> reader = new TimedJdbcPagingItemReader<>();
+		reader.setName(definition.getName() + "Reader");
+		reader.setDataSource(dataSource);
+		reader.setQueryProvider(queryProvider);
+		reader.setParameterValues(parameterValues);
+		reader.setPageSize(definition.getPageSize());
+		reader.setRowMapper(new PipelineRowMapper(definition));
+		reader.setMaxItemCount(definition.getMaxItemCount() > 0 ? definition.getMaxItemCount() : Integer.MAX_VALUE);
+		reader.setThrottle(sourceThrottle);
+
+		try {
+			reader.afterPropertiesSet(); // 빈으로 등록되지 않으므로 직접 초기화
+		} catch (Exception e) {
+			throw new ItemStreamException("파이프라인 Reader 초기화 실패: " + definition.getName(), e);
+		}
+		return reader;
+	}
+
+	private MySqlCustomPagingQueryProvider createQueryProvider(PipelineDefinition definition) {
+		return new MySqlCustomPagingQueryProvider(
+			definition.getSelect(), definition.getFrom(), definition.getWhere(), definition.sortKeyMap());
+	}
+}
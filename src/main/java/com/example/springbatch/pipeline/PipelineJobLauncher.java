@@ -0,0 +1,104 @@
+package com.example.springbatch.pipeline;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.example.springbatch.lease.SingleFlightJobLauncher;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class PipelineJobLauncher { // 설정 기반 파이프라인 Job 들을 하나의 JVM 에서 동시에 실행
+	// 파이프라인 수가 동시 실행 수보다 많으면 나머지는 앞선 파이프라인이 끝날 때까지 대기
+	// => 실행마다 시작 순서를 한 칸씩 돌림 (round-robin) => 같은 파이프라인이 매번 뒤로 밀리지 않음
+	// 실행 중 커넥션 몫은 ConnectionBudgetDataSource 가 파이프라인마다 나눔
+
+	private final JobLauncher jobLauncher;
+	private final SingleFlightJobLauncher singleFlightJobLauncher; // 파이프라인 이름별 lease => 여러 replica 중 한 곳만 실행
+	private final List<Job> pipelineJobs;
+	private final ThreadPoolTaskExecutor pipelineExecutor; // 동시에 실행할 파이프라인 수만큼의 공유 스레드 풀
+	private final AtomicInteger nextStart = new AtomicInteger(); // 다음 실행에서 가장 먼저 시작할 파이프라인 위치
+
+	public PipelineJobLauncher(JobLauncher jobLauncher, SingleFlightJobLauncher singleFlightJobLauncher,
+		List<Job> pipelineJobs, int maxConcurrentPipelines) {
+		this.jobLauncher = jobLauncher;
+		this.singleFlightJobLauncher = singleFlightJobLauncher;
+		this.pipelineJobs = pipelineJobs;
+
+		// 대기열은 FIFO => 스레드가 부족하면 제출 순서(runAll 에서 돌린 순서)대로 실행
+		this.pipelineExecutor = new ThreadPoolTaskExecutor();
+		this.pipelineExecutor.setCorePoolSize(maxConcurrentPipelines);
+		this.pipelineExecutor.setMaxPoolSize(maxConcurrentPipelines);
+		this.pipelineExecutor.setThreadNamePrefix("pipeline-");
+		this.pipelineExecutor.initialize();
+	}
+
+	// 스케줄링 설정
+	@Scheduled(cron = "${app.pipelines.cron:0 0 0 * * ?}")
+	public void runScheduled() {
+		runAll();
+	}
+
+	// 모든 파이프라인을 동시에 실행하고 끝날 때까지 대기 => 파이프라인 이름별 최종 상태 반환
+	public Map<String, BatchStatus> runAll() {
+		log.info("파이프라인 동시 실행 시작: 파이프라인 개수 = {}", pipelineJobs.size());
+		LocalDateTime runTime = LocalDateTime.now();
+
+		int size = pipelineJobs.size();
+		int start = size == 0 ? 0 : Math.floorMod(nextStart.getAndIncrement(), size);
+		List<CompletableFuture<BatchStatus>> futures = new ArrayList<>(Collections.nCopies(size, null));
+		for (int offset = 0; offset < size; offset++) {
+			int index = (start + offset) % size;
+			Job job = pipelineJobs.get(index);
+			futures.set(index, CompletableFuture.supplyAsync(() -> launch(job, runTime), pipelineExecutor));
+		}
+
+		Map<String, BatchStatus> results = new LinkedHashMap<>(); // 결과는 정의 순서
+		for (int i = 0; i < size; i++) {
+			results.put(pipelineJobs.get(i).getName(), futures.get(i).join());
+		}
+		log.info("파이프라인 동시 실행 종료: 결과 = {}", results);
+		return results;
+	}
+
+	private BatchStatus launch(Job job, LocalDateTime runTime) {
+		// JobParameters: 각 job 실행을 고유하게 식별
+		JobParameters jobParameters = new JobParametersBuilder()
+			.addLocalDateTime("runTime", runTime)
+			.toJobParameters();
+		try {
+			JobExecution jobExecution = singleFlightJobLauncher.run(jobLauncher, job, jobParameters);
+			return jobExecution.getStatus();
+		} catch (JobExecutionAlreadyRunningException e) {
+			log.info("파이프라인 생략: 다른 실행이 진행 중: 이름 = {}, {}", job.getName(), e.getMessage());
+			return BatchStatus.ABANDONED;
+		} catch (Exception e) {
+			log.error("파이프라인 실행 실패: 이름 = {}", job.getName(), e);
+			return BatchStatus.FAILED;
+		}
+	}
+
+	public List<Job> getPipelineJobs() {
+		return pipelineJobs;
+	}
+
+	public void shutdown() {
+		pipelineExecutor.shutdown();
+	}
+}
@@ -0,0 +1,17 @@
+package com.example.springbatch.pipeline;
+
+import java.sql.Timestamp;
+
+import lombok.Getter;
+
+@Getter
+public class PipelineRecord { // 설정 기반 파이프라인의 행 하나 => 컬럼 매핑 순서대로 값 보관
+
+	private final Object[] values; // BigQuery 컬럼 순서의 값 (CSV 로 변환됨)
+	private final Timestamp watermark; // 증분 기준 타임스탬프 (CSV 에는 포함 안함)
+
+	public PipelineRecord(Object[] values, Timestamp watermark) {
+		this.values = values;
+		this.watermark = watermark;
+	}
+}
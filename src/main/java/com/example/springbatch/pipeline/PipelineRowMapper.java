@@ -0,0 +1,77 @@
+package com.example.springbatch.pipeline;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.google.cloud.bigquery.StandardSQLTypeName;
+
+public class PipelineRowMapper implements RowMapper<PipelineRecord> {
+	// 파이프라인 정의의 컬럼 매핑으로 생성하는 범용 매퍼
+	// => BigQuery 타입에 맞춰 ResultSet 값을 읽고 CSV 변환이 가능한 값으로 바꿈
+
+	private final String[] sourceColumns;
+	private final StandardSQLTypeName[] types;
+	private final String watermarkColumn;
+
+	public PipelineRowMapper(PipelineDefinition definition) {
+		List<PipelineDefinition.ColumnMapping> columns = definition.getColumns();
+		this.sourceColumns = new String[columns.size()];
+		this.types = new StandardSQLTypeName[columns.size()];
+		for (int i = 0; i < columns.size(); i++) {
+			sourceColumns[i] = columns.get(i).getSource();
+			types[i] = columns.get(i).getType();
+		}
+		this.watermarkColumn = definition.getWatermarkColumn();
+	}
+
+	@Override
+	public PipelineRecord mapRow(ResultSet rs, int rowNum) throws SQLException {
+		Object[] values = new Object[sourceColumns.length];
+		for (int i = 0; i < sourceColumns.length; i++) {
+			values[i] = readValue(rs, sourceColumns[i], types[i]);
+		}
+		return new PipelineRecord(values, rs.getTimestamp(watermarkColumn));
+	}
+
+	// BigQuery 타입별 값 읽기
+	private Object readValue(ResultSet rs, String column, StandardSQLTypeName type) throws SQLException {
+		switch (type) {
+			case INT64: {
+				// DECIMAL 컬럼도 INT64 로 적재할 수 있도록 BigDecimal 로 읽어서 소수점 버림
+				BigDecimal value = rs.getBigDecimal(column);
+				return value != null ? value.longValue() : null;
+			}
+			case NUMERIC:
+			case BIGNUMERIC:
+				return rs.getBigDecimal(column);
+			case FLOAT64: {
+				double value = rs.getDouble(column);
+				return rs.wasNull() ? null : value;
+			}
+			case BOOL: {
+				boolean value = rs.getBoolean(column);
+				return rs.wasNull() ? null : value;
+			}
+			case TIMESTAMP: {
+				Timestamp value = rs.getTimestamp(column);
+				return value != null ? value.toInstant() : null; // Timestamp => Instant
+			}
+			case DATETIME: {
+				Timestamp value = rs.getTimestamp(column);
+				return value != null ? value.toLocalDateTime() : null;
+			}
+			case DATE: {
+				Date value = rs.getDate(column);
+				return value != null ? value.toLocalDate() : null;
+			}
+			default:
+				return rs.getString(column);
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package com.example.springbatch.pipeline;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+
+import com.example.springbatch.jfr.CsvEncodeEvent;
+import com.example.springbatch.jfr.GcsUploadEvent;
+import com.example.springbatch.metrics.EtlMetrics;
+import com.example.springbatch.staging.DirectBufferPool;
+import com.example.springbatch.staging.PooledBufferOutputStream;
+import com.example.springbatch.stats.StepRunStats;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class PipelineStagingWriter implements ItemWriter<PipelineRecord>, StepExecutionListener {
+	// 설정 기반 파이프라인용 스테이징 Writer
+	// => chunk 를 CSV 로 변환하여 GCS 에 업로드하고, 파일 경로와 최신 타임스탬프를 ExecutionContext 에 기록
+	// (BigQuery 로드는 IncrementalTimestampStepListener 가 스텝 종료 후 처리)
+
+	private static final String GCS_FILE_URIS_KEY = "gcsFileUris"; // ExecutionContext 에 GCS 파일 경로 리스트를 저장할 때 사용할 키
+	private static final String MAX_TIMESTAMP_KEY = "maxProcessedTimestampInChunk"; // ExecutionContext 에 처리된 데이터 중 최신 타임스탬프 값을 저장할 때 사용할 키
+
+	private final String pipelineName;
+	private final Storage storage;
+	private final String gcsBucketName;
+	private final DirectBufferPool bufferPool;
+	private final PipelineCsvEncoder csvEncoder = new PipelineCsvEncoder();
+	private final Timer csvEncodeTimer;
+	private final DistributionSummary csvEncodeBytes;
+	private final Timer gcsUploadTimer;
+
+	private StepExecution stepExecution;
+
+	public PipelineStagingWriter(String pipelineName, Storage storage, String gcsBucketName,
+		DirectBufferPool bufferPool) {
+		this.pipelineName = pipelineName;
+		this.storage = storage;
+		this.gcsBucketName = gcsBucketName;
+		this.bufferPool = bufferPool;
+		this.csvEncodeTimer = EtlMetrics.csvEncodeTimer(pipelineName);
+		this.csvEncodeBytes = EtlMetrics.csvEncodeBytes(pipelineName);
+		this.gcsUploadTimer = EtlMetrics.gcsUploadTimer(pipelineName, "chunk");
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		this.stepExecution = stepExecution;
+		// 재시작이면 이전 실행이 마지막 커밋까지 업로드한 목록 유지
+		if (!this.stepExecution.getExecutionContext().containsKey(GCS_FILE_URIS_KEY)) {
+			this.stepExecution.getExecutionContext().put(GCS_FILE_URIS_KEY, new ArrayList<String>());
+		}
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		return stepExecution.getExitStatus();
+	}
+
+	@Override
+	public void write(Chunk<? extends PipelineRecord> chunk) throws Exception {
+		List<? extends PipelineRecord> items = chunk.getItems();
+		if (items.isEmpty()) {
+			return;
+		}
+
+		PooledBufferOutputStream csvData = new PooledBufferOutputStream(bufferPool);
+		try {
+			CsvEncodeEvent encodeEvent = CsvEncodeEvent.start();
+			long encodeStart = System.nanoTime();
+			csvEncoder.encode(items, csvData);
+			long encodeNanos = System.nanoTime() - encodeStart;
+			encodeEvent.finish(stepExecution, items.size(), 1, csvData.size());
+			csvEncodeTimer.record(encodeNanos, TimeUnit.NANOSECONDS);
+			csvEncodeBytes.record(csvData.size());
+			StepRunStats.forStep(stepExecution).addEncode(encodeNanos, csvData.size());
+
+			String gcsObjectName = String.format("batch_load_%s_%d_%d_%s.csv", pipelineName,
+				stepExecution.getJobExecutionId(), stepExecution.getId(), UUID.randomUUID());
+			BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(gcsBucketName, gcsObjectName))
+				.setContentType("text/csv")
+				.build();
+			GcsUploadEvent uploadEvent = GcsUploadEvent.start();
+			StepRunStats stepRunStats = StepRunStats.forStep(stepExecution);
+			long uploadStart = System.nanoTime();
+			stepRunStats.beginUpload();
+			try (WriteChannel channel = storage.writer(blobInfo)) {
+				csvData.writeTo(channel);
+			} finally {
+				stepRunStats.endUpload();
+			}
+			long uploadNanos = System.nanoTime() - uploadStart;
+			uploadEvent.finish(stepExecution, "chunk", gcsObjectName, csvData.size());
+			gcsUploadTimer.record(uploadNanos, TimeUnit.NANOSECONDS);
+			stepRunStats.addUpload(uploadNanos);
+			String gcsUri = "gs://" + gcsBucketName + "/" + gcsObjectName;
+			log.info("GCS 업로드 성공: 파이프라인 = {}, URI = {}", pipelineName, gcsUri);
+
+			ExecutionContext executionContext = stepExecution.getExecutionContext();
+			List<String> gcsFileUris = (List<String>)executionContext.get(GCS_FILE_URIS_KEY);
+			if (gcsFileUris == null) {
+				gcsFileUris = new ArrayList<>();
+			}
+			gcsFileUris.add(gcsUri);
+			executionContext.put(GCS_FILE_URIS_KEY, gcsFileUris);
+
+			updateMaxTimestampInContext(items);
+			// 파이프라인마다 정렬 키가 다르므로 위치는 워터마크만 기록
+			stepRunStats.addStaged(items.size(), items.get(items.size() - 1).getWatermark(), null);
+
+		} catch (Exception e) {
+			log.error("GCS 버킷에 데이터를 업로드하는 중 오류 발생: 파이프라인 = {}, GCS 버킷 = {}", pipelineName, gcsBucketName);
+			throw new RuntimeException("데이터를 GCS 에 업로드하는 데 실패했습니다.", e);
+		} finally {
+			csvData.release();
+		}
+	}
+
+	// ExecutionContext 에 최신 타임스탬프 저장 메서드
+	private void updateMaxTimestampInContext(List<? extends PipelineRecord> items) {
+		Timestamp maxTimestampInChunk = null;
+		for (PipelineRecord item : items) {
+			Timestamp watermark = item.getWatermark();
+			if (watermark != null && (maxTimestampInChunk == null || watermark.after(maxTimestampInChunk))) {
+				maxTimestampInChunk = watermark;
+			}
+		}
+		if (maxTimestampInChunk == null) {
+			return;
+		}
+
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		Timestamp currentMaxTimestamp = (Timestamp)executionContext.get(MAX_TIMESTAMP_KEY);
+		if (currentMaxTimestamp == null || maxTimestampInChunk.after(currentMaxTimestamp)) {
+			executionContext.put(MAX_TIMESTAMP_KEY, maxTimestampInChunk);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.example.springbatch.progress;
+
+import java.sql.Timestamp;
+
+import org.springframework.batch.core.JobParameters;
+
+public final class BackfillParameters { // 구간 재적재(backfill) 실행의 JobParameter
+	// backfillFrom < last_modified <= backfillTo 구간만 다시 읽어서 적재
+	// batch_job_metadata 의 마지막 처리 타임스탬프는 변경하지 않음 => 증분 실행에 영향 없음
+
+	public static final String FROM = "backfillFrom"; // yyyy-MM-dd HH:mm:ss (제외)
+	public static final String TO = "backfillTo"; // yyyy-MM-dd HH:mm:ss (포함)
+
+	private BackfillParameters() {}
+
+	// backfill 실행이면 true (JobParameters 가 없으면 false)
+	public static boolean isBackfill(JobParameters jobParameters) {
+		return jobParameters != null && jobParameters.getString(FROM) != null;
+	}
+
+	public static Timestamp from(JobParameters jobParameters) {
+		return Timestamp.valueOf(jobParameters.getString(FROM));
+	}
+
+	public static Timestamp to(JobParameters jobParameters) {
+		return Timestamp.valueOf(jobParameters.getString(TO));
+	}
+}
@@ -0,0 +1,222 @@
+package com.example.springbatch.progress;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.example.springbatch.jfr.JfrRecordingJobListener;
+import com.example.springbatch.lease.SingleFlightJobLauncher;
+import com.example.springbatch.stats.StepRunStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@Endpoint(id = "etlprogress")
+public class EtlProgressEndpoint { // 실행 중인 mysqlToBigQueryJob 진행 상황 조회 + 수동 실행
+	// GET  /actuator/etlprogress => 실행 중인 스텝별 rows/sec, 스테이징 행/바이트, 진행 중 업로드, keyset 위치, 남은 양/ETA
+	// POST /actuator/etlprogress {} => 증분 실행, {"from": "...", "to": "..."} => 구간 backfill
+	// 엔드포인트 자체에는 인증이 없음 => 기본 웹 노출에서 빠져 있고, 노출할 때는 반드시 인증 뒤에 둘 것
+	// POST 는 app.batch.progress.launch-enabled=true 일 때만 실행 (기본 false => DISABLED 반환)
+	// 값은 Writer/업로드가 갱신하는 StepRunStats 카운터와 JobRepository 의 StepExecution 에서 계산 (원본 DB 조회 없음)
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	private final JobExplorer jobExplorer;
+	private final Job job;
+	private final TaskExecutorJobLauncher asyncJobLauncher; // HTTP 요청을 기다리게 하지 않도록 별도 스레드에서 실행
+	private final SingleFlightJobLauncher singleFlightJobLauncher; // 다른 노드에서 실행 중이어도 거절
+	private final boolean launchEnabled; // 수동 실행/backfill 허용 여부
+
+	private final Map<Long, Sample> lastSamples = new ConcurrentHashMap<>(); // stepExecutionId => 이전 조회 시점의 스테이징 행 수
+
+	// 생성자
+	@Autowired
+	public EtlProgressEndpoint(JobExplorer jobExplorer, JobRepository jobRepository,
+		@Qualifier("mysqlToBigQueryJob") Job job,
+		SingleFlightJobLauncher singleFlightJobLauncher,
+		@Value("${app.batch.progress.launch-enabled:false}") boolean launchEnabled) {
+		this.jobExplorer = jobExplorer;
+		this.job = job;
+		this.singleFlightJobLauncher = singleFlightJobLauncher;
+		this.launchEnabled = launchEnabled;
+
+		this.asyncJobLauncher = new TaskExecutorJobLauncher();
+		this.asyncJobLauncher.setJobRepository(jobRepository);
+		this.asyncJobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("adhoc-job-"));
+		try {
+			this.asyncJobLauncher.afterPropertiesSet();
+		} catch (Exception e) {
+			throw new IllegalStateException("수동 실행용 JobLauncher 초기화 실패", e);
+		}
+	}
+
+	@ReadOperation
+	public List<StepProgress> progress() {
+		List<StepProgress> progresses = new ArrayList<>();
+		List<Long> runningStepIds = new ArrayList<>();
+
+		for (JobExecution jobExecution : jobExplorer.findRunningJobExecutions(job.getName())) {
+			for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+				StepRunStats stats = StepRunStats.find(stepExecution.getId());
+				if (stepExecution.getEndTime() != null || stats == null) {
+					continue; // 끝난 스텝 또는 아직 chunk 를 처리하지 않은 스텝
+				}
+				runningStepIds.add(stepExecution.getId());
+				progresses.add(toProgress(jobExecution, stepExecution, stats));
+			}
+		}
+
+		lastSamples.keySet().retainAll(runningStepIds); // 끝난 스텝의 이전 조회 값 정리
+		progresses.sort(Comparator.comparing(StepProgress::jobExecutionId));
+		return progresses;
+	}
+
+	// from/to 가 없으면 일반 증분 실행, 둘 다 있으면 (from, to] 구간 backfill
+	@WriteOperation
+	public LaunchResult run(@Nullable String from, @Nullable String to, @Nullable Boolean jfr) {
+		if (!launchEnabled) {
+			return new LaunchResult(null, "DISABLED", "수동 실행이 꺼져 있음: app.batch.progress.launch-enabled=false");
+		}
+		if ((from == null) != (to == null)) {
+			throw new InvalidEndpointRequestException("from 과 to 는 함께 지정해야 함", "from/to 중 하나만 지정됨");
+		}
+		JobParametersBuilder parametersBuilder = new JobParametersBuilder()
+			.addLocalDateTime("adhocTime", LocalDateTime.now()); // 매 실행을 새 JobInstance 로
+		if (from != null) {
+			Timestamp fromTimestamp = parseTimestamp(from);
+			Timestamp toTimestamp = parseTimestamp(to);
+			if (!fromTimestamp.before(toTimestamp)) {
+				throw new InvalidEndpointRequestException("from 은 to 보다 이전이어야 함", "잘못된 구간: " + from + " ~ " + to);
+			}
+			parametersBuilder.addString(BackfillParameters.FROM, fromTimestamp.toString());
+			parametersBuilder.addString(BackfillParameters.TO, toTimestamp.toString());
+		}
+		if (Boolean.TRUE.equals(jfr)) {
+			parametersBuilder.addString(JfrRecordingJobListener.JOB_PARAMETER, "true");
+		}
+		JobParameters jobParameters = parametersBuilder.toJobParameters();
+
+		// 증분 실행끼리 겹치면 같은 타임스탬프 구간을 두 번 적재하게 되므로 실행 중이면 거절
+		if (!jobExplorer.findRunningJobExecutions(job.getName()).isEmpty()) {
+			return new LaunchResult(null, "REJECTED", "이미 실행 중인 작업이 있음: " + job.getName());
+		}
+
+		try {
+			JobExecution jobExecution = singleFlightJobLauncher.run(asyncJobLauncher, job, jobParameters);
+			log.info("수동 실행 시작: 작업 = {}, 실행 ID = {}, 파라미터 = {}", job.getName(), jobExecution.getId(),
+				jobParameters);
+			return new LaunchResult(jobExecution.getId(), jobExecution.getStatus().name(),
+				from == null ? "증분 실행" : "backfill " + from + " ~ " + to);
+		} catch (JobExecutionAlreadyRunningException e) {
+			return new LaunchResult(null, "REJECTED", e.getMessage()); // 다른 노드가 lease 보유
+		} catch (Exception e) {
+			log.error("수동 실행 실패: 작업 = {}", job.getName(), e);
+			return new LaunchResult(null, "FAILED", e.getMessage());
+		}
+	}
+
+	private StepProgress toProgress(JobExecution jobExecution, StepExecution stepExecution, StepRunStats stats) {
+		long nowNanos = System.nanoTime();
+		long rowsStaged = stats.getRowsStaged();
+		LocalDateTime startTime = stepExecution.getStartTime();
+		double elapsedSeconds = startTime == null ? 0 : Duration.between(startTime, LocalDateTime.now()).toMillis() / 1000.0;
+
+		// rows/sec: 이전 조회 이후 증가분 (첫 조회면 스텝 시작 이후 평균)
+		double averageRowsPerSecond = elapsedSeconds > 0 ? rowsStaged / elapsedSeconds : 0;
+		Sample previous = lastSamples.put(stepExecution.getId(), new Sample(rowsStaged, nowNanos));
+		double rowsPerSecond = averageRowsPerSecond;
+		if (previous != null && nowNanos > previous.nanos()) {
+			rowsPerSecond = (rowsStaged - previous.rows()) / ((nowNanos - previous.nanos()) / 1_000_000_000.0);
+		}
+
+		// 남은 양: 원본 시간축에서 남은 구간 / 지금까지 진행한 구간 비율로 추정 (COUNT 쿼리 없음)
+		JobParameters jobParameters = jobExecution.getJobParameters();
+		boolean backfill = BackfillParameters.isBackfill(jobParameters);
+		Timestamp from = stats.getWatermarkFrom();
+		Timestamp position = stats.getPositionLastModified();
+		Timestamp target = backfill ? BackfillParameters.to(jobParameters) : Timestamp.valueOf(LocalDateTime.now(ZONE));
+
+		Long estimatedRemainingRows = null;
+		Long etaSeconds = null;
+		if (from != null && position != null && position.after(from)) {
+			double advancedMillis = position.getTime() - from.getTime();
+			double remainingMillis = Math.max(0, target.getTime() - position.getTime());
+			estimatedRemainingRows = Math.round(rowsStaged * remainingMillis / advancedMillis);
+			if (elapsedSeconds > 0) {
+				etaSeconds = Math.round(elapsedSeconds * remainingMillis / advancedMillis);
+			}
+		}
+
+		return new StepProgress(jobExecution.getId(), stepExecution.getId(), stepExecution.getStepName(),
+			backfill, startTime, stepExecution.getReadCount(), stepExecution.getWriteCount(), rowsStaged,
+			stats.getBytesStaged(), stats.getInFlightUploads(), round(rowsPerSecond), round(averageRowsPerSecond),
+			from, position, stats.getPositionKey(), target, estimatedRemainingRows, etaSeconds);
+	}
+
+	private Timestamp parseTimestamp(String value) {
+		try {
+			return Timestamp.valueOf(value);
+		} catch (IllegalArgumentException e) {
+			throw new InvalidEndpointRequestException("타임스탬프 형식은 yyyy-MM-dd HH:mm:ss", "잘못된 타임스탬프: " + value);
+		}
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 10) / 10.0;
+	}
+
+	// readCount/writeCount 는 마지막 커밋 기준, rowsStaged 이후 값은 실시간 카운터 기준
+	public record StepProgress(
+		Long jobExecutionId,
+		Long stepExecutionId,
+		String stepName,
+		boolean backfill,
+		LocalDateTime startTime,
+		long readCount,
+		long writeCount,
+		long rowsStaged,
+		long bytesStaged,
+		int inFlightUploads,
+		double rowsPerSecond,
+		double averageRowsPerSecond,
+		Timestamp watermarkFrom,
+		Timestamp positionLastModified, // keyset 위치 (last_modified, auction_id)
+		Long positionAuctionId,
+		Timestamp target, // 증분 실행은 현재 시각, backfill 은 구간 상한
+		Long estimatedRemainingRows,
+		Long etaSeconds) {
+	}
+
+	public record LaunchResult(Long jobExecutionId, String status, String message) {
+	}
+
+	private record Sample(long rows, long nanos) {
+	}
+}
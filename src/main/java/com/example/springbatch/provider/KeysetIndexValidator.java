@@ -0,0 +1,66 @@
+package com.example.springbatch.provider;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.item.database.PagingQueryProvider;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class KeysetIndexValidator { // keyset 페이징 쿼리가 인덱스로 정렬되는지 EXPLAIN 으로 확인
+	// EXPLAIN 의 Extra 에 "Using filesort" 가 있으면 페이지마다 조건에 맞는 전체 행을 정렬하게 됨
+	// => 테이블이 커질수록 페이지 쿼리가 느려지므로 시작 시점에 알림
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final Mode mode;
+
+	public enum Mode {
+		OFF, // 검사 안함
+		WARN, // 경고 로그만 남김
+		FAIL // 예외를 던져 애플리케이션 시작 실패
+	}
+
+	public KeysetIndexValidator(DataSource dataSource, String mode) {
+		this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+		this.mode = Mode.valueOf(mode.toUpperCase(Locale.ROOT));
+	}
+
+	// 첫 페이지 쿼리의 실행 계획 검사
+	public void validate(String name, PagingQueryProvider queryProvider, Map<String, ?> parameterValues,
+		int pageSize) {
+		if (mode == Mode.OFF) {
+			return;
+		}
+
+		String sql = queryProvider.generateFirstPageQuery(pageSize);
+		List<Map<String, Object>> plan;
+		try {
+			plan = jdbcTemplate.queryForList("EXPLAIN " + sql, parameterValues);
+		} catch (Exception e) {
+			report(name, "EXPLAIN 실행 실패: " + e.getMessage());
+			return;
+		}
+
+		for (Map<String, Object> row : plan) {
+			Object extra = row.get("Extra");
+			if (extra != null && extra.toString().contains("Using filesort")) {
+				report(name, String.format("정렬 키를 인덱스로 처리하지 못함 (table = %s, key = %s, Extra = %s)",
+					row.get("table"), row.get("key"), extra));
+				return;
+			}
+		}
+		log.info("keyset 인덱스 검사 통과: 대상 = {}", name);
+	}
+
+	private void report(String name, String message) {
+		if (mode == Mode.FAIL) {
+			throw new IllegalStateException("keyset 인덱스 검사 실패: 대상 = " + name + ", " + message);
+		}
+		log.warn("keyset 인덱스 검사 경고: 대상 = {}, {}", name, message);
+	}
+}
@@ -1,7 +1,10 @@
 package com.example.springbatch.provider;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.sql.DataSource;
 
@@ -11,12 +14,36 @@ import org.springframework.batch.item.database.support.AbstractSqlPagingQueryPro
 import org.springframework.util.Assert;
 
 public class MySqlCustomPagingQueryProvider extends AbstractSqlPagingQueryProvider implements PagingQueryProvider {
+	// N 개의 정렬 키를 지원하는 keyset 페이징 쿼리 제공자
+	// keyset 조건은 기본적으로 (k1 > :_k1) OR (k1 = :_k1 AND k2 > :_k2) ... 형태로 펼침
+	// 행 생성자 비교 (k1, k2, ...) > (:_k1, :_k2, ...) 는 정렬 키가 인덱스가 있는 기본 테이블 컬럼이고 방향이 모두 같을 때만 사용
+	// => 정렬 키가 식(GREATEST 등)의 별칭이면 어느 형태든 인덱스를 쓸 수 없고, MySQL 은 행 생성자 비교를 range 조건으로 바꾸지 못하는 경우가 있음
+	//    실제 접근 방식은 KeysetIndexValidator 의 EXPLAIN 검사로 확인
 
 	private final String baseSelectClause;
 	private final String fromClause;
 	private final String originalWhereClause;
+	private final String subQuery; // 정렬/페이징 전 기본 쿼리
+	private final String orderByClause;
+	private final String keysetPredicate; // 이전 페이지의 마지막 행 이후 조건
+
+	// 페이지 크기별 생성된 SQL => 같은 Reader 가 페이지마다 다시 조립하지 않음
+	private final Map<Integer, String> firstPageQueries = new ConcurrentHashMap<>();
+	private final Map<Integer, String> remainingPagesQueries = new ConcurrentHashMap<>();
 
 	public MySqlCustomPagingQueryProvider(String baseSelectClause, String fromClause, String originalWhereClause) {
+		this(baseSelectClause, fromClause, originalWhereClause, defaultSortKeys());
+	}
+
+	// 정렬 키를 직접 지정하는 생성자 => 설정 기반 파이프라인에서 테이블별 정렬 키 사용
+	public MySqlCustomPagingQueryProvider(String baseSelectClause, String fromClause, String originalWhereClause,
+		Map<String, Order> sortKeys) {
+		this(baseSelectClause, fromClause, originalWhereClause, sortKeys, false);
+	}
+
+	// indexedSortKeys: 정렬 키가 모두 인덱스가 있는 기본 테이블 컬럼 (또는 그 별칭) => 행 생성자 비교 허용
+	public MySqlCustomPagingQueryProvider(String baseSelectClause, String fromClause, String originalWhereClause,
+		Map<String, Order> sortKeys, boolean indexedSortKeys) {
 		Assert.hasText(baseSelectClause, "baseSelectClause 필수");
 		Assert.hasText(fromClause, "fromClause 필수");
 		Assert.hasText(originalWhereClause, "originalWhereClause 필수");
@@ -30,10 +57,22 @@ public class MySqlCustomPagingQueryProvider extends AbstractSqlPagingQueryProvid
 		super.setWhereClause(originalWhereClause);
 
 		// Sort Keys 설정
+		Assert.notEmpty(sortKeys, "sortKeys 필수");
+		super.setSortKeys(new LinkedHashMap<>(sortKeys));
+
+		// 정렬 키는 생성 후 바뀌지 않으므로 쿼리 조각을 미리 조립
+		this.subQuery = String.format("SELECT %s FROM %s WHERE %s",
+			this.baseSelectClause, this.fromClause, this.originalWhereClause);
+		this.orderByClause = SqlPagingQueryUtils.buildOrderByClause(getSortKeys());
+		this.keysetPredicate = buildKeysetPredicate(getSortKeys(), indexedSortKeys);
+	}
+
+	// 기본 정렬 키 => auctions/product 조인 결과의 (last_modified, auction_id)
+	private static Map<String, Order> defaultSortKeys() {
 		Map<String, Order> sortKeys = new LinkedHashMap<>();
 		sortKeys.put("last_modified", Order.ASCENDING);
 		sortKeys.put("auction_id", Order.ASCENDING);
-		super.setSortKeys(sortKeys);
+		return sortKeys;
 	}
 
 	@Override
@@ -43,72 +82,62 @@ public class MySqlCustomPagingQueryProvider extends AbstractSqlPagingQueryProvid
 
 	@Override
 	public String generateFirstPageQuery(int pageSize) {
-		String subQuery = String.format("SELECT %s FROM %s WHERE %s",
-			this.baseSelectClause, this.fromClause, this.originalWhereClause);
-
 		// 외부 쿼리 수정: "ORDER BY " 제거
-		return String.format("SELECT * FROM (%s) AS derived_table %s LIMIT %d",
-			subQuery, SqlPagingQueryUtils.buildOrderByClause(this), pageSize);
+		return firstPageQueries.computeIfAbsent(pageSize,
+			size -> String.format("SELECT * FROM (%s) AS derived_table %s LIMIT %d",
+				subQuery, orderByClause, size));
 	}
 
 	@Override
 	public String generateRemainingPagesQuery(int pageSize) {
-		String subQuery = String.format("SELECT %s FROM %s WHERE %s",
-			this.baseSelectClause, this.fromClause, this.originalWhereClause);
-
 		// 외부 쿼리 수정: "ORDER BY " 제거
-		return String.format("SELECT * FROM (%s) AS derived_table WHERE %s %s LIMIT %d",
-			subQuery, getOverClause(), SqlPagingQueryUtils.buildOrderByClause(this), pageSize);
+		return remainingPagesQueries.computeIfAbsent(pageSize,
+			size -> String.format("SELECT * FROM (%s) AS derived_table WHERE %s %s LIMIT %d",
+				subQuery, keysetPredicate, orderByClause, size));
 	}
 
+	public String getKeysetPredicate() {
+		return keysetPredicate;
+	}
 
-	private String getOverClause() {
-		StringBuilder overClause = new StringBuilder();
-		String HsqlOverClause = "(";
-		String and = "";
-
-		Map<String, Order> sortKeys = getSortKeys();
-		Map<String, Boolean> isDate = new LinkedHashMap<>();
-
-		int i = 0;
-		for (Map.Entry<String, Order> sortKey : sortKeys.entrySet()) {
-			String keyName = sortKey.getKey();
-			if (i == 0) {
-				HsqlOverClause += keyName + (sortKey.getValue() == Order.ASCENDING ? " > " : " < ") + ":_" + keyName;
-			} else {
-				StringBuilder equiClause = new StringBuilder();
-				String and2 = "";
-				int j = 0;
-				for (Map.Entry<String, Order> prevSortKey : sortKeys.entrySet()) {
-					if (j < i) {
-						String prevKeyName = prevSortKey.getKey();
-						equiClause.append(and2)
-							.append(prevKeyName)
-							.append(" = ")
-							.append(":_")
-							.append(prevKeyName);
-						and2 = " AND ";
-					} else {
-						break;
-					}
-					j++;
-				}
-				overClause.append(" OR (")
-					.append(equiClause)
-					.append(" AND ")
-					.append(keyName)
-					.append(sortKey.getValue() == Order.ASCENDING ? " > " : " < ")
-					.append(":_")
-					.append(keyName)
-					.append(")");
+	// keyset 조건 생성 메서드
+	static String buildKeysetPredicate(Map<String, Order> sortKeys, boolean rowConstructor) {
+		List<String> keys = new ArrayList<>(sortKeys.keySet());
+		List<Order> orders = new ArrayList<>(sortKeys.values());
+
+		boolean sameDirection = orders.stream().distinct().count() == 1;
+		if (keys.size() == 1 || (rowConstructor && sameDirection)) {
+			// (k1, k2, ...) > (:_k1, :_k2, ...)
+			String operator = orders.get(0) == Order.ASCENDING ? " > " : " < ";
+			if (keys.size() == 1) {
+				return "(" + keys.get(0) + operator + ":_" + keys.get(0) + ")";
+			}
+			StringBuilder columns = new StringBuilder("(");
+			StringBuilder parameters = new StringBuilder("(");
+			for (int i = 0; i < keys.size(); i++) {
+				String sep = i == 0 ? "" : ", ";
+				columns.append(sep).append(keys.get(i));
+				parameters.append(sep).append(":_").append(keys.get(i));
 			}
-			i++;
+			return columns.append(')').append(operator).append(parameters).append(')').toString();
 		}
 
-		overClause.insert(0, HsqlOverClause);
-		overClause.append(")");
-
-		return overClause.toString();
+		// (k1 > :_k1) OR (k1 = :_k1 AND k2 < :_k2) OR ...
+		StringBuilder predicate = new StringBuilder("(");
+		for (int i = 0; i < keys.size(); i++) {
+			if (i > 0) {
+				predicate.append(" OR ");
+			}
+			predicate.append('(');
+			for (int j = 0; j < i; j++) {
+				predicate.append(keys.get(j)).append(" = :_").append(keys.get(j)).append(" AND ");
+			}
+			predicate.append(keys.get(i))
+				.append(orders.get(i) == Order.ASCENDING ? " > " : " < ")
+				.append(":_")
+				.append(keys.get(i))
+				.append(')');
+		}
+		return predicate.append(')').toString();
 	}
 }
-
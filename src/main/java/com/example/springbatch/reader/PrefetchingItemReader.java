@@ -0,0 +1,234 @@
+package com.example.springbatch.reader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class PrefetchingItemReader<T> implements ItemStreamReader<T> {
+	// 다음 페이지를 백그라운드 스레드에서 미리 읽어두는 Reader
+	// JdbcPagingItemReader 는 현재 chunk 가 처리/업로드 된 뒤에야 다음 페이지 쿼리를 실행 => 그동안 MySQL 왕복 시간이 그대로 대기 시간
+	// => 백그라운드 스레드가 별도 커넥션으로 최대 prefetchDepth 페이지까지 미리 읽어 큐에 넣음
+	//
+	// 재시작 상태: delegate 는 소비되지 않은 항목까지 읽은 상태이므로 delegate.update() 를 그대로 쓰면 안 됨
+	// => 페이지마다 다 읽은 직후의 delegate 상태(read.count, start.after)를 한 번만 복사해 함께 보관하고
+	//    update() 에서는 마지막으로 다 소비된 페이지의 상태를 기록 => prefetch 없이 읽었을 때와 같은 상태가 저장됨
+	// pageSize 는 스텝의 commit interval(chunk 크기)과 같게 생성 => chunk 경계와 페이지 경계가 일치
+	// (경계가 어긋나면 페이지 중간까지 소비된 항목은 재시작 시 다시 읽음 => 경고 로그)
+	//
+	// delegate 는 prefetch 스레드만 읽고, 그 스레드가 끝날 때 닫음 => close() 가 JDBC 호출 중인 delegate 를 닫지 않음
+
+	private final ItemStreamReader<T> delegate;
+	private final int pageSize;
+	private final int prefetchDepth; // 큐에 쌓아둘 최대 페이지 수
+	private final String name;
+
+	private final Timer fetchTimer; // 백그라운드에서 delegate 를 읽는 데 걸린 시간 (MySQL 대기 포함)
+	private final Timer waitTimer; // 소비 스레드가 큐에서 페이지를 기다린 시간 (숨기지 못한 대기)
+
+	private BlockingQueue<Page<T>> queue;
+	private Thread fetcher;
+	private volatile boolean running;
+
+	private Iterator<T> current = Collections.emptyIterator();
+	private ExecutionContext currentPageState; // 현재 페이지를 다 읽은 직후의 delegate 상태
+	private ExecutionContext consumedState; // 마지막으로 다 소비된 페이지 시점의 delegate 상태
+	private boolean exhausted;
+	private boolean misalignedWarned;
+
+	private volatile long fetchNanos; // prefetch 스레드만 갱신
+	private long waitNanos;
+
+	public PrefetchingItemReader(String name, ItemStreamReader<T> delegate, int pageSize, int prefetchDepth) {
+		Assert.notNull(delegate, "delegate 필수");
+		Assert.isTrue(pageSize > 0, "pageSize 는 1 이상");
+		Assert.isTrue(prefetchDepth > 0, "prefetchDepth 는 1 이상");
+		this.name = name;
+		this.delegate = delegate;
+		this.pageSize = pageSize;
+		this.prefetchDepth = prefetchDepth;
+		this.fetchTimer = Timer.builder("etl.reader.prefetch.fetch")
+			.description("prefetch 스레드가 Reader 에서 페이지를 읽은 시간")
+			.tag("reader", name)
+			.register(Metrics.globalRegistry);
+		this.waitTimer = Timer.builder("etl.reader.prefetch.wait")
+			.description("chunk 처리 스레드가 prefetch 된 페이지를 기다린 시간")
+			.tag("reader", name)
+			.register(Metrics.globalRegistry);
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		delegate.open(executionContext); // 재시작이면 저장된 read.count/start.after 로 위치 복원
+
+		consumedState = snapshot();
+		currentPageState = consumedState;
+		current = Collections.emptyIterator();
+		exhausted = false;
+		fetchNanos = 0;
+		waitNanos = 0;
+
+		queue = new ArrayBlockingQueue<>(prefetchDepth);
+		running = true;
+		BlockingQueue<Page<T>> pages = queue;
+		fetcher = new Thread(() -> fetchLoop(pages), "reader-prefetch-" + name);
+		fetcher.setDaemon(true);
+		fetcher.start();
+	}
+
+	@Override
+	public T read() throws Exception {
+		if (!current.hasNext()) {
+			if (exhausted) {
+				return null;
+			}
+			long start = System.nanoTime();
+			Page<T> page = queue.take();
+			long waited = System.nanoTime() - start;
+			waitNanos += waited;
+			waitTimer.record(waited, TimeUnit.NANOSECONDS);
+
+			if (page.error() != null) {
+				exhausted = true;
+				throw page.error();
+			}
+			if (page.items().isEmpty()) { // 마지막 표시
+				exhausted = true;
+				return null;
+			}
+			current = page.items().iterator();
+			currentPageState = page.state();
+		}
+
+		T next = current.next();
+		if (!current.hasNext()) {
+			consumedState = currentPageState; // 페이지를 다 소비함
+		}
+		return next;
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		if (current.hasNext() && !misalignedWarned) {
+			misalignedWarned = true;
+			log.warn("prefetch 페이지 중간에서 커밋 => 이 페이지의 소비된 항목은 재시작 시 다시 읽음: 이름 = {}, 페이지 크기 = {}",
+				name, pageSize);
+		}
+		if (consumedState != null) {
+			for (var entry : consumedState.entrySet()) {
+				executionContext.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		running = false;
+		if (fetcher != null) {
+			fetcher.interrupt(); // 큐 대기 중이면 바로 종료, JDBC 호출 중이면 호출이 끝난 뒤 종료
+			try {
+				fetcher.join(TimeUnit.SECONDS.toMillis(30));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (fetcher.isAlive()) {
+				log.warn("prefetch 스레드가 아직 읽는 중 => 읽기가 끝나면 그 스레드가 Reader 를 닫음: 이름 = {}", name);
+			}
+			fetcher = null;
+		} else {
+			delegate.close(); // 열리지 않았거나 스레드가 시작되지 않은 경우
+		}
+		queue = null;
+
+		long hiddenNanos = Math.max(0, fetchNanos - waitNanos);
+		log.info("prefetch Reader 종료: 이름 = {}, 읽기 시간 = {} ms, 대기 시간 = {} ms, 숨겨진 대기 시간 = {} ms",
+			name, TimeUnit.NANOSECONDS.toMillis(fetchNanos), TimeUnit.NANOSECONDS.toMillis(waitNanos),
+			TimeUnit.NANOSECONDS.toMillis(hiddenNanos));
+	}
+
+	// prefetch 로 숨겨진 대기 시간 = 전체 읽기 시간 - 소비 스레드가 실제로 기다린 시간
+	public long getHiddenWaitMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(Math.max(0, fetchNanos - waitNanos));
+	}
+
+	public long getFetchMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(fetchNanos);
+	}
+
+	public long getWaitMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(waitNanos);
+	}
+
+	private void fetchLoop(BlockingQueue<Page<T>> pages) {
+		try {
+			while (running) {
+				List<T> items = new ArrayList<>(pageSize);
+				long start = System.nanoTime();
+				while (items.size() < pageSize) {
+					T item = delegate.read();
+					if (item == null) {
+						break;
+					}
+					items.add(item);
+				}
+				long fetched = System.nanoTime() - start;
+				fetchNanos += fetched;
+				fetchTimer.record(fetched, TimeUnit.NANOSECONDS);
+
+				if (!items.isEmpty()) {
+					pages.put(new Page<>(items, snapshot(), null));
+				}
+				if (items.size() < pageSize) {
+					pages.put(new Page<>(List.of(), null, null)); // 마지막 표시
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt(); // close() 에 의한 종료
+		} catch (Exception e) {
+			if (running) {
+				log.error("prefetch 읽기 실패: 이름 = {}", name, e);
+				try {
+					pages.put(new Page<>(List.of(), null, e)); // 소비 스레드에서 예외를 다시 던지도록 전달
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		} finally {
+			closeDelegate();
+		}
+	}
+
+	// prefetch 스레드에서만 호출 => delegate 읽기와 닫기가 겹치지 않음
+	private void closeDelegate() {
+		try {
+			delegate.close();
+		} catch (Exception e) {
+			log.warn("prefetch Reader 의 delegate 닫기 실패: 이름 = {}, 오류 = {}", name, e.getMessage());
+		}
+	}
+
+	// 현재 delegate 상태 복사
+	private ExecutionContext snapshot() {
+		ExecutionContext state = new ExecutionContext();
+		delegate.update(state);
+		return state;
+	}
+
+	// state: 이 페이지를 다 읽은 직후의 delegate 상태 (마지막 표시/오류 페이지는 null)
+	private record Page<T>(List<T> items, ExecutionContext state, Exception error) {
+	}
+}
@@ -0,0 +1,239 @@
+package com.example.springbatch.reader;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.example.springbatch.metrics.EtlMetrics;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class SourceThrottle implements DisposableBean { // 원본 MySQL(운영 primary) 보호용 적응형 읽기 속도 제한
+	// 밀린 구간을 따라잡을 때 페이지 쿼리가 쉬지 않고 이어지면 OLTP 의 I/O 를 다 써버림 (maxItemCount 만으로는 실행 간격만 제한)
+	// => 모든 keyset Reader 의 페이지 쿼리가 rows/sec + queries/sec 한도를 함께 나눠 씀 (prefetch/스냅샷 파티션 포함)
+	//
+	// 한도는 MySQL 상태에 따라 AIMD 로 조절 (interval 마다 검사)
+	// - Threads_running 이 high 이상 또는 복제 지연이 max-replica-lag 이상 => 한도 절반 (min-fraction 까지)
+	// - Threads_running 이 low 이하이고 복제 지연도 여유 => 최대 한도의 10% 씩 증가 (최대 한도까지)
+	// - 그 사이 또는 상태 조회 실패 => 유지
+	// 복제 지연은 primary 에서 알 수 없으므로 replica 접속 정보가 있을 때만 조회
+
+	static final double DECREASE_FACTOR = 0.5;
+	static final double INCREASE_STEP = 0.1;
+
+	private final boolean enabled;
+	private final double maxRowsPerSecond;
+	private final double maxQueriesPerSecond;
+	private final double minFraction; // 최대 한도 대비 최소 비율
+	private final int threadsRunningHigh;
+	private final int threadsRunningLow;
+	private final long maxReplicaLagSeconds;
+
+	private final JdbcTemplate primary; // Threads_running 조회
+	private final JdbcTemplate replica; // 복제 지연 조회 (설정 없으면 null)
+	private final ScheduledExecutorService healthChecker;
+	private final Timer waitTimer;
+
+	private volatile double fraction = 1.0; // 현재 한도 = 최대 한도 * fraction
+	private volatile double threadsRunning = Double.NaN; // 마지막 조회 값 (메트릭)
+	private volatile double replicaLagSeconds = Double.NaN;
+	private long nextFreeNanos; // 다음 쿼리를 시작할 수 있는 시각 => 쿼리/행마다 뒤로 밀림
+
+	// 생성자
+	@Autowired
+	public SourceThrottle(DataSource dataSource,
+		@Value("${app.batch.reader.throttle.enabled:false}") boolean enabled,
+		@Value("${app.batch.reader.throttle.max-rows-per-second:20000}") double maxRowsPerSecond,
+		@Value("${app.batch.reader.throttle.max-queries-per-second:20}") double maxQueriesPerSecond,
+		@Value("${app.batch.reader.throttle.min-fraction:0.05}") double minFraction,
+		@Value("${app.batch.reader.throttle.threads-running-high:32}") int threadsRunningHigh,
+		@Value("${app.batch.reader.throttle.threads-running-low:8}") int threadsRunningLow,
+		@Value("${app.batch.reader.throttle.max-replica-lag-seconds:30}") long maxReplicaLagSeconds,
+		@Value("${app.batch.reader.throttle.interval-seconds:5}") long intervalSeconds,
+		@Value("${app.batch.reader.throttle.replica.url:}") String replicaUrl,
+		@Value("${app.batch.reader.throttle.replica.username:}") String replicaUsername,
+		@Value("${app.batch.reader.throttle.replica.password:}") String replicaPassword) {
+		this.enabled = enabled;
+		this.maxRowsPerSecond = maxRowsPerSecond;
+		this.maxQueriesPerSecond = maxQueriesPerSecond;
+		this.minFraction = Math.min(1.0, Math.max(0.001, minFraction));
+		this.threadsRunningHigh = threadsRunningHigh;
+		this.threadsRunningLow = threadsRunningLow;
+		this.maxReplicaLagSeconds = maxReplicaLagSeconds;
+		this.primary = new JdbcTemplate(dataSource);
+		this.replica = StringUtils.hasText(replicaUrl)
+			? new JdbcTemplate(new DriverManagerDataSource(replicaUrl, replicaUsername, replicaPassword))
+			: null;
+		this.waitTimer = EtlMetrics.sourceThrottleWaitTimer();
+
+		if (!enabled) {
+			this.healthChecker = null;
+			return;
+		}
+		EtlMetrics.sourceThrottleLimit("rows", this, SourceThrottle::getRowsPerSecondLimit);
+		EtlMetrics.sourceThrottleLimit("queries", this, SourceThrottle::getQueriesPerSecondLimit);
+		EtlMetrics.sourceThrottleFraction(this, SourceThrottle::getFraction);
+		EtlMetrics.sourceDbHealth("threads_running", this, SourceThrottle::getThreadsRunning);
+		EtlMetrics.sourceDbHealth("replica_lag_seconds", this, SourceThrottle::getReplicaLagSeconds);
+		this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "source-throttle-health");
+			thread.setDaemon(true);
+			return thread;
+		});
+		healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, Math.max(1, intervalSeconds), TimeUnit.SECONDS);
+		log.info("원본 읽기 속도 제한 사용: 최대 {} rows/s, {} queries/s, Threads_running {}~{}, 복제 지연 한도 {}s (replica {})",
+			maxRowsPerSecond, maxQueriesPerSecond, threadsRunningLow, threadsRunningHigh, maxReplicaLagSeconds,
+			replica == null ? "미설정" : "설정");
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	// 페이지 쿼리 직전 => 쿼리 한 번 몫의 시간을 예약하고 앞선 예약이 끝날 때까지 대기
+	public void beforeQuery() {
+		if (!enabled) {
+			return;
+		}
+		long waitNanos;
+		synchronized (this) {
+			long now = System.nanoTime();
+			long start = Math.max(now, nextFreeNanos);
+			nextFreeNanos = start + intervalNanos(1, maxQueriesPerSecond);
+			waitNanos = start - now;
+		}
+		if (waitNanos > 0) {
+			waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+			LockSupport.parkNanos(waitNanos);
+		}
+	}
+
+	// 페이지 쿼리 직후 => 읽은 행 수만큼 다음 쿼리 시작을 뒤로 미룸
+	public void afterQuery(int rows) {
+		if (!enabled || rows <= 0) {
+			return;
+		}
+		synchronized (this) {
+			nextFreeNanos = Math.max(nextFreeNanos, System.nanoTime()) + intervalNanos(rows, maxRowsPerSecond);
+		}
+	}
+
+	// MySQL 상태에 따라 한도 조절 => 값이 null 이면 해당 신호는 판단에서 제외
+	public void adjust(Integer threadsRunning, Long replicaLagSeconds) {
+		this.threadsRunning = threadsRunning == null ? Double.NaN : threadsRunning;
+		this.replicaLagSeconds = replicaLagSeconds == null ? Double.NaN : replicaLagSeconds;
+		if (threadsRunning == null && replicaLagSeconds == null) {
+			return; // 판단할 근거 없음 => 유지
+		}
+
+		boolean pressured = (threadsRunning != null && threadsRunning >= threadsRunningHigh)
+			|| (replicaLagSeconds != null && replicaLagSeconds >= maxReplicaLagSeconds);
+		boolean idle = (threadsRunning == null || threadsRunning <= threadsRunningLow)
+			&& (replicaLagSeconds == null || replicaLagSeconds < maxReplicaLagSeconds / 2);
+
+		double previous = fraction;
+		if (pressured) {
+			fraction = Math.max(minFraction, previous * DECREASE_FACTOR);
+		} else if (idle) {
+			fraction = Math.min(1.0, previous + INCREASE_STEP);
+		}
+		if (fraction != previous) {
+			log.info("원본 읽기 속도 한도 {}: {}% => {}% (Threads_running = {}, 복제 지연 = {}s)",
+				pressured ? "감소" : "증가", Math.round(previous * 100), Math.round(fraction * 100),
+				threadsRunning, replicaLagSeconds);
+		}
+	}
+
+	public double getFraction() {
+		return fraction;
+	}
+
+	public double getRowsPerSecondLimit() {
+		return maxRowsPerSecond * fraction;
+	}
+
+	public double getQueriesPerSecondLimit() {
+		return maxQueriesPerSecond * fraction;
+	}
+
+	public double getThreadsRunning() {
+		return threadsRunning;
+	}
+
+	public double getReplicaLagSeconds() {
+		return replicaLagSeconds;
+	}
+
+	@Override
+	public void destroy() {
+		if (healthChecker != null) {
+			healthChecker.shutdownNow();
+		}
+	}
+
+	private long intervalNanos(int units, double maxPerSecond) {
+		if (maxPerSecond <= 0) {
+			return 0; // 한도 없음
+		}
+		return (long)(units * 1_000_000_000L / (maxPerSecond * fraction));
+	}
+
+	private void checkHealth() {
+		try {
+			adjust(queryThreadsRunning(), queryReplicaLag());
+		} catch (RuntimeException e) {
+			log.warn("원본 DB 상태 조회 실패 => 속도 한도 유지: {}", e.getMessage());
+		}
+	}
+
+	private Integer queryThreadsRunning() {
+		try {
+			return primary.query("SHOW GLOBAL STATUS LIKE 'Threads_running'",
+				(ResultSetExtractor<Integer>)rs -> rs.next() ? Integer.valueOf(rs.getInt(2)) : null);
+		} catch (DataAccessException e) {
+			log.debug("Threads_running 조회 실패: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	// MySQL 8.0.22+ 는 SHOW REPLICA STATUS, 이전 버전은 SHOW SLAVE STATUS
+	// Seconds_Behind_* 가 NULL 이면 복제 SQL 스레드가 멈춘 상태 => 한도 이상으로 간주
+	private Long queryReplicaLag() {
+		if (replica == null) {
+			return null;
+		}
+		try {
+			return replica.query("SHOW REPLICA STATUS",
+				(ResultSetExtractor<Long>)rs -> replicaLag(rs, "Seconds_Behind_Source"));
+		} catch (DataAccessException e) {
+			return replica.query("SHOW SLAVE STATUS",
+				(ResultSetExtractor<Long>)rs -> replicaLag(rs, "Seconds_Behind_Master"));
+		}
+	}
+
+	private Long replicaLag(ResultSet rs, String column) throws SQLException {
+		if (!rs.next()) {
+			return null; // 복제 설정 없음
+		}
+		long lag = rs.getLong(column);
+		return rs.wasNull() ? Long.valueOf(maxReplicaLagSeconds) : Long.valueOf(lag);
+	}
+}
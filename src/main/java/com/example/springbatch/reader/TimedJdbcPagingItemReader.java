@@ -0,0 +1,67 @@
+package com.example.springbatch.reader;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+
+import com.example.springbatch.jfr.PageReadEvent;
+import com.example.springbatch.metrics.EtlMetrics;
+import com.example.springbatch.stats.StepRunStats;
+
+import io.micrometer.core.instrument.Timer;
+
+public class TimedJdbcPagingItemReader<T> extends JdbcPagingItemReader<T> { // 페이지 쿼리 시간을 측정하는 JdbcPagingItemReader
+	// JdbcPagingItemReaderBuilder 는 하위 클래스를 만들 수 없으므로 setter 로 설정 후 afterPropertiesSet() 호출
+
+	private String readerName;
+	private Timer pageReadTimer;
+	private StepRunStats stepRunStats; // 스텝 실행 기록용 누적 (open 시점의 스텝)
+	private StepExecution stepExecution; // JFR 이벤트의 실행 ID (open 시점의 스텝)
+	private SourceThrottle throttle; // 원본 읽기 속도 제한 (없으면 제한 안함)
+
+	@Override
+	public void setName(String name) {
+		super.setName(name);
+		this.readerName = name;
+		this.pageReadTimer = EtlMetrics.pageReadTimer(name);
+	}
+
+	public void setThrottle(SourceThrottle throttle) {
+		this.throttle = throttle;
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		// prefetch 스레드에서는 스텝 컨텍스트를 알 수 없으므로 스텝 스레드에서 여는 시점에 확보
+		this.stepRunStats = StepRunStats.current();
+		StepContext stepContext = StepSynchronizationManager.getContext();
+		this.stepExecution = stepContext == null ? null : stepContext.getStepExecution();
+		super.open(executionContext);
+	}
+
+	@Override
+	protected void doReadPage() {
+		if (throttle != null) {
+			throttle.beforeQuery(); // 대기 시간은 페이지 쿼리 시간에 포함하지 않음
+		}
+		PageReadEvent event = PageReadEvent.start();
+		long start = System.nanoTime();
+		super.doReadPage();
+		long elapsed = System.nanoTime() - start;
+		event.finish(stepExecution, readerName, results == null ? 0 : results.size());
+		if (throttle != null) {
+			throttle.afterQuery(results == null ? 0 : results.size());
+		}
+		if (pageReadTimer != null) {
+			pageReadTimer.record(elapsed, TimeUnit.NANOSECONDS);
+		}
+		if (stepRunStats != null) {
+			stepRunStats.addRead(elapsed);
+		}
+	}
+}
@@ -0,0 +1,271 @@
+package com.example.springbatch.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+
+public class CompactExecutionContextSerializer implements ExecutionContextSerializer { // ExecutionContext 를 태그 기반 바이너리로 직렬화
+	// 기본 직렬화(Java 직렬화 + Base64)는 값마다 클래스 서술자가 붙어 Timestamp 하나도 수백 바이트
+	// => SHORT_CONTEXT(2500자)를 넘기면 CLOB 컬럼(SERIALIZED_CONTEXT)까지 매 chunk 기록
+	// 자주 쓰는 타입은 태그 + 값만 기록, 나머지 Serializable 은 Java 직렬화로 대체 => 어떤 값이든 저장 가능
+	// 크기가 기준을 넘으면 deflate (GCS URI 목록은 접두사가 같아 크게 줄어듦)
+	// 기존 기본 직렬화로 저장된 컨텍스트도 읽음 => 이전 실행 재시작 가능
+	// DAO 가 문자열 컬럼에 저장하므로 출력은 Base64
+
+	private static final int MAGIC = 0xEC; // Java 직렬화 스트림은 0xAC 0xED 로 시작 => 구분 가능
+	private static final int FORMAT_RAW = 1;
+	private static final int FORMAT_DEFLATED = 2;
+	private static final int DEFLATE_THRESHOLD_BYTES = 512;
+
+	private static final int T_NULL = 0;
+	private static final int T_STRING = 1;
+	private static final int T_INTEGER = 2;
+	private static final int T_LONG = 3;
+	private static final int T_DOUBLE = 4;
+	private static final int T_BOOLEAN = 5;
+	private static final int T_TIMESTAMP = 6;
+	private static final int T_DATE = 7;
+	private static final int T_LOCAL_DATE_TIME = 8;
+	private static final int T_LOCAL_DATE = 9;
+	private static final int T_INSTANT = 10;
+	private static final int T_BIG_DECIMAL = 11;
+	private static final int T_LIST = 12;
+	private static final int T_MAP = 13;
+	private static final int T_JAVA = 14; // 그 밖의 Serializable
+
+	private final DefaultExecutionContextSerializer legacySerializer = new DefaultExecutionContextSerializer();
+
+	@Override
+	public void serialize(Map<String, Object> context, OutputStream out) throws IOException {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		DataOutputStream data = new DataOutputStream(body);
+		writeVarLong(data, context.size());
+		for (Map.Entry<String, Object> entry : context.entrySet()) {
+			writeString(data, entry.getKey());
+			writeValue(data, entry.getValue());
+		}
+		data.flush();
+
+		ByteArrayOutputStream encoded = new ByteArrayOutputStream(body.size() + 2);
+		encoded.write(MAGIC);
+		if (body.size() > DEFLATE_THRESHOLD_BYTES) {
+			encoded.write(FORMAT_DEFLATED);
+			try (DeflaterOutputStream deflater = new DeflaterOutputStream(encoded)) {
+				body.writeTo(deflater);
+			}
+		} else {
+			encoded.write(FORMAT_RAW);
+			body.writeTo(encoded);
+		}
+		out.write(Base64.getEncoder().encode(encoded.toByteArray()));
+	}
+
+	@Override
+	public Map<String, Object> deserialize(InputStream in) throws IOException {
+		byte[] stored = in.readAllBytes();
+		byte[] decoded = Base64.getDecoder().decode(stored);
+		if (decoded.length < 2 || (decoded[0] & 0xFF) != MAGIC) {
+			return legacySerializer.deserialize(new ByteArrayInputStream(stored)); // 기본 직렬화로 저장된 컨텍스트
+		}
+
+		InputStream body = new ByteArrayInputStream(decoded, 2, decoded.length - 2);
+		int format = decoded[1] & 0xFF;
+		if (format == FORMAT_DEFLATED) {
+			body = new InflaterInputStream(body);
+		} else if (format != FORMAT_RAW) {
+			throw new IOException("알 수 없는 ExecutionContext 형식: " + format);
+		}
+
+		try (DataInputStream data = new DataInputStream(body)) {
+			int size = (int)readVarLong(data);
+			Map<String, Object> context = new LinkedHashMap<>(Math.max(16, size * 2));
+			for (int i = 0; i < size; i++) {
+				context.put(readString(data), readValue(data));
+			}
+			return context;
+		}
+	}
+
+	private void writeValue(DataOutputStream data, Object value) throws IOException {
+		if (value == null) {
+			data.writeByte(T_NULL);
+		} else if (value instanceof String string) {
+			data.writeByte(T_STRING);
+			writeString(data, string);
+		} else if (value instanceof Integer integer) {
+			data.writeByte(T_INTEGER);
+			writeVarLong(data, integer);
+		} else if (value instanceof Long longValue) {
+			data.writeByte(T_LONG);
+			writeVarLong(data, longValue);
+		} else if (value instanceof Double doubleValue) {
+			data.writeByte(T_DOUBLE);
+			data.writeDouble(doubleValue);
+		} else if (value instanceof Boolean bool) {
+			data.writeByte(T_BOOLEAN);
+			data.writeBoolean(bool);
+		} else if (value instanceof Timestamp timestamp) { // Date 보다 먼저 (하위 타입)
+			data.writeByte(T_TIMESTAMP);
+			writeVarLong(data, Math.floorDiv(timestamp.getTime(), 1000L));
+			writeVarLong(data, timestamp.getNanos());
+		} else if (value.getClass() == Date.class) {
+			data.writeByte(T_DATE);
+			writeVarLong(data, ((Date)value).getTime());
+		} else if (value instanceof LocalDateTime dateTime) {
+			data.writeByte(T_LOCAL_DATE_TIME);
+			writeVarLong(data, dateTime.toLocalDate().toEpochDay());
+			writeVarLong(data, dateTime.toLocalTime().toNanoOfDay());
+		} else if (value instanceof LocalDate date) {
+			data.writeByte(T_LOCAL_DATE);
+			writeVarLong(data, date.toEpochDay());
+		} else if (value instanceof Instant instant) {
+			data.writeByte(T_INSTANT);
+			writeVarLong(data, instant.getEpochSecond());
+			writeVarLong(data, instant.getNano());
+		} else if (value instanceof BigDecimal decimal) {
+			data.writeByte(T_BIG_DECIMAL);
+			writeString(data, decimal.toString());
+		} else if (value instanceof List<?> list) {
+			data.writeByte(T_LIST);
+			writeVarLong(data, list.size());
+			for (Object element : list) {
+				writeValue(data, element);
+			}
+		} else if (value instanceof Map<?, ?> map) {
+			data.writeByte(T_MAP);
+			writeVarLong(data, map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet()) { // 순서 유지 (JdbcPagingItemReader 의 start.after 는 정렬 키 순서)
+				writeValue(data, entry.getKey());
+				writeValue(data, entry.getValue());
+			}
+		} else if (value instanceof Serializable) {
+			data.writeByte(T_JAVA);
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+				objectOut.writeObject(value);
+			}
+			writeVarLong(data, bytes.size());
+			bytes.writeTo(data);
+		} else {
+			throw new IllegalArgumentException(
+				"직렬화할 수 없는 ExecutionContext 값: 타입 = " + value.getClass().getName());
+		}
+	}
+
+	private Object readValue(DataInputStream data) throws IOException {
+		int tag = data.readUnsignedByte();
+		switch (tag) {
+			case T_NULL:
+				return null;
+			case T_STRING:
+				return readString(data);
+			case T_INTEGER:
+				return (int)readVarLong(data);
+			case T_LONG:
+				return readVarLong(data);
+			case T_DOUBLE:
+				return data.readDouble();
+			case T_BOOLEAN:
+				return data.readBoolean();
+			case T_TIMESTAMP: {
+				Timestamp timestamp = new Timestamp(readVarLong(data) * 1000L);
+				timestamp.setNanos((int)readVarLong(data));
+				return timestamp;
+			}
+			case T_DATE:
+				return new Date(readVarLong(data));
+			case T_LOCAL_DATE_TIME:
+				return LocalDateTime.of(LocalDate.ofEpochDay(readVarLong(data)),
+					LocalTime.ofNanoOfDay(readVarLong(data)));
+			case T_LOCAL_DATE:
+				return LocalDate.ofEpochDay(readVarLong(data));
+			case T_INSTANT:
+				return Instant.ofEpochSecond(readVarLong(data), readVarLong(data));
+			case T_BIG_DECIMAL:
+				return new BigDecimal(readString(data));
+			case T_LIST: {
+				int size = (int)readVarLong(data);
+				List<Object> list = new ArrayList<>(size);
+				for (int i = 0; i < size; i++) {
+					list.add(readValue(data));
+				}
+				return list;
+			}
+			case T_MAP: {
+				int size = (int)readVarLong(data);
+				Map<Object, Object> map = new LinkedHashMap<>(Math.max(16, size * 2));
+				for (int i = 0; i < size; i++) {
+					map.put(readValue(data), readValue(data));
+				}
+				return map;
+			}
+			case T_JAVA: {
+				byte[] bytes = data.readNBytes((int)readVarLong(data));
+				try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+					return objectIn.readObject();
+				} catch (ClassNotFoundException e) {
+					throw new IOException("ExecutionContext 값의 클래스를 찾을 수 없음", e);
+				}
+			}
+			default:
+				throw new IOException("알 수 없는 ExecutionContext 값 태그: " + tag);
+		}
+	}
+
+	private static void writeString(DataOutputStream data, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8); // writeUTF 는 64KB 제한
+		writeVarLong(data, bytes.length);
+		data.write(bytes);
+	}
+
+	private static String readString(DataInputStream data) throws IOException {
+		return new String(data.readNBytes((int)readVarLong(data)), StandardCharsets.UTF_8);
+	}
+
+	// zigzag + 7 비트 가변 길이 => 작은 수(카운터, 나노초 0)는 1~2 바이트
+	private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+		long zigzag = (value << 1) ^ (value >> 63);
+		while ((zigzag & ~0x7FL) != 0) {
+			data.writeByte((int)((zigzag & 0x7F) | 0x80));
+			zigzag >>>= 7;
+		}
+		data.writeByte((int)zigzag);
+	}
+
+	private static long readVarLong(DataInputStream data) throws IOException {
+		long zigzag = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = data.readUnsignedByte();
+			zigzag |= (long)(b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return (zigzag >>> 1) ^ -(zigzag & 1);
+			}
+		}
+		throw new IOException("잘못된 가변 길이 정수");
+	}
+}
@@ -0,0 +1,93 @@
+package com.example.springbatch.restart;
+
+import java.util.List;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.springbatch.progress.BackfillParameters;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class InPlaceRestartResolver { // 스텝 도중 실패한 마지막 실행이 있으면 새 파라미터 대신 그 실행의 파라미터를 반환
+	// 같은 파라미터로 실행 => 같은 JobInstance 재시작 => Spring Batch 가 실패한 스텝의 ExecutionContext 를 이어받음
+	// ExecutionContext 에는 chunk 커밋마다 Reader 의 keyset 위치(start.after = 마지막 (modified_at, auction_id))와
+	// 업로드한 GCS 파일 목록, 최대 타임스탬프가 저장됨 => 아직 staging 하지 않은 행부터 읽고, 로드 시 이전 파일도 함께 로드
+	// 재시작 대상: 스텝이 FAILED/STOPPED 로 끝난 실행 (BigQuery 로드만 실패한 실행은 스텝이 COMPLETED => 새 실행)
+	// 같은 원인으로 계속 실패하면 max-attempts 후 포기하고 새 실행 (지금처럼 watermark 부터 다시 읽음)
+	// spool 모드는 스풀 manifest 로 따로 복구하므로 제외, backfill 실행은 수동으로 다시 요청
+
+	private static final String STAGING_MODE_SPOOL = "spool";
+
+	private final JobExplorer jobExplorer;
+	private final boolean enabled;
+	private final int maxAttempts; // 같은 JobInstance 의 최대 실행 횟수 (첫 실행 포함)
+
+	// 생성자
+	@Autowired
+	public InPlaceRestartResolver(JobExplorer jobExplorer,
+		@Value("${app.batch.restart.in-place:true}") boolean enabled,
+		@Value("${app.batch.restart.max-attempts:3}") int maxAttempts,
+		@Value("${app.batch.staging.mode:direct}") String stagingMode) {
+		this.jobExplorer = jobExplorer;
+		this.enabled = enabled && !STAGING_MODE_SPOOL.equalsIgnoreCase(stagingMode);
+		this.maxAttempts = Math.max(1, maxAttempts);
+	}
+
+	// 재시작할 실행이 없으면 freshParameters 그대로 반환
+	public JobParameters resolve(Job job, JobParameters freshParameters) {
+		if (!enabled || !job.isRestartable()) {
+			return freshParameters;
+		}
+
+		JobInstance lastInstance = jobExplorer.getLastJobInstance(job.getName());
+		if (lastInstance == null) {
+			return freshParameters;
+		}
+		JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+		if (lastExecution == null || !isRestartable(lastExecution.getStatus())
+			|| BackfillParameters.isBackfill(lastExecution.getJobParameters())) {
+			return freshParameters;
+		}
+
+		StepExecution failedStep = findFailedStep(lastExecution);
+		if (failedStep == null) {
+			return freshParameters;
+		}
+
+		List<JobExecution> attempts = jobExplorer.getJobExecutions(lastInstance);
+		if (attempts.size() >= maxAttempts) {
+			log.warn("재시작 포기: 실행 횟수 = {} => watermark 부터 새로 실행: 작업 = {}, 인스턴스 = {}",
+				attempts.size(), job.getName(), lastInstance.getInstanceId());
+			return freshParameters;
+		}
+
+		log.info("실패한 실행 이어서 재시작: 작업 = {}, 인스턴스 = {}, 스텝 = {}, 커밋 = {}, 읽은 행 = {}",
+			job.getName(), lastInstance.getInstanceId(), failedStep.getStepName(), failedStep.getCommitCount(),
+			failedStep.getReadCount());
+		return lastExecution.getJobParameters();
+	}
+
+	private static StepExecution findFailedStep(JobExecution jobExecution) {
+		for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+			if (isRestartable(stepExecution.getStatus())) {
+				return stepExecution;
+			}
+		}
+		return null;
+	}
+
+	private static boolean isRestartable(BatchStatus status) {
+		return status == BatchStatus.FAILED || status == BatchStatus.STOPPED;
+	}
+}
@@ -2,6 +2,7 @@ package com.example.springbatch.scheduler;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
@@ -14,6 +15,11 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.example.springbatch.lease.SingleFlightJobLauncher;
+import com.example.springbatch.metrics.EtlMetrics;
+import com.example.springbatch.restart.InPlaceRestartResolver;
+import com.example.springbatch.streaming.StreamingJobLauncher;
+
 import java.time.LocalDateTime;
 
 @Slf4j
@@ -22,38 +28,70 @@ public class BatchJobScheduler {
 
 	private final JobLauncher jobLauncher; // 스프링 배치의 Job 을 실행시키는 도구
 	private final Job mysqlToBigQueryJob; // 실행할 Job 빈 주입
+	private final StreamingJobLauncher streamingJobLauncher; // 스트리밍 모드면 일 배치 생략
+	private final SingleFlightJobLauncher singleFlightJobLauncher; // 여러 replica 의 cron 중 한 곳만 실행
+	private final JobLaunchQueue jobLaunchQueue; // 스케줄러 스레드를 막지 않도록 별도 스레드에서 실행
+	private final InPlaceRestartResolver inPlaceRestartResolver; // 스텝 도중 실패한 실행이 있으면 그 위치부터 재시작
 
 	// 생성자
 	@Autowired
 	public BatchJobScheduler(JobLauncher jobLauncher,
-		@Qualifier("mysqlToBigQueryJob") Job mysqlToBigQueryJob) {
+		@Qualifier("mysqlToBigQueryJob") Job mysqlToBigQueryJob,
+		StreamingJobLauncher streamingJobLauncher,
+		SingleFlightJobLauncher singleFlightJobLauncher,
+		JobLaunchQueue jobLaunchQueue,
+		InPlaceRestartResolver inPlaceRestartResolver) {
 		this.jobLauncher = jobLauncher;
 		this.mysqlToBigQueryJob = mysqlToBigQueryJob;
+		this.streamingJobLauncher = streamingJobLauncher;
+		this.singleFlightJobLauncher = singleFlightJobLauncher;
+		this.jobLaunchQueue = jobLaunchQueue;
+		this.inPlaceRestartResolver = inPlaceRestartResolver;
 	}
 
 	// 스케줄링 설정
 	@Scheduled(cron = "0 0 0 * * ?") // 매일 00시
 	public void runMysqlToBigQueryJob() {
 
-		log.info("스케줄러 시작");
+		// 스트리밍 Job 이 같은 watermark 를 계속 갱신 중 => 일 배치를 함께 돌리면 같은 구간을 두 번 적재
+		if (streamingJobLauncher.isEnabled()) {
+			log.info("스케줄러: 스트리밍 모드 사용 중 => 일 배치 생략");
+			return;
+		}
 
-		try {
-			// JobParameters: 각 job 실행을 고유하게 식별
-			// => COMPLETED 상태의 동일한 JobParameters 가진 JobInstance 은 재실행 X
-			JobParameters jobParameters = new JobParametersBuilder()
-				.addLocalDateTime("scheduledTime", LocalDateTime.now()) // 현재 시간을 파라미터로 추가
-				.toJobParameters();
+		log.info("스케줄러 시작");
 
-			// Job 실행
-			jobLauncher.run(mysqlToBigQueryJob, jobParameters);
+		// JobParameters: 각 job 실행을 고유하게 식별
+		// => COMPLETED 상태의 동일한 JobParameters 가진 JobInstance 은 재실행 X
+		JobParameters jobParameters = new JobParametersBuilder()
+			.addLocalDateTime("scheduledTime", LocalDateTime.now()) // 현재 시간을 파라미터로 추가
+			.toJobParameters();
 
-			log.info("스케줄러 성공");
+		// Job 실행은 실행 대기열 스레드에서 => 스케줄러 스레드는 바로 반환
+		String jobName = mysqlToBigQueryJob.getName();
+		JobLaunchQueue.Submission submission = jobLaunchQueue.submit(jobName,
+			// 재시작 여부는 실행 스레드에서 실행 직전에 판단 (대기 중에 끝난 실행도 반영)
+			() -> singleFlightJobLauncher.run(jobLauncher, mysqlToBigQueryJob,
+				inPlaceRestartResolver.resolve(mysqlToBigQueryJob, jobParameters)),
+			(execution, error) -> onLaunchFinished(jobName, execution, error));
+		log.info("스케줄러 실행 요청: 결과 = {}", submission);
+	}
 
-		} catch (JobExecutionAlreadyRunningException | JobRestartException | JobInstanceAlreadyCompleteException |
-				 JobParametersInvalidException e) {
-			log.error("스케줄러 실패", e);
-		} catch (Exception e) {
-			log.error("스케줄러 오류 발생", e);
+	// 실행 대기열 스레드에서 호출
+	private void onLaunchFinished(String jobName, JobExecution execution, Exception error) {
+		if (error == null) {
+			log.info("스케줄러 실행 종료: 상태 = {}", execution.getStatus());
+			EtlMetrics.scheduledLaunches(jobName, execution.getStatus().name().toLowerCase()).increment();
+		} else if (error instanceof JobExecutionAlreadyRunningException) {
+			log.info("스케줄러: 다른 실행이 진행 중이라 생략: {}", error.getMessage());
+			EtlMetrics.scheduledLaunches(jobName, "skipped").increment();
+		} else if (error instanceof JobRestartException || error instanceof JobInstanceAlreadyCompleteException
+			|| error instanceof JobParametersInvalidException) {
+			log.error("스케줄러 실패", error);
+			EtlMetrics.scheduledLaunches(jobName, "error").increment();
+		} else {
+			log.error("스케줄러 오류 발생", error);
+			EtlMetrics.scheduledLaunches(jobName, "error").increment();
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.example.springbatch.scheduler;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.example.springbatch.metrics.EtlMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class JobLaunchQueue implements SmartLifecycle { // @Scheduled 스레드 대신 별도 스레드에서 Job 실행
+	// @Scheduled 스레드는 하나 => Job 을 그 스레드에서 동기 실행하면 실행 내내 다른 스케줄 작업이 멈춤
+	// => 실행 요청을 대기열에 넣고 바로 반환, 결과는 callback 으로 전달
+	// 같은 key 의 요청이 대기 중이거나 실행 중이면 합침 (cron 이 밀려 연속으로 들어온 요청이 같은 구간을 또 실행하지 않도록)
+	// 대기열이 가득 차면 거절 => 밀린 요청이 끝없이 쌓이지 않음
+	// 종료 시 실행 중인 Job 을 shutdown-await-seconds 까지 기다림
+	// => lifecycle stop 단계에서 기다리므로 DataSource/JobRepository 가 닫히기 전 (빈 destroy 보다 먼저)
+	//    시간을 넘기면 기다리지 않고 종료 => 남은 실행은 중간에 실패함 (Job 이 길면 이 값을 늘림)
+
+	public enum Submission { QUEUED, COALESCED, REJECTED }
+
+	@FunctionalInterface
+	public interface Launch {
+		JobExecution run() throws Exception;
+	}
+
+	private final ThreadPoolTaskExecutor launchExecutor;
+	private final Set<String> inFlight = ConcurrentHashMap.newKeySet(); // 대기 중이거나 실행 중인 key
+	private volatile boolean running;
+
+	// 생성자
+	@Autowired
+	public JobLaunchQueue(
+		@Value("${app.batch.scheduler.launch-threads:2}") int launchThreads,
+		@Value("${app.batch.scheduler.launch-queue-capacity:8}") int queueCapacity,
+		@Value("${app.batch.scheduler.shutdown-await-seconds:300}") int shutdownAwaitSeconds) {
+		// Java 17 => 가상 스레드 대신 플랫폼 스레드 풀, 실행 대부분이 I/O 대기라 스레드 수는 작게
+		this.launchExecutor = new ThreadPoolTaskExecutor();
+		this.launchExecutor.setCorePoolSize(Math.max(1, launchThreads));
+		this.launchExecutor.setMaxPoolSize(Math.max(1, launchThreads));
+		this.launchExecutor.setQueueCapacity(Math.max(0, queueCapacity));
+		this.launchExecutor.setThreadNamePrefix("job-launch-");
+		this.launchExecutor.setWaitForTasksToCompleteOnShutdown(true); // 종료 시 실행 중인 Job 은 끝까지
+		this.launchExecutor.setAwaitTerminationSeconds(Math.max(0, shutdownAwaitSeconds)); // 없으면 shutdown() 이 바로 반환
+		this.launchExecutor.initialize();
+	}
+
+	// callback(execution, error): 둘 중 하나만 null 이 아님
+	public Submission submit(String key, Launch launch, BiConsumer<JobExecution, Exception> callback) {
+		if (!inFlight.add(key)) {
+			log.info("실행 요청 합침: 이미 대기 중이거나 실행 중: key = {}", key);
+			EtlMetrics.scheduledLaunches(key, "coalesced").increment();
+			return Submission.COALESCED;
+		}
+
+		try {
+			launchExecutor.execute(() -> runLaunch(key, launch, callback));
+		} catch (TaskRejectedException e) {
+			inFlight.remove(key);
+			log.warn("실행 요청 거절: 대기열이 가득 참: key = {}", key);
+			EtlMetrics.scheduledLaunches(key, "rejected").increment();
+			return Submission.REJECTED;
+		}
+		EtlMetrics.scheduledLaunches(key, "queued").increment();
+		return Submission.QUEUED;
+	}
+
+	private void runLaunch(String key, Launch launch, BiConsumer<JobExecution, Exception> callback) {
+		JobExecution execution = null;
+		Exception error = null;
+		try {
+			execution = launch.run();
+		} catch (Exception e) {
+			error = e;
+		} finally {
+			inFlight.remove(key); // callback 전에 제거 => callback 안에서 다시 요청 가능
+		}
+
+		try {
+			callback.accept(execution, error);
+		} catch (RuntimeException e) {
+			log.error("실행 결과 callback 오류: key = {}", key, e);
+		}
+	}
+
+	public int getQueueSize() {
+		return launchExecutor.getQueueSize();
+	}
+
+	@Override
+	public void start() {
+		running = true;
+	}
+
+	// 실행 중인 Job 이 끝나거나 대기 시간이 지날 때까지 블록
+	@Override
+	public void stop() {
+		running = false;
+		launchExecutor.shutdown();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+}
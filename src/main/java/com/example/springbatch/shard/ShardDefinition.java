@@ -0,0 +1,15 @@
+package com.example.springbatch.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ShardDefinition { // app.batch.sharding.shards[n] 하나 => 경매 데이터를 나눠 가진 MySQL 샤드 접속 정보
+
+	private String name; // 샤드 이름 => Reader 이름, batch_job_metadata 의 '<작업>:shard:<이름>' 으로 사용
+	private String url;
+	private String username;
+	private String password;
+	private int maxPoolSize = 2; // 샤드당 커넥션 수 (페이지 쿼리 + 여유 1)
+}
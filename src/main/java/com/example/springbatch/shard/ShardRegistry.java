@@ -0,0 +1,88 @@
+package com.example.springbatch.shard;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ShardRegistry implements DisposableBean { // 샤드별 DataSource 관리
+	// app.batch.sharding.enabled=true 이면 기본 DataSource 대신 shards 목록의 MySQL 들에서 읽음
+	// batch_job_metadata/Spring Batch 메타데이터는 기존처럼 기본 DataSource 에 둠
+
+	private static final String SHARDS_KEY = "app.batch.sharding.shards";
+
+	public record Shard(String name, DataSource dataSource) {}
+
+	private final boolean enabled;
+	private final List<Shard> shards = new ArrayList<>();
+
+	// 생성자
+	@Autowired
+	public ShardRegistry(Environment environment,
+		@Value("${app.batch.sharding.enabled:false}") boolean enabled) {
+		this.enabled = enabled;
+		if (!enabled) {
+			return;
+		}
+
+		List<ShardDefinition> definitions = Binder.get(environment)
+			.bind(SHARDS_KEY, Bindable.listOf(ShardDefinition.class))
+			.orElseThrow(() -> new IllegalStateException(SHARDS_KEY + " 설정이 없습니다."));
+		Set<String> names = new HashSet<>();
+		for (ShardDefinition definition : definitions) {
+			if (!StringUtils.hasText(definition.getName()) || !StringUtils.hasText(definition.getUrl())) {
+				throw new IllegalStateException("샤드 name/url 은 필수입니다: " + definition.getName());
+			}
+			if (!names.add(definition.getName())) {
+				throw new IllegalStateException("중복된 샤드 이름: " + definition.getName());
+			}
+			shards.add(new Shard(definition.getName(), createDataSource(definition)));
+		}
+		log.info("샤드 읽기 사용: 샤드 = {}", names);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public List<Shard> getShards() {
+		return List.copyOf(shards);
+	}
+
+	@Override
+	public void destroy() {
+		for (Shard shard : shards) {
+			if (shard.dataSource() instanceof HikariDataSource hikari) {
+				hikari.close();
+			}
+		}
+	}
+
+	private static DataSource createDataSource(ShardDefinition definition) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName("shard-" + definition.getName());
+		dataSource.setJdbcUrl(definition.getUrl());
+		dataSource.setUsername(definition.getUsername());
+		dataSource.setPassword(definition.getPassword());
+		dataSource.setMaximumPoolSize(Math.max(1, definition.getMaxPoolSize()));
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+}
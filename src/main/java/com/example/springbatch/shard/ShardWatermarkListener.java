@@ -0,0 +1,122 @@
+package com.example.springbatch.shard;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.springbatch.metrics.EtlMetrics;
+import com.example.springbatch.progress.BackfillParameters;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ShardWatermarkListener implements StepExecutionListener { // 샤드별 watermark 조회/갱신
+	// 샤드마다 진행 속도가 다르므로 작업 watermark 하나로는 느린 샤드의 행을 건너뜀
+	// => batch_job_metadata 에 "<작업 이름>:shard:<샤드 이름>" 으로 따로 저장하고, 각 샤드 Reader 는 자기 watermark 이후만 읽음
+	// 샤드 watermark 가 없으면 (샤드 모드로 전환한 첫 실행/새 샤드) 작업 watermark 부터 읽음
+	// 작업 watermark 는 기존처럼 로드 리스너가 전체 샤드의 최신 타임스탬프로 갱신 (신선도 지표/진행 상황 조회용)
+
+	public static final String SHARD_WATERMARKS_KEY = "shardWatermarks"; // 샤드 이름 => 이번 스텝의 시작 watermark
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ShardRegistry shardRegistry;
+	private final String jobName;
+
+	// 생성자
+	@Autowired
+	public ShardWatermarkListener(JdbcTemplate jdbcTemplate, ShardRegistry shardRegistry,
+		@Value("${app.batch.job-name}") String jobName) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.shardRegistry = shardRegistry;
+		this.jobName = jobName;
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		// backfill 은 모든 샤드를 지정한 구간 시작부터 읽음 => 샤드 watermark 는 건드리지 않음
+		if (!shardRegistry.isEnabled() || BackfillParameters.isBackfill(stepExecution.getJobParameters())) {
+			return;
+		}
+		// 재시작: 샤드 Reader 위치가 이전 watermark 기준 => 이어받은 값을 그대로 사용
+		if (stepExecution.getExecutionContext().containsKey(SHARD_WATERMARKS_KEY)) {
+			log.info("샤드 watermark: 재시작이라 이전 실행의 값 사용: 작업 = {}", jobName);
+			return;
+		}
+
+		Timestamp jobWatermark = findWatermark(jobName);
+		HashMap<String, Timestamp> watermarks = new HashMap<>();
+		for (ShardRegistry.Shard shard : shardRegistry.getShards()) {
+			Timestamp watermark = findWatermark(shardWatermarkName(shard.name()));
+			if (watermark == null) {
+				watermark = jobWatermark; // 없으면 Reader 가 기본값부터 읽음
+			}
+			if (watermark != null) {
+				watermarks.put(shard.name(), watermark);
+				EtlMetrics.recordShardWatermark(jobName, shard.name(), watermark);
+			}
+		}
+		stepExecution.getExecutionContext().put(SHARD_WATERMARKS_KEY, watermarks);
+		log.info("샤드 watermark 조회: 작업 = {}, watermark = {}", jobName, watermarks);
+	}
+
+	// 로드 리스너보다 먼저 등록 => afterStep 은 등록 역순으로 호출되므로 로드 결과가 반영된 종료 상태를 봄
+	@Override
+	@SuppressWarnings("unchecked")
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		if (!shardRegistry.isEnabled() || BackfillParameters.isBackfill(stepExecution.getJobParameters())
+			|| !ExitStatus.COMPLETED.getExitCode().equals(stepExecution.getExitStatus().getExitCode())) {
+			return null;
+		}
+
+		Map<String, Timestamp> started = (Map<String, Timestamp>)stepExecution.getExecutionContext()
+			.get(SHARD_WATERMARKS_KEY);
+		Map<String, Timestamp> consumed = (Map<String, Timestamp>)stepExecution.getExecutionContext()
+			.get(ShardedItemReader.SHARD_MAX_TIMESTAMPS_KEY);
+		for (ShardRegistry.Shard shard : shardRegistry.getShards()) {
+			// 읽은 행이 없는 샤드도 시작 watermark 를 저장 => 이후 작업 watermark 가 앞서 나가도 그 샤드는 제자리부터 읽음
+			Timestamp watermark = later(started == null ? null : started.get(shard.name()),
+				consumed == null ? null : consumed.get(shard.name()));
+			if (watermark != null) {
+				updateWatermark(shardWatermarkName(shard.name()), watermark);
+			}
+		}
+		log.info("샤드 watermark 갱신: 작업 = {}, watermark = {}", jobName, consumed);
+		return null;
+	}
+
+	private String shardWatermarkName(String shard) {
+		return jobName + ":shard:" + shard;
+	}
+
+	private void updateWatermark(String name, Timestamp watermark) {
+		int updatedRows = jdbcTemplate.update(
+			"UPDATE batch_job_metadata SET last_processed_timestamp = ? WHERE job_name = ?", watermark, name);
+		if (updatedRows == 0) {
+			jdbcTemplate.update("INSERT INTO batch_job_metadata (job_name, last_processed_timestamp) VALUES (?, ?)",
+				name, watermark);
+		}
+	}
+
+	private Timestamp findWatermark(String name) {
+		List<Timestamp> watermarks = jdbcTemplate.queryForList(
+			"SELECT last_processed_timestamp FROM batch_job_metadata WHERE job_name = ?", Timestamp.class, name);
+		return watermarks.isEmpty() ? null : watermarks.get(0);
+	}
+
+	private static Timestamp later(Timestamp a, Timestamp b) {
+		if (a == null) {
+			return b;
+		}
+		return b == null || a.after(b) ? a : b;
+	}
+}
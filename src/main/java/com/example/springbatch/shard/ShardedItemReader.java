@@ -0,0 +1,230 @@
+package com.example.springbatch.shard;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.util.Assert;
+
+import com.example.springbatch.metrics.EtlMetrics;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class ShardedItemReader<T> implements ItemStreamReader<T> {
+	// 여러 샤드의 keyset Reader 를 샤드마다 별도 스레드에서 동시에 읽고, 페이지가 도착하는 순서대로 내보내는 Reader
+	// => 모든 샤드가 하나의 큐를 공유하므로 느린 샤드가 있어도 다른 샤드의 페이지는 계속 소비됨
+	//
+	// 재시작 상태: PrefetchingItemReader 와 같이 페이지마다 다 읽은 직후의 샤드 Reader 상태를 한 번만 복사해 함께 보관
+	// => update() 에서 샤드별로 마지막으로 다 소비된 페이지의 상태를 기록 (샤드 Reader 이름이 달라 키가 섞이지 않음)
+	// 페이지 크기 = chunk 크기지만 샤드의 마지막 페이지처럼 덜 찬 페이지 뒤로는 chunk 경계가 페이지 중간에 올 수 있음
+	// => 그 페이지의 소비된 항목은 재시작 시 다시 읽음 (샤드마다 최대 한 페이지, at-least-once)
+	// 샤드별 최신 타임스탬프도 소비된 항목 기준으로 ExecutionContext 에 기록 => ShardWatermarkListener 가 로드 성공 후 반영
+
+	public static final String SHARD_MAX_TIMESTAMPS_KEY = "shardMaxTimestamps"; // 샤드 이름 => 소비된 항목의 최신 타임스탬프
+
+	public record ShardSource<T>(String name, ItemStreamReader<T> reader) {}
+
+	private final String jobName;
+	private final List<ShardSource<T>> shards;
+	private final Function<T, Timestamp> timestampOf;
+	private final int pageSize;
+	private final int queueCapacity; // 모든 샤드가 함께 쓰는 페이지 큐 크기
+
+	private final List<Counter> rowCounters = new ArrayList<>();
+
+	private BlockingQueue<Page<T>> queue;
+	private final List<Thread> fetchers = new ArrayList<>();
+	private volatile boolean running;
+
+	private Iterator<T> current = Collections.emptyIterator();
+	private int currentShard;
+	private ExecutionContext currentPageState; // 현재 페이지를 다 읽은 직후의 샤드 Reader 상태
+	private ExecutionContext[] consumedStates; // 샤드별 마지막으로 다 소비된 페이지 시점의 Reader 상태
+	private Map<String, Timestamp> maxTimestamps; // 샤드별 소비된 항목의 최신 타임스탬프
+	private long[] consumedRows;
+	private int finishedShards;
+	private boolean misalignedWarned;
+
+	public ShardedItemReader(String jobName, List<ShardSource<T>> shards, Function<T, Timestamp> timestampOf,
+		int pageSize, int prefetchPagesPerShard) {
+		Assert.notEmpty(shards, "샤드가 하나 이상 필요");
+		Assert.isTrue(pageSize > 0, "pageSize 는 1 이상");
+		this.jobName = jobName;
+		this.shards = List.copyOf(shards);
+		this.timestampOf = timestampOf;
+		this.pageSize = pageSize;
+		this.queueCapacity = Math.max(1, prefetchPagesPerShard) * shards.size();
+		for (ShardSource<T> shard : this.shards) {
+			rowCounters.add(EtlMetrics.shardRows(jobName, shard.name()));
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		// 샤드 Reader 는 스텝 스레드에서 열기 => 재시작이면 샤드별로 저장된 위치 복원
+		for (ShardSource<T> shard : shards) {
+			shard.reader().open(executionContext);
+		}
+
+		Map<String, Timestamp> saved = (Map<String, Timestamp>)executionContext.get(SHARD_MAX_TIMESTAMPS_KEY);
+		maxTimestamps = saved == null ? new HashMap<>() : new HashMap<>(saved);
+		consumedStates = new ExecutionContext[shards.size()];
+		consumedRows = new long[shards.size()];
+		current = Collections.emptyIterator();
+		finishedShards = 0;
+
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		running = true;
+		BlockingQueue<Page<T>> pages = queue;
+		for (int i = 0; i < shards.size(); i++) {
+			int shardIndex = i;
+			consumedStates[i] = snapshot(shards.get(i).reader());
+			Thread fetcher = new Thread(() -> fetchLoop(shardIndex, pages), "shard-reader-" + shards.get(i).name());
+			fetcher.setDaemon(true);
+			fetchers.add(fetcher);
+			fetcher.start();
+		}
+	}
+
+	@Override
+	public T read() throws Exception {
+		while (!current.hasNext()) {
+			if (finishedShards == shards.size()) {
+				return null;
+			}
+			Page<T> page = queue.take();
+			if (page.error() != null) {
+				finishedShards = shards.size();
+				throw page.error();
+			}
+			if (page.items().isEmpty()) { // 샤드 하나의 마지막 표시
+				finishedShards++;
+				continue;
+			}
+			current = page.items().iterator();
+			currentShard = page.shard();
+			currentPageState = page.state();
+		}
+
+		T next = current.next();
+		if (!current.hasNext()) {
+			consumedStates[currentShard] = currentPageState; // 페이지를 다 소비함
+		}
+		consumedRows[currentShard]++;
+		rowCounters.get(currentShard).increment();
+
+		Timestamp timestamp = timestampOf.apply(next);
+		if (timestamp != null) {
+			String shardName = shards.get(currentShard).name();
+			Timestamp previous = maxTimestamps.get(shardName);
+			if (previous == null || timestamp.after(previous)) {
+				maxTimestamps.put(shardName, timestamp);
+				EtlMetrics.recordShardWatermark(jobName, shardName, timestamp); // 샤드별 진행 지연
+			}
+		}
+		return next;
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		if (consumedStates == null) {
+			return;
+		}
+		if (current.hasNext() && !misalignedWarned) {
+			misalignedWarned = true;
+			log.warn("샤드 페이지 중간에서 커밋 => 이 페이지의 소비된 항목은 재시작 시 다시 읽음: 작업 = {}, 샤드 = {}, 페이지 크기 = {}",
+				jobName, shards.get(currentShard).name(), pageSize);
+		}
+		for (ExecutionContext state : consumedStates) {
+			if (state != null) {
+				for (var entry : state.entrySet()) {
+					executionContext.put(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+		executionContext.put(SHARD_MAX_TIMESTAMPS_KEY, new HashMap<>(maxTimestamps));
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		running = false;
+		for (Thread fetcher : fetchers) {
+			fetcher.interrupt();
+		}
+		for (Thread fetcher : fetchers) {
+			try {
+				fetcher.join(TimeUnit.SECONDS.toMillis(30));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		fetchers.clear();
+		queue = null;
+
+		for (int i = 0; i < shards.size(); i++) {
+			log.info("샤드 Reader 종료: 작업 = {}, 샤드 = {}, 읽은 행 = {}, 최신 타임스탬프 = {}", jobName,
+				shards.get(i).name(), consumedRows == null ? 0 : consumedRows[i],
+				maxTimestamps == null ? null : maxTimestamps.get(shards.get(i).name()));
+			shards.get(i).reader().close();
+		}
+	}
+
+	// 샤드 하나를 끝까지 읽어 페이지 단위로 공유 큐에 넣음 => 큐가 가득 찼을 때만 대기 (다른 샤드를 기다리지 않음)
+	private void fetchLoop(int shardIndex, BlockingQueue<Page<T>> pages) {
+		ItemStreamReader<T> reader = shards.get(shardIndex).reader();
+		try {
+			while (running) {
+				List<T> items = new ArrayList<>(pageSize);
+				while (items.size() < pageSize) {
+					T item = reader.read();
+					if (item == null) {
+						break;
+					}
+					items.add(item);
+				}
+				if (!items.isEmpty()) {
+					pages.put(new Page<>(shardIndex, items, snapshot(reader), null));
+				}
+				if (items.size() < pageSize) {
+					pages.put(new Page<>(shardIndex, List.of(), null, null)); // 마지막 표시
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt(); // close() 에 의한 종료
+		} catch (Exception e) {
+			if (running) {
+				log.error("샤드 읽기 실패: 작업 = {}, 샤드 = {}", jobName, shards.get(shardIndex).name(), e);
+				try {
+					pages.put(new Page<>(shardIndex, List.of(), null, e));
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+
+	private static ExecutionContext snapshot(ItemStreamReader<?> reader) {
+		ExecutionContext state = new ExecutionContext();
+		reader.update(state);
+		return state;
+	}
+
+	// state: 이 페이지를 다 읽은 직후의 샤드 Reader 상태 (마지막 표시/오류 페이지는 null)
+	private record Page<T>(int shard, List<T> items, ExecutionContext state, Exception error) {
+	}
+}
@@ -0,0 +1,65 @@
+package com.example.springbatch.snapshot;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class AuctionIdRangePartitioner implements Partitioner { // auctions PK 범위로 스냅샷 파티션 분할
+	// 분할 시점의 DB 시각을 high watermark 로 기록 => 모든 파티션이 last_modified <= watermark 인 행만 읽음
+	// watermark 이후 수정된 행은 스냅샷에서 빠지고, 스냅샷 완료 후 증분 실행(> watermark)이 읽음
+
+	public static final String MIN_ID_KEY = "minId";
+	public static final String MAX_ID_KEY = "maxId";
+	public static final String HIGH_WATERMARK_KEY = "highWatermark";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public AuctionIdRangePartitioner(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		Timestamp highWatermark = jdbcTemplate.queryForObject("SELECT CURRENT_TIMESTAMP(6)", Timestamp.class);
+		Map<String, Object> bounds = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM auctions");
+		Number minValue = (Number)bounds.get("min_id");
+		Number maxValue = (Number)bounds.get("max_id");
+
+		Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+		if (minValue == null || maxValue == null) {
+			// 빈 테이블 => 아무것도 읽지 않는 파티션 하나
+			partitions.put("partition0", context(1, 0, highWatermark));
+			log.info("스냅샷 분할: auctions 가 비어 있음, watermark = {}", highWatermark);
+			return partitions;
+		}
+
+		long minId = minValue.longValue();
+		long maxId = maxValue.longValue();
+		long span = maxId - minId + 1;
+		int count = (int)Math.max(1, Math.min(gridSize, span));
+		long rangeSize = (span + count - 1) / count;
+
+		for (int i = 0; i < count; i++) {
+			long lower = minId + i * rangeSize;
+			long upper = Math.min(maxId, lower + rangeSize - 1);
+			partitions.put("partition" + i, context(lower, upper, highWatermark));
+		}
+		log.info("스냅샷 분할: 파티션 = {}, id 범위 = {} ~ {}, watermark = {}", count, minId, maxId, highWatermark);
+		return partitions;
+	}
+
+	private ExecutionContext context(long minId, long maxId, Timestamp highWatermark) {
+		ExecutionContext context = new ExecutionContext();
+		context.putLong(MIN_ID_KEY, minId);
+		context.putLong(MAX_ID_KEY, maxId);
+		context.put(HIGH_WATERMARK_KEY, highWatermark);
+		return context;
+	}
+}
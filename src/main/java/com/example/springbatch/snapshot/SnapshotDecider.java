@@ -0,0 +1,56 @@
+package com.example.springbatch.snapshot;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.springbatch.progress.BackfillParameters;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SnapshotDecider implements JobExecutionDecider { // Job 시작 시 초기 스냅샷/증분 실행 중 선택
+	// batch_job_metadata 에 행이 없으면 아직 초기 적재를 하지 않은 작업 => 스냅샷 (app.batch.snapshot.auto=true 일 때)
+	// JobParameter snapshot=true 로 실행하면 메타데이터와 관계없이 스냅샷 (테이블 전체 재적재)
+
+	public static final String SNAPSHOT = "SNAPSHOT";
+	public static final String INCREMENTAL = "INCREMENTAL";
+	public static final String JOB_PARAMETER = "snapshot";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final String jobName;
+	private final boolean auto;
+
+	public SnapshotDecider(JdbcTemplate jdbcTemplate, String jobName, boolean auto) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.jobName = jobName;
+		this.auto = auto;
+	}
+
+	@Override
+	public FlowExecutionStatus decide(JobExecution jobExecution, StepExecution stepExecution) {
+		JobParameters jobParameters = jobExecution.getJobParameters();
+		if (BackfillParameters.isBackfill(jobParameters)) {
+			return new FlowExecutionStatus(INCREMENTAL);
+		}
+		if ("true".equalsIgnoreCase(jobParameters.getString(JOB_PARAMETER))) {
+			log.info("스냅샷 실행 요청: 작업 = {}", jobName);
+			return new FlowExecutionStatus(SNAPSHOT);
+		}
+		if (auto && !hasMetadata()) {
+			log.info("batch_job_metadata 에 작업이 없음 => 초기 스냅샷 실행: 작업 = {}", jobName);
+			return new FlowExecutionStatus(SNAPSHOT);
+		}
+		return new FlowExecutionStatus(INCREMENTAL);
+	}
+
+	private boolean hasMetadata() {
+		Integer count = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM batch_job_metadata WHERE job_name = ? AND last_processed_timestamp IS NOT NULL",
+			Integer.class, jobName);
+		return count != null && count > 0;
+	}
+}
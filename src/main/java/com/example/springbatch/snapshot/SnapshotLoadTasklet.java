@@ -0,0 +1,160 @@
+package com.example.springbatch.snapshot;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.springbatch.listener.IncrementalTimestampStepListener;
+import com.example.springbatch.load.BigQueryMergeLoader;
+import com.example.springbatch.metrics.EtlMetrics;
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.CsvOptions;
+import com.google.cloud.bigquery.Job;
+import com.google.cloud.bigquery.JobInfo;
+import com.google.cloud.bigquery.JobStatistics;
+import com.google.cloud.bigquery.LoadJobConfiguration;
+import com.google.cloud.bigquery.TableId;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SnapshotLoadTasklet implements Tasklet { // 스냅샷 파티션 파일을 WRITE_TRUNCATE 로드 한 번으로 교체 적재
+	// 로드 성공 후 batch_job_metadata 를 high watermark 로 기록 => 다음 실행부터 증분 모드가 watermark 이후를 읽음
+	// 로드 실패 시 메타데이터는 그대로 => 재시작하면 실패한 단계부터 다시 진행
+
+	private final JdbcTemplate jdbcTemplate;
+	private final JobExplorer jobExplorer;
+	private final BigQuery bigquery;
+	private final Storage storage;
+	private final String jobName;
+	private final String datasetName;
+	private final String tableName;
+	private final String workerStepName;
+	private final BigQueryMergeLoader mergeLoader; // merge 모드면 스냅샷도 MERGE 와 같은 파티션/클러스터링으로 적재
+
+	static final int MAX_SOURCE_URIS_PER_LOAD = 10_000; // BigQuery 로드 작업 하나의 소스 URI 한도
+
+	public SnapshotLoadTasklet(JdbcTemplate jdbcTemplate, JobExplorer jobExplorer, BigQuery bigquery,
+		Storage storage, String jobName, String datasetName, String tableName, String workerStepName,
+		BigQueryMergeLoader mergeLoader) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.jobExplorer = jobExplorer;
+		this.bigquery = bigquery;
+		this.storage = storage;
+		this.jobName = jobName;
+		this.datasetName = datasetName;
+		this.tableName = tableName;
+		this.workerStepName = workerStepName;
+		this.mergeLoader = mergeLoader;
+	}
+
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+		JobExecution jobExecution = chunkContext.getStepContext().getStepExecution().getJobExecution();
+		List<StepExecution> partitions = completedPartitions(jobExecution);
+		if (partitions.isEmpty()) {
+			throw new IllegalStateException("완료된 스냅샷 파티션이 없음: 작업 = " + jobName);
+		}
+
+		Timestamp highWatermark = (Timestamp)partitions.get(0).getExecutionContext()
+			.get(AuctionIdRangePartitioner.HIGH_WATERMARK_KEY);
+		List<String> gcsFileUris = new ArrayList<>();
+		for (StepExecution partition : partitions) {
+			List<String> uris = (List<String>)partition.getExecutionContext().get(SnapshotPartitionWriter.GCS_FILE_URIS_KEY);
+			if (uris != null) {
+				gcsFileUris.addAll(uris);
+			}
+		}
+		log.info("스냅샷 로드 시작: 파티션 = {}, 파일 = {}, watermark = {}", partitions.size(), gcsFileUris.size(),
+			highWatermark);
+
+		// 로드 작업 하나의 소스 URI 는 최대 10,000 개 => 나눠서 로드
+		// 첫 묶음은 WRITE_TRUNCATE 로 기존 데이터를 교체, 나머지는 WRITE_APPEND
+		// 중간 묶음이 실패해도 메타데이터는 그대로 => 재시작하면 첫 묶음부터 다시 교체하므로 중복 없음
+		long loadedRows = 0;
+		for (int from = 0; from < gcsFileUris.size(); from += MAX_SOURCE_URIS_PER_LOAD) {
+			List<String> batch = gcsFileUris.subList(from, Math.min(from + MAX_SOURCE_URIS_PER_LOAD, gcsFileUris.size()));
+			loadedRows += load(batch, from == 0
+				? JobInfo.WriteDisposition.WRITE_TRUNCATE // 기존 데이터를 스냅샷으로 교체
+				: JobInfo.WriteDisposition.WRITE_APPEND);
+		}
+
+		// 증분 모드로 전환 => watermark 이후부터 읽음
+		updateMetadataTimestamp(highWatermark);
+		contribution.incrementWriteCount(loadedRows);
+
+		for (String gcsUri : gcsFileUris) {
+			try {
+				storage.delete(BlobId.fromGsUtilUri(gcsUri));
+			} catch (Exception e) {
+				log.warn("스냅샷 파일 삭제 실패: URI = {}, 오류 = {}", gcsUri, e.getMessage());
+			}
+		}
+		return RepeatStatus.FINISHED;
+	}
+
+	// 로드 작업 하나를 실행하고 적재된 행 수 반환
+	private long load(List<String> gcsFileUris, JobInfo.WriteDisposition writeDisposition) throws InterruptedException {
+		LoadJobConfiguration.Builder loadConfig = LoadJobConfiguration.newBuilder(TableId.of(datasetName, tableName),
+				gcsFileUris)
+			.setFormatOptions(CsvOptions.newBuilder().setSkipLeadingRows(0).build())
+			.setSchema(IncrementalTimestampStepListener.AUCTIONS_WINNING_BID_SCHEMA)
+			.setWriteDisposition(writeDisposition);
+		if (mergeLoader != null && mergeLoader.isEnabled()) {
+			// 스냅샷 파일에도 last_modified 열이 있음 => 이후 MERGE 가 대상의 버전과 비교
+			loadConfig.setSchema(mergeLoader.tableSchema(IncrementalTimestampStepListener.AUCTIONS_WINNING_BID_SCHEMA));
+			mergeLoader.applyTableLayout(loadConfig);
+		}
+		Job completedJob = bigquery.create(JobInfo.newBuilder(loadConfig.build()).build()).waitFor();
+		if (completedJob == null || completedJob.getStatus().getError() != null) {
+			throw new IllegalStateException("스냅샷 BigQuery 로드 실패: "
+				+ (completedJob == null ? "작업 없음" : completedJob.getStatus().getError()));
+		}
+		JobStatistics.LoadStatistics stats = completedJob.getStatistics();
+		Long outputRows = stats == null ? null : stats.getOutputRows();
+		log.info("스냅샷 BigQuery 로드 성공: 작업 = {}, 파일 = {}, 쓰기 방식 = {}, 행 = {}", completedJob.getJobId(),
+			gcsFileUris.size(), writeDisposition, outputRows);
+		return outputRows == null ? 0 : outputRows;
+	}
+
+	// 같은 JobInstance 의 모든 실행에서 완료된 파티션 수집 => 재시작 시 이전 실행에서 완료된 파티션도 포함
+	private List<StepExecution> completedPartitions(JobExecution jobExecution) {
+		Map<String, StepExecution> latest = new HashMap<>();
+		for (JobExecution execution : jobExplorer.getJobExecutions(jobExecution.getJobInstance())) {
+			for (StepExecution stepExecution : execution.getStepExecutions()) {
+				if (!stepExecution.getStepName().startsWith(workerStepName + ":")
+					|| stepExecution.getStatus() != BatchStatus.COMPLETED) {
+					continue;
+				}
+				latest.merge(stepExecution.getStepName(), stepExecution,
+					(a, b) -> a.getId() > b.getId() ? a : b);
+			}
+		}
+		return new ArrayList<>(latest.values());
+	}
+
+	private void updateMetadataTimestamp(Timestamp highWatermark) {
+		int updatedRows = jdbcTemplate.update(
+			"UPDATE batch_job_metadata SET last_processed_timestamp = ? WHERE job_name = ?", highWatermark, jobName);
+		if (updatedRows == 0) {
+			jdbcTemplate.update("INSERT INTO batch_job_metadata (job_name, last_processed_timestamp) VALUES (?, ?)",
+				jobName, highWatermark);
+		}
+		EtlMetrics.recordWatermark(jobName, highWatermark);
+		log.info("스냅샷 완료 => 증분 모드 전환: 작업 = {}, 타임스탬프 = {}", jobName, highWatermark);
+	}
+}
@@ -0,0 +1,155 @@
+package com.example.springbatch.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+import com.example.springbatch.job.mysql_to_bigquery.writer.BigQueryItemWriter;
+import com.example.springbatch.metrics.EtlMetrics;
+import com.example.springbatch.staging.CsvStagingEncoder;
+import com.example.springbatch.staging.DirectBufferPool;
+import com.example.springbatch.staging.PooledBufferOutputStream;
+import com.example.springbatch.stats.StepRunStats;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SnapshotPartitionWriter implements ItemWriter<AuctionsWinningBidDto>, StepExecutionListener {
+	// 스냅샷 파티션 하나를 큰 GCS 파일로 기록 (chunk 마다 객체를 만들지 않고 열린 WriteChannel 에 이어 씀)
+	// 파일이 fileSizeBytes 를 넘으면 마감하고 다음 파일로 전환
+	// 파일 목록은 파티션이 성공했을 때만 ExecutionContext 에 기록 => 실패한 파티션은 재시작 시 처음부터 다시 읽음
+
+	public static final String GCS_FILE_URIS_KEY = "gcsFileUris";
+
+	private final Storage storage;
+	private final String gcsBucketName;
+	private final DirectBufferPool bufferPool;
+	private final long fileSizeBytes;
+	private final CsvStagingEncoder<AuctionsWinningBidDto> csvEncoder;
+
+	private StepExecution stepExecution;
+	private WriteChannel channel; // 현재 기록 중인 파일
+	private String currentObjectName;
+	private long currentBytes;
+	private int fileSeq;
+	private final List<String> finishedUris = new ArrayList<>();
+
+	// includeLastModified => merge 모드 테이블 스키마와 같게 last_modified 열 포함
+	public SnapshotPartitionWriter(Storage storage, String gcsBucketName, DirectBufferPool bufferPool,
+		long fileSizeBytes, boolean includeLastModified) {
+		this.storage = storage;
+		this.gcsBucketName = gcsBucketName;
+		this.bufferPool = bufferPool;
+		this.fileSizeBytes = fileSizeBytes;
+		this.csvEncoder = new CsvStagingEncoder<>(BigQueryItemWriter.createCsvMapper(includeLastModified),
+			AuctionsWinningBidDto.class);
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		this.stepExecution = stepExecution;
+	}
+
+	@Override
+	public void write(Chunk<? extends AuctionsWinningBidDto> chunk) throws Exception {
+		List<? extends AuctionsWinningBidDto> items = chunk.getItems();
+		if (items.isEmpty()) {
+			return;
+		}
+		String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+		StepRunStats stepRunStats = StepRunStats.forStep(stepExecution);
+
+		long encodeStart = System.nanoTime();
+		PooledBufferOutputStream csvData = csvEncoder.encode(items, bufferPool);
+		long encodeNanos = System.nanoTime() - encodeStart;
+		EtlMetrics.csvEncodeTimer(jobName).record(encodeNanos, TimeUnit.NANOSECONDS);
+		EtlMetrics.csvEncodeBytes(jobName).record(csvData.size());
+		stepRunStats.addEncode(encodeNanos, csvData.size());
+
+		try {
+			if (channel == null) {
+				openNextFile();
+			}
+			long uploadStart = System.nanoTime();
+			csvData.writeTo(channel);
+			stepRunStats.addUpload(System.nanoTime() - uploadStart);
+			currentBytes += csvData.size();
+			stepRunStats.addStaged(items.size(), null, null);
+		} finally {
+			csvData.release();
+		}
+
+		if (currentBytes >= fileSizeBytes) {
+			finishFile();
+		}
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		if (stepExecution.getStatus() == BatchStatus.COMPLETED) {
+			try {
+				if (channel != null) {
+					finishFile();
+				}
+				stepExecution.getExecutionContext().put(GCS_FILE_URIS_KEY, new ArrayList<>(finishedUris));
+				log.info("스냅샷 파티션 완료: 스텝 = {}, 파일 = {}", stepExecution.getStepName(), finishedUris.size());
+				return stepExecution.getExitStatus();
+			} catch (Exception e) {
+				log.error("스냅샷 파일 마감 실패: 스텝 = {}", stepExecution.getStepName(), e);
+				deleteFinishedFiles();
+				return ExitStatus.FAILED;
+			}
+		}
+
+		// 실패한 파티션 => 마감 전 파일은 업로드가 완료되지 않으므로 남지 않음, 이미 마감한 파일만 삭제
+		channel = null;
+		deleteFinishedFiles();
+		return stepExecution.getExitStatus();
+	}
+
+	private void openNextFile() {
+		currentObjectName = String.format("snapshot_%d_%s_%03d.csv", stepExecution.getJobExecutionId(),
+			stepExecution.getStepName().replace(':', '_'), fileSeq++);
+		BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(gcsBucketName, currentObjectName))
+			.setContentType("text/csv")
+			.build();
+		channel = storage.writer(blobInfo);
+		currentBytes = 0;
+	}
+
+	// 현재 파일 마감 => close 시점에 GCS 객체가 생성됨
+	private void finishFile() throws Exception {
+		long start = System.nanoTime();
+		channel.close();
+		channel = null;
+		long elapsed = System.nanoTime() - start;
+		EtlMetrics.gcsUploadTimer(stepExecution.getJobExecution().getJobInstance().getJobName(), "snapshot")
+			.record(elapsed, TimeUnit.NANOSECONDS);
+		String gcsUri = "gs://" + gcsBucketName + "/" + currentObjectName;
+		finishedUris.add(gcsUri);
+		log.info("스냅샷 파일 업로드 성공: URI = {}, 크기 = {}", gcsUri, currentBytes);
+	}
+
+	private void deleteFinishedFiles() {
+		for (String gcsUri : finishedUris) {
+			try {
+				storage.delete(BlobId.fromGsUtilUri(gcsUri));
+			} catch (Exception e) {
+				log.warn("스냅샷 파일 삭제 실패: URI = {}, 오류 = {}", gcsUri, e.getMessage());
+			}
+		}
+		finishedUris.clear();
+	}
+}
@@ -0,0 +1,124 @@
+package com.example.springbatch.staged;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+public class RingBuffer<T> { // 여러 생산자/소비자용 크기 제한 lock-free 링 버퍼 (Vyukov bounded MPMC queue)
+	// 슬롯마다 sequence 를 두어 생산자/소비자가 CAS 한 번으로 자리를 차지 => 락 없이 순서 보장
+	// 가득 차면 put 이, 비어 있으면 take 가 spin => yield => park 순으로 물러나며 기다림 (backpressure)
+
+	private static final int SPIN_TRIES = 100;
+	private static final int YIELD_TRIES = 200;
+	private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+	private final int capacity;
+	private final int mask;
+	private final AtomicReferenceArray<T> items;
+	private final AtomicLongArray sequences;
+	private final AtomicLong head = new AtomicLong(); // 다음에 꺼낼 위치
+	private final AtomicLong tail = new AtomicLong(); // 다음에 넣을 위치
+	private final AtomicInteger openProducers; // 0 이 되면 닫힘 => 남은 항목을 다 꺼내면 take 가 null 반환
+
+	public RingBuffer(int capacity, int producers) {
+		int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+		this.capacity = size;
+		this.mask = size - 1;
+		this.items = new AtomicReferenceArray<>(size);
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+		this.openProducers = new AtomicInteger(producers);
+	}
+
+	public boolean offer(T item) {
+		while (true) {
+			long position = tail.get();
+			int index = (int)(position & mask);
+			long difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					items.set(index, item);
+					sequences.set(index, position + 1); // 소비자에게 공개
+					return true;
+				}
+			} else if (difference < 0) {
+				return false; // 가득 참
+			}
+		}
+	}
+
+	public T poll() {
+		while (true) {
+			long position = head.get();
+			int index = (int)(position & mask);
+			long difference = sequences.get(index) - (position + 1);
+			if (difference == 0) {
+				if (head.compareAndSet(position, position + 1)) {
+					T item = items.getAndSet(index, null);
+					sequences.set(index, position + capacity); // 생산자에게 슬롯 반환
+					return item;
+				}
+			} else if (difference < 0) {
+				return null; // 비어 있음
+			}
+		}
+	}
+
+	// 자리가 날 때까지 대기 => aborted 가 true 가 되면 false
+	public boolean put(T item, BooleanSupplier aborted) {
+		for (int attempt = 0; !offer(item); attempt++) {
+			if (aborted.getAsBoolean()) {
+				return false;
+			}
+			backoff(attempt);
+		}
+		return true;
+	}
+
+	// 항목이 들어올 때까지 대기 => 모든 생산자가 닫았고 비어 있거나 aborted 면 null
+	public T take(BooleanSupplier aborted) {
+		for (int attempt = 0; ; attempt++) {
+			T item = poll();
+			if (item != null) {
+				return item;
+			}
+			if (aborted.getAsBoolean()) {
+				return null;
+			}
+			if (openProducers.get() == 0) {
+				return poll(); // 닫히기 직전에 들어온 항목
+			}
+			backoff(attempt);
+		}
+	}
+
+	// 생산자 하나가 더 이상 넣지 않음
+	public void closeProducer() {
+		openProducers.decrementAndGet();
+	}
+
+	public int size() {
+		long size = tail.get() - head.get();
+		return (int)Math.max(0, Math.min(size, capacity));
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	private static void backoff(int attempt) {
+		if (attempt < SPIN_TRIES) {
+			Thread.onSpinWait();
+		} else if (attempt < SPIN_TRIES + YIELD_TRIES) {
+			Thread.yield();
+		} else {
+			LockSupport.parkNanos(PARK_NANOS);
+		}
+	}
+}
@@ -0,0 +1,610 @@
+package com.example.springbatch.staged;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionProductDto;
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+import com.example.springbatch.job.mysql_to_bigquery.writer.BigQueryItemWriter;
+import com.example.springbatch.metrics.EtlMetrics;
+import com.example.springbatch.staging.CsvStagingEncoder;
+import com.example.springbatch.staging.DirectBufferPool;
+import com.example.springbatch.staging.PooledBufferOutputStream;
+import com.example.springbatch.stats.StepRunStats;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class StagedPipelineTasklet implements Tasklet, StepExecutionListener {
+	// chunk 스텝은 read => process => write(인코딩 + 업로드) 를 한 스레드에서 차례로 실행 => 한 단계가 도는 동안 나머지는 쉼
+	// => 단계마다 전용 스레드를 두고 RingBuffer 로 연결 (버퍼가 가득 차면 앞 단계가 기다림 = backpressure)
+	//    read(1) => transform(N) => encode(N) => upload(N) => commit(스텝 스레드)
+	//
+	// 커밋 지점: 업로드가 끝난 batch 를 sequence 순서대로만 커밋
+	// => 순서를 기다리는 업로드 완료 batch 는 queueCapacity 개까지만 보관 (가득 차면 upload 단계가 기다림, 커밋 차례 batch 는 통과)
+	// => read 단계는 커밋되지 않은 batch 가 queueCapacity + upload 스레드 수에 이르면 기다림 => 앞 batch 가 늦어도 메모리가 늘지 않고 교착도 없음
+	// => 커밋마다 GCS URI, 최신 타임스탬프, 그 batch 를 읽은 직후의 Reader 상태를 ExecutionContext 에 넣고 CONTINUABLE 반환
+	// => TaskletStep 이 반복마다 ExecutionContext 를 저장하므로 재시작하면 마지막 커밋 batch 다음부터 읽고,
+	//    batch_job_metadata 는 기존처럼 리스너가 로드 성공 후 커밋된 최신 타임스탬프로 갱신
+	// 변환 스레드가 여러 개이므로 Processor 는 스레드 안전해야 함
+
+	private static final String GCS_FILE_URIS_KEY = "gcsFileUris"; // Writer/리스너와 같은 키
+	private static final String MAX_TIMESTAMP_KEY = "maxProcessedTimestampInChunk";
+	private static final long COMMIT_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long STOP_TIMEOUT_MILLIS = 30_000;
+
+	private final String jobName;
+	private final ItemStreamReader<AuctionProductDto> reader;
+	private final ItemProcessor<AuctionProductDto, AuctionsWinningBidDto> processor;
+	private final Storage storage;
+	private final String gcsBucketName;
+	private final DirectBufferPool bufferPool;
+	private final CsvStagingEncoder<AuctionsWinningBidDto> csvEncoder;
+	private final int batchSize;
+	private final int transformThreads;
+	private final int encodeThreads;
+	private final int uploadThreads;
+	private final int queueCapacity;
+
+	private final Map<String, Stage> stages = new LinkedHashMap<>();
+	private final AtomicReference<Run> current = new AtomicReference<>(); // 게이지가 현재 실행의 버퍼를 조회
+
+	public StagedPipelineTasklet(String jobName, ItemStreamReader<AuctionProductDto> reader,
+		ItemProcessor<AuctionProductDto, AuctionsWinningBidDto> processor, Storage storage, String gcsBucketName,
+		DirectBufferPool bufferPool, int batchSize, int transformThreads, int encodeThreads, int uploadThreads,
+		int queueCapacity, boolean includeLastModified) {
+		this.jobName = jobName;
+		this.reader = reader;
+		this.processor = processor;
+		this.storage = storage;
+		this.gcsBucketName = gcsBucketName;
+		this.bufferPool = bufferPool;
+		this.csvEncoder = new CsvStagingEncoder<>(BigQueryItemWriter.createCsvMapper(includeLastModified),
+			AuctionsWinningBidDto.class);
+		this.batchSize = batchSize;
+		this.transformThreads = Math.max(1, transformThreads);
+		this.encodeThreads = Math.max(1, encodeThreads);
+		this.uploadThreads = Math.max(1, uploadThreads);
+		this.queueCapacity = queueCapacity;
+
+		stages.put("read", new Stage(jobName, "read", 1));
+		stages.put("transform", new Stage(jobName, "transform", this.transformThreads));
+		stages.put("encode", new Stage(jobName, "encode", this.encodeThreads));
+		stages.put("upload", new Stage(jobName, "upload", this.uploadThreads));
+
+		// 단계 입력 버퍼 점유율 => 병목 단계의 입력 버퍼는 가득 차고 그 뒤 단계의 입력 버퍼는 비어 있음
+		EtlMetrics.stagedQueueOccupancy(jobName, "transform", current, ref -> occupancy(ref.get(), "transform"));
+		EtlMetrics.stagedQueueOccupancy(jobName, "encode", current, ref -> occupancy(ref.get(), "encode"));
+		EtlMetrics.stagedQueueOccupancy(jobName, "upload", current, ref -> occupancy(ref.get(), "upload"));
+		EtlMetrics.stagedQueueOccupancy(jobName, "commit", current, ref -> occupancy(ref.get(), "commit"));
+	}
+
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+		StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+		Run run = current.get();
+		if (run == null || run.stepExecution != stepExecution) {
+			run = start(stepExecution); // 첫 반복 => 모든 beforeStep(lastProcessedTimestamp 설정) 이후에 Reader 열기
+		}
+
+		List<Batch> committable = run.awaitCommittable();
+		if (committable.isEmpty()) {
+			log.info("staged 파이프라인 완료: 작업 = {}, batch = {}", jobName, run.nextSequence);
+			return RepeatStatus.FINISHED;
+		}
+		commit(stepExecution, contribution, committable);
+		return RepeatStatus.CONTINUABLE;
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		Run run = current.getAndSet(null);
+		if (run != null && run.stepExecution == stepExecution) {
+			run.stop();
+			report(run);
+		}
+		return null;
+	}
+
+	private Run start(StepExecution stepExecution) {
+		reader.open(stepExecution.getExecutionContext()); // 재시작이면 마지막 커밋 batch 다음 위치로 복원
+		stages.values().forEach(Stage::reset);
+
+		Run run = new Run(stepExecution);
+		current.set(run);
+		run.startThreads();
+		log.info("staged 파이프라인 시작: 작업 = {}, batch 크기 = {}, 스레드 = transform {} / encode {} / upload {}, 버퍼 = {}",
+			jobName, batchSize, transformThreads, encodeThreads, uploadThreads, queueCapacity);
+		return run;
+	}
+
+	// 연속된 batch 들을 한 번에 커밋 => ExecutionContext 는 반복이 끝날 때 TaskletStep 이 저장
+	@SuppressWarnings("unchecked")
+	private void commit(StepExecution stepExecution, StepContribution contribution, List<Batch> batches) {
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		List<String> gcsFileUris = (List<String>)executionContext.get(GCS_FILE_URIS_KEY);
+		gcsFileUris = gcsFileUris == null ? new ArrayList<>() : new ArrayList<>(gcsFileUris);
+		Timestamp maxTimestamp = (Timestamp)executionContext.get(MAX_TIMESTAMP_KEY);
+		StepRunStats stepRunStats = StepRunStats.forStep(stepExecution);
+
+		for (Batch batch : batches) {
+			if (batch.gcsUri != null) {
+				gcsFileUris.add(batch.gcsUri);
+			}
+			// 걸러진 행도 포함한 최신 타임스탬프 => 다시 읽지 않도록
+			// ExecutionContext 의 값은 이전 커밋까지만 반영됨 (Processor 는 staged 모드에서 ExecutionContext 를 쓰지 않음)
+			if (batch.maxTimestamp != null && (maxTimestamp == null || batch.maxTimestamp.after(maxTimestamp))) {
+				maxTimestamp = batch.maxTimestamp;
+			}
+			for (Map.Entry<String, Object> entry : batch.readerState.entrySet()) {
+				executionContext.put(entry.getKey(), entry.getValue());
+			}
+
+			for (int i = 0; i < batch.readCount; i++) {
+				contribution.incrementReadCount();
+			}
+			contribution.incrementFilterCount(batch.readCount - batch.written);
+			contribution.incrementWriteCount(batch.written);
+			if (batch.last != null) {
+				stepRunStats.addStaged(batch.written,
+					batch.last.getLastModified() == null ? null : Timestamp.from(batch.last.getLastModified()),
+					batch.last.getAuctionId());
+			}
+		}
+
+		executionContext.put(GCS_FILE_URIS_KEY, gcsFileUris);
+		if (maxTimestamp != null) {
+			executionContext.put(MAX_TIMESTAMP_KEY, maxTimestamp);
+		}
+		log.debug("staged 커밋: batch = {} ~ {}, 파일 = {}", batches.get(0).sequence,
+			batches.get(batches.size() - 1).sequence, gcsFileUris.size());
+	}
+
+	// 단계별 점유 보고 => 스레드당 처리 시간 비율이 가장 높은 단계가 병목
+	private void report(Run run) {
+		long elapsedNanos = Math.max(1, System.nanoTime() - run.startNanos);
+		Stage bottleneck = null;
+		double bottleneckBusy = -1;
+		for (Stage stage : stages.values()) {
+			double busy = (double)stage.busyNanos.sum() / (elapsedNanos * stage.threads);
+			log.info("staged 단계: {} (스레드 {}) batch = {}, 처리 = {} ms ({}%), 입력 대기 = {} ms, 출력 대기 = {} ms",
+				stage.name, stage.threads, stage.batches.sum(), TimeUnit.NANOSECONDS.toMillis(stage.busyNanos.sum()),
+				Math.round(busy * 100), TimeUnit.NANOSECONDS.toMillis(stage.inputWaitNanos.sum()),
+				TimeUnit.NANOSECONDS.toMillis(stage.outputWaitNanos.sum()));
+			if (busy > bottleneckBusy) {
+				bottleneckBusy = busy;
+				bottleneck = stage;
+			}
+		}
+		if (bottleneck != null) {
+			log.info("staged 병목 단계 = {} (스레드당 처리 시간 비율 {}%)", bottleneck.name, Math.round(bottleneckBusy * 100));
+		}
+	}
+
+	private static double occupancy(Run run, String queue) {
+		if (run == null) {
+			return 0;
+		}
+		return switch (queue) {
+			case "transform" -> (double)run.readQueue.size() / run.readQueue.capacity();
+			case "encode" -> (double)run.transformQueue.size() / run.transformQueue.capacity();
+			case "upload" -> (double)run.encodeQueue.size() / run.encodeQueue.capacity();
+			default -> (double)run.uploaded.size() / run.readQueue.capacity(); // 순서를 기다리는 업로드 완료 batch
+		};
+	}
+
+	private String uploadBatch(StepExecution stepExecution, PooledBufferOutputStream csvData) throws Exception {
+		String gcsObjectName = String.format("batch_load_%d_%d_%s.csv",
+			stepExecution.getJobExecutionId(), stepExecution.getId(), UUID.randomUUID());
+		BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(gcsBucketName, gcsObjectName)).setContentType("text/csv").build();
+		try (WriteChannel channel = storage.writer(blobInfo)) {
+			csvData.writeTo(channel);
+		}
+		return "gs://" + gcsBucketName + "/" + gcsObjectName;
+	}
+
+	// 스텝 실행 하나의 파이프라인 상태
+	private final class Run {
+
+		private final StepExecution stepExecution;
+		private final RingBuffer<Batch> readQueue; // read => transform
+		private final RingBuffer<Batch> transformQueue; // transform => encode
+		private final RingBuffer<Batch> encodeQueue; // encode => upload
+		private final Map<Long, Batch> uploaded = new ConcurrentHashMap<>(); // 업로드 완료 => 순서대로 커밋 대기
+		private final Semaphore commitSlots; // uploaded 에 넣을 수 있는 batch 수 (커밋 차례 batch 는 제외)
+		private final List<Thread> threads = new ArrayList<>();
+		private final AtomicReference<Throwable> failure = new AtomicReference<>();
+		private final long startNanos = System.nanoTime();
+
+		private volatile boolean stopped;
+		private volatile long totalBatches = -1; // Reader 가 끝나면 확정
+		private volatile long nextSequence; // 다음에 커밋할 batch (스텝 스레드만 갱신, read/upload 스레드가 조회)
+
+		private final Timer encodeTimer = EtlMetrics.csvEncodeTimer(jobName);
+		private final Timer uploadTimer = EtlMetrics.gcsUploadTimer(jobName, "staged");
+
+		Run(StepExecution stepExecution) {
+			this.stepExecution = stepExecution;
+			this.readQueue = new RingBuffer<>(queueCapacity, 1);
+			this.transformQueue = new RingBuffer<>(queueCapacity, transformThreads);
+			this.encodeQueue = new RingBuffer<>(queueCapacity, encodeThreads);
+			this.commitSlots = new Semaphore(queueCapacity);
+		}
+
+		void startThreads() {
+			spawn("read", 0, this::readLoop);
+			for (int i = 0; i < transformThreads; i++) {
+				spawn("transform", i, this::transformLoop);
+			}
+			for (int i = 0; i < encodeThreads; i++) {
+				spawn("encode", i, this::encodeLoop);
+			}
+			for (int i = 0; i < uploadThreads; i++) {
+				spawn("upload", i, this::uploadLoop);
+			}
+		}
+
+		private void spawn(String stage, int index, Runnable loop) {
+			Thread thread = new Thread(() -> {
+				try {
+					loop.run();
+				} catch (Throwable e) {
+					fail(stage, e);
+				}
+			}, "staged-" + stage + "-" + index);
+			thread.setDaemon(true);
+			threads.add(thread);
+			thread.start();
+		}
+
+		private boolean aborted() {
+			return stopped || failure.get() != null;
+		}
+
+		private void fail(String stage, Throwable e) {
+			if (failure.compareAndSet(null, e)) {
+				log.error("staged 파이프라인 단계 실패: 단계 = {}, 오류 = {}", stage, e.getMessage(), e);
+			}
+		}
+
+		// read: 단일 스레드 (keyset 순서 유지) => batch 마다 읽은 직후의 Reader 상태를 함께 보관
+		private void readLoop() {
+			Stage stage = stages.get("read");
+			StepSynchronizationManager.register(stepExecution); // @StepScope Reader 프록시를 이 스레드에서 사용
+			try {
+				long sequence = 0;
+				while (!aborted()) {
+					if (!awaitReadWindow(stage, sequence)) {
+						return;
+					}
+					long start = System.nanoTime();
+					List<AuctionProductDto> items = new ArrayList<>(batchSize);
+					AuctionProductDto item;
+					while (items.size() < batchSize && (item = reader.read()) != null) {
+						items.add(item);
+					}
+					if (items.isEmpty()) {
+						break;
+					}
+					ExecutionContext readerState = new ExecutionContext();
+					reader.update(readerState);
+					stage.busy(System.nanoTime() - start);
+
+					if (!stage.put(readQueue, new Batch(sequence, items, readerState), this::aborted)) {
+						return;
+					}
+					sequence++;
+				}
+				totalBatches = sequence;
+			} catch (Exception e) {
+				fail("read", e);
+			} finally {
+				readQueue.closeProducer();
+				StepSynchronizationManager.release();
+			}
+		}
+
+		// transform: Processor 체인 적용 => 걸러진 행도 타임스탬프에는 반영
+		private void transformLoop() {
+			Stage stage = stages.get("transform");
+			try {
+				Batch batch;
+				while ((batch = stage.take(readQueue, this::aborted)) != null) {
+					long start = System.nanoTime();
+					List<AuctionsWinningBidDto> output = new ArrayList<>(batch.input.size());
+					Timestamp maxTimestamp = null;
+					for (AuctionProductDto input : batch.input) {
+						Timestamp lastModified = input.getLastModified();
+						if (lastModified != null && (maxTimestamp == null || lastModified.after(maxTimestamp))) {
+							maxTimestamp = lastModified;
+						}
+						AuctionsWinningBidDto processed = processor.process(input);
+						if (processed != null) {
+							output.add(processed);
+						}
+					}
+					batch.transformed(output, maxTimestamp);
+					stage.busy(System.nanoTime() - start);
+
+					if (!stage.put(transformQueue, batch, this::aborted)) {
+						return;
+					}
+				}
+			} catch (Exception e) {
+				fail("transform", e);
+			} finally {
+				transformQueue.closeProducer();
+			}
+		}
+
+		// encode: CSV 로 풀 버퍼에 인코딩
+		private void encodeLoop() {
+			Stage stage = stages.get("encode");
+			try {
+				Batch batch;
+				while ((batch = stage.take(transformQueue, this::aborted)) != null) {
+					if (!batch.output.isEmpty()) {
+						long start = System.nanoTime();
+						batch.encoded = csvEncoder.encode(batch.output, bufferPool);
+						long encodeNanos = System.nanoTime() - start;
+						stage.busy(encodeNanos);
+						encodeTimer.record(encodeNanos, TimeUnit.NANOSECONDS);
+						StepRunStats.forStep(stepExecution).addEncode(encodeNanos, batch.encoded.size());
+					}
+					batch.output = null; // 업로드 단계는 인코딩 결과만 사용
+
+					if (!stage.put(encodeQueue, batch, this::aborted)) {
+						batch.release();
+						return;
+					}
+				}
+			} catch (Exception e) {
+				fail("encode", e);
+			} finally {
+				encodeQueue.closeProducer();
+			}
+		}
+
+		// upload: batch 하나를 GCS 객체 하나로 업로드 => 순서와 관계없이 끝나는 대로 커밋 대기열에 넣음
+		private void uploadLoop() {
+			Stage stage = stages.get("upload");
+			Batch batch;
+			while ((batch = stage.take(encodeQueue, this::aborted)) != null) {
+				try {
+					if (batch.encoded != null) {
+						StepRunStats stepRunStats = StepRunStats.forStep(stepExecution);
+						long start = System.nanoTime();
+						stepRunStats.beginUpload();
+						try {
+							batch.gcsUri = uploadBatch(stepExecution, batch.encoded);
+						} finally {
+							stepRunStats.endUpload();
+						}
+						long uploadNanos = System.nanoTime() - start;
+						stage.busy(uploadNanos);
+						uploadTimer.record(uploadNanos, TimeUnit.NANOSECONDS);
+						stepRunStats.addUpload(uploadNanos);
+					}
+					if (!reserveCommitSlot(stage, batch)) {
+						return;
+					}
+					uploaded.put(batch.sequence, batch);
+				} catch (Exception e) {
+					fail("upload", e);
+					return;
+				} finally {
+					batch.release();
+				}
+			}
+		}
+
+		// 커밋되지 않은 batch 가 queueCapacity + upload 스레드 수보다 적을 때까지 기다림
+		// => 커밋 차례가 아닌 batch 가 모든 upload 스레드를 막을 만큼 쌓이지 않음 => 커밋 차례 batch 가 항상 upload 에 도달
+		private boolean awaitReadWindow(Stage stage, long sequence) {
+			long limit = (long)queueCapacity + uploadThreads;
+			long start = System.nanoTime();
+			try {
+				while (sequence - nextSequence >= limit) {
+					if (aborted()) {
+						return false;
+					}
+					LockSupport.parkNanos(COMMIT_POLL_NANOS);
+				}
+				return true;
+			} finally {
+				stage.outputWait(System.nanoTime() - start);
+			}
+		}
+
+		// uploaded 에 자리가 날 때까지 기다림 (커밋 차례 batch 는 자리 없이 통과 => 커밋이 멈추지 않음)
+		private boolean reserveCommitSlot(Stage stage, Batch batch) throws InterruptedException {
+			long start = System.nanoTime();
+			try {
+				while (!aborted()) {
+					if (commitSlots.tryAcquire(COMMIT_POLL_NANOS, TimeUnit.NANOSECONDS)) {
+						batch.commitSlot = true;
+						return true;
+					}
+					if (batch.sequence == nextSequence) {
+						return true;
+					}
+				}
+				return false;
+			} finally {
+				stage.outputWait(System.nanoTime() - start);
+			}
+		}
+
+		// 다음 순서의 batch 부터 연속으로 업로드가 끝난 batch 들 (모두 커밋했으면 빈 목록)
+		List<Batch> awaitCommittable() {
+			while (true) {
+				Throwable error = failure.get();
+				if (error != null) {
+					throw new IllegalStateException("staged 파이프라인 실패: " + error.getMessage(), error);
+				}
+				List<Batch> batches = new ArrayList<>();
+				Batch batch;
+				while ((batch = uploaded.remove(nextSequence)) != null) {
+					if (batch.commitSlot) {
+						commitSlots.release();
+					}
+					batches.add(batch);
+					nextSequence++;
+				}
+				if (!batches.isEmpty()) {
+					return batches;
+				}
+				if (totalBatches >= 0 && nextSequence >= totalBatches) {
+					return batches;
+				}
+				LockSupport.parkNanos(COMMIT_POLL_NANOS);
+			}
+		}
+
+		// 스레드 종료 + 남은 버퍼 반납 + Reader 닫기
+		void stop() {
+			stopped = true;
+			for (Thread thread : threads) {
+				try {
+					thread.join(STOP_TIMEOUT_MILLIS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+			for (RingBuffer<Batch> queue : List.of(readQueue, transformQueue, encodeQueue)) {
+				Batch batch;
+				while ((batch = queue.poll()) != null) {
+					batch.release();
+				}
+			}
+			try {
+				reader.close();
+			} catch (Exception e) {
+				log.warn("staged 파이프라인 Reader 닫기 실패: {}", e.getMessage());
+			}
+		}
+	}
+
+	// 단계 사이를 이동하는 작업 단위 => 한 단계만 동시에 다루므로 동기화 없이 필드를 채움 (링 버퍼가 happens-before 보장)
+	private static final class Batch {
+
+		private final long sequence;
+		private final int readCount;
+		private final ExecutionContext readerState; // 이 batch 까지 읽은 직후의 Reader 상태
+		private List<AuctionProductDto> input;
+		private List<AuctionsWinningBidDto> output;
+		private Timestamp maxTimestamp;
+		private int written;
+		private AuctionsWinningBidDto last;
+		private PooledBufferOutputStream encoded;
+		private String gcsUri;
+		private boolean commitSlot; // commitSlots 를 하나 차지함 => 커밋 시 반납
+
+		Batch(long sequence, List<AuctionProductDto> input, ExecutionContext readerState) {
+			this.sequence = sequence;
+			this.readCount = input.size();
+			this.input = input;
+			this.readerState = readerState;
+		}
+
+		void transformed(List<AuctionsWinningBidDto> output, Timestamp maxTimestamp) {
+			this.output = output;
+			this.maxTimestamp = maxTimestamp;
+			this.written = output.size();
+			this.last = output.isEmpty() ? null : output.get(output.size() - 1);
+			this.input = null;
+		}
+
+		void release() {
+			if (encoded != null) {
+				encoded.release();
+				encoded = null;
+			}
+		}
+	}
+
+	// 단계별 처리/대기 시간 누적 => 실행 종료 시 보고 + Micrometer 타이머
+	private static final class Stage {
+
+		private final String name;
+		private final int threads;
+		private final LongAdder batches = new LongAdder();
+		private final LongAdder busyNanos = new LongAdder();
+		private final LongAdder inputWaitNanos = new LongAdder();
+		private final LongAdder outputWaitNanos = new LongAdder();
+		private final Timer busyTimer;
+		private final Timer inputWaitTimer;
+		private final Timer outputWaitTimer;
+
+		Stage(String job, String name, int threads) {
+			this.name = name;
+			this.threads = threads;
+			this.busyTimer = EtlMetrics.stagedStageBusy(job, name);
+			this.inputWaitTimer = EtlMetrics.stagedStageWait(job, name, "input");
+			this.outputWaitTimer = EtlMetrics.stagedStageWait(job, name, "output");
+		}
+
+		void reset() {
+			batches.reset();
+			busyNanos.reset();
+			inputWaitNanos.reset();
+			outputWaitNanos.reset();
+		}
+
+		void busy(long nanos) {
+			batches.increment();
+			busyNanos.add(nanos);
+			busyTimer.record(nanos, TimeUnit.NANOSECONDS);
+		}
+
+		Batch take(RingBuffer<Batch> queue, BooleanSupplier aborted) {
+			long start = System.nanoTime();
+			Batch batch = queue.take(aborted);
+			long waited = System.nanoTime() - start;
+			inputWaitNanos.add(waited);
+			inputWaitTimer.record(waited, TimeUnit.NANOSECONDS);
+			return batch;
+		}
+
+		boolean put(RingBuffer<Batch> queue, Batch batch, BooleanSupplier aborted) {
+			long start = System.nanoTime();
+			boolean accepted = queue.put(batch, aborted);
+			outputWait(System.nanoTime() - start);
+			return accepted;
+		}
+
+		void outputWait(long nanos) {
+			outputWaitNanos.add(nanos);
+			outputWaitTimer.record(nanos, TimeUnit.NANOSECONDS);
+		}
+	}
+}
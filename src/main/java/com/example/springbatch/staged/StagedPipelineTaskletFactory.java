@@ -0,0 +1,66 @@
+package com.example.springbatch.staged;
+
+import java.util.Locale;
+
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionProductDto;
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+import com.example.springbatch.load.BigQueryMergeLoader;
+import com.example.springbatch.staging.DirectBufferPool;
+import com.google.cloud.storage.Storage;
+
+@Component
+public class StagedPipelineTaskletFactory { // app.batch.execution-mode=staged 일 때 mysqlToBigQueryStep 을 단계별 스레드 파이프라인으로 실행
+
+	private static final String MODE_STAGED = "staged";
+
+	private final boolean enabled;
+	private final Storage storage;
+	private final String gcsBucketName;
+	private final DirectBufferPool bufferPool;
+	private final String jobName;
+	private final int transformThreads;
+	private final int encodeThreads;
+	private final int uploadThreads;
+	private final int queueCapacity; // 단계 사이 링 버퍼 크기 (batch 개수)
+	private final boolean includeLastModified; // merge 모드 => CSV 에 last_modified 포함
+
+	// 생성자
+	@Autowired
+	public StagedPipelineTaskletFactory(Storage storage,
+		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName,
+		DirectBufferPool bufferPool,
+		@Value("${app.batch.job-name}") String jobName,
+		@Value("${app.batch.execution-mode:chunk}") String executionMode,
+		@Value("${app.batch.staged.transform-threads:2}") int transformThreads,
+		@Value("${app.batch.staged.encode-threads:2}") int encodeThreads,
+		@Value("${app.batch.staged.upload-threads:4}") int uploadThreads,
+		@Value("${app.batch.staged.queue-capacity:8}") int queueCapacity,
+		BigQueryMergeLoader mergeLoader) {
+		this.enabled = MODE_STAGED.equals(executionMode.toLowerCase(Locale.ROOT));
+		this.storage = storage;
+		this.gcsBucketName = gcsBucketName;
+		this.bufferPool = bufferPool;
+		this.jobName = jobName;
+		this.transformThreads = transformThreads;
+		this.encodeThreads = encodeThreads;
+		this.uploadThreads = uploadThreads;
+		this.queueCapacity = queueCapacity;
+		this.includeLastModified = mergeLoader.isEnabled();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public StagedPipelineTasklet create(ItemStreamReader<AuctionProductDto> reader,
+		ItemProcessor<AuctionProductDto, AuctionsWinningBidDto> processor, int batchSize) {
+		return new StagedPipelineTasklet(jobName, reader, processor, storage, gcsBucketName, bufferPool, batchSize,
+			transformThreads, encodeThreads, uploadThreads, queueCapacity, includeLastModified);
+	}
+}
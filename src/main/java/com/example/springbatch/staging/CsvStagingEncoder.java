@@ -0,0 +1,117 @@
+package com.example.springbatch.staging;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+public class CsvStagingEncoder<T> { // chunk 데이터를 BigQuery 로드용 CSV 로 인코딩
+
+	// 스키마와 ObjectWriter 는 불변이므로 chunk 마다 만들지 않고 한 번만 생성 (스레드 안전 => 병렬 인코딩에서 공유)
+	private final ObjectWriter objectWriter;
+
+	public CsvStagingEncoder(CsvMapper csvMapper, Class<T> type) {
+		CsvSchema schema = csvMapper.schemaFor(type).withoutHeader();
+		this.objectWriter = csvMapper.writer(schema);
+	}
+
+	// items 를 CSV 로 변환하여 out 에 기록 (out 은 Jackson 이 닫음)
+	public void encode(List<? extends T> items, OutputStream out) throws IOException {
+		objectWriter.writeValue(out, items);
+	}
+
+	// 풀 버퍼에 인코딩 => 호출자가 업로드 후 release() 해야 함
+	public PooledBufferOutputStream encode(List<? extends T> items, DirectBufferPool pool) throws IOException {
+		PooledBufferOutputStream out = new PooledBufferOutputStream(pool);
+		try {
+			encode(items, out);
+			return out;
+		} catch (IOException | RuntimeException e) {
+			out.release();
+			throw e;
+		}
+	}
+
+	// 큰 chunk 를 sliceRows 행씩 나눠 ForkJoinPool 에서 병렬 인코딩
+	// => 헤더 없는 CSV 는 행 단위로 이어 붙여도 같은 결과이므로 slice 결과 segment 를 순서대로 연결 (복사 없음)
+	public PooledBufferOutputStream encode(List<? extends T> items, DirectBufferPool pool, ForkJoinPool forkJoinPool,
+		int sliceRows) throws IOException {
+		if (sliceRows <= 0 || items.size() <= sliceRows) {
+			return encode(items, pool);
+		}
+		try {
+			return forkJoinPool.invoke(new SliceTask(items, 0, items.size(), pool, sliceRows));
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	public static int sliceCount(int rows, int sliceRows) {
+		return sliceRows <= 0 ? 1 : Math.max(1, (rows + sliceRows - 1) / sliceRows);
+	}
+
+	// [from, to) 구간을 slice 경계에서 반으로 나눠 fork => 왼쪽 결과 뒤에 오른쪽 결과를 이어 붙임
+	private final class SliceTask extends RecursiveTask<PooledBufferOutputStream> {
+
+		private final List<? extends T> items;
+		private final int from;
+		private final int to;
+		private final DirectBufferPool pool;
+		private final int sliceRows;
+
+		SliceTask(List<? extends T> items, int from, int to, DirectBufferPool pool, int sliceRows) {
+			this.items = items;
+			this.from = from;
+			this.to = to;
+			this.pool = pool;
+			this.sliceRows = sliceRows;
+		}
+
+		@Override
+		protected PooledBufferOutputStream compute() {
+			int slices = sliceCount(to - from, sliceRows);
+			if (slices == 1) {
+				try {
+					return encode(items.subList(from, to), pool);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+
+			int middle = from + (slices / 2) * sliceRows;
+			SliceTask right = new SliceTask(items, middle, to, pool, sliceRows);
+			right.fork();
+			PooledBufferOutputStream left;
+			try {
+				left = new SliceTask(items, from, middle, pool, sliceRows).compute();
+			} catch (RuntimeException e) {
+				releaseQuietly(right);
+				throw e;
+			}
+			PooledBufferOutputStream rightResult;
+			try {
+				rightResult = right.join();
+			} catch (RuntimeException e) {
+				left.release();
+				throw e;
+			}
+			left.append(rightResult);
+			return left;
+		}
+
+		// 왼쪽이 실패해도 오른쪽이 빌린 버퍼는 반납
+		private void releaseQuietly(SliceTask task) {
+			try {
+				task.join().release();
+			} catch (RuntimeException ignored) {
+				// 오른쪽도 실패 => 이미 반납됨
+			}
+		}
+	}
+}
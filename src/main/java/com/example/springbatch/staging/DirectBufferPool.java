@@ -0,0 +1,136 @@
+package com.example.springbatch.staging;
+
+import java.nio.ByteBuffer;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+@Component
+public class DirectBufferPool { // chunk 인코딩에 사용하는 off-heap(Direct) ByteBuffer 풀
+	// chunk 마다 byte[] 를 새로 만들면 큰 chunk 는 G1 의 humongous 객체로 old gen 에 바로 쌓임
+	// => 고정 크기 Direct 버퍼를 재사용하고, 오래 쉬고 있거나 한도를 넘는 버퍼는 풀에서 제거(eviction)
+
+	private final int bufferSize; // 버퍼 하나의 크기 (byte)
+	private final int maxIdleBuffers; // 풀에 보관할 수 있는 최대 유휴 버퍼 개수
+	private final long idleTimeoutNanos; // 이 시간 이상 사용되지 않은 유휴 버퍼는 제거
+
+	// 최근 반납된 버퍼가 앞쪽에 오도록 관리 (LIFO) => 오래된 버퍼는 뒤쪽에서 제거
+	private final Deque<IdleBuffer> idleBuffers = new ConcurrentLinkedDeque<>();
+	private final AtomicInteger idleCount = new AtomicInteger();
+
+	private final LongAdder hits = new LongAdder(); // 풀에서 재사용한 횟수
+	private final LongAdder misses = new LongAdder(); // 새로 할당한 횟수
+	private final LongAdder evictions = new LongAdder(); // 풀에서 제거된 횟수
+
+	// 생성자
+	@Autowired
+	public DirectBufferPool(@Value("${app.batch.staging.buffer-size-bytes:1048576}") int bufferSize,
+		@Value("${app.batch.staging.max-idle-buffers:64}") int maxIdleBuffers,
+		@Value("${app.batch.staging.buffer-idle-seconds:300}") long idleTimeoutSeconds) {
+		this.bufferSize = bufferSize;
+		this.maxIdleBuffers = maxIdleBuffers;
+		this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+
+		// Spring Batch 기본 메트릭과 같은 global registry 에 등록
+		FunctionCounter.builder("etl.staging.buffer.pool.hits", hits, LongAdder::doubleValue)
+			.description("풀에서 재사용된 Direct 버퍼 수")
+			.register(Metrics.globalRegistry);
+		FunctionCounter.builder("etl.staging.buffer.pool.misses", misses, LongAdder::doubleValue)
+			.description("풀이 비어 새로 할당한 Direct 버퍼 수")
+			.register(Metrics.globalRegistry);
+		FunctionCounter.builder("etl.staging.buffer.pool.evictions", evictions, LongAdder::doubleValue)
+			.description("풀에서 제거된 Direct 버퍼 수")
+			.register(Metrics.globalRegistry);
+		Gauge.builder("etl.staging.buffer.pool.idle", idleCount, AtomicInteger::get)
+			.description("풀에 보관 중인 유휴 Direct 버퍼 수")
+			.register(Metrics.globalRegistry);
+	}
+
+	// 버퍼 대여 => 유휴 버퍼가 있으면 재사용, 없으면 새로 할당
+	public ByteBuffer acquire() {
+		IdleBuffer idle = idleBuffers.pollFirst();
+		if (idle != null) {
+			idleCount.decrementAndGet();
+			hits.increment();
+			return idle.buffer().clear();
+		}
+		misses.increment();
+		return ByteBuffer.allocateDirect(bufferSize);
+	}
+
+	// 버퍼 반납 => 풀에 보관한 뒤 한도/유휴 시간을 넘는 버퍼 제거
+	public void release(ByteBuffer buffer) {
+		if (buffer == null || !buffer.isDirect() || buffer.capacity() != bufferSize) {
+			return; // 이 풀에서 할당하지 않은 버퍼는 보관하지 않음
+		}
+		long now = System.nanoTime();
+		idleBuffers.offerFirst(new IdleBuffer(buffer, now));
+		idleCount.incrementAndGet();
+		evict(now);
+	}
+
+	// 오래된 버퍼부터 제거 => 참조가 끊긴 Direct 버퍼는 GC 의 Cleaner 가 해제
+	private void evict(long now) {
+		IdleBuffer oldest;
+		while ((oldest = idleBuffers.peekLast()) != null) {
+			boolean overCapacity = idleCount.get() > maxIdleBuffers;
+			boolean expired = now - oldest.releasedAt() > idleTimeoutNanos;
+			if (!overCapacity && !expired) {
+				break;
+			}
+			if (idleBuffers.removeLastOccurrence(oldest)) {
+				idleCount.decrementAndGet();
+				evictions.increment();
+			}
+		}
+	}
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	public int getIdleCount() {
+		return idleCount.get();
+	}
+
+	// record 는 ByteBuffer 내용으로 equals 비교하므로 참조 비교를 위해 일반 클래스로 정의
+	private static final class IdleBuffer {
+		private final ByteBuffer buffer;
+		private final long releasedAt;
+
+		private IdleBuffer(ByteBuffer buffer, long releasedAt) {
+			this.buffer = buffer;
+			this.releasedAt = releasedAt;
+		}
+
+		private ByteBuffer buffer() {
+			return buffer;
+		}
+
+		private long releasedAt() {
+			return releasedAt;
+		}
+	}
+}
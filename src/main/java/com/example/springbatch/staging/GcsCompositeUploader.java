@@ -0,0 +1,140 @@
+package com.example.springbatch.staging;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class GcsCompositeUploader { // 큰 로컬 파일을 GCS 에 병렬 composite 업로드
+	// 파일을 여러 part 로 나눠 동시에 업로드한 뒤 compose 로 하나의 객체로 합침
+
+	private static final int MAX_COMPOSE_SOURCES = 32; // GCS compose 한 번에 합칠 수 있는 최대 객체 수
+	private static final long MAX_MAP_WINDOW_BYTES = 256L * 1024 * 1024; // 한 번에 매핑할 최대 크기
+
+	private final Storage storage;
+	private final String gcsBucketName;
+	private final long partSizeBytes; // part 하나의 최소 크기
+	private final ExecutorService uploadExecutor;
+
+	// 생성자
+	@Autowired
+	public GcsCompositeUploader(Storage storage,
+		@Value("${spring.cloud.gcp.storage.bucket-name}") String gcsBucketName,
+		@Value("${app.batch.staging.spool.part-size-bytes:33554432}") long partSizeBytes,
+		@Value("${app.batch.staging.spool.upload-parallelism:4}") int uploadParallelism) {
+		this.storage = storage;
+		this.gcsBucketName = gcsBucketName;
+		this.partSizeBytes = partSizeBytes;
+		this.uploadExecutor = Executors.newFixedThreadPool(uploadParallelism,
+			new CustomizableThreadFactory("gcs-composite-upload-"));
+	}
+
+	// 로컬 파일을 objectName 으로 업로드하고 GCS URI 반환
+	public String upload(Path file, String objectName, String contentType) throws IOException {
+		long fileSize = Files.size(file);
+		BlobInfo target = BlobInfo.newBuilder(BlobId.of(gcsBucketName, objectName)).setContentType(contentType).build();
+
+		// part 크기는 partSizeBytes 이상, 개수는 compose 한도 이하로 맞춤
+		int partCount = (int)Math.min(MAX_COMPOSE_SOURCES, Math.max(1, (fileSize + partSizeBytes - 1) / partSizeBytes));
+		if (partCount == 1) {
+			uploadRange(file, 0, fileSize, target);
+			return toUri(objectName);
+		}
+
+		long partLength = (fileSize + partCount - 1) / partCount;
+		List<String> partNames = new ArrayList<>(partCount);
+		List<Future<?>> futures = new ArrayList<>(partCount);
+		for (int i = 0; i < partCount; i++) {
+			long offset = i * partLength;
+			long length = Math.min(partLength, fileSize - offset);
+			String partName = objectName + ".part-" + i;
+			BlobInfo partInfo = BlobInfo.newBuilder(BlobId.of(gcsBucketName, partName)).build();
+			partNames.add(partName);
+			futures.add(uploadExecutor.submit(() -> {
+				uploadRange(file, offset, length, partInfo);
+				return null;
+			}));
+		}
+
+		try {
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			// 업로드된 part 들을 순서대로 합쳐서 최종 객체 생성
+			storage.compose(Storage.ComposeRequest.newBuilder()
+				.addSource(partNames)
+				.setTarget(target)
+				.build());
+			log.info("GCS composite 업로드 성공: 객체 = {}, 크기 = {}, part 개수 = {}", objectName, fileSize, partCount);
+			return toUri(objectName);
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("GCS composite 업로드 중 인터럽트 발생: " + objectName, e);
+		} catch (ExecutionException e) {
+			throw new IOException("GCS part 업로드 실패: " + objectName, e.getCause());
+		} finally {
+			futures.forEach(future -> future.cancel(true));
+			deleteParts(partNames);
+		}
+	}
+
+	// 파일의 [offset, offset + length) 구간을 매핑하여 GCS WriteChannel 에 그대로 기록
+	private void uploadRange(Path file, long offset, long length, BlobInfo blobInfo) throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ);
+			 WriteChannel writeChannel = storage.writer(blobInfo)) {
+			long position = offset;
+			long end = offset + length;
+			while (position < end) {
+				long window = Math.min(MAX_MAP_WINDOW_BYTES, end - position);
+				MappedByteBuffer mapped = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, window);
+				while (mapped.hasRemaining()) {
+					writeChannel.write(mapped);
+				}
+				position += window;
+			}
+		}
+	}
+
+	// compose 후 남은 part 객체 삭제 (실패해도 최종 객체에는 영향 없음)
+	private void deleteParts(List<String> partNames) {
+		List<BlobId> blobIds = partNames.stream().map(name -> BlobId.of(gcsBucketName, name)).toList();
+		try {
+			storage.delete(blobIds);
+		} catch (Exception e) {
+			log.warn("GCS part 객체 삭제 실패: 개수 = {}, 오류 = {}", blobIds.size(), e.getMessage());
+		}
+	}
+
+	private String toUri(String objectName) {
+		return "gs://" + gcsBucketName + "/" + objectName;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		uploadExecutor.shutdownNow();
+	}
+}
@@ -0,0 +1,89 @@
+package com.example.springbatch.staging;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ParallelCsvEncoder implements DisposableBean { // 큰 chunk 를 slice 로 나눠 병렬 CSV 인코딩
+	// 인코딩은 스텝 스레드에서 chunk 전체를 한 번에 처리 => 큰 chunk 에서는 코어 하나만 사용
+	// => min-rows 이상인 chunk 는 slice-rows 행씩 나눠 전용 ForkJoinPool 에서 인코딩하고 결과 segment 를 순서대로 연결
+	// slice 마다 마지막 segment 의 남은 공간은 비워 둠 => slice 가 버퍼 크기보다 충분히 커야 낭비가 적음
+	// 기본값은 사용 안함 (opt-in): 기본 chunk 크기(5000)는 한 번에 인코딩해도 충분히 빠름
+	// chunk 크기를 키운 경우에만 min-rows 를 chunk 크기 이하로 지정해 사용
+	// ForkJoinPool 은 처음 나눠 인코딩할 때 생성 => 기준에 도달하지 않으면 스레드를 만들지 않음
+
+	private final int minRows; // 이 행 수 이상인 chunk 만 나눔 (0 이하면 사용 안함)
+	private final int sliceRows; // slice 하나의 행 수
+	private final int parallelism; // 병렬도 (0 이하면 코어 수)
+	private volatile ForkJoinPool forkJoinPool; // 처음 나눠 인코딩할 때 생성
+
+	// 생성자
+	@Autowired
+	public ParallelCsvEncoder(@Value("${app.batch.writer.parallel-encode.min-rows:0}") int minRows,
+		@Value("${app.batch.writer.parallel-encode.slice-rows:5000}") int sliceRows,
+		@Value("${app.batch.writer.parallel-encode.parallelism:0}") int parallelism) {
+		this.minRows = minRows;
+		this.sliceRows = sliceRows;
+		this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+		if (isEnabled()) {
+			log.info("CSV 병렬 인코딩 사용: 기준 = {} 행, slice = {} 행, 병렬도 = {}", minRows, sliceRows,
+				this.parallelism);
+		}
+	}
+
+	public boolean isEnabled() {
+		return minRows > 0 && sliceRows > 0;
+	}
+
+	// rows 행 chunk 를 몇 개의 slice 로 인코딩할지 (1 이면 호출 스레드에서 한 번에 인코딩)
+	public int sliceCount(int rows) {
+		if (!isEnabled() || rows < minRows) {
+			return 1;
+		}
+		return CsvStagingEncoder.sliceCount(rows, sliceRows);
+	}
+
+	public int getParallelism() {
+		return isEnabled() ? parallelism : 1;
+	}
+
+	// 호출자가 업로드 후 release() 해야 함
+	public <T> PooledBufferOutputStream encode(CsvStagingEncoder<T> encoder, List<? extends T> items,
+		DirectBufferPool pool) throws IOException {
+		if (sliceCount(items.size()) == 1) {
+			return encoder.encode(items, pool);
+		}
+		return encoder.encode(items, pool, forkJoinPool(), sliceRows);
+	}
+
+	@Override
+	public synchronized void destroy() {
+		if (forkJoinPool != null) {
+			forkJoinPool.shutdown();
+		}
+	}
+
+	// commonPool 과 분리 => 다른 병렬 작업과 코어를 나눠 쓰지 않음
+	private ForkJoinPool forkJoinPool() {
+		ForkJoinPool pool = forkJoinPool;
+		if (pool == null) {
+			synchronized (this) {
+				pool = forkJoinPool;
+				if (pool == null) {
+					pool = new ForkJoinPool(parallelism);
+					forkJoinPool = pool;
+				}
+			}
+		}
+		return pool;
+	}
+}
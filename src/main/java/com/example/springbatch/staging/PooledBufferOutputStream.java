@@ -0,0 +1,105 @@
+package com.example.springbatch.staging;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class PooledBufferOutputStream extends OutputStream { // DirectBufferPool 의 버퍼들을 이어 붙여 쓰는 OutputStream
+	// 하나의 큰 byte[] 로 모으지 않고 고정 크기 버퍼(segment) 목록에 순서대로 기록
+	// => 업로드 시 segment 를 그대로 채널에 전달 (toByteArray 같은 복사 없음)
+
+	private final DirectBufferPool pool;
+	private final List<ByteBuffer> segments = new ArrayList<>();
+	private ByteBuffer current; // 현재 쓰고 있는 segment
+	private long size; // 지금까지 기록된 전체 byte 수
+	private boolean closed;
+
+	public PooledBufferOutputStream(DirectBufferPool pool) {
+		this.pool = pool;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		ensureWritable().put((byte)b);
+		size++;
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		while (length > 0) {
+			ByteBuffer target = ensureWritable();
+			int count = Math.min(length, target.remaining());
+			target.put(bytes, offset, count);
+			offset += count;
+			length -= count;
+			size += count;
+		}
+	}
+
+	// 현재 segment 가 가득 찼으면 풀에서 새 segment 를 빌려옴
+	private ByteBuffer ensureWritable() throws IOException {
+		if (closed) {
+			throw new IOException("이미 닫힌 스트림입니다.");
+		}
+		if (current == null || !current.hasRemaining()) {
+			current = pool.acquire();
+			segments.add(current);
+		}
+		return current;
+	}
+
+	// Jackson 이 writeValue 후 스트림을 닫으므로 close 에서는 쓰기만 막고 버퍼는 유지
+	// => 버퍼 반납은 업로드가 끝난 뒤 release() 로 처리
+	@Override
+	public void close() {
+		closed = true;
+	}
+
+	// 기록된 내용을 읽기 전용 segment 목록으로 반환 (원본 버퍼의 position/limit 은 건드리지 않음)
+	public List<ByteBuffer> readableSegments() {
+		List<ByteBuffer> readable = new ArrayList<>(segments.size());
+		for (ByteBuffer segment : segments) {
+			readable.add(segment.duplicate().flip());
+		}
+		return Collections.unmodifiableList(readable);
+	}
+
+	// 기록된 내용을 복사 없이 채널에 순서대로 기록
+	public void writeTo(WritableByteChannel channel) throws IOException {
+		for (ByteBuffer segment : readableSegments()) {
+			while (segment.hasRemaining()) {
+				channel.write(segment);
+			}
+		}
+	}
+
+	// other 의 segment 를 복사 없이 뒤에 이어 붙임 => other 는 비워지고 닫힘
+	// 앞 segment 의 남은 공간은 그대로 두고 이후 쓰기는 새 segment 부터 (readableSegments 는 segment 마다 기록된 부분만 반환)
+	public void append(PooledBufferOutputStream other) {
+		segments.addAll(other.segments);
+		size += other.size;
+		current = null;
+		other.segments.clear();
+		other.current = null;
+		other.size = 0;
+		other.closed = true;
+	}
+
+	public long size() {
+		return size;
+	}
+
+	// 사용한 모든 segment 를 풀에 반납
+	public void release() {
+		for (ByteBuffer segment : segments) {
+			pool.release(segment);
+		}
+		segments.clear();
+		current = null;
+		closed = true;
+	}
+}
@@ -0,0 +1,95 @@
+package com.example.springbatch.staging;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class SpoolFile implements Closeable { // chunk 데이터를 이어 붙이는 memory-mapped 로컬 스풀 파일
+	// 파일을 일정 크기 영역(region) 단위로 매핑하여 순서대로 기록
+	// => force() 로 디스크에 내려간 길이(committedBytes)까지만 유효한 데이터로 취급
+
+	private final Path path;
+	private final FileChannel channel;
+	private final long mapRegionBytes; // 한 번에 매핑할 영역 크기
+
+	private MappedByteBuffer region; // 현재 기록 중인 매핑 영역
+	private long writtenBytes; // 기록된 전체 길이 (커밋 전 포함)
+	private long committedBytes; // 디스크에 반영이 보장된 길이
+
+	private SpoolFile(Path path, FileChannel channel, long committedBytes, long mapRegionBytes) {
+		this.path = path;
+		this.channel = channel;
+		this.mapRegionBytes = mapRegionBytes;
+		this.writtenBytes = committedBytes;
+		this.committedBytes = committedBytes;
+	}
+
+	// 스풀 파일 열기 => 비정상 종료로 남은 커밋되지 않은 꼬리 부분은 잘라냄
+	public static SpoolFile open(Path path, long committedBytes, long mapRegionBytes) throws IOException {
+		FileChannel channel = FileChannel.open(path,
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		if (channel.size() > committedBytes) {
+			channel.truncate(committedBytes);
+		}
+		return new SpoolFile(path, channel, committedBytes, mapRegionBytes);
+	}
+
+	// src 의 남은 내용을 파일 끝에 추가
+	public void append(ByteBuffer src) throws IOException {
+		while (src.hasRemaining()) {
+			MappedByteBuffer target = writableRegion();
+			int count = Math.min(src.remaining(), target.remaining());
+			ByteBuffer slice = src.duplicate();
+			slice.limit(slice.position() + count);
+			target.put(slice);
+			src.position(src.position() + count);
+			writtenBytes += count;
+		}
+	}
+
+	// 현재 영역이 가득 찼으면 디스크에 반영한 뒤 다음 영역을 매핑
+	private MappedByteBuffer writableRegion() throws IOException {
+		if (region == null || !region.hasRemaining()) {
+			if (region != null) {
+				region.force();
+			}
+			region = channel.map(FileChannel.MapMode.READ_WRITE, writtenBytes, mapRegionBytes);
+		}
+		return region;
+	}
+
+	// 지금까지 기록한 내용을 디스크에 반영 => 이후 비정상 종료되어도 이 길이까지는 복구 가능
+	public long commit() {
+		if (region != null) {
+			region.force();
+		}
+		committedBytes = writtenBytes;
+		return committedBytes;
+	}
+
+	// 업로드 전 파일 마감 => 매핑으로 늘어난 파일 길이를 실제 데이터 길이로 맞춤
+	public void seal() throws IOException {
+		commit();
+		region = null;
+		channel.truncate(committedBytes);
+		channel.force(true);
+	}
+
+	public Path getPath() {
+		return path;
+	}
+
+	public long size() {
+		return writtenBytes;
+	}
+
+	@Override
+	public void close() throws IOException {
+		region = null;
+		channel.close();
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.springbatch.staging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.springframework.util.StringUtils;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SpoolManifest { // 스텝 하나의 스풀 진행 상태 => 비정상 종료 후 재시작 시 복구에 사용
+
+	private long stepExecutionId;
+	private int segmentSeq; // 현재 기록 중인 스풀 파일 순번
+	private long committedBytes; // 현재 스풀 파일에서 커밋된 길이
+	private Timestamp maxTimestamp; // 스풀에 커밋된 데이터 중 최신 타임스탬프
+	private List<String> uploadedUris = new ArrayList<>(); // 이미 GCS 에 업로드된 스풀 객체 경로
+
+	// 임시 파일에 기록 후 원자적으로 교체 => 기록 도중 종료되어도 이전 상태가 유지됨
+	public void store(Path manifestPath) throws IOException {
+		Properties properties = new Properties();
+		properties.setProperty("stepExecutionId", Long.toString(stepExecutionId));
+		properties.setProperty("segmentSeq", Integer.toString(segmentSeq));
+		properties.setProperty("committedBytes", Long.toString(committedBytes));
+		if (maxTimestamp != null) {
+			properties.setProperty("maxTimestamp", maxTimestamp.toString());
+		}
+		properties.setProperty("uploadedUris", String.join(",", uploadedUris));
+
+		Path tempPath = manifestPath.resolveSibling(manifestPath.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			OutputStream out = Channels.newOutputStream(channel);
+			properties.store(out, null);
+			out.flush();
+			channel.force(true);
+		}
+		Files.move(tempPath, manifestPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	public static SpoolManifest load(Path manifestPath) throws IOException {
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(manifestPath)) {
+			properties.load(in);
+		}
+
+		SpoolManifest manifest = new SpoolManifest();
+		manifest.setStepExecutionId(Long.parseLong(properties.getProperty("stepExecutionId", "0")));
+		manifest.setSegmentSeq(Integer.parseInt(properties.getProperty("segmentSeq", "0")));
+		manifest.setCommittedBytes(Long.parseLong(properties.getProperty("committedBytes", "0")));
+		String maxTimestamp = properties.getProperty("maxTimestamp");
+		if (StringUtils.hasText(maxTimestamp)) {
+			manifest.setMaxTimestamp(Timestamp.valueOf(maxTimestamp));
+		}
+		String uploadedUris = properties.getProperty("uploadedUris");
+		if (StringUtils.hasText(uploadedUris)) {
+			manifest.setUploadedUris(new ArrayList<>(Arrays.asList(uploadedUris.split(","))));
+		}
+		return manifest;
+	}
+}
@@ -0,0 +1,257 @@
+package com.example.springbatch.staging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.springbatch.jfr.GcsUploadEvent;
+import com.example.springbatch.metrics.EtlMetrics;
+import com.example.springbatch.stats.StepRunStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class SpoolStagingService { // app.batch.staging.mode=spool 일 때 chunk 를 로컬 스풀 파일에 모아서 업로드
+	// chunk 마다 GCS 에 업로드하지 않고 memory-mapped 파일에 추가
+	// => 크기 한도에 도달하면 하나의 큰 객체로 병렬 composite 업로드
+	// 스텝별 manifest 에 진행 상태를 남겨서 비정상 종료 후 재시작 시 업로드를 마저 진행
+
+	private static final String MODE_SPOOL = "spool";
+	private static final String MANIFEST_SUFFIX = ".manifest";
+	private static final String SPOOL_SUFFIX = ".spool";
+
+	private final boolean enabled;
+	private final Path spoolDirectory;
+	private final long uploadThresholdBytes; // 스풀 파일을 업로드할 크기 기준
+	private final long mapRegionBytes;
+	private final String jobName;
+	private final GcsCompositeUploader uploader;
+
+	private final Map<Long, ActiveSpool> activeSpools = new ConcurrentHashMap<>(); // stepExecutionId => 진행 중인 스풀
+	private final List<Path> recoveredManifests = new ArrayList<>(); // 복구 후 BigQuery 로드를 기다리는 manifest
+
+	// 생성자
+	@Autowired
+	public SpoolStagingService(@Value("${app.batch.staging.mode:direct}") String stagingMode,
+		@Value("${app.batch.staging.spool.directory:${java.io.tmpdir}/bigquery-spool}") String spoolDirectory,
+		@Value("${app.batch.staging.spool.upload-threshold-bytes:268435456}") long uploadThresholdBytes,
+		@Value("${app.batch.staging.spool.map-region-bytes:67108864}") long mapRegionBytes,
+		@Value("${app.batch.job-name}") String jobName,
+		GcsCompositeUploader uploader) {
+		this.enabled = MODE_SPOOL.equalsIgnoreCase(stagingMode);
+		this.spoolDirectory = Paths.get(spoolDirectory);
+		this.uploadThresholdBytes = uploadThresholdBytes;
+		this.mapRegionBytes = mapRegionBytes;
+		this.jobName = jobName;
+		this.uploader = uploader;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	// 인코딩된 chunk 를 스풀에 추가하고 커밋 => 한도를 넘으면 업로드 후 GCS URI 반환, 아니면 null
+	public synchronized String append(StepExecution stepExecution, PooledBufferOutputStream data,
+		Timestamp chunkMaxTimestamp) throws IOException {
+		ActiveSpool spool = activeSpools.get(stepExecution.getId());
+		if (spool == null) {
+			Files.createDirectories(spoolDirectory);
+			SpoolManifest manifest = new SpoolManifest();
+			manifest.setStepExecutionId(stepExecution.getId());
+			spool = new ActiveSpool(manifest, manifestPath(stepExecution.getId()));
+			activeSpools.put(stepExecution.getId(), spool);
+		}
+
+		SpoolFile file = spool.openSegment();
+		for (ByteBuffer segment : data.readableSegments()) {
+			file.append(segment);
+		}
+
+		// 데이터를 디스크에 반영한 뒤 manifest 갱신 => manifest 에 기록된 길이까지는 항상 복구 가능
+		SpoolManifest manifest = spool.manifest;
+		manifest.setCommittedBytes(file.commit());
+		if (chunkMaxTimestamp != null
+			&& (manifest.getMaxTimestamp() == null || chunkMaxTimestamp.after(manifest.getMaxTimestamp()))) {
+			manifest.setMaxTimestamp(chunkMaxTimestamp);
+		}
+		manifest.store(spool.manifestPath);
+
+		if (file.size() >= uploadThresholdBytes) {
+			return uploadSegment(spool);
+		}
+		return null;
+	}
+
+	// 스텝 종료 시 남은 스풀 업로드 => 업로드한 GCS URI 반환, 남은 데이터가 없으면 null
+	public synchronized String flush(StepExecution stepExecution) throws IOException {
+		ActiveSpool spool = activeSpools.get(stepExecution.getId());
+		if (spool == null || spool.file == null || spool.file.size() == 0) {
+			return null;
+		}
+		return uploadSegment(spool);
+	}
+
+	// BigQuery 로드 성공 후 스텝의 스풀 상태 정리
+	public synchronized void complete(StepExecution stepExecution) {
+		ActiveSpool spool = activeSpools.remove(stepExecution.getId());
+		if (spool != null) {
+			spool.closeSegment();
+			deleteQuietly(spool.manifestPath);
+		}
+	}
+
+	// 스텝 실패 (또는 로드 실패) 시 스풀을 실행 중 목록에서 제거 => manifest 와 스풀 파일은 남겨 다음 recover() 가 업로드/로드
+	// 제거하지 않으면 같은 JVM 에서 이어지는 실행의 recover() 가 실행 중인 스풀로 보고 건너뜀
+	public synchronized void release(StepExecution stepExecution) {
+		ActiveSpool spool = activeSpools.remove(stepExecution.getId());
+		if (spool != null) {
+			spool.closeSegment();
+			log.info("실패한 스텝의 스풀을 복구 대상으로 남김: manifest = {}", spool.manifestPath);
+		}
+		recoveredManifests.clear(); // 로드되지 않은 복구 manifest 는 디스크에 남아 있음 => 다음 recover() 가 다시 찾음
+	}
+
+	// 이전 실행이 남긴 스풀 복구 => 커밋된 데이터를 업로드하고, 업로드된 전체 URI 와 최신 타임스탬프 반환
+	public synchronized SpoolRecovery recover() throws IOException {
+		List<String> gcsFileUris = new ArrayList<>();
+		Timestamp maxTimestamp = null;
+
+		if (!enabled || !Files.isDirectory(spoolDirectory)) {
+			return new SpoolRecovery(gcsFileUris, null);
+		}
+
+		try (DirectoryStream<Path> manifests = Files.newDirectoryStream(spoolDirectory, jobName + "_*" + MANIFEST_SUFFIX)) {
+			for (Path manifestPath : manifests) {
+				SpoolManifest manifest = SpoolManifest.load(manifestPath);
+				if (activeSpools.containsKey(manifest.getStepExecutionId())) {
+					continue; // 현재 실행 중인 스텝의 스풀은 제외
+				}
+				log.info("이전 실행의 스풀 복구: manifest = {}, 커밋된 크기 = {}", manifestPath, manifest.getCommittedBytes());
+
+				ActiveSpool spool = new ActiveSpool(manifest, manifestPath);
+				Path segmentPath = segmentPath(manifest.getStepExecutionId(), manifest.getSegmentSeq());
+				if (manifest.getCommittedBytes() > 0 && Files.exists(segmentPath)) {
+					spool.file = SpoolFile.open(segmentPath, manifest.getCommittedBytes(), mapRegionBytes);
+					uploadSegment(spool);
+				} else {
+					deleteQuietly(segmentPath);
+				}
+
+				gcsFileUris.addAll(manifest.getUploadedUris());
+				if (manifest.getMaxTimestamp() != null
+					&& (maxTimestamp == null || manifest.getMaxTimestamp().after(maxTimestamp))) {
+					maxTimestamp = manifest.getMaxTimestamp();
+				}
+				recoveredManifests.add(manifestPath);
+			}
+		}
+		return new SpoolRecovery(gcsFileUris, maxTimestamp);
+	}
+
+	// 복구한 스풀이 BigQuery 에 로드된 후 manifest 정리
+	public synchronized void completeRecovered() {
+		recoveredManifests.forEach(this::deleteQuietly);
+		recoveredManifests.clear();
+	}
+
+	// 현재 스풀 파일을 마감하고 업로드 => manifest 에 URI 를 남기고 다음 순번 파일로 전환
+	private String uploadSegment(ActiveSpool spool) throws IOException {
+		SpoolManifest manifest = spool.manifest;
+		SpoolFile file = spool.file;
+		file.seal();
+
+		String objectName = String.format("batch_load_spool_%d_%d_%s.csv",
+			manifest.getStepExecutionId(), manifest.getSegmentSeq(), UUID.randomUUID());
+		GcsUploadEvent uploadEvent = GcsUploadEvent.start();
+		StepRunStats stepRunStats = StepRunStats.forStep(manifest.getStepExecutionId());
+		long uploadStart = System.nanoTime();
+		String gcsUri;
+		stepRunStats.beginUpload();
+		try {
+			gcsUri = uploader.upload(file.getPath(), objectName, "text/csv");
+		} finally {
+			stepRunStats.endUpload();
+		}
+		long uploadNanos = System.nanoTime() - uploadStart;
+		uploadEvent.finish(jobName, manifest.getStepExecutionId(), MODE_SPOOL, objectName, file.size());
+		EtlMetrics.gcsUploadTimer(jobName, MODE_SPOOL).record(uploadNanos, TimeUnit.NANOSECONDS);
+		stepRunStats.addUpload(uploadNanos);
+		log.info("스풀 파일 업로드 성공: URI = {}, 크기 = {}", gcsUri, file.size());
+
+		manifest.getUploadedUris().add(gcsUri);
+		manifest.setSegmentSeq(manifest.getSegmentSeq() + 1);
+		manifest.setCommittedBytes(0);
+		manifest.store(spool.manifestPath);
+
+		spool.closeSegment();
+		deleteQuietly(file.getPath());
+		return gcsUri;
+	}
+
+	private Path manifestPath(long stepExecutionId) {
+		return spoolDirectory.resolve(jobName + "_" + stepExecutionId + MANIFEST_SUFFIX);
+	}
+
+	private Path segmentPath(long stepExecutionId, int segmentSeq) {
+		return spoolDirectory.resolve(jobName + "_" + stepExecutionId + "_" + segmentSeq + SPOOL_SUFFIX);
+	}
+
+	private void deleteQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.warn("스풀 파일 삭제 실패: 파일 = {}, 오류 = {}", path, e.getMessage());
+		}
+	}
+
+	// 복구 결과
+	public record SpoolRecovery(List<String> gcsFileUris, Timestamp maxTimestamp) {
+	}
+
+	// 스텝 하나의 진행 중인 스풀 상태
+	private final class ActiveSpool {
+		private final SpoolManifest manifest;
+		private final Path manifestPath;
+		private SpoolFile file;
+
+		private ActiveSpool(SpoolManifest manifest, Path manifestPath) {
+			this.manifest = manifest;
+			this.manifestPath = manifestPath;
+		}
+
+		private SpoolFile openSegment() throws IOException {
+			if (file == null) {
+				Path path = segmentPath(manifest.getStepExecutionId(), manifest.getSegmentSeq());
+				file = SpoolFile.open(path, manifest.getCommittedBytes(), mapRegionBytes);
+			}
+			return file;
+		}
+
+		private void closeSegment() {
+			if (file != null) {
+				try {
+					file.close();
+				} catch (IOException e) {
+					log.warn("스풀 파일 닫기 실패: 파일 = {}, 오류 = {}", file.getPath(), e.getMessage());
+				}
+				file = null;
+			}
+		}
+	}
+}
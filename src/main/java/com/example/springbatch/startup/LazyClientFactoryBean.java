@@ -0,0 +1,49 @@
+package com.example.springbatch.startup;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.LazyInitTargetSource;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.FactoryBean;
+
+public class LazyClientFactoryBean<T> implements FactoryBean<T>, BeanFactoryAware { // 처음 메서드를 호출할 때 대상 빈을 만드는 인터페이스 프록시
+	// 생성자 인자가 Class, String 뿐 => AOT 가 빈 정의를 코드로 생성할 수 있음
+
+	private final Class<T> type;
+	private final String targetBeanName;
+	private BeanFactory beanFactory;
+
+	public LazyClientFactoryBean(Class<T> type, String targetBeanName) {
+		this.type = type;
+		this.targetBeanName = targetBeanName;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getObject() {
+		LazyInitTargetSource targetSource = new LazyInitTargetSource(); // 첫 호출에서 getBean 후 캐시 (동기화됨)
+		targetSource.setTargetBeanName(targetBeanName);
+		targetSource.setTargetClass(type);
+		targetSource.setBeanFactory(beanFactory);
+
+		ProxyFactory proxyFactory = new ProxyFactory();
+		proxyFactory.setTargetSource(targetSource);
+		proxyFactory.addInterface(type);
+		return (T)proxyFactory.getProxy(type.getClassLoader());
+	}
+
+	@Override
+	public Class<T> getObjectType() {
+		return type;
+	}
+
+	@Override
+	public boolean isSingleton() {
+		return true;
+	}
+}
@@ -0,0 +1,98 @@
+package com.example.springbatch.startup;
+
+import java.util.List;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.storage.Storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LazyGcpClientPostProcessor implements BeanDefinitionRegistryPostProcessor { // GCP 클라이언트를 처음 사용할 때 생성
+	// 시작 시 BigQuery/Storage 클라이언트 생성 = 인증 정보 로드 + 프로젝트 ID 조회(메타데이터 서버일 수 있음) + HTTP transport 초기화
+	// => 변경이 없는(NOOP) 짧은 실행은 로드/업로드를 하지 않는데도 이 비용을 그대로 냄
+	// 1. BigQuery, Storage: 원래 정의는 "<이름>.lazyTarget" 으로 옮기고 원래 이름에 지연 생성 프록시 등록 => 주입하는 쪽은 그대로
+	// 2. 애플리케이션이 쓰지 않는 GCP 빈 (BigQueryTemplate, Storage Write API 클라이언트, 인증 정보, GCP 자동 설정 클래스): lazy-init
+	// 인증 오류 등은 시작 시점이 아니라 첫 로드/업로드 시점에 드러남
+
+	public static final String TARGET_SUFFIX = ".lazyTarget";
+
+	private static final List<Class<?>> PROXIED_TYPES = List.of(BigQuery.class, Storage.class);
+	private static final List<String> LAZY_TYPE_NAMES = List.of(
+		"com.google.cloud.spring.bigquery.core.BigQueryTemplate",
+		"com.google.cloud.bigquery.storage.v1.BigQueryWriteClient",
+		"com.google.api.gax.core.CredentialsProvider",
+		"com.google.cloud.spring.core.GcpProjectIdProvider");
+	private static final String GCP_AUTOCONFIGURE_PACKAGE = "com.google.cloud.spring.autoconfigure.";
+
+	private final boolean enabled;
+
+	public LazyGcpClientPostProcessor(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Override
+	public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+		if (!enabled || !(registry instanceof ConfigurableListableBeanFactory beanFactory)) {
+			return;
+		}
+
+		int proxied = 0;
+		for (Class<?> type : PROXIED_TYPES) {
+			for (String beanName : beanFactory.getBeanNamesForType(type, true, false)) {
+				// AOT 로 생성한 컨텍스트에는 이미 바뀐 정의가 들어 있음 => 다시 감싸지 않음
+				if (beanName.endsWith(TARGET_SUFFIX) || registry.containsBeanDefinition(beanName + TARGET_SUFFIX)) {
+					continue;
+				}
+				proxy(registry, beanName, type);
+				proxied++;
+			}
+		}
+
+		ClassLoader classLoader = beanFactory.getBeanClassLoader();
+		for (String typeName : LAZY_TYPE_NAMES) {
+			if (!ClassUtils.isPresent(typeName, classLoader)) {
+				continue;
+			}
+			for (String beanName : beanFactory.getBeanNamesForType(
+				ClassUtils.resolveClassName(typeName, classLoader), true, false)) {
+				registry.getBeanDefinition(beanName).setLazyInit(true);
+			}
+		}
+		for (String beanName : registry.getBeanDefinitionNames()) {
+			BeanDefinition definition = registry.getBeanDefinition(beanName);
+			String className = definition.getBeanClassName();
+			if (className != null && className.startsWith(GCP_AUTOCONFIGURE_PACKAGE)) {
+				definition.setLazyInit(true);
+			}
+		}
+		log.info("GCP 클라이언트 지연 생성: 프록시 = {}", proxied);
+	}
+
+	@Override
+	public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+	}
+
+	private static void proxy(BeanDefinitionRegistry registry, String beanName, Class<?> type) {
+		BeanDefinition target = registry.getBeanDefinition(beanName);
+		registry.removeBeanDefinition(beanName);
+		target.setLazyInit(true);
+		target.setAutowireCandidate(false); // 타입으로 주입할 때는 프록시만 후보
+		registry.registerBeanDefinition(beanName + TARGET_SUFFIX, target);
+
+		RootBeanDefinition proxy = new RootBeanDefinition(LazyClientFactoryBean.class);
+		proxy.setTargetType(ResolvableType.forClassWithGenerics(LazyClientFactoryBean.class, type));
+		proxy.getConstructorArgumentValues().addIndexedArgumentValue(0, type);
+		proxy.getConstructorArgumentValues().addIndexedArgumentValue(1, beanName + TARGET_SUFFIX);
+		proxy.setPrimary(target.isPrimary());
+		registry.registerBeanDefinition(beanName, proxy);
+	}
+}
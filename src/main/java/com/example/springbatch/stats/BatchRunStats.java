@@ -0,0 +1,57 @@
+package com.example.springbatch.stats;
+
+import java.sql.Timestamp;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BatchRunStats { // batch_run_stats 테이블 한 행 => 스텝 실행 한 번의 성능 기록
+
+	private Long id;
+	private String jobName;
+	private Long jobExecutionId;
+	private Long stepExecutionId;
+	private String status; // 스텝 ExitStatus
+
+	private Timestamp startedAt;
+	private Timestamp endedAt;
+
+	private long rowsRead;
+	private long rowsWritten;
+	private long rowsFiltered;
+	private long bytesStaged; // 인코딩된 CSV 크기
+	private int fileCount; // BigQuery 로드에 사용한 GCS 파일 수
+
+	// 단계별 소요 시간 (밀리초)
+	private long stepMillis;
+	private long readMillis;
+	private long encodeMillis;
+	private long uploadMillis;
+	private long loadMillis; // 로드 작업 생성 ~ 완료 대기 (클라이언트 기준)
+
+	// BigQuery 로드 작업 통계 (JobStatistics.LoadStatistics)
+	private Long loadQueueMillis;
+	private Long loadRunMillis;
+	private Long loadOutputRows;
+	private Long loadInputBytes;
+	private Long loadBadRecords;
+
+	// 워터마크 진행
+	private Timestamp watermarkFrom;
+	private Timestamp watermarkTo;
+
+	// 스텝 전체 기준 처리량 (스테이징된 행 / 초)
+	public double rowsPerSecond() {
+		return stepMillis <= 0 ? 0 : rowsWritten * 1000.0 / stepMillis;
+	}
+
+	// 워터마크 진행 폭 (초)
+	public long watermarkAdvanceSeconds() {
+		if (watermarkFrom == null || watermarkTo == null) {
+			return 0;
+		}
+		return Math.max(0, (watermarkTo.getTime() - watermarkFrom.getTime()) / 1000);
+	}
+}
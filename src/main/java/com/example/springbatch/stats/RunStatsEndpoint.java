@@ -0,0 +1,32 @@
+package com.example.springbatch.stats;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "runstats")
+public class RunStatsEndpoint { // 실행 기록 추이 조회 => GET /actuator/runstats/{jobName}?baselineRuns=7&threshold=20
+
+	private final RunStatsRepository repository;
+	private final RunStatsSettings settings; // 기본 비교 기준 => 스텝 종료 시 경고와 같은 값
+
+	// 생성자
+	@Autowired
+	public RunStatsEndpoint(RunStatsRepository repository, RunStatsSettings settings) {
+		this.repository = repository;
+		this.settings = settings;
+	}
+
+	@ReadOperation
+	public RunStatsTrend.Report trend(@Selector String jobName, @Nullable Integer baselineRuns,
+		@Nullable Double threshold) {
+		int runs = baselineRuns == null ? settings.getBaselineRuns() : baselineRuns;
+		double thresholdPercent = threshold == null ? settings.getRegressionThresholdPercent() : threshold;
+		return RunStatsTrend.analyze(jobName, repository.findRecent(jobName, settings.fetchSize(runs)), runs,
+			thresholdPercent);
+	}
+}
@@ -0,0 +1,147 @@
+package com.example.springbatch.stats;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RunStatsRepository { // batch_run_stats 테이블 저장/조회
+
+	// MySQL, H2 에서 모두 실행 가능한 DDL => 처음 기록할 때 한 번 실행
+	private static final String CREATE_TABLE_SQL = """
+		CREATE TABLE IF NOT EXISTS batch_run_stats (
+			id BIGINT AUTO_INCREMENT PRIMARY KEY,
+			job_name VARCHAR(100) NOT NULL,
+			job_execution_id BIGINT NULL,
+			step_execution_id BIGINT NULL,
+			status VARCHAR(20) NOT NULL,
+			started_at TIMESTAMP(6) NULL,
+			ended_at TIMESTAMP(6) NULL,
+			rows_read BIGINT NOT NULL,
+			rows_written BIGINT NOT NULL,
+			rows_filtered BIGINT NOT NULL,
+			bytes_staged BIGINT NOT NULL,
+			file_count INT NOT NULL,
+			step_ms BIGINT NOT NULL,
+			read_ms BIGINT NOT NULL,
+			encode_ms BIGINT NOT NULL,
+			upload_ms BIGINT NOT NULL,
+			load_ms BIGINT NOT NULL,
+			load_queue_ms BIGINT NULL,
+			load_run_ms BIGINT NULL,
+			load_output_rows BIGINT NULL,
+			load_input_bytes BIGINT NULL,
+			load_bad_records BIGINT NULL,
+			watermark_from TIMESTAMP(6) NULL,
+			watermark_to TIMESTAMP(6) NULL
+		)""";
+
+	private static final String INSERT_SQL = "INSERT INTO batch_run_stats (job_name, job_execution_id, "
+		+ "step_execution_id, status, started_at, ended_at, rows_read, rows_written, rows_filtered, bytes_staged, "
+		+ "file_count, step_ms, read_ms, encode_ms, upload_ms, load_ms, load_queue_ms, load_run_ms, load_output_rows, "
+		+ "load_input_bytes, load_bad_records, watermark_from, watermark_to) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String SELECT_RECENT_SQL = "SELECT * FROM batch_run_stats WHERE job_name = ? "
+		+ "ORDER BY id DESC LIMIT ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private volatile boolean tableReady;
+
+	// 생성자
+	@Autowired
+	public RunStatsRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	public void save(BatchRunStats stats) {
+		ensureTable();
+		jdbcTemplate.update(INSERT_SQL, ps -> {
+			int i = 1;
+			ps.setString(i++, stats.getJobName());
+			setLong(ps, i++, stats.getJobExecutionId());
+			setLong(ps, i++, stats.getStepExecutionId());
+			ps.setString(i++, stats.getStatus());
+			ps.setTimestamp(i++, stats.getStartedAt());
+			ps.setTimestamp(i++, stats.getEndedAt());
+			ps.setLong(i++, stats.getRowsRead());
+			ps.setLong(i++, stats.getRowsWritten());
+			ps.setLong(i++, stats.getRowsFiltered());
+			ps.setLong(i++, stats.getBytesStaged());
+			ps.setInt(i++, stats.getFileCount());
+			ps.setLong(i++, stats.getStepMillis());
+			ps.setLong(i++, stats.getReadMillis());
+			ps.setLong(i++, stats.getEncodeMillis());
+			ps.setLong(i++, stats.getUploadMillis());
+			ps.setLong(i++, stats.getLoadMillis());
+			setLong(ps, i++, stats.getLoadQueueMillis());
+			setLong(ps, i++, stats.getLoadRunMillis());
+			setLong(ps, i++, stats.getLoadOutputRows());
+			setLong(ps, i++, stats.getLoadInputBytes());
+			setLong(ps, i++, stats.getLoadBadRecords());
+			ps.setTimestamp(i++, stats.getWatermarkFrom());
+			ps.setTimestamp(i, stats.getWatermarkTo());
+		});
+	}
+
+	// 최근 실행 기록 (최신순)
+	public List<BatchRunStats> findRecent(String jobName, int limit) {
+		ensureTable();
+		return jdbcTemplate.query(SELECT_RECENT_SQL, this::mapRow, jobName, limit);
+	}
+
+	private void ensureTable() {
+		if (!tableReady) {
+			jdbcTemplate.execute(CREATE_TABLE_SQL);
+			tableReady = true;
+		}
+	}
+
+	private BatchRunStats mapRow(ResultSet rs, int rowNum) throws SQLException {
+		return BatchRunStats.builder()
+			.id(rs.getLong("id"))
+			.jobName(rs.getString("job_name"))
+			.jobExecutionId(getLong(rs, "job_execution_id"))
+			.stepExecutionId(getLong(rs, "step_execution_id"))
+			.status(rs.getString("status"))
+			.startedAt(rs.getTimestamp("started_at"))
+			.endedAt(rs.getTimestamp("ended_at"))
+			.rowsRead(rs.getLong("rows_read"))
+			.rowsWritten(rs.getLong("rows_written"))
+			.rowsFiltered(rs.getLong("rows_filtered"))
+			.bytesStaged(rs.getLong("bytes_staged"))
+			.fileCount(rs.getInt("file_count"))
+			.stepMillis(rs.getLong("step_ms"))
+			.readMillis(rs.getLong("read_ms"))
+			.encodeMillis(rs.getLong("encode_ms"))
+			.uploadMillis(rs.getLong("upload_ms"))
+			.loadMillis(rs.getLong("load_ms"))
+			.loadQueueMillis(getLong(rs, "load_queue_ms"))
+			.loadRunMillis(getLong(rs, "load_run_ms"))
+			.loadOutputRows(getLong(rs, "load_output_rows"))
+			.loadInputBytes(getLong(rs, "load_input_bytes"))
+			.loadBadRecords(getLong(rs, "load_bad_records"))
+			.watermarkFrom(rs.getTimestamp("watermark_from"))
+			.watermarkTo(rs.getTimestamp("watermark_to"))
+			.build();
+	}
+
+	private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+		if (value == null) {
+			ps.setNull(index, Types.BIGINT);
+		} else {
+			ps.setLong(index, value);
+		}
+	}
+
+	private static Long getLong(ResultSet rs, String column) throws SQLException {
+		long value = rs.getLong(column);
+		return rs.wasNull() ? null : value;
+	}
+}
@@ -0,0 +1,33 @@
+package com.example.springbatch.stats;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RunStatsSettings { // 성능 저하 판단 기준 => 스텝 종료 시 경고(리스너)와 /actuator/runstats 가 같은 값을 사용
+
+	private final int baselineRuns; // 비교 기준으로 삼을 이전 실행 수
+	private final double regressionThresholdPercent; // 이 비율 이상 나빠지면 성능 저하로 판단
+
+	// 생성자
+	@Autowired
+	public RunStatsSettings(@Value("${app.batch.run-stats.baseline-runs:7}") int baselineRuns,
+		@Value("${app.batch.run-stats.regression-threshold-percent:20}") double regressionThresholdPercent) {
+		this.baselineRuns = baselineRuns;
+		this.regressionThresholdPercent = regressionThresholdPercent;
+	}
+
+	public int getBaselineRuns() {
+		return baselineRuns;
+	}
+
+	public double getRegressionThresholdPercent() {
+		return regressionThresholdPercent;
+	}
+
+	// 실패한 실행은 비교에서 제외되므로 기준 실행 수보다 넉넉하게 조회
+	public int fetchSize(int baselineRuns) {
+		return (baselineRuns + 1) * 2;
+	}
+}
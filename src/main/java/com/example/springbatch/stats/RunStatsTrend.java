@@ -0,0 +1,91 @@
+package com.example.springbatch.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+public final class RunStatsTrend { // 최근 실행과 이전 실행들의 중앙값을 비교하여 성능 저하 판단
+	// 실행마다 처리 행 수가 다르므로 단계별 시간은 1,000 행당 시간으로 정규화해서 비교
+
+	private static final String COMPLETED = "COMPLETED";
+
+	private RunStatsTrend() {}
+
+	// runs: 최신순 실행 기록, baselineRuns: 기준으로 삼을 이전 실행 수, thresholdPercent: 저하로 판단할 변화율
+	public static Report analyze(String jobName, List<BatchRunStats> runs, int baselineRuns,
+		double thresholdPercent) {
+		List<BatchRunStats> completed = runs.stream()
+			.filter(run -> COMPLETED.equals(run.getStatus()) && run.getRowsWritten() > 0)
+			.toList();
+		if (completed.isEmpty()) {
+			return new Report(jobName, null, List.of(), List.of(), List.of());
+		}
+
+		BatchRunStats latest = completed.get(0);
+		List<BatchRunStats> baseline = completed.subList(1, Math.min(completed.size(), baselineRuns + 1));
+
+		List<MetricTrend> metrics = new ArrayList<>();
+		metrics.add(compare("rows_per_second", latest, baseline, BatchRunStats::rowsPerSecond, false));
+		metrics.add(compare("step_ms_per_1k_rows", latest, baseline, run -> perThousandRows(run, run.getStepMillis()), true));
+		metrics.add(compare("read_ms_per_1k_rows", latest, baseline, run -> perThousandRows(run, run.getReadMillis()), true));
+		metrics.add(compare("encode_ms_per_1k_rows", latest, baseline, run -> perThousandRows(run, run.getEncodeMillis()), true));
+		metrics.add(compare("upload_ms_per_1k_rows", latest, baseline, run -> perThousandRows(run, run.getUploadMillis()), true));
+		metrics.add(compare("load_ms_per_1k_rows", latest, baseline, run -> perThousandRows(run, run.getLoadMillis()), true));
+
+		List<MetricTrend> regressions = baseline.isEmpty() ? List.of() : metrics.stream()
+			.filter(metric -> metric.regressionPercent() > thresholdPercent)
+			.toList();
+
+		List<RunSummary> history = runs.stream().map(RunSummary::of).toList();
+		return new Report(jobName, RunSummary.of(latest), history, metrics, regressions);
+	}
+
+	private static MetricTrend compare(String name, BatchRunStats latest, List<BatchRunStats> baseline,
+		ToDoubleFunction<BatchRunStats> metric, boolean higherIsWorse) {
+		double latestValue = metric.applyAsDouble(latest);
+		double baselineValue = median(baseline.stream().mapToDouble(metric).sorted().toArray());
+
+		// 나빠진 방향으로 변한 비율 (%) => 좋아졌으면 음수
+		double regressionPercent = 0;
+		if (baselineValue > 0) {
+			double change = (latestValue - baselineValue) / baselineValue * 100;
+			regressionPercent = higherIsWorse ? change : -change;
+		}
+		return new MetricTrend(name, latestValue, baselineValue, regressionPercent);
+	}
+
+	private static double perThousandRows(BatchRunStats run, long millis) {
+		return run.getRowsWritten() == 0 ? 0 : millis * 1000.0 / run.getRowsWritten();
+	}
+
+	private static double median(double[] sorted) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int middle = sorted.length / 2;
+		return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+	}
+
+	public record Report(String jobName, RunSummary latest, List<RunSummary> history, List<MetricTrend> metrics,
+						 List<MetricTrend> regressions) {
+
+		public boolean hasRegression() {
+			return !regressions.isEmpty();
+		}
+	}
+
+	public record MetricTrend(String name, double latest, double baseline, double regressionPercent) {
+	}
+
+	public record RunSummary(Long stepExecutionId, String status, String startedAt, long rowsWritten,
+							 long bytesStaged, int fileCount, long stepMillis, double rowsPerSecond,
+							 long watermarkAdvanceSeconds) {
+
+		static RunSummary of(BatchRunStats run) {
+			return new RunSummary(run.getStepExecutionId(), run.getStatus(),
+				run.getStartedAt() == null ? null : run.getStartedAt().toString(), run.getRowsWritten(),
+				run.getBytesStaged(), run.getFileCount(), run.getStepMillis(), run.rowsPerSecond(),
+				run.watermarkAdvanceSeconds());
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package com.example.springbatch.stats;
+
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+public class StepRunStats { // 실행 중인 스텝의 단계별 소요 시간/크기 누적
+	// Reader(prefetch 스레드 포함), Writer, 스풀 업로드에서 누적하고 스텝 종료 시 listener 가 batch_run_stats 에 기록
+
+	// stepExecutionId => 진행 중인 스텝 통계
+	private static final Map<Long, StepRunStats> ACTIVE = new ConcurrentHashMap<>();
+
+	private final LongAdder readNanos = new LongAdder(); // 페이지 쿼리 시간
+	private final LongAdder encodeNanos = new LongAdder(); // CSV 인코딩 시간
+	private final LongAdder uploadNanos = new LongAdder(); // GCS 업로드 시간
+	private final LongAdder bytesStaged = new LongAdder(); // 인코딩된 CSV 크기
+	private final LongAdder rowsStaged = new LongAdder(); // GCS(또는 스풀)에 스테이징된 행 수
+	private final AtomicInteger inFlightUploads = new AtomicInteger(); // 진행 중인 GCS 업로드 수
+
+	// 진행 상황 조회용 => chunk 마다 덮어씀 (스텝 스레드에서 쓰고 endpoint 에서 읽음)
+	private volatile Timestamp watermarkFrom; // 이번 실행의 시작 타임스탬프
+	private volatile Timestamp positionLastModified; // 마지막으로 스테이징된 행의 keyset 위치
+	private volatile Long positionKey;
+
+	public static StepRunStats forStep(Long stepExecutionId) {
+		if (stepExecutionId == null) {
+			return new StepRunStats(); // 저장되지 않은 StepExecution => 누적하지 않음
+		}
+		return ACTIVE.computeIfAbsent(stepExecutionId, id -> new StepRunStats());
+	}
+
+	public static StepRunStats forStep(StepExecution stepExecution) {
+		return forStep(stepExecution.getId());
+	}
+
+	// 현재 스레드에서 실행 중인 스텝의 통계 (스텝 밖이면 null)
+	public static StepRunStats current() {
+		StepContext context = StepSynchronizationManager.getContext();
+		return context == null ? null : forStep(context.getStepExecution());
+	}
+
+	// 진행 중인 스텝의 통계 조회 (없으면 null, 새로 만들지 않음)
+	public static StepRunStats find(Long stepExecutionId) {
+		return stepExecutionId == null ? null : ACTIVE.get(stepExecutionId);
+	}
+
+	// 스텝 종료 시 통계를 꺼내고 제거
+	public static StepRunStats remove(StepExecution stepExecution) {
+		StepRunStats stats = stepExecution.getId() == null ? null : ACTIVE.remove(stepExecution.getId());
+		return stats == null ? new StepRunStats() : stats;
+	}
+
+	public void addRead(long nanos) {
+		readNanos.add(nanos);
+	}
+
+	public void addEncode(long nanos, long bytes) {
+		encodeNanos.add(nanos);
+		bytesStaged.add(bytes);
+	}
+
+	public void addUpload(long nanos) {
+		uploadNanos.add(nanos);
+	}
+
+	// chunk 스테이징 완료 => 행 수 누적 + keyset 위치 갱신 (chunk 는 정렬 키 순서이므로 마지막 행이 위치)
+	public void addStaged(int rows, Timestamp lastModified, Long key) {
+		rowsStaged.add(rows);
+		if (lastModified != null) {
+			positionLastModified = lastModified;
+			positionKey = key;
+		}
+	}
+
+	public void beginUpload() {
+		inFlightUploads.incrementAndGet();
+	}
+
+	public void endUpload() {
+		inFlightUploads.decrementAndGet();
+	}
+
+	public void setWatermarkFrom(Timestamp watermarkFrom) {
+		this.watermarkFrom = watermarkFrom;
+	}
+
+	public long getReadMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(readNanos.sum());
+	}
+
+	public long getEncodeMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(encodeNanos.sum());
+	}
+
+	public long getUploadMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(uploadNanos.sum());
+	}
+
+	public long getBytesStaged() {
+		return bytesStaged.sum();
+	}
+
+	public long getRowsStaged() {
+		return rowsStaged.sum();
+	}
+
+	public int getInFlightUploads() {
+		return inFlightUploads.get();
+	}
+
+	public Timestamp getWatermarkFrom() {
+		return watermarkFrom;
+	}
+
+	public Timestamp getPositionLastModified() {
+		return positionLastModified;
+	}
+
+	public Long getPositionKey() {
+		return positionKey;
+	}
+}
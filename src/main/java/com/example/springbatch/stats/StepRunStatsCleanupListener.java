@@ -0,0 +1,16 @@
+package com.example.springbatch.stats;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+public class StepRunStatsCleanupListener implements StepExecutionListener { // 스텝 종료 시 StepRunStats 제거
+	// StepRunStats 는 stepExecutionId 별 static 맵 => batch_run_stats 를 기록하지 않는 스텝(스냅샷 파티션 등)도 누적하므로 여기서 정리
+	// 스텝에 가장 먼저 등록 => afterStep 은 등록 역순이므로 기록 리스너가 통계를 꺼낸 뒤 마지막에 호출됨
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		StepRunStats.remove(stepExecution);
+		return null;
+	}
+}
@@ -0,0 +1,138 @@
+package com.example.springbatch.streaming;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.springbatch.lease.SingleFlightJobLauncher;
+import com.example.springbatch.load.BigQueryMergeLoader;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class StreamingJobLauncher implements DisposableBean { // 스트리밍 Job 을 별도 스레드에서 상주 실행
+	// Job 이 실패하면 (BigQuery/MySQL 오류) restart-backoff 후 새 실행으로 다시 시작 => watermark 부터 이어서 읽음
+	// 애플리케이션 종료 시 Tasklet 에 멈춤 요청 => 진행 중인 micro-batch 를 커밋하고 COMPLETED 로 끝남
+	// lease 는 배치 Job 과 같은 이름(app.batch.job-name) => 다른 노드의 배치/스트리밍 실행과 겹치지 않음
+	// 스트리밍 Job 은 빈으로 등록하지 않고 여기서 생성 (PipelineJobFactory 와 같은 이유)
+	// => 컨텍스트의 Job 빈은 하나로 유지 => Boot 의 시작 시 Job 실행(JobLauncherApplicationRunner) 설정 그대로
+	// batch_job_metadata 의 watermark 는 배치 작업과 같은 이름으로 공유 => 배치/스트리밍을 번갈아 실행해도 이어서 진행
+	//
+	// 스트리밍은 insertAll 로 대상 테이블에 바로 추가 => merge 모드(app.batch.load.mode=merge)와 함께 쓰면
+	// 변경된 경매가 upsert 대신 행으로 쌓이고, streaming buffer 의 행은 이후 MERGE/스냅샷이 갱신하지 못함 => 시작 실패
+
+	private final JobLauncher jobLauncher;
+	private final Job streamingJob;
+	private final StreamingTasklet streamingTasklet;
+	private final SingleFlightJobLauncher singleFlightJobLauncher;
+	private final String leaseName;
+	private final long restartBackoffMillis;
+
+	private volatile boolean stopped;
+	private Thread daemon;
+
+	// 생성자
+	@Autowired
+	public StreamingJobLauncher(JobLauncher jobLauncher,
+		JobRepository jobRepository,
+		PlatformTransactionManager transactionManager,
+		StreamingTasklet streamingTasklet,
+		SingleFlightJobLauncher singleFlightJobLauncher,
+		BigQueryMergeLoader mergeLoader,
+		@Value("${app.batch.job-name}") String jobName,
+		@Value("${app.batch.streaming.restart-backoff-seconds:30}") long restartBackoffSeconds) {
+		if (streamingTasklet.isEnabled() && mergeLoader.isEnabled()) {
+			throw new IllegalStateException("스트리밍 모드(app.batch.streaming.enabled=true)는 merge 모드"
+				+ "(app.batch.load.mode=merge)와 함께 사용할 수 없습니다.");
+		}
+		this.jobLauncher = jobLauncher;
+		this.streamingJob = createJob(jobRepository, transactionManager, streamingTasklet, jobName);
+		this.streamingTasklet = streamingTasklet;
+		this.singleFlightJobLauncher = singleFlightJobLauncher;
+		this.leaseName = jobName;
+		this.restartBackoffMillis = TimeUnit.SECONDS.toMillis(Math.max(1, restartBackoffSeconds));
+	}
+
+	// 반복(micro-batch)마다 커밋 => watermark 갱신과 StepExecution/ExecutionContext 저장이 같은 트랜잭션
+	// Tasklet 이 구현한 StepExecutionListener 는 TaskletStep 이 자동 등록
+	private static Job createJob(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+		StreamingTasklet streamingTasklet, String jobName) {
+		Step step = new StepBuilder("mysqlToBigQueryStreamingStep", jobRepository)
+			.tasklet(streamingTasklet, transactionManager)
+			.build();
+		return new JobBuilder(jobName + "Streaming", jobRepository)
+			.start(step)
+			.build();
+	}
+
+	public boolean isEnabled() {
+		return streamingTasklet.isEnabled();
+	}
+
+	public synchronized void start() {
+		if (!isEnabled() || daemon != null || stopped) {
+			return;
+		}
+		daemon = new Thread(this::runLoop, "streaming-daemon");
+		daemon.start();
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		Thread running;
+		synchronized (this) {
+			stopped = true;
+			running = daemon;
+		}
+		streamingTasklet.requestStop();
+		if (running != null) {
+			// 진행 중인 micro-batch 는 마저 커밋하도록 먼저 기다리고, 재시작 대기 중이면 깨움
+			running.join(TimeUnit.SECONDS.toMillis(10));
+			running.interrupt();
+			running.join(TimeUnit.MINUTES.toMillis(1));
+		}
+	}
+
+	private void runLoop() {
+		while (!stopped) {
+			try {
+				JobParameters jobParameters = new JobParametersBuilder()
+					.addLocalDateTime("streamStartTime", LocalDateTime.now())
+					.toJobParameters();
+				JobExecution execution = singleFlightJobLauncher.run(leaseName, jobLauncher, streamingJob, jobParameters);
+				if (stopped) {
+					break;
+				}
+				log.warn("스트리밍 Job 종료 => {}ms 후 다시 시작: 상태 = {}, 오류 = {}", restartBackoffMillis,
+					execution.getStatus(), execution.getAllFailureExceptions());
+			} catch (JobExecutionAlreadyRunningException e) {
+				log.info("다른 실행이 lease 를 보유 중 => {}ms 후 다시 시도: {}", restartBackoffMillis, e.getMessage());
+			} catch (Exception e) {
+				log.error("스트리밍 Job 실행 실패 => {}ms 후 다시 시작", restartBackoffMillis, e);
+			}
+			try {
+				Thread.sleep(restartBackoffMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		log.info("스트리밍 데몬 종료");
+	}
+}
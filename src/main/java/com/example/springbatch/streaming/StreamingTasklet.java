@@ -0,0 +1,347 @@
+package com.example.springbatch.streaming;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import com.example.springbatch.config.BatchJobConfig;
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionProductDto;
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+import com.example.springbatch.job.mysql_to_bigquery.reader.AuctionProductRowMapper;
+import com.example.springbatch.metrics.EtlMetrics;
+import com.example.springbatch.provider.MySqlCustomPagingQueryProvider;
+import com.example.springbatch.reader.SourceThrottle;
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.BigQueryError;
+import com.google.cloud.bigquery.InsertAllRequest;
+import com.google.cloud.bigquery.InsertAllResponse;
+import com.google.cloud.bigquery.TableId;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class StreamingTasklet implements Tasklet, StepExecutionListener { // app.batch.streaming.enabled=true 일 때 상주하며 변경분을 계속 적재
+	// 배치 실행은 매번 JobInstance/JobExecution/StepExecution 생성 + Reader/커넥션 생성 비용을 냄 => 몇 초 간격 폴링에는 부담
+	// => Job 실행 하나를 계속 유지하고, 반복(execute 호출) 하나가 micro-batch 하나
+	// - 전용 커넥션 + PreparedStatement 를 스텝 동안 재사용 (autocommit => 쿼리마다 최신 스냅샷)
+	// - 변경이 없으면 execute 안에서 poll-interval 만큼 쉬며 다시 조회 => 빈 폴링은 Job 저장소에 쓰지 않음
+	//   (idle-heartbeat 마다 한 번 반환해 StepExecution 갱신 => 살아 있음 확인용)
+	// - 변경이 있으면 insertAll 로 바로 적재하고 같은 트랜잭션에서 batch_job_metadata 갱신 => 커밋마다 watermark 진행
+	//   (append 모드 전용 => merge 모드와 함께 켜면 StreamingJobLauncher 가 시작 실패)
+	// - 가득 찬 페이지면 쉬지 않고 다음 페이지 조회 => 밀린 구간도 페이지 단위로 따라잡음
+	// 지연 시간 상한 ~= poll-interval + settle + insertAll 시간
+	//
+	// settle: 아직 커밋되지 않은 트랜잭션이 더 이른 modified_at 으로 늦게 보이는 경우 대비 => 현재 시각 - settle 이전 행만 읽음
+	// 같은 타임스탬프의 행이 페이지 경계에서 나뉠 수 있으므로 watermark 는 페이지 안에서 끝까지 읽은 타임스탬프까지만 진행
+	// => 재시작하면 그 이후 행을 다시 보낼 수 있음 (insertId 로 BigQuery 가 짧은 구간의 중복 제거, at-least-once)
+
+	static final String KEYSET_LAST_MODIFIED = "_last_modified";
+	static final String KEYSET_AUCTION_ID = "_auction_id";
+
+	private final boolean enabled;
+	private final DataSource dataSource;
+	private final JdbcTemplate jdbcTemplate; // batch_job_metadata 갱신 => 스텝 트랜잭션에 참여
+	private final BigQuery bigquery;
+	private final ItemProcessor<AuctionProductDto, AuctionsWinningBidDto> processor;
+	private final SourceThrottle sourceThrottle;
+	private final String jobName;
+	private final TableId tableId;
+	private final long pollIntervalMillis;
+	private final long idleHeartbeatMillis;
+	private final int batchRows; // micro-batch 최대 행 수 (페이지 크기)
+	private final int insertRows; // insertAll 요청 하나에 담을 최대 행 수
+
+	private final String sql; // 위치 파라미터로 바꾼 keyset 쿼리
+	private final ParsedSql parsedSql;
+	private final AuctionProductRowMapper rowMapper = new AuctionProductRowMapper();
+
+	private final Counter emptyPolls;
+	private final Counter rowPolls;
+	private final Counter streamedRows;
+	private final Timer freshness;
+
+	private volatile boolean stopRequested;
+
+	private Connection connection; // 스텝 동안 유지하는 전용 커넥션
+	private PreparedStatement statement;
+	private Timestamp startWatermark;
+	private Timestamp lastModified; // keyset 위치
+	private long lastAuctionId;
+
+	// 생성자
+	@Autowired
+	public StreamingTasklet(DataSource dataSource, JdbcTemplate jdbcTemplate, BigQuery bigquery,
+		ItemProcessor<AuctionProductDto, AuctionsWinningBidDto> processor,
+		SourceThrottle sourceThrottle,
+		@Value("${app.batch.job-name}") String jobName,
+		@Value("${spring.cloud.gcp.bigquery.dataset-name}") String datasetName,
+		@Value("${spring.cloud.gcp.bigquery.table-name}") String tableName,
+		@Value("${app.batch.streaming.enabled:false}") boolean enabled,
+		@Value("${app.batch.streaming.poll-interval-millis:2000}") long pollIntervalMillis,
+		@Value("${app.batch.streaming.settle-seconds:2}") int settleSeconds,
+		@Value("${app.batch.streaming.idle-heartbeat-seconds:60}") long idleHeartbeatSeconds,
+		@Value("${app.batch.streaming.batch-rows:5000}") int batchRows,
+		@Value("${app.batch.streaming.insert-rows:500}") int insertRows) {
+		this.enabled = enabled;
+		this.dataSource = dataSource;
+		this.jdbcTemplate = jdbcTemplate;
+		this.bigquery = bigquery;
+		this.processor = processor;
+		this.sourceThrottle = sourceThrottle;
+		this.jobName = jobName;
+		this.tableId = TableId.of(datasetName, tableName);
+		this.pollIntervalMillis = Math.max(1, pollIntervalMillis);
+		this.idleHeartbeatMillis = TimeUnit.SECONDS.toMillis(Math.max(1, idleHeartbeatSeconds));
+		this.batchRows = Math.max(1, batchRows);
+		this.insertRows = Math.max(1, insertRows);
+
+		String namedSql = queryProvider(settleSeconds).generateRemainingPagesQuery(this.batchRows);
+		this.parsedSql = NamedParameterUtils.parseSqlStatement(namedSql);
+		this.sql = NamedParameterUtils.substituteNamedParameters(parsedSql, null);
+
+		this.emptyPolls = EtlMetrics.streamingPolls(jobName, "empty");
+		this.rowPolls = EtlMetrics.streamingPolls(jobName, "rows");
+		this.streamedRows = EtlMetrics.stageRows(jobName, "stream");
+		this.freshness = EtlMetrics.streamingFreshnessTimer(jobName);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	// 증분 Reader 와 같은 keyset 쿼리 + 정착 시간 상한 (DB 시각 기준 => JVM 시간대와 무관)
+	static MySqlCustomPagingQueryProvider queryProvider(int settleSeconds) {
+		String where = "GREATEST(a.modified_at, p.modified_at) > :lastProcessedTimestamp";
+		if (settleSeconds > 0) {
+			where += " AND GREATEST(a.modified_at, p.modified_at) <= CURRENT_TIMESTAMP(6) - INTERVAL '"
+				+ settleSeconds + "' SECOND";
+		}
+		return new MySqlCustomPagingQueryProvider(BatchJobConfig.AUCTION_PRODUCT_SELECT,
+			BatchJobConfig.AUCTION_PRODUCT_FROM, where);
+	}
+
+	// 다음 반복이 시작되기 전에 멈춤 (진행 중인 micro-batch 는 마저 커밋)
+	public void requestStop() {
+		stopRequested = true;
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		List<Timestamp> watermarks = jdbcTemplate.queryForList(
+			"SELECT last_processed_timestamp FROM batch_job_metadata WHERE job_name = ?", Timestamp.class, jobName);
+		startWatermark = watermarks.isEmpty() || watermarks.get(0) == null
+			? Timestamp.valueOf(BatchJobConfig.DEFAULT_LAST_PROCESSED_TIMESTAMP)
+			: watermarks.get(0);
+		lastModified = startWatermark;
+		lastAuctionId = 0;
+		EtlMetrics.recordWatermark(jobName, startWatermark);
+		log.info("스트리밍 시작: 작업 = {}, watermark = {}, 폴링 간격 = {}ms, micro-batch 최대 = {} 행",
+			jobName, startWatermark, pollIntervalMillis, batchRows);
+	}
+
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+		long idleSince = System.currentTimeMillis();
+		while (true) {
+			if (stopRequested || contribution.getStepExecution().isTerminateOnly()) {
+				return RepeatStatus.FINISHED;
+			}
+
+			List<AuctionProductDto> page = poll();
+			if (!page.isEmpty()) {
+				rowPolls.increment();
+				load(page, contribution);
+				return RepeatStatus.CONTINUABLE; // 커밋 => StepExecution/ExecutionContext/watermark 함께 저장
+			}
+
+			emptyPolls.increment();
+			if (System.currentTimeMillis() - idleSince >= idleHeartbeatMillis) {
+				return RepeatStatus.CONTINUABLE; // 변경 없음 => 가끔만 StepExecution 갱신
+			}
+			try {
+				Thread.sleep(pollIntervalMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return RepeatStatus.FINISHED;
+			}
+		}
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		closeConnection();
+		log.info("스트리밍 종료: 작업 = {}, watermark = {} => keyset 위치 = ({}, {})",
+			jobName, startWatermark, lastModified, lastAuctionId);
+		return null;
+	}
+
+	// keyset 위치 이후의 변경분 한 페이지 조회 => 커넥션이 끊겼으면 다음 폴링에서 새로 연결
+	List<AuctionProductDto> poll() throws SQLException {
+		MapSqlParameterSource parameters = new MapSqlParameterSource()
+			.addValue("lastProcessedTimestamp", startWatermark)
+			.addValue(KEYSET_LAST_MODIFIED, lastModified)
+			.addValue(KEYSET_AUCTION_ID, lastAuctionId);
+		Object[] values = NamedParameterUtils.buildValueArray(parsedSql, parameters, null);
+
+		sourceThrottle.beforeQuery();
+		List<AuctionProductDto> page = new ArrayList<>();
+		try {
+			PreparedStatement ps = preparedStatement();
+			for (int i = 0; i < values.length; i++) {
+				ps.setObject(i + 1, values[i]);
+			}
+			try (ResultSet rs = ps.executeQuery()) {
+				while (rs.next()) {
+					page.add(rowMapper.mapRow(rs, page.size()));
+				}
+			}
+		} catch (SQLException e) {
+			closeConnection();
+			throw e;
+		}
+		sourceThrottle.afterQuery(page.size());
+		return page;
+	}
+
+	private void load(List<AuctionProductDto> page, StepContribution contribution) throws Exception {
+		List<AuctionsWinningBidDto> rows = new ArrayList<>(page.size());
+		for (AuctionProductDto item : page) {
+			AuctionsWinningBidDto row = processor.process(item);
+			if (row != null) {
+				rows.add(row);
+			}
+		}
+		for (int i = 0; i < page.size(); i++) {
+			contribution.incrementReadCount();
+		}
+		contribution.incrementFilterCount(page.size() - rows.size());
+		for (int from = 0; from < rows.size(); from += insertRows) {
+			insert(rows.subList(from, Math.min(rows.size(), from + insertRows)));
+		}
+		contribution.incrementWriteCount(rows.size());
+		streamedRows.increment(rows.size());
+
+		// keyset 위치는 마지막 행까지, watermark 는 끝까지 읽은 타임스탬프까지 진행
+		AuctionProductDto last = page.get(page.size() - 1);
+		lastModified = last.getLastModified();
+		lastAuctionId = last.getAuctionId();
+		Timestamp watermark = completedWatermark(page, page.size() < batchRows);
+		if (watermark != null) {
+			updateWatermark(watermark);
+			EtlMetrics.recordWatermark(jobName, watermark);
+		}
+
+		// 변경 시각 ~ 적재 완료까지 걸린 시간 (페이지에서 가장 늦게 바뀐 행 기준)
+		long lagMillis = System.currentTimeMillis() - lastModified.getTime();
+		freshness.record(Math.max(0, lagMillis), TimeUnit.MILLISECONDS);
+		log.debug("micro-batch 적재: 작업 = {}, 행 = {}, watermark = {}, 지연 = {}ms",
+			jobName, rows.size(), watermark, lagMillis);
+	}
+
+	// 페이지가 가득 찼으면 마지막 타임스탬프의 행이 다음 페이지에 더 있을 수 있음 => 그 직전 타임스탬프까지만 완료로 봄
+	static Timestamp completedWatermark(List<AuctionProductDto> page, boolean drained) {
+		Timestamp last = page.get(page.size() - 1).getLastModified();
+		if (drained) {
+			return last;
+		}
+		for (int i = page.size() - 2; i >= 0; i--) {
+			Timestamp candidate = page.get(i).getLastModified();
+			if (candidate.before(last)) {
+				return candidate;
+			}
+		}
+		return null; // 페이지 전체가 같은 타임스탬프 => 다음 페이지에서 진행
+	}
+
+	private void insert(List<AuctionsWinningBidDto> rows) {
+		InsertAllRequest.Builder request = InsertAllRequest.newBuilder(tableId);
+		for (AuctionsWinningBidDto row : rows) {
+			// 같은 행 버전은 같은 insertId => 재시도/재시작으로 다시 보낸 행은 BigQuery 가 중복 제거 (best effort)
+			request.addRow(row.getAuctionId() + "-" + toEpochMillis(row.getLastModified()), toRow(row));
+		}
+		InsertAllResponse response = bigquery.insertAll(request.build());
+		if (response.hasErrors()) {
+			Map.Entry<Long, List<BigQueryError>> first = response.getInsertErrors().entrySet().iterator().next();
+			throw new IllegalStateException("BigQuery insertAll 실패: 행 = " + response.getInsertErrors().size()
+				+ ", 첫 오류 = " + first.getValue());
+		}
+	}
+
+	// AUCTIONS_WINNING_BID_SCHEMA 컬럼 순서와 같은 insertAll 행
+	static Map<String, Object> toRow(AuctionsWinningBidDto row) {
+		Map<String, Object> values = new LinkedHashMap<>();
+		values.put("auction_id", row.getAuctionId());
+		values.put("product_id", row.getProductId());
+		values.put("product_name", row.getProductName());
+		values.put("product_category", row.getProductCategory());
+		values.put("max_price", row.getMaxPrice());
+		values.put("auction_start_time", toTimestampString(row.getAuctionStartTime()));
+		values.put("auction_end_time", toTimestampString(row.getAuctionEndTime()));
+		return values;
+	}
+
+	private void updateWatermark(Timestamp watermark) {
+		int updatedRows = jdbcTemplate.update(
+			"UPDATE batch_job_metadata SET last_processed_timestamp = ? WHERE job_name = ?", watermark, jobName);
+		if (updatedRows == 0) {
+			jdbcTemplate.update("INSERT INTO batch_job_metadata (job_name, last_processed_timestamp) VALUES (?, ?)",
+				jobName, watermark);
+		}
+	}
+
+	private PreparedStatement preparedStatement() throws SQLException {
+		if (statement == null) {
+			connection = dataSource.getConnection();
+			connection.setAutoCommit(true); // 트랜잭션을 열어두면 REPEATABLE READ 스냅샷에 묶여 새 변경이 안 보임
+			connection.setReadOnly(true);
+			statement = connection.prepareStatement(sql);
+			statement.setFetchSize(batchRows);
+		}
+		return statement;
+	}
+
+	private void closeConnection() {
+		JdbcUtils.closeStatement(statement);
+		JdbcUtils.closeConnection(connection);
+		statement = null;
+		connection = null;
+	}
+
+	private static String toTimestampString(Instant instant) {
+		return instant == null ? null : instant.toString(); // ISO-8601 UTC => BigQuery TIMESTAMP
+	}
+
+	private static long toEpochMillis(Instant instant) {
+		return instant == null ? 0 : instant.toEpochMilli();
+	}
+}
@@ -0,0 +1,81 @@
+package com.example.springbatch;
+
+import com.example.springbatch.snapshot.AuctionIdRangePartitioner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuctionIdRangePartitionerTest {
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(
+			new DriverManagerDataSource("jdbc:h2:mem:snapshot_partition;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+		jdbcTemplate.execute("DROP TABLE IF EXISTS auctions");
+		jdbcTemplate.execute("CREATE TABLE auctions (id BIGINT PRIMARY KEY)");
+	}
+
+	@Test
+	@DisplayName("PK 범위를 빈틈없이 나누고 모든 파티션에 같은 high watermark 기록")
+	void partition_ShouldCoverIdRangeWithSameWatermark() {
+		// given
+		jdbcTemplate.update("INSERT INTO auctions (id) VALUES (11), (50), (110)");
+
+		// when
+		Map<String, ExecutionContext> partitions = new AuctionIdRangePartitioner(jdbcTemplate).partition(4);
+
+		// then
+		assertEquals(4, partitions.size());
+		long expectedMin = 11;
+		Timestamp watermark = null;
+		for (int i = 0; i < 4; i++) {
+			ExecutionContext context = partitions.get("partition" + i);
+			assertEquals(expectedMin, context.getLong(AuctionIdRangePartitioner.MIN_ID_KEY));
+			expectedMin = context.getLong(AuctionIdRangePartitioner.MAX_ID_KEY) + 1;
+
+			Timestamp partitionWatermark = (Timestamp)context.get(AuctionIdRangePartitioner.HIGH_WATERMARK_KEY);
+			assertNotNull(partitionWatermark);
+			if (watermark != null) {
+				assertEquals(watermark, partitionWatermark);
+			}
+			watermark = partitionWatermark;
+		}
+		assertEquals(111, expectedMin); // 마지막 파티션의 상한 = MAX(id)
+	}
+
+	@Test
+	@DisplayName("행 수보다 파티션 수가 많으면 PK 범위 크기만큼만 분할")
+	void partition_SmallRange_ShouldNotCreateEmptyRanges() {
+		// given
+		jdbcTemplate.update("INSERT INTO auctions (id) VALUES (1), (2)");
+
+		// when
+		Map<String, ExecutionContext> partitions = new AuctionIdRangePartitioner(jdbcTemplate).partition(8);
+
+		// then
+		assertEquals(2, partitions.size());
+	}
+
+	@Test
+	@DisplayName("빈 테이블이면 아무 행도 읽지 않는 파티션 하나")
+	void partition_EmptyTable_ShouldCreateEmptyRange() {
+		// when
+		Map<String, ExecutionContext> partitions = new AuctionIdRangePartitioner(jdbcTemplate).partition(4);
+
+		// then
+		assertEquals(1, partitions.size());
+		ExecutionContext context = partitions.get("partition0");
+		assertTrue(context.getLong(AuctionIdRangePartitioner.MIN_ID_KEY) > context.getLong(AuctionIdRangePartitioner.MAX_ID_KEY));
+	}
+}
@@ -2,7 +2,10 @@ package com.example.springbatch;
 
 import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto; // Dto 패키지 경로 수정
 import com.example.springbatch.job.mysql_to_bigquery.writer.BigQueryItemWriter;
+import com.example.springbatch.staging.DirectBufferPool;
+import com.example.springbatch.staging.SpoolStagingService;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
@@ -22,6 +25,8 @@ import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.test.MetaDataInstanceFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.Instant;
@@ -30,6 +35,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +46,12 @@ class BigQueryItemWriterTest {
 	@Mock
 	private Storage mockStorage;
 
+	@Mock
+	private WriteChannel mockWriteChannel;
+
+	@Mock
+	private SpoolStagingService mockSpoolStagingService; // 기본값 isEnabled() = false => chunk 단위 업로드
+
 	@Spy // 실제 객체를 사용하되 일부 메서드는 Mocking 가능한 Spy 객체 사용
 	private CsvMapper csvMapper = new CsvMapper(); // 실제 CsvMapper 사용
 
@@ -53,9 +65,13 @@ class BigQueryItemWriterTest {
 	// 테스트 내에서 StepExecution 을 관리하기 위한 멤버 변수
 	private StepExecution stepExecution;
 
+	// 작은 버퍼를 사용하여 여러 segment 에 나뉘어 기록되는 경우까지 검증
+	private DirectBufferPool bufferPool;
+
 	@BeforeEach
 	void setUp() {
-		writer = new BigQueryItemWriter(mockStorage, testBucketName);
+		bufferPool = new DirectBufferPool(64, 8, 60);
+		writer = new BigQueryItemWriter(mockStorage, testBucketName, bufferPool, mockSpoolStagingService);
 
 		// StepExecution 설정 => 테스트용 메타데이터 사용
 		stepExecution = MetaDataInstanceFactory.createStepExecution();
@@ -83,16 +99,26 @@ class BigQueryItemWriterTest {
 		);
 		Chunk<AuctionsWinningBidDto> chunk = new Chunk<>(items);
 
-		when(mockStorage.create(any(BlobInfo.class), any(byte[].class))).thenReturn(null);
+		// WriteChannel 에 기록된 byte 를 모음
+		ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+		when(mockStorage.writer(any(BlobInfo.class))).thenReturn(mockWriteChannel);
+		when(mockWriteChannel.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+			ByteBuffer segment = invocation.getArgument(0);
+			int length = segment.remaining();
+			byte[] bytes = new byte[length];
+			segment.get(bytes);
+			uploaded.write(bytes);
+			return length;
+		});
 
 		// when
 		writer.write(chunk);
 
 		// then
-		// mockStorage create 메서드가 1번 호출되었는지 확인 + 호출된 값 확인
+		// mockStorage writer 메서드가 1번 호출되었는지 확인 + 호출된 값 확인
 		ArgumentCaptor<BlobInfo> blobInfoCaptor = ArgumentCaptor.forClass(BlobInfo.class); // BlobInfo 캡처
-		ArgumentCaptor<byte[]> csvDataCaptor = ArgumentCaptor.forClass(byte[].class); // byte[] 캡처
-		verify(mockStorage, times(1)).create(blobInfoCaptor.capture(), csvDataCaptor.capture());
+		verify(mockStorage, times(1)).writer(blobInfoCaptor.capture());
+		verify(mockWriteChannel).close();
 
 		// BlobInfo 검증
 		BlobInfo capturedBlobInfo = blobInfoCaptor.getValue();
@@ -103,7 +129,7 @@ class BigQueryItemWriterTest {
 		assertEquals("text/csv", capturedBlobInfo.getContentType());
 
 		// CSV 데이터 내용 검증
-		String csvContent = new String(csvDataCaptor.getValue(), StandardCharsets.UTF_8);
+		String csvContent = new String(uploaded.toByteArray(), StandardCharsets.UTF_8);
 		log.info(csvContent);
 		assertTrue(csvContent.contains("1,101,\"테스트 상품 1\",\"테스트 카테고리 1\",100,"));
 		assertTrue(csvContent.contains("2,102,\"테스트 상품 2\",\"테스트 카테고리 2\",200,"));
@@ -120,6 +146,9 @@ class BigQueryItemWriterTest {
 		Timestamp maxTimestamp = (Timestamp) executionContext.get(MAX_TIMESTAMP_KEY);
 		assertNotNull(maxTimestamp);
 		assertEquals(nowTimestamp.toInstant(), maxTimestamp.toInstant()); // Timestamp 비교 시 나노초가 다를 수 있음 => toInstant() 사용
+
+		// 업로드 후 사용한 버퍼가 모두 풀에 반납되었는지 검증
+		assertEquals(bufferPool.getMissCount(), bufferPool.getIdleCount());
 	}
 
 	@Test
@@ -133,7 +162,7 @@ class BigQueryItemWriterTest {
 
 		// then
 		// GCS Storage create 메서드가 호출되지 않았는지 검증
-		verify(mockStorage, never()).create(any(BlobInfo.class), any(byte[].class));
+		verify(mockStorage, never()).writer(any(BlobInfo.class));
 
 		// ExecutionContext 에 변화가 없는지 확인
 		ExecutionContext executionContext = stepExecution.getExecutionContext();
@@ -141,4 +170,46 @@ class BigQueryItemWriterTest {
 		assertTrue(gcsUris == null || gcsUris.isEmpty()); // 초기화된 상태 그대로여야 함
 		assertNull(executionContext.get(MAX_TIMESTAMP_KEY)); // 타임스탬프 갱신 X
 	}
+
+	@Test
+	@DisplayName("spool 모드: chunk 를 스풀에 추가하고 한도 전에는 업로드하지 않음")
+	void write_SpoolMode_ShouldAppendToSpool() throws Exception {
+		// given
+		Instant now = Instant.now();
+		List<AuctionsWinningBidDto> items = List.of(
+			AuctionsWinningBidDto.builder()
+				.auctionId(1L).productId(101L).productName("테스트 상품 1")
+				.productCategory("테스트 카테고리 1").maxPrice(100L)
+				.auctionStartTime(now).auctionEndTime(now).lastModified(now)
+				.build()
+		);
+		when(mockSpoolStagingService.isEnabled()).thenReturn(true);
+		when(mockSpoolStagingService.append(eq(stepExecution), any(), eq(Timestamp.from(now)))).thenReturn(null);
+
+		// when
+		writer.write(new Chunk<>(items));
+
+		// then
+		verify(mockSpoolStagingService).append(eq(stepExecution), any(), eq(Timestamp.from(now)));
+		verify(mockStorage, never()).writer(any(BlobInfo.class));
+
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		List<String> gcsUris = (List<String>) executionContext.get(GCS_FILE_URIS_KEY);
+		assertTrue(gcsUris.isEmpty()); // 한도 도달 전이므로 URI 없음
+		assertEquals(Timestamp.from(now), executionContext.get(MAX_TIMESTAMP_KEY));
+	}
+
+	@Test
+	@DisplayName("재시작: 이전 실행이 업로드한 GCS 파일 목록을 초기화하지 않고 이어서 추가")
+	void saveStepExecution_Restart_ShouldKeepStagedFiles() {
+		// given: 실패한 스텝에서 이어받은 ExecutionContext
+		StepExecution restarted = MetaDataInstanceFactory.createStepExecution();
+		restarted.getExecutionContext().put(GCS_FILE_URIS_KEY, new ArrayList<>(List.of("gs://test-bucket/prev.csv")));
+
+		// when
+		writer.saveStepExecution(restarted);
+
+		// then
+		assertEquals(List.of("gs://test-bucket/prev.csv"), restarted.getExecutionContext().get(GCS_FILE_URIS_KEY));
+	}
 }
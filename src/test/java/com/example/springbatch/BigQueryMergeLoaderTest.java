@@ -0,0 +1,120 @@
+package com.example.springbatch;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+import com.example.springbatch.job.mysql_to_bigquery.writer.BigQueryItemWriter;
+import com.example.springbatch.load.BigQueryMergeLoader;
+import com.example.springbatch.staging.CsvStagingEncoder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BigQueryMergeLoaderTest {
+
+	private static final List<String> COLUMNS = List.of("auction_id", "product_name", "auction_end_time", "last_modified");
+
+	@Test
+	@DisplayName("staging 이 포함한 날짜 파티션만 IN 목록으로 제한하고 키 기준으로 upsert")
+	void buildMergeSql_ShouldPruneToTouchedPartitions() {
+		// when
+		String sql = BigQueryMergeLoader.buildMergeSql("`ds.t`", "`ds.t_staging_1_2`", COLUMNS, "auction_id",
+			"last_modified", "auction_end_time", List.of("2025-01-02", "2025-01-01"), false);
+
+		// then
+		assertTrue(sql.startsWith("MERGE `ds.t` T"));
+		assertTrue(sql.contains("ON T.auction_id = S.auction_id AND (TIMESTAMP_TRUNC(T.auction_end_time, DAY) IN "
+			+ "(TIMESTAMP '2025-01-01', TIMESTAMP '2025-01-02'))"));
+		assertTrue(sql.contains("UPDATE SET product_name = S.product_name, auction_end_time = S.auction_end_time, "
+			+ "last_modified = S.last_modified"));
+		assertFalse(sql.contains("auction_id = S.auction_id,")); // 키는 갱신하지 않음
+		assertTrue(sql.endsWith("WHEN NOT MATCHED THEN\n  INSERT (auction_id, product_name, auction_end_time, last_modified) "
+			+ "VALUES (S.auction_id, S.product_name, S.auction_end_time, S.last_modified)"));
+	}
+
+	@Test
+	@DisplayName("같은 키 중 버전이 가장 큰 행만 고르고 대상보다 최신인 경우에만 갱신")
+	void buildMergeSql_ShouldKeepLatestVersion() {
+		// when
+		String sql = BigQueryMergeLoader.buildMergeSql("`ds.t`", "`ds.s`", COLUMNS, "auction_id", "last_modified",
+			"auction_end_time", List.of("2025-01-01"), false);
+
+		// then
+		assertTrue(sql.contains("QUALIFY ROW_NUMBER() OVER (PARTITION BY auction_id ORDER BY last_modified DESC) = 1"));
+		assertTrue(sql.contains("WHEN MATCHED AND (T.last_modified IS NULL OR S.last_modified >= T.last_modified) THEN"));
+	}
+
+	@Test
+	@DisplayName("버전 컬럼 없이는 순서 없는 중복 제거로 MERGE 하지 않음")
+	void buildMergeSql_WithoutVersionField_ShouldFail() {
+		// when & then
+		assertThrows(IllegalArgumentException.class, () -> BigQueryMergeLoader.buildMergeSql("`ds.t`", "`ds.s`",
+			COLUMNS, "auction_id", "", "auction_end_time", List.of("2025-01-01"), false));
+		assertThrows(IllegalStateException.class, () -> new BigQueryMergeLoader(null, "merge", "auction_id", "",
+			"auction_end_time", "auction_id"));
+	}
+
+	@Test
+	@DisplayName("merge 모드 CSV 는 last_modified 를 마지막 열로 포함")
+	void mergeCsv_ShouldAppendLastModifiedColumn() throws Exception {
+		// given
+		AuctionsWinningBidDto item = AuctionsWinningBidDto.builder()
+			.auctionId(1L)
+			.productName("item")
+			.lastModified(Instant.parse("2025-01-01T00:00:00Z"))
+			.build();
+		ByteArrayOutputStream appendCsv = new ByteArrayOutputStream();
+		ByteArrayOutputStream mergeCsv = new ByteArrayOutputStream();
+
+		// when
+		new CsvStagingEncoder<AuctionsWinningBidDto>(BigQueryItemWriter.createCsvMapper(), AuctionsWinningBidDto.class)
+			.encode(List.of(item), appendCsv);
+		new CsvStagingEncoder<AuctionsWinningBidDto>(BigQueryItemWriter.createCsvMapper(true), AuctionsWinningBidDto.class)
+			.encode(List.of(item), mergeCsv);
+
+		// then
+		String appendLine = appendCsv.toString(StandardCharsets.UTF_8).trim();
+		String mergeLine = mergeCsv.toString(StandardCharsets.UTF_8).trim();
+		assertEquals(7, appendLine.split(",", -1).length);
+		assertEquals(8, mergeLine.split(",", -1).length);
+		assertTrue(mergeLine.startsWith(appendLine + ","));
+		assertFalse(mergeLine.endsWith(",")); // 마지막 열에 값이 있음
+	}
+
+	@Test
+	@DisplayName("파티션 값이 null 인 행이 있으면 NULL 파티션도 포함")
+	void buildMergeSql_WithNullPartition_ShouldIncludeNullPartition() {
+		// when
+		String sql = BigQueryMergeLoader.buildMergeSql("`ds.t`", "`ds.s`", COLUMNS, "auction_id", "last_modified",
+			"auction_end_time", List.of(), true);
+
+		// then
+		assertTrue(sql.contains("AND (T.auction_end_time IS NULL)"));
+	}
+
+	@Test
+	@DisplayName("날짜가 너무 많으면 IN 목록 대신 최소~최대 범위로 제한")
+	void buildMergeSql_ManyPartitions_ShouldUseRange() {
+		// given
+		List<String> days = new ArrayList<>();
+		for (int i = 0; i < 1001; i++) {
+			days.add(LocalDate.of(2020, 1, 1).plusDays(i).toString());
+		}
+
+		// when
+		String sql = BigQueryMergeLoader.buildMergeSql("`ds.t`", "`ds.s`", COLUMNS, "auction_id", "last_modified",
+			"auction_end_time", days, false);
+
+		// then
+		assertFalse(sql.contains(" IN ("));
+		assertTrue(sql.contains("T.auction_end_time >= TIMESTAMP '2020-01-01' AND T.auction_end_time < "
+			+ "TIMESTAMP_ADD(TIMESTAMP '" + days.get(1000) + "', INTERVAL 1 DAY)"));
+	}
+}
@@ -0,0 +1,167 @@
+package com.example.springbatch;
+
+import com.example.springbatch.change.ChangeDetectionProcessor;
+import com.example.springbatch.change.MappedLongLongMap;
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeDetectionProcessorTest {
+
+	@TempDir
+	Path tempDir;
+
+	private ChangeDetectionProcessor processor;
+
+	@AfterEach
+	void tearDown() throws IOException {
+		if (processor != null) {
+			processor.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("로드가 성공한 실행의 행은 다음 실행에서 값이 같으면 건너뛰고 타임스탬프만 반영")
+	void process_UnchangedAfterSuccessfulStep_ShouldFilter() throws Exception {
+		// given
+		processor = newProcessor();
+		runStep(ExitStatus.COMPLETED, item(1L, "상품", Instant.parse("2025-01-01T00:00:00Z")));
+
+		// when
+		StepExecution next = newStepExecution();
+		processor.beforeStep(next);
+		AuctionsWinningBidDto result = processor.process(item(1L, "상품", Instant.parse("2025-01-02T00:00:00Z")));
+
+		// then
+		assertNull(result);
+		assertNull(next.getExecutionContext().get("maxProcessedTimestampInChunk")); // 커밋 전에는 반영하지 않음
+		processor.update(next.getExecutionContext());
+		assertEquals(Timestamp.from(Instant.parse("2025-01-02T00:00:00Z")),
+			next.getExecutionContext().get("maxProcessedTimestampInChunk"));
+	}
+
+	@Test
+	@DisplayName("롤백된 chunk 에서 건너뛴 행의 타임스탬프는 반영하지 않음")
+	void afterChunkError_ShouldDiscardFilteredTimestamp() throws Exception {
+		// given
+		processor = newProcessor();
+		runStep(ExitStatus.COMPLETED, item(1L, "상품", Instant.parse("2025-01-01T00:00:00Z")));
+		StepExecution next = newStepExecution();
+		processor.beforeStep(next);
+		processor.process(item(1L, "상품", Instant.parse("2025-01-02T00:00:00Z")));
+
+		// when
+		processor.afterChunkError(null);
+		processor.update(next.getExecutionContext());
+
+		// then
+		assertNull(next.getExecutionContext().get("maxProcessedTimestampInChunk"));
+	}
+
+	@Test
+	@DisplayName("내보내는 컬럼이 바뀌면 Writer 로 전달")
+	void process_ChangedColumn_ShouldPassThrough() throws Exception {
+		// given
+		processor = newProcessor();
+		runStep(ExitStatus.COMPLETED, item(1L, "상품", Instant.now()));
+
+		// when
+		processor.beforeStep(newStepExecution());
+		AuctionsWinningBidDto changed = item(1L, "상품 (수정)", Instant.now());
+
+		// then
+		assertSame(changed, processor.process(changed));
+	}
+
+	@Test
+	@DisplayName("로드가 실패한 실행의 해시는 반영하지 않음")
+	void afterStep_Failed_ShouldNotRemember() throws Exception {
+		// given
+		processor = newProcessor();
+		runStep(ExitStatus.FAILED, item(1L, "상품", Instant.now()));
+
+		// when
+		processor.beforeStep(newStepExecution());
+		AuctionsWinningBidDto retried = item(1L, "상품", Instant.now());
+
+		// then
+		assertSame(retried, processor.process(retried));
+	}
+
+	@Test
+	@DisplayName("해시는 프로세스 재시작 후에도 파일에서 유지")
+	void store_ShouldSurviveReopen() throws Exception {
+		// given
+		processor = newProcessor();
+		runStep(ExitStatus.COMPLETED, item(7L, "상품", Instant.now()));
+		processor.destroy();
+
+		// when
+		processor = newProcessor();
+		processor.beforeStep(newStepExecution());
+
+		// then
+		assertNull(processor.process(item(7L, "상품", Instant.now())));
+	}
+
+	@Test
+	@DisplayName("해시 맵이 확장돼도 기존 항목 유지")
+	void mappedMap_Resize_ShouldKeepEntries() throws IOException {
+		// given
+		try (MappedLongLongMap map = MappedLongLongMap.open(tempDir.resolve("resize.map"), 16)) {
+			// when
+			for (long key = 0; key < 1000; key++) {
+				assertTrue(map.put(key, key * 31 + 1));
+			}
+
+			// then
+			assertEquals(1000, map.size());
+			for (long key = 0; key < 1000; key++) {
+				assertEquals(key * 31 + 1, map.get(key, -1));
+			}
+			assertEquals(-1, map.get(1000, -1));
+		}
+	}
+
+	private ChangeDetectionProcessor newProcessor() {
+		return new ChangeDetectionProcessor(true, tempDir.toString(), 16, "testJob");
+	}
+
+	private void runStep(ExitStatus exitStatus, AuctionsWinningBidDto item) {
+		StepExecution stepExecution = newStepExecution();
+		processor.beforeStep(stepExecution);
+		assertSame(item, processor.process(item));
+		stepExecution.setExitStatus(exitStatus);
+		processor.afterStep(stepExecution);
+	}
+
+	private StepExecution newStepExecution() {
+		return new StepExecution("mysqlToBigQueryStep", new JobExecution(1L));
+	}
+
+	private AuctionsWinningBidDto item(Long auctionId, String productName, Instant lastModified) {
+		return AuctionsWinningBidDto.builder()
+			.auctionId(auctionId)
+			.productId(10L)
+			.productName(productName)
+			.productCategory("전자")
+			.maxPrice(1000L)
+			.auctionStartTime(Instant.parse("2025-01-01T00:00:00Z"))
+			.auctionEndTime(Instant.parse("2025-01-08T00:00:00Z"))
+			.lastModified(lastModified)
+			.build();
+	}
+}
@@ -0,0 +1,90 @@
+package com.example.springbatch;
+
+import com.example.springbatch.repository.CheckpointCoalescingInterceptor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckpointCoalescingInterceptorTest {
+
+	@Mock
+	private JobRepository delegate;
+
+	private JobRepository jobRepository;
+	private StepExecution stepExecution;
+
+	@BeforeEach
+	void setUp() {
+		jobRepository = CheckpointCoalescingInterceptor.wrap(delegate, 3);
+		stepExecution = MetaDataInstanceFactory.createStepExecution();
+		stepExecution.setStatus(BatchStatus.STARTED);
+	}
+
+	@Test
+	@DisplayName("실행 중에는 스텝 시작, 첫 chunk, 이후 N 번째 chunk 커밋에서만 저장")
+	void chunkCommits_ShouldPersistEveryNthChunk() {
+		// when: 스텝 시작 저장 + chunk 7 개 (TaskletStep 과 같은 호출 순서)
+		jobRepository.update(stepExecution);
+		jobRepository.updateExecutionContext(stepExecution);
+		for (int i = 0; i < 7; i++) {
+			commitChunk();
+		}
+
+		// then: 시작 + chunk 1, 3, 6
+		verify(delegate, times(4)).updateExecutionContext(stepExecution);
+		verify(delegate, times(4)).update(stepExecution);
+	}
+
+	@Test
+	@DisplayName("스텝이 끝난 뒤의 저장은 간격과 관계없이 전달")
+	void finishedStep_ShouldAlwaysPersist() {
+		// given
+		for (int i = 0; i < 4; i++) {
+			stepExecution.incrementCommitCount();
+		}
+		stepExecution.setStatus(BatchStatus.FAILED);
+
+		// when
+		jobRepository.updateExecutionContext(stepExecution);
+		jobRepository.update(stepExecution);
+
+		// then
+		verify(delegate).updateExecutionContext(stepExecution);
+		verify(delegate).update(stepExecution);
+	}
+
+	@Test
+	@DisplayName("스텝 외의 호출은 그대로 위임")
+	void otherCalls_ShouldDelegate() {
+		// given
+		JobExecution jobExecution = stepExecution.getJobExecution();
+
+		// when
+		jobRepository.update(jobExecution);
+		jobRepository.updateExecutionContext(jobExecution);
+		jobRepository.add(stepExecution);
+
+		// then
+		verify(delegate).update(jobExecution);
+		verify(delegate).updateExecutionContext(jobExecution);
+		verify(delegate).add(stepExecution);
+	}
+
+	private void commitChunk() {
+		jobRepository.updateExecutionContext(stepExecution);
+		stepExecution.incrementCommitCount();
+		jobRepository.update(stepExecution);
+	}
+}
@@ -0,0 +1,123 @@
+package com.example.springbatch;
+
+import com.example.springbatch.repository.CompactExecutionContextSerializer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactExecutionContextSerializerTest {
+
+	private final CompactExecutionContextSerializer serializer = new CompactExecutionContextSerializer();
+
+	@Test
+	@DisplayName("컨텍스트에 저장하는 타입을 그대로 복원")
+	void serialize_ShouldRoundTripKnownTypes() throws Exception {
+		// given
+		Timestamp timestamp = Timestamp.valueOf("2025-01-03 12:34:56.123456789");
+		Map<String, Timestamp> shardTimestamps = new HashMap<>();
+		shardTimestamps.put("shard-a", timestamp);
+		Map<String, Object> context = new LinkedHashMap<>();
+		context.put("read.count", 1500L);
+		context.put("batch.version", "5.2.2");
+		context.put("maxTimestampInChunk", timestamp);
+		context.put("stepStartTime", LocalDateTime.of(2025, 1, 3, 0, 0, 1, 5));
+		context.put("lastModified", Instant.ofEpochSecond(1735689600L, 42));
+		context.put("price", new BigDecimal("1234.50"));
+		context.put("gcsFileUris", new ArrayList<>(List.of("gs://bucket/a.csv", "gs://bucket/b.csv")));
+		context.put("shardMaxTimestamps", shardTimestamps);
+		context.put("flag", Boolean.TRUE);
+		context.put("empty", null);
+		context.put("uuid", UUID.fromString("123e4567-e89b-12d3-a456-426614174000")); // Java 직렬화로 대체
+
+		// when
+		Map<String, Object> restored = roundTrip(context);
+
+		// then
+		assertEquals(context, restored);
+		assertEquals(123456789, ((Timestamp)restored.get("maxTimestampInChunk")).getNanos());
+		assertInstanceOf(Timestamp.class, ((Map<?, ?>)restored.get("shardMaxTimestamps")).get("shard-a"));
+	}
+
+	@Test
+	@DisplayName("keyset 위치(start.after)의 정렬 키 순서 유지")
+	void serialize_ShouldKeepMapOrder() throws Exception {
+		// given
+		Map<String, Object> startAfter = new LinkedHashMap<>();
+		startAfter.put("modified_at", Timestamp.valueOf("2025-01-03 00:00:00"));
+		startAfter.put("id", 42L);
+		Map<String, Object> context = new LinkedHashMap<>();
+		context.put("reader.start.after", startAfter);
+
+		// when
+		Map<?, ?> restored = (Map<?, ?>)roundTrip(context).get("reader.start.after");
+
+		// then
+		assertEquals(List.of("modified_at", "id"), new ArrayList<>(restored.keySet()));
+	}
+
+	@Test
+	@DisplayName("기본 직렬화보다 작고, 큰 URI 목록은 압축")
+	void serialize_ShouldBeSmallerThanDefault() throws Exception {
+		// given
+		List<String> uris = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			uris.add("gs://bucket/batch_load_12_34_" + UUID.randomUUID() + ".csv");
+		}
+		Map<String, Object> context = new LinkedHashMap<>();
+		context.put("read.count", 200_000L);
+		context.put("maxTimestampInChunk", Timestamp.valueOf("2025-01-03 00:00:00"));
+		context.put("gcsFileUris", uris);
+
+		// when
+		int compact = serialize(context).length;
+		ByteArrayOutputStream legacy = new ByteArrayOutputStream();
+		new DefaultExecutionContextSerializer().serialize(context, legacy);
+
+		// then
+		assertTrue(compact < legacy.size(), "compact = " + compact + ", default = " + legacy.size());
+		assertEquals(context, roundTrip(context));
+	}
+
+	@Test
+	@DisplayName("기본 직렬화로 저장된 이전 컨텍스트도 읽음")
+	void deserialize_LegacyFormat_ShouldDelegate() throws Exception {
+		// given
+		Map<String, Object> context = new HashMap<>();
+		context.put("read.count", 10L);
+		context.put("maxTimestampInChunk", Timestamp.valueOf("2025-01-03 00:00:00"));
+		ByteArrayOutputStream legacy = new ByteArrayOutputStream();
+		new DefaultExecutionContextSerializer().serialize(context, legacy);
+
+		// when
+		Map<String, Object> restored = serializer.deserialize(new ByteArrayInputStream(legacy.toByteArray()));
+
+		// then
+		assertEquals(context, restored);
+	}
+
+	private byte[] serialize(Map<String, Object> context) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		serializer.serialize(context, out);
+		return out.toByteArray();
+	}
+
+	private Map<String, Object> roundTrip(Map<String, Object> context) throws Exception {
+		return serializer.deserialize(new ByteArrayInputStream(serialize(context)));
+	}
+}
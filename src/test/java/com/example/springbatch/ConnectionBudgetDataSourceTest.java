@@ -0,0 +1,48 @@
+package com.example.springbatch;
+
+import com.example.springbatch.pipeline.ConnectionBudgetDataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.SQLTimeoutException;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionBudgetDataSourceTest {
+
+	@Mock
+	private DataSource targetDataSource;
+
+	@Test
+	@DisplayName("파이프라인 하나가 몫을 다 쓰면 더 기다리고, 남은 예산은 다른 파이프라인이 사용")
+	void forPipeline_OverShare_ShouldLeaveBudgetForOthers() throws Exception {
+		// given
+		when(targetDataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+		ConnectionBudgetDataSource budget = new ConnectionBudgetDataSource(targetDataSource, 2, 1, 50);
+		DataSource first = budget.forPipeline("first");
+		DataSource second = budget.forPipeline("second");
+
+		// when
+		Connection firstConnection = first.getConnection();
+
+		// then
+		assertThrows(SQLTimeoutException.class, first::getConnection); // 몫 초과
+		Connection secondConnection = second.getConnection();
+		assertEquals(0, budget.getAvailablePermits());
+
+		// 반납하면 몫과 예산이 함께 돌아옴
+		firstConnection.close();
+		secondConnection.close();
+		assertEquals(2, budget.getAvailablePermits());
+		first.getConnection().close();
+	}
+}
@@ -0,0 +1,95 @@
+package com.example.springbatch;
+
+import com.example.springbatch.staging.DirectBufferPool;
+import com.example.springbatch.staging.PooledBufferOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirectBufferPoolTest {
+
+	@Test
+	@DisplayName("반납된 버퍼 재사용 시 hit, 새로 할당 시 miss 집계")
+	void acquire_ReleasedBuffer_ShouldCountHit() {
+		// given
+		DirectBufferPool pool = new DirectBufferPool(16, 4, 60);
+
+		// when
+		ByteBuffer first = pool.acquire();
+		pool.release(first);
+		ByteBuffer second = pool.acquire();
+
+		// then
+		assertSame(first, second);
+		assertTrue(second.isDirect());
+		assertEquals(1, pool.getMissCount());
+		assertEquals(1, pool.getHitCount());
+	}
+
+	@Test
+	@DisplayName("최대 유휴 개수를 넘는 버퍼는 제거")
+	void release_OverCapacity_ShouldEvictOldest() {
+		// given
+		DirectBufferPool pool = new DirectBufferPool(16, 2, 60);
+		ByteBuffer a = pool.acquire();
+		ByteBuffer b = pool.acquire();
+		ByteBuffer c = pool.acquire();
+
+		// when
+		pool.release(a);
+		pool.release(b);
+		pool.release(c);
+
+		// then
+		assertEquals(2, pool.getIdleCount());
+		assertEquals(1, pool.getEvictionCount());
+		assertSame(c, pool.acquire()); // 가장 최근 반납된 버퍼부터 재사용
+	}
+
+	@Test
+	@DisplayName("크기가 다른 버퍼는 풀에 보관하지 않음")
+	void release_ForeignBuffer_ShouldBeIgnored() {
+		// given
+		DirectBufferPool pool = new DirectBufferPool(16, 2, 60);
+
+		// when
+		pool.release(ByteBuffer.allocateDirect(32));
+		pool.release(ByteBuffer.allocate(16));
+
+		// then
+		assertEquals(0, pool.getIdleCount());
+	}
+
+	@Test
+	@DisplayName("PooledBufferOutputStream: 여러 segment 에 나눠 쓰고 순서대로 읽기")
+	void outputStream_SpansSegments_ShouldPreserveOrder() throws Exception {
+		// given
+		DirectBufferPool pool = new DirectBufferPool(4, 8, 60);
+		PooledBufferOutputStream out = new PooledBufferOutputStream(pool);
+
+		// when
+		out.write("hello, pool".getBytes(StandardCharsets.UTF_8));
+		out.close();
+		List<ByteBuffer> segments = out.readableSegments();
+
+		// then
+		assertEquals(11, out.size());
+		assertEquals(3, segments.size());
+		StringBuilder content = new StringBuilder();
+		for (ByteBuffer segment : segments) {
+			byte[] bytes = new byte[segment.remaining()];
+			segment.get(bytes);
+			content.append(new String(bytes, StandardCharsets.UTF_8));
+		}
+		assertEquals("hello, pool", content.toString());
+
+		out.release();
+		assertEquals(3, pool.getIdleCount());
+	}
+}
@@ -0,0 +1,128 @@
+package com.example.springbatch;
+
+import com.example.springbatch.lease.SingleFlightJobLauncher;
+import com.example.springbatch.progress.EtlProgressEndpoint;
+import com.example.springbatch.stats.StepRunStats;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EtlProgressEndpointTest {
+
+	private static final String JOB_NAME = "progressTestJob";
+
+	@Mock private JobExplorer mockJobExplorer;
+	@Mock private JobRepository mockJobRepository;
+	@Mock private Job mockJob;
+	@Mock private SingleFlightJobLauncher mockSingleFlightJobLauncher;
+
+	private EtlProgressEndpoint endpoint;
+	private StepExecution stepExecution;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(mockJob.getName()).thenReturn(JOB_NAME); // 잘못된 요청 테스트에서는 사용하지 않음
+		endpoint = new EtlProgressEndpoint(mockJobExplorer, mockJobRepository, mockJob,
+			mockSingleFlightJobLauncher, true);
+
+		JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution(JOB_NAME, 1L, 10L);
+		stepExecution = jobExecution.createStepExecution("progressTestStep");
+		stepExecution.setId(100L);
+		stepExecution.setStartTime(LocalDateTime.now().minusSeconds(60));
+	}
+
+	@AfterEach
+	void tearDown() {
+		StepRunStats.remove(stepExecution);
+	}
+
+	@Test
+	@DisplayName("실행 중인 스텝의 스테이징 행/바이트, 진행 중 업로드, keyset 위치와 남은 양 추정을 반환")
+	void progress_ShouldReportHotPathCounters() {
+		// given
+		Timestamp from = Timestamp.valueOf(LocalDateTime.now().minusHours(4));
+		Timestamp position = Timestamp.valueOf(LocalDateTime.now().minusHours(2)); // 절반 진행
+		StepRunStats stats = StepRunStats.forStep(stepExecution);
+		stats.setWatermarkFrom(from);
+		stats.addEncode(1_000, 2_048);
+		stats.addStaged(1_000, position, 42L);
+		stats.beginUpload();
+		when(mockJobExplorer.findRunningJobExecutions(JOB_NAME)).thenReturn(Set.of(stepExecution.getJobExecution()));
+
+		// when
+		List<EtlProgressEndpoint.StepProgress> progresses = endpoint.progress();
+
+		// then
+		assertEquals(1, progresses.size());
+		EtlProgressEndpoint.StepProgress progress = progresses.get(0);
+		assertEquals(100L, progress.stepExecutionId());
+		assertEquals(1_000, progress.rowsStaged());
+		assertEquals(2_048, progress.bytesStaged());
+		assertEquals(1, progress.inFlightUploads());
+		assertEquals(position, progress.positionLastModified());
+		assertEquals(42L, progress.positionAuctionId());
+		assertFalse(progress.backfill());
+		// 원본 시간축 절반 진행 => 남은 행/시간도 지금까지와 비슷하게 추정 (시간대 차이가 없을 때)
+		assertNotNull(progress.estimatedRemainingRows());
+		assertNotNull(progress.etaSeconds());
+		assertTrue(progress.averageRowsPerSecond() > 0);
+	}
+
+	@Test
+	@DisplayName("수동 실행이 꺼져 있으면 (기본값) 실행하지 않고 DISABLED 반환")
+	void run_LaunchDisabled_ShouldNotStartJob() {
+		// given
+		EtlProgressEndpoint readOnly = new EtlProgressEndpoint(mockJobExplorer, mockJobRepository, mockJob,
+			mockSingleFlightJobLauncher, false);
+
+		// when
+		EtlProgressEndpoint.LaunchResult result = readOnly.run(null, null, null);
+
+		// then
+		assertEquals("DISABLED", result.status());
+		assertNull(result.jobExecutionId());
+		verifyNoInteractions(mockJobExplorer, mockSingleFlightJobLauncher);
+	}
+
+	@Test
+	@DisplayName("from/to 중 하나만 지정하면 잘못된 요청")
+	void run_OnlyFrom_ShouldRejectRequest() {
+		assertThrows(InvalidEndpointRequestException.class, () -> endpoint.run("2025-01-01 00:00:00", null, null));
+	}
+
+	@Test
+	@DisplayName("이미 실행 중인 작업이 있으면 새 실행을 시작하지 않음")
+	void run_WhileRunning_ShouldReject() throws Exception {
+		// given
+		when(mockJobExplorer.findRunningJobExecutions(JOB_NAME)).thenReturn(Set.of(stepExecution.getJobExecution()));
+
+		// when
+		EtlProgressEndpoint.LaunchResult result = endpoint.run("2025-01-01 00:00:00", "2025-01-02 00:00:00", null);
+
+		// then
+		assertEquals("REJECTED", result.status());
+		assertNull(result.jobExecutionId());
+		verifyNoInteractions(mockJobRepository, mockSingleFlightJobLauncher);
+	}
+}
@@ -0,0 +1,139 @@
+package com.example.springbatch;
+
+import com.example.springbatch.progress.BackfillParameters;
+import com.example.springbatch.restart.InPlaceRestartResolver;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InPlaceRestartResolverTest {
+
+	private static final String JOB_NAME = "mysqlToBigQueryJob";
+
+	@Mock
+	private JobExplorer jobExplorer;
+
+	@Mock
+	private Job job;
+
+	private InPlaceRestartResolver resolver;
+	private JobParameters freshParameters;
+	private JobParameters failedParameters;
+	private JobInstance lastInstance;
+
+	@BeforeEach
+	void setUp() {
+		resolver = new InPlaceRestartResolver(jobExplorer, true, 3, "direct");
+		freshParameters = new JobParametersBuilder()
+			.addLocalDateTime("runTime", LocalDateTime.of(2025, 1, 2, 0, 0)).toJobParameters();
+		failedParameters = new JobParametersBuilder()
+			.addLocalDateTime("runTime", LocalDateTime.of(2025, 1, 1, 0, 0)).toJobParameters();
+		lastInstance = new JobInstance(7L, JOB_NAME);
+		lenient().when(job.getName()).thenReturn(JOB_NAME);
+		lenient().when(job.isRestartable()).thenReturn(true);
+	}
+
+	@Test
+	@DisplayName("스텝 도중 실패한 마지막 실행이 있으면 그 실행의 파라미터로 재시작")
+	void resolve_StepFailedMidway_ShouldReuseParameters() {
+		// given
+		JobExecution failed = execution(failedParameters, BatchStatus.FAILED, BatchStatus.FAILED);
+		when(jobExplorer.getLastJobInstance(JOB_NAME)).thenReturn(lastInstance);
+		when(jobExplorer.getLastJobExecution(lastInstance)).thenReturn(failed);
+		when(jobExplorer.getJobExecutions(lastInstance)).thenReturn(List.of(failed));
+
+		// when & then
+		assertSame(failedParameters, resolver.resolve(job, freshParameters));
+	}
+
+	@Test
+	@DisplayName("스텝은 끝났고 로드만 실패한 실행은 새로 실행")
+	void resolve_StepCompleted_ShouldStartFresh() {
+		// given
+		JobExecution failed = execution(failedParameters, BatchStatus.FAILED, BatchStatus.COMPLETED);
+		when(jobExplorer.getLastJobInstance(JOB_NAME)).thenReturn(lastInstance);
+		when(jobExplorer.getLastJobExecution(lastInstance)).thenReturn(failed);
+
+		// when & then
+		assertSame(freshParameters, resolver.resolve(job, freshParameters));
+	}
+
+	@Test
+	@DisplayName("마지막 실행이 성공했으면 새로 실행")
+	void resolve_LastCompleted_ShouldStartFresh() {
+		// given
+		when(jobExplorer.getLastJobInstance(JOB_NAME)).thenReturn(lastInstance);
+		when(jobExplorer.getLastJobExecution(lastInstance))
+			.thenReturn(execution(failedParameters, BatchStatus.COMPLETED, BatchStatus.COMPLETED));
+
+		// when & then
+		assertSame(freshParameters, resolver.resolve(job, freshParameters));
+	}
+
+	@Test
+	@DisplayName("재시작 횟수를 모두 쓰면 포기하고 새로 실행")
+	void resolve_AttemptsExhausted_ShouldStartFresh() {
+		// given
+		JobExecution failed = execution(failedParameters, BatchStatus.FAILED, BatchStatus.FAILED);
+		when(jobExplorer.getLastJobInstance(JOB_NAME)).thenReturn(lastInstance);
+		when(jobExplorer.getLastJobExecution(lastInstance)).thenReturn(failed);
+		when(jobExplorer.getJobExecutions(lastInstance)).thenReturn(List.of(failed, failed, failed));
+
+		// when & then
+		assertSame(freshParameters, resolver.resolve(job, freshParameters));
+	}
+
+	@Test
+	@DisplayName("backfill 실행은 자동으로 재시작하지 않음")
+	void resolve_Backfill_ShouldStartFresh() {
+		// given
+		JobParameters backfill = new JobParametersBuilder(failedParameters)
+			.addString(BackfillParameters.FROM, "2025-01-01 00:00:00")
+			.addString(BackfillParameters.TO, "2025-01-02 00:00:00")
+			.toJobParameters();
+		when(jobExplorer.getLastJobInstance(JOB_NAME)).thenReturn(lastInstance);
+		when(jobExplorer.getLastJobExecution(lastInstance))
+			.thenReturn(execution(backfill, BatchStatus.FAILED, BatchStatus.FAILED));
+
+		// when & then
+		assertSame(freshParameters, resolver.resolve(job, freshParameters));
+	}
+
+	@Test
+	@DisplayName("spool 모드에서는 재시작하지 않음 (스풀 manifest 로 복구)")
+	void resolve_SpoolMode_ShouldStartFresh() {
+		// given
+		resolver = new InPlaceRestartResolver(jobExplorer, true, 3, "spool");
+
+		// when & then
+		assertSame(freshParameters, resolver.resolve(job, freshParameters));
+		verifyNoInteractions(jobExplorer);
+	}
+
+	private JobExecution execution(JobParameters parameters, BatchStatus jobStatus, BatchStatus stepStatus) {
+		JobExecution execution = new JobExecution(lastInstance, 11L, parameters);
+		execution.setStatus(jobStatus);
+		StepExecution stepExecution = execution.createStepExecution("mysqlToBigQueryStep");
+		stepExecution.setStatus(stepStatus);
+		return execution;
+	}
+}
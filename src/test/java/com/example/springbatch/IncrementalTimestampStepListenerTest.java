@@ -1,6 +1,9 @@
 package com.example.springbatch;
 
 import com.example.springbatch.listener.IncrementalTimestampStepListener;
+import com.example.springbatch.staging.SpoolStagingService;
+import com.example.springbatch.stats.RunStatsRepository;
+import com.example.springbatch.stats.RunStatsSettings;
 import com.google.cloud.bigquery.*;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
@@ -40,6 +43,9 @@ class IncrementalTimestampStepListenerTest {
 	@Mock private Job mockBigQueryJob;
 	@Mock private JobStatus mockJobStatus;
 	@Mock private JobStatistics.LoadStatistics mockLoadStats;
+	@Mock private SpoolStagingService mockSpoolStagingService;
+	@Mock private RunStatsRepository mockRunStatsRepository;
+	@Mock private RunStatsSettings mockRunStatsSettings;
 
 	@InjectMocks
 	private IncrementalTimestampStepListener listener;
@@ -61,6 +67,7 @@ class IncrementalTimestampStepListenerTest {
 		ReflectionTestUtils.setField(listener, "datasetName", DATASET_NAME);
 		ReflectionTestUtils.setField(listener, "tableName", TABLE_NAME);
 		ReflectionTestUtils.setField(listener, "gcsBucketName", BUCKET_NAME);
+		ReflectionTestUtils.setField(listener, "schema", IncrementalTimestampStepListener.AUCTIONS_WINNING_BID_SCHEMA);
 
 		when(mockStepExecution.getExecutionContext()).thenReturn(mockExecutionContext);
 	}
@@ -114,6 +121,43 @@ class IncrementalTimestampStepListenerTest {
 		verify(mockExecutionContext).put("lastProcessedTimestamp", Timestamp.valueOf(LocalDateTime.MIN));
 	}
 
+	@Test
+	@DisplayName("beforeStep: 재시작이면 이어받은 하한을 그대로 쓰고 메타데이터를 조회하지 않음")
+	void beforeStep_Restart_ShouldKeepRestoredTimestamp() {
+		// given: 실패한 스텝의 ExecutionContext 에 남은 하한
+		Timestamp restoredTimestamp = Timestamp.valueOf(LocalDateTime.of(2025, 4, 27, 0, 0, 0));
+		when(mockExecutionContext.get("lastProcessedTimestamp")).thenReturn(restoredTimestamp);
+
+		// when
+		listener.beforeStep(mockStepExecution);
+
+		// then
+		verify(mockExecutionContext, never()).put(eq("lastProcessedTimestamp"), any());
+		verifyNoInteractions(mockJdbcTemplate);
+	}
+
+	@Test
+	@DisplayName("beforeStep: spool 모드에서 이전 실행의 스풀 복구 시 복구된 타임스탬프부터 읽기")
+	void beforeStep_SpoolRecovered_ShouldAdvanceTimestamp() throws Exception {
+		// given
+		Timestamp metadataTimestamp = Timestamp.valueOf(LocalDateTime.of(2025, 4, 28, 0, 0, 0));
+		Timestamp recoveredTimestamp = Timestamp.valueOf(LocalDateTime.of(2025, 4, 28, 6, 0, 0));
+		List<String> recoveredUris = List.of("gs://test-bucket/batch_load_spool_1_0.csv");
+		when(mockJdbcTemplate.queryForObject(anyString(), eq(Timestamp.class), eq(JOB_NAME)))
+			.thenReturn(metadataTimestamp);
+		when(mockSpoolStagingService.isEnabled()).thenReturn(true);
+		when(mockSpoolStagingService.recover())
+			.thenReturn(new SpoolStagingService.SpoolRecovery(recoveredUris, recoveredTimestamp));
+
+		// when
+		listener.beforeStep(mockStepExecution);
+
+		// then
+		verify(mockExecutionContext).put("recoveredGcsFileUris", recoveredUris);
+		verify(mockExecutionContext).put("maxProcessedTimestampInChunk", recoveredTimestamp);
+		verify(mockExecutionContext).put("lastProcessedTimestamp", recoveredTimestamp);
+	}
+
 
 	// afterStep 테스트
 	@Test
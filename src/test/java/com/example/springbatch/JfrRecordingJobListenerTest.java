@@ -0,0 +1,104 @@
+package com.example.springbatch;
+
+import com.example.springbatch.jfr.ChunkLifecycleJfrListener;
+import com.example.springbatch.jfr.JfrRecordingJobListener;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrRecordingJobListenerTest {
+
+	@TempDir
+	Path dumpDirectory;
+
+	@Test
+	@DisplayName("JobParameter jfr=true 로 실행하면 chunk 구간 이벤트가 실행 ID 별 JFR 파일에 기록됨")
+	void jobParameter_ShouldRecordChunkEventsToFile() throws Exception {
+		// given
+		JfrRecordingJobListener recordingListener = new JfrRecordingJobListener("", dumpDirectory.toString(), "default");
+		JobParameters jobParameters = new JobParametersBuilder()
+			.addString(JfrRecordingJobListener.JOB_PARAMETER, "true")
+			.toJobParameters();
+		JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution("jfrTestJob", 1L, 7L, jobParameters);
+		StepExecution stepExecution = jobExecution.createStepExecution("jfrTestStep");
+		stepExecution.setId(11L);
+		ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+		ChunkLifecycleJfrListener chunkListener = new ChunkLifecycleJfrListener();
+
+		// when
+		recordingListener.beforeJob(jobExecution);
+
+		chunkListener.beforeChunk(chunkContext);
+		chunkListener.afterRead("a");
+		chunkListener.afterRead("b");
+		chunkListener.beforeProcess("a");
+		chunkListener.afterProcess("a", "A");
+		chunkListener.beforeProcess("b");
+		chunkListener.afterProcess("b", null); // 필터
+		chunkListener.beforeWrite(Chunk.of("A"));
+		chunkListener.afterWrite(Chunk.of("A"));
+		chunkListener.afterChunk(chunkContext);
+
+		recordingListener.afterJob(jobExecution);
+
+		// then
+		Path dumpFile = dumpDirectory.resolve("jfrTestJob-7.jfr");
+		assertTrue(Files.exists(dumpFile));
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(dumpFile).stream()
+			.filter(event -> event.getEventType().getName().startsWith("etl."))
+			.toList();
+		RecordedEvent read = findEvent(events, "etl.ChunkRead");
+		assertEquals(2, read.getInt("rows"));
+		assertEquals(7L, read.getLong("jobExecutionId"));
+		assertEquals(11L, read.getLong("stepExecutionId"));
+		assertEquals("jfrTestJob", read.getString("job"));
+
+		RecordedEvent process = findEvent(events, "etl.ChunkProcess");
+		assertEquals(1, process.getInt("rows"));
+		assertEquals(1, process.getInt("filteredRows"));
+
+		assertEquals(1, findEvent(events, "etl.ContextCommit").getInt("rows"));
+	}
+
+	@Test
+	@DisplayName("기록 대상이 아닌 작업은 Recording 을 시작하지 않음")
+	void notConfigured_ShouldNotRecord() throws Exception {
+		// given
+		JfrRecordingJobListener recordingListener = new JfrRecordingJobListener("otherJob", dumpDirectory.toString(),
+			"default");
+		JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution("jfrTestJob", 1L, 8L);
+
+		// when
+		recordingListener.beforeJob(jobExecution);
+		recordingListener.afterJob(jobExecution);
+
+		// then
+		assertFalse(Files.exists(dumpDirectory.resolve("jfrTestJob-8.jfr")));
+	}
+
+	private RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+		return events.stream()
+			.filter(event -> event.getEventType().getName().equals(name))
+			.findFirst()
+			.orElseThrow(() -> new AssertionError("이벤트 없음: " + name));
+	}
+}
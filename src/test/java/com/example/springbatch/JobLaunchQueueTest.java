@@ -0,0 +1,124 @@
+package com.example.springbatch;
+
+import com.example.springbatch.scheduler.JobLaunchQueue;
+import com.example.springbatch.scheduler.JobLaunchQueue.Submission;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobLaunchQueueTest {
+
+	private JobLaunchQueue queue;
+
+	@AfterEach
+	void tearDown() {
+		queue.stop();
+	}
+
+	@Test
+	@DisplayName("요청은 바로 반환되고, 실행 결과는 실행 스레드에서 callback 으로 전달")
+	void submit_ShouldReturnImmediatelyAndReportOutcome() throws Exception {
+		// given
+		queue = new JobLaunchQueue(1, 1, 1);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(1);
+		AtomicReference<JobExecution> result = new AtomicReference<>();
+		AtomicReference<String> callbackThread = new AtomicReference<>();
+
+		// when
+		Submission submission = queue.submit("job", () -> {
+			release.await();
+			JobExecution execution = new JobExecution(1L);
+			execution.setStatus(BatchStatus.COMPLETED);
+			return execution;
+		}, (execution, error) -> {
+			result.set(execution);
+			callbackThread.set(Thread.currentThread().getName());
+			done.countDown();
+		});
+
+		// then: 실행이 막혀 있어도 submit 은 반환
+		assertEquals(Submission.QUEUED, submission);
+		release.countDown();
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertEquals(BatchStatus.COMPLETED, result.get().getStatus());
+		assertTrue(callbackThread.get().startsWith("job-launch-"));
+	}
+
+	@Test
+	@DisplayName("같은 key 가 대기 중이거나 실행 중이면 합치고, 끝난 뒤에는 다시 받음")
+	void submit_DuplicateKey_ShouldCoalesce() throws Exception {
+		// given
+		queue = new JobLaunchQueue(1, 1, 1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(1);
+
+		assertEquals(Submission.QUEUED, queue.submit("job", () -> {
+			started.countDown();
+			release.await();
+			return new JobExecution(1L);
+		}, (execution, error) -> done.countDown()));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		// when & then
+		assertEquals(Submission.COALESCED, queue.submit("job", () -> new JobExecution(2L), (e, err) -> {}));
+
+		release.countDown();
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertEquals(Submission.QUEUED, queue.submit("job", () -> new JobExecution(3L), (e, err) -> {}));
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 거절")
+	void submit_QueueFull_ShouldReject() throws Exception {
+		// given: 스레드 1 개 실행 중 + 대기열 1 개
+		queue = new JobLaunchQueue(1, 1, 1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		queue.submit("a", () -> {
+			started.countDown();
+			release.await();
+			return new JobExecution(1L);
+		}, (e, err) -> {});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertEquals(Submission.QUEUED, queue.submit("b", () -> new JobExecution(2L), (e, err) -> {}));
+
+		// when
+		Submission submission = queue.submit("c", () -> new JobExecution(3L), (e, err) -> {});
+
+		// then
+		assertEquals(Submission.REJECTED, submission);
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("실행이 예외로 끝나면 callback 에 예외 전달")
+	void submit_LaunchThrows_ShouldReportError() throws Exception {
+		// given
+		queue = new JobLaunchQueue(1, 1, 1);
+		CountDownLatch done = new CountDownLatch(1);
+		AtomicReference<Exception> error = new AtomicReference<>();
+
+		// when
+		queue.submit("job", () -> {
+			throw new IllegalStateException("boom");
+		}, (execution, e) -> {
+			error.set(e);
+			done.countDown();
+		});
+
+		// then
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertInstanceOf(IllegalStateException.class, error.get());
+	}
+}
@@ -0,0 +1,145 @@
+package com.example.springbatch;
+
+import com.example.springbatch.provider.MySqlCustomPagingQueryProvider;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.PagingQueryProvider;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.MySqlPagingQueryProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 실제 MySQL 에서 keyset 페이징 쿼리 제공자 성능 비교
+// ./gradlew benchmark -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true
+//   -Dbenchmark.mysql.username=... -Dbenchmark.mysql.password=... [-Dbenchmark.rows=2000000]
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KeysetPagingBenchmark {
+
+	private static final String SELECT = "id, modified_at, payload";
+	private static final String FROM = "bench_keyset_events";
+	private static final String WHERE = "modified_at > :lastProcessedTimestamp";
+	private static final int PAGE_SIZE = 1000;
+	private static final int INSERT_BATCH_SIZE = 10_000;
+
+	private DriverManagerDataSource dataSource;
+	private int rows;
+
+	@BeforeAll
+	void seed() {
+		dataSource = new DriverManagerDataSource(System.getProperty("benchmark.mysql.url"),
+			System.getProperty("benchmark.mysql.username", "root"),
+			System.getProperty("benchmark.mysql.password", ""));
+		rows = Integer.getInteger("benchmark.rows", 2_000_000);
+
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		Integer existing = null;
+		try {
+			existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + FROM, Integer.class);
+		} catch (Exception e) {
+			// 테이블 없음
+		}
+		if (existing != null && existing == rows) {
+			return; // 이전 실행에서 만든 데이터 재사용
+		}
+
+		jdbcTemplate.execute("DROP TABLE IF EXISTS " + FROM);
+		jdbcTemplate.execute("CREATE TABLE " + FROM + " (id BIGINT PRIMARY KEY, modified_at DATETIME(6) NOT NULL, "
+			+ "payload VARCHAR(64) NOT NULL, INDEX idx_modified_at_id (modified_at, id))");
+
+		// 같은 modified_at 이 여러 행에 걸치도록 100 행마다 1초씩 증가 => 보조 정렬 키(id) 비교가 실제로 일어남
+		long base = Timestamp.valueOf("2025-01-01 00:00:00").getTime();
+		for (int start = 0; start < rows; start += INSERT_BATCH_SIZE) {
+			List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+			for (int id = start; id < Math.min(start + INSERT_BATCH_SIZE, rows); id++) {
+				batch.add(new Object[] {id, new Timestamp(base + (id / 100) * 1000L), "payload-" + id});
+			}
+			jdbcTemplate.batchUpdate("INSERT INTO " + FROM + " (id, modified_at, payload) VALUES (?, ?, ?)", batch);
+		}
+	}
+
+	@Test
+	@DisplayName("커스텀 keyset 제공자(OR 조건, 행 생성자) vs Spring MySqlPagingQueryProvider 전체 페이징 시간")
+	void compareProviders() throws Exception {
+		// 워밍업 후 측정 => 버퍼 풀 캐시 상태를 맞춤
+		page(springProvider());
+		page(customProvider(false));
+		page(customProvider(true));
+
+		long springNanos = page(springProvider());
+		long orChainNanos = page(customProvider(false));
+		long rowConstructorNanos = page(customProvider(true));
+
+		System.out.printf("keyset paging benchmark: rows = %d, pageSize = %d%n", rows, PAGE_SIZE);
+		print("MySqlPagingQueryProvider", springNanos);
+		print("MySqlCustomPagingQueryProvider (OR 조건)", orChainNanos);
+		print("MySqlCustomPagingQueryProvider (행 생성자)", rowConstructorNanos);
+	}
+
+	private void print(String label, long nanos) {
+		System.out.printf("  %-45s: %,d ms (%,.0f rows/s)%n", label, nanos / 1_000_000, rows / (nanos / 1e9));
+	}
+
+	private long page(PagingQueryProvider queryProvider) throws Exception {
+		JdbcPagingItemReader<Long> reader = new JdbcPagingItemReaderBuilder<Long>()
+			.name("keysetBenchmarkReader")
+			.dataSource(dataSource)
+			.queryProvider(queryProvider)
+			.parameterValues(Map.of("lastProcessedTimestamp", "2000-01-01 00:00:00"))
+			.pageSize(PAGE_SIZE)
+			.rowMapper((rs, rowNum) -> rs.getLong("id"))
+			.saveState(false)
+			.build();
+		reader.afterPropertiesSet();
+
+		long start = System.nanoTime();
+		reader.open(new ExecutionContext());
+		int count = 0;
+		while (reader.read() != null) {
+			count++;
+		}
+		reader.close();
+		long elapsed = System.nanoTime() - start;
+
+		assertEquals(rows, count);
+		return elapsed;
+	}
+
+	// indexedSortKeys => (modified_at, id) 가 인덱스가 있는 기본 테이블 컬럼이므로 행 생성자 비교 사용 가능
+	private PagingQueryProvider customProvider(boolean indexedSortKeys) {
+		return new MySqlCustomPagingQueryProvider(SELECT, FROM, WHERE, sortKeys(), indexedSortKeys);
+	}
+
+	private PagingQueryProvider springProvider() {
+		MySqlPagingQueryProvider provider = new MySqlPagingQueryProvider();
+		provider.setSelectClause(SELECT);
+		provider.setFromClause(FROM);
+		provider.setWhereClause(WHERE);
+		provider.setSortKeys(sortKeys());
+		return provider;
+	}
+
+	private static Map<String, Order> sortKeys() {
+		Map<String, Order> sortKeys = new LinkedHashMap<>();
+		sortKeys.put("modified_at", Order.ASCENDING);
+		sortKeys.put("id", Order.ASCENDING);
+		return sortKeys;
+	}
+}
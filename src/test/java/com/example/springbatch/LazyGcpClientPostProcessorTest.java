@@ -0,0 +1,64 @@
+package com.example.springbatch;
+
+import com.example.springbatch.startup.LazyGcpClientPostProcessor;
+import com.google.cloud.bigquery.BigQuery;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LazyGcpClientPostProcessorTest {
+
+	private final AtomicInteger created = new AtomicInteger();
+
+	@Test
+	@DisplayName("지연 생성 모드에서는 주입만으로 클라이언트를 만들지 않고 첫 호출 때 한 번 생성")
+	void enabled_ShouldCreateClientOnFirstCall() {
+		// given
+		try (GenericApplicationContext context = context(true)) {
+			BigQueryConsumer consumer = context.getBean(BigQueryConsumer.class);
+
+			// then: 컨텍스트 시작 + 주입 => 생성 안 함
+			assertEquals(0, created.get());
+			assertNotNull(consumer.bigQuery());
+
+			// when
+			consumer.bigQuery().getOptions();
+			consumer.bigQuery().getOptions();
+
+			// then
+			assertEquals(1, created.get());
+		}
+	}
+
+	@Test
+	@DisplayName("지연 생성 모드가 꺼져 있으면 시작 시 생성")
+	void disabled_ShouldCreateClientOnRefresh() {
+		// given & when
+		try (GenericApplicationContext context = context(false)) {
+			// then
+			assertEquals(1, created.get());
+			assertFalse(context.containsBeanDefinition("bigQuery" + LazyGcpClientPostProcessor.TARGET_SUFFIX));
+		}
+	}
+
+	private GenericApplicationContext context(boolean lazy) {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.addBeanFactoryPostProcessor(new LazyGcpClientPostProcessor(lazy));
+		context.registerBean("bigQuery", BigQuery.class, () -> {
+			created.incrementAndGet();
+			return mock(BigQuery.class);
+		});
+		context.registerBean(BigQueryConsumer.class);
+		context.refresh();
+		return context;
+	}
+
+	record BigQueryConsumer(BigQuery bigQuery) {
+	}
+}
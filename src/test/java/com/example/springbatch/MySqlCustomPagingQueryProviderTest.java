@@ -0,0 +1,80 @@
+package com.example.springbatch;
+
+import com.example.springbatch.config.BatchJobConfig;
+import com.example.springbatch.provider.MySqlCustomPagingQueryProvider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.database.Order;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MySqlCustomPagingQueryProviderTest {
+
+	@Test
+	@DisplayName("인덱스가 있는 기본 테이블 컬럼이고 정렬 방향이 같으면 행 생성자 비교로 keyset 조건 생성")
+	void remainingPagesQuery_IndexedSameDirection_ShouldUseRowConstructor() {
+		// given
+		MySqlCustomPagingQueryProvider provider = BatchJobConfig.auctionQueryProvider(false);
+
+		// when
+		String sql = provider.generateRemainingPagesQuery(100);
+
+		// then
+		assertEquals("(last_modified, auction_id) > (:_last_modified, :_auction_id)", provider.getKeysetPredicate());
+		assertTrue(sql.contains("WHERE (last_modified, auction_id) > (:_last_modified, :_auction_id)"));
+		assertTrue(sql.endsWith("ORDER BY last_modified ASC, auction_id ASC LIMIT 100"));
+	}
+
+	@Test
+	@DisplayName("정렬 키가 식의 별칭이면 (GREATEST) 방향이 같아도 OR 조건으로 펼침")
+	void remainingPagesQuery_ExpressionSortKey_ShouldExpandToOrChain() {
+		// given
+		MySqlCustomPagingQueryProvider provider = BatchJobConfig.auctionProductQueryProvider();
+
+		// when
+		String sql = provider.generateRemainingPagesQuery(100);
+
+		// then
+		assertEquals("((last_modified > :_last_modified) OR "
+			+ "(last_modified = :_last_modified AND auction_id > :_auction_id))", provider.getKeysetPredicate());
+		assertTrue(sql.endsWith("ORDER BY last_modified ASC, auction_id ASC LIMIT 100"));
+	}
+
+	@Test
+	@DisplayName("정렬 방향이 섞여 있으면 OR 조건으로 펼침")
+	void remainingPagesQuery_MixedDirection_ShouldExpandToOrChain() {
+		// given
+		Map<String, Order> sortKeys = new LinkedHashMap<>();
+		sortKeys.put("created_at", Order.DESCENDING);
+		sortKeys.put("id", Order.ASCENDING);
+		MySqlCustomPagingQueryProvider provider = new MySqlCustomPagingQueryProvider(
+			"id, created_at", "orders", "created_at > :lastProcessedTimestamp", sortKeys);
+
+		// when
+		String predicate = provider.getKeysetPredicate();
+
+		// then
+		assertEquals("((created_at < :_created_at) OR (created_at = :_created_at AND id > :_id))", predicate);
+	}
+
+	@Test
+	@DisplayName("같은 페이지 크기의 쿼리는 캐시된 SQL 을 재사용")
+	void firstPageQuery_SamePageSize_ShouldReturnCachedSql() {
+		// given
+		MySqlCustomPagingQueryProvider provider = BatchJobConfig.auctionProductQueryProvider();
+
+		// when
+		String firstSql = provider.generateFirstPageQuery(500);
+		String secondSql = provider.generateFirstPageQuery(500);
+
+		// then
+		assertSame(firstSql, secondSql);
+		assertTrue(provider.generateFirstPageQuery(100).endsWith("LIMIT 100"));
+		assertTrue(firstSql.startsWith("SELECT * FROM (SELECT a.id AS auction_id"));
+		assertTrue(firstSql.endsWith(") AS derived_table ORDER BY last_modified ASC, auction_id ASC LIMIT 500"));
+	}
+}
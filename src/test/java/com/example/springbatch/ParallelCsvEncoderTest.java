@@ -0,0 +1,92 @@
+package com.example.springbatch;
+
+import com.example.springbatch.job.mysql_to_bigquery.dto.AuctionsWinningBidDto;
+import com.example.springbatch.job.mysql_to_bigquery.writer.BigQueryItemWriter;
+import com.example.springbatch.staging.CsvStagingEncoder;
+import com.example.springbatch.staging.DirectBufferPool;
+import com.example.springbatch.staging.ParallelCsvEncoder;
+import com.example.springbatch.staging.PooledBufferOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelCsvEncoderTest {
+
+	private final CsvStagingEncoder<AuctionsWinningBidDto> csvEncoder =
+		new CsvStagingEncoder<>(BigQueryItemWriter.createCsvMapper(), AuctionsWinningBidDto.class);
+
+	private ParallelCsvEncoder parallelEncoder;
+
+	@AfterEach
+	void tearDown() {
+		if (parallelEncoder != null) {
+			parallelEncoder.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("slice 로 나눠 병렬 인코딩한 결과는 한 번에 인코딩한 결과와 같음")
+	void encode_OverThreshold_ShouldMatchSerialOutput() throws Exception {
+		// given
+		parallelEncoder = new ParallelCsvEncoder(100, 30, 4);
+		DirectBufferPool pool = new DirectBufferPool(256, 64, 60); // 작은 버퍼 => slice 마다 여러 segment
+		List<AuctionsWinningBidDto> items = items(250);
+
+		// when
+		PooledBufferOutputStream serial = csvEncoder.encode(items, pool);
+		PooledBufferOutputStream parallel = parallelEncoder.encode(csvEncoder, items, pool);
+
+		// then
+		assertEquals(9, parallelEncoder.sliceCount(items.size()));
+		assertEquals(serial.size(), parallel.size());
+		assertArrayEquals(bytes(serial), bytes(parallel));
+
+		serial.release();
+		parallel.release();
+		assertEquals(pool.getMissCount(), pool.getIdleCount()); // slice 버퍼까지 모두 반납
+	}
+
+	@Test
+	@DisplayName("기준 행 수보다 작은 chunk 는 나누지 않음")
+	void sliceCount_UnderThreshold_ShouldBeOne() {
+		// given
+		parallelEncoder = new ParallelCsvEncoder(100, 30, 4);
+
+		// when & then
+		assertEquals(1, parallelEncoder.sliceCount(99));
+		assertEquals(4, parallelEncoder.sliceCount(100));
+		assertFalse(new ParallelCsvEncoder(0, 30, 4).isEnabled());
+	}
+
+	private static List<AuctionsWinningBidDto> items(int count) {
+		Instant base = Instant.parse("2025-01-01T00:00:00Z");
+		List<AuctionsWinningBidDto> items = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			items.add(AuctionsWinningBidDto.builder()
+				.auctionId((long)i).productId(100L + i).productName("상품, \"" + i + "\"")
+				.productCategory("카테고리").maxPrice(i % 7 == 0 ? null : 1000L * i)
+				.auctionStartTime(base.plusSeconds(i)).auctionEndTime(base.plusSeconds(i + 60))
+				.build());
+		}
+		return items;
+	}
+
+	private static byte[] bytes(PooledBufferOutputStream out) {
+		ByteArrayOutputStream collected = new ByteArrayOutputStream();
+		for (ByteBuffer segment : out.readableSegments()) {
+			byte[] bytes = new byte[segment.remaining()];
+			segment.get(bytes);
+			collected.writeBytes(bytes);
+		}
+		return collected.toByteArray();
+	}
+}
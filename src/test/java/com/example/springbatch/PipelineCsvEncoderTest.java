@@ -0,0 +1,41 @@
+package com.example.springbatch;
+
+import com.example.springbatch.pipeline.PipelineCsvEncoder;
+import com.example.springbatch.pipeline.PipelineRecord;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineCsvEncoderTest {
+
+	private final PipelineCsvEncoder encoder = new PipelineCsvEncoder();
+
+	@Test
+	@DisplayName("타입별 CSV 변환: 문자열 따옴표 이스케이프, null 은 빈 값")
+	void encode_MixedTypes_ShouldWriteBigQueryCsv() throws Exception {
+		// given
+		Instant instant = Instant.parse("2025-04-29T01:00:00Z");
+		List<PipelineRecord> records = List.of(
+			new PipelineRecord(new Object[] {1L, new BigDecimal("1E+3"), "상품 \"A\", 특가", instant}, null),
+			new PipelineRecord(new Object[] {2L, null, null, LocalDateTime.of(2025, 4, 29, 10, 0)}, null)
+		);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// when
+		encoder.encode(records, out);
+
+		// then
+		String csv = out.toString(StandardCharsets.UTF_8);
+		assertEquals("1,1000,\"상품 \"\"A\"\", 특가\",2025-04-29T01:00:00Z\n"
+			+ "2,,,2025-04-29 10:00:00.000000\n", csv);
+	}
+}
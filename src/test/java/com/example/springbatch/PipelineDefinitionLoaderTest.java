@@ -0,0 +1,60 @@
+package com.example.springbatch;
+
+import com.example.springbatch.pipeline.PipelineDefinition;
+import com.example.springbatch.pipeline.PipelineDefinitionLoader;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.StandardSQLTypeName;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.database.Order;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineDefinitionLoaderTest {
+
+	private final PipelineDefinitionLoader loader = new PipelineDefinitionLoader();
+
+	@Test
+	@DisplayName("YAML 파이프라인 정의 로드 + 비활성화된 정의 제외")
+	void load_ValidDefinitions_ShouldBindAndSkipDisabled() throws Exception {
+		// when
+		List<PipelineDefinition> definitions = loader.load("classpath*:pipelines-test/*.yml");
+
+		// then
+		assertEquals(1, definitions.size());
+		PipelineDefinition definition = definitions.get(0);
+		assertEquals("orders_pipeline", definition.getName());
+		assertEquals("orders o", definition.getFrom());
+		assertEquals(500, definition.getPageSize());
+		assertEquals("last_modified", definition.getWatermarkColumn());
+
+		// 정렬 키: 순서 유지 + 생략 시 ASCENDING
+		Map<String, Order> sortKeys = definition.sortKeyMap();
+		assertEquals(List.of("last_modified", "order_id"), List.copyOf(sortKeys.keySet()));
+		assertEquals(Order.ASCENDING, sortKeys.get("last_modified"));
+		assertEquals(Order.DESCENDING, sortKeys.get("order_id"));
+
+		// 컬럼 매핑으로 BigQuery 스키마 생성 (target 생략 시 source 사용)
+		Schema schema = definition.bigQuerySchema();
+		assertEquals(3, schema.getFields().size());
+		assertEquals("order_id", schema.getFields().get(0).getName());
+		assertEquals(StandardSQLTypeName.NUMERIC, schema.getFields().get(1).getType().getStandardType());
+		assertEquals("order_memo", schema.getFields().get(2).getName());
+		assertEquals("test_dataset", definition.getBigquery().getDataset());
+	}
+
+	@Test
+	@DisplayName("필수 값이 없으면 검증 실패")
+	void validate_MissingRequiredField_ShouldThrow() {
+		// given
+		PipelineDefinition definition = new PipelineDefinition();
+		definition.setName("broken");
+
+		// when & then
+		assertThrows(IllegalArgumentException.class, definition::validate);
+	}
+}
@@ -0,0 +1,152 @@
+package com.example.springbatch;
+
+import com.example.springbatch.reader.PrefetchingItemReader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamReader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefetchingItemReaderTest {
+
+	private static final List<Integer> ITEMS = IntStream.rangeClosed(1, 25).boxed().toList();
+
+	@Test
+	@DisplayName("prefetch 된 항목을 원래 순서대로 모두 반환")
+	void read_ShouldReturnAllItemsInOrder() throws Exception {
+		// given
+		PrefetchingItemReader<Integer> reader = new PrefetchingItemReader<>("test", new ListStreamReader(), 4, 2);
+		reader.open(new ExecutionContext());
+
+		// when
+		List<Integer> result = new ArrayList<>();
+		Integer item;
+		while ((item = reader.read()) != null) {
+			result.add(item);
+		}
+		reader.close();
+
+		// then
+		assertEquals(ITEMS, result);
+		assertNull(reader.read());
+	}
+
+	@Test
+	@DisplayName("update 는 delegate 가 미리 읽은 위치가 아닌 소비된 위치를 저장")
+	void update_ShouldSaveConsumedPosition() throws Exception {
+		// given
+		ListStreamReader delegate = new ListStreamReader();
+		PrefetchingItemReader<Integer> reader = new PrefetchingItemReader<>("test", delegate, 4, 3);
+		reader.open(new ExecutionContext());
+
+		// when: chunk 크기 = 페이지 크기 => 페이지 경계에서 커밋
+		for (int i = 0; i < 8; i++) {
+			reader.read();
+		}
+		Thread.sleep(100); // prefetch 스레드가 앞서 읽도록 대기
+		ExecutionContext saved = new ExecutionContext();
+		reader.update(saved);
+		reader.close();
+
+		// then
+		assertEquals(8, saved.getInt("list.read.count"));
+		assertTrue(delegate.readCount > 8);
+	}
+
+	@Test
+	@DisplayName("페이지 중간에서 update 하면 마지막으로 다 소비된 페이지의 위치를 저장")
+	void update_MidPage_ShouldSaveLastCompletedPage() throws Exception {
+		// given
+		PrefetchingItemReader<Integer> reader = new PrefetchingItemReader<>("test", new ListStreamReader(), 4, 2);
+		reader.open(new ExecutionContext());
+
+		// when
+		for (int i = 0; i < 6; i++) {
+			reader.read();
+		}
+		ExecutionContext saved = new ExecutionContext();
+		reader.update(saved);
+		reader.close();
+
+		// then: 5, 6 은 재시작 시 다시 읽음
+		assertEquals(4, saved.getInt("list.read.count"));
+	}
+
+	@Test
+	@DisplayName("close 는 prefetch 스레드가 끝난 뒤 그 스레드에서 delegate 를 닫음")
+	void close_ShouldCloseDelegateAfterFetcherEnds() throws Exception {
+		// given
+		ListStreamReader delegate = new ListStreamReader();
+		PrefetchingItemReader<Integer> reader = new PrefetchingItemReader<>("test", delegate, 4, 1);
+		reader.open(new ExecutionContext());
+		reader.read();
+
+		// when: prefetch 스레드는 큐가 가득 차 대기 중
+		reader.close();
+
+		// then
+		assertTrue(delegate.closed);
+		assertFalse(delegate.closedOutsideFetcher);
+	}
+
+	@Test
+	@DisplayName("저장된 상태로 다시 열면 소비된 다음 항목부터 읽음")
+	void open_WithSavedState_ShouldResumeAfterConsumedItem() throws Exception {
+		// given
+		PrefetchingItemReader<Integer> first = new PrefetchingItemReader<>("test", new ListStreamReader(), 4, 2);
+		first.open(new ExecutionContext());
+		for (int i = 0; i < 8; i++) {
+			first.read();
+		}
+		ExecutionContext saved = new ExecutionContext();
+		first.update(saved);
+		first.close();
+
+		// when
+		PrefetchingItemReader<Integer> restarted = new PrefetchingItemReader<>("test", new ListStreamReader(), 4, 2);
+		restarted.open(saved);
+		Integer next = restarted.read();
+		restarted.close();
+
+		// then
+		assertEquals(9, next);
+	}
+
+	// 읽은 개수를 상태로 저장하는 Reader
+	private static class ListStreamReader extends AbstractItemCountingItemStreamReader<Integer> {
+
+		private volatile int readCount;
+		private volatile boolean closed;
+		private volatile boolean closedOutsideFetcher;
+
+		ListStreamReader() {
+			setName("list");
+		}
+
+		@Override
+		protected Integer doRead() {
+			return readCount < ITEMS.size() ? ITEMS.get(readCount++) : null;
+		}
+
+		@Override
+		protected void doOpen() {
+		}
+
+		@Override
+		protected void doClose() {
+			closed = true;
+			closedOutsideFetcher = !Thread.currentThread().getName().startsWith("reader-prefetch-");
+		}
+
+		@Override
+		protected void jumpToItem(int itemIndex) {
+			readCount = itemIndex;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.example.springbatch;
+
+import com.example.springbatch.enrichment.ProductCache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCacheTest {
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(
+			new DriverManagerDataSource("jdbc:h2:mem:product_cache;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+		jdbcTemplate.execute("DROP TABLE IF EXISTS product");
+		jdbcTemplate.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, product_name VARCHAR(100), "
+			+ "category VARCHAR(100), modified_at TIMESTAMP)");
+		jdbcTemplate.update("INSERT INTO product VALUES (1, '노트북', '전자', TIMESTAMP '2025-01-01 00:00:00'), "
+			+ "(2, '의자', '가구', TIMESTAMP '2025-01-02 00:00:00')");
+	}
+
+	@Test
+	@DisplayName("증분 갱신은 기준 이후 수정된 상품만 읽고 캐시 값을 교체")
+	void refresh_ShouldReturnChangedProductsAndUpdateEntries() {
+		// given
+		ProductCache cache = new ProductCache(jdbcTemplate, 10, "productCacheTest");
+		cache.refresh(Timestamp.valueOf("2025-01-05 00:00:00")); // 초기 적재
+		jdbcTemplate.update("UPDATE product SET product_name = '게이밍 노트북', modified_at = TIMESTAMP '2025-01-06 00:00:00' "
+			+ "WHERE id = 1");
+
+		// when
+		ProductCache.Refresh refresh = cache.refresh(Timestamp.valueOf("2025-01-05 00:00:00"));
+
+		// then
+		assertEquals(List.of(1L), refresh.changedProductIds());
+		assertEquals(Timestamp.valueOf("2025-01-06 00:00:00"), refresh.maxModifiedAt());
+		assertEquals("게이밍 노트북", cache.get(1L).name());
+	}
+
+	@Test
+	@DisplayName("바뀐 상품이 상한을 넘으면 같은 modified_at 까지만 반환하고 나머지는 다음 갱신으로 미룸")
+	void refresh_OverLimit_ShouldDeferRemainingProducts() {
+		// given
+		ProductCache cache = new ProductCache(jdbcTemplate, 10, "productCacheTest");
+		jdbcTemplate.update("INSERT INTO product VALUES (3, '책상', '가구', TIMESTAMP '2025-01-02 00:00:00'), "
+			+ "(4, '전등', '가구', TIMESTAMP '2025-01-03 00:00:00')");
+
+		// when
+		ProductCache.Refresh first = cache.refresh(Timestamp.valueOf("2024-12-31 00:00:00"), 2);
+		ProductCache.Refresh next = cache.refresh(first.maxModifiedAt(), 2);
+
+		// then
+		assertEquals(List.of(1L, 2L, 3L), first.changedProductIds()); // 2, 3 은 같은 시각 => 함께 포함
+		assertEquals(Timestamp.valueOf("2025-01-02 00:00:00"), first.maxModifiedAt());
+		assertEquals(1, first.deferredProducts());
+		assertEquals(List.of(4L), next.changedProductIds());
+		assertEquals(0, next.deferredProducts());
+	}
+
+	@Test
+	@DisplayName("캐시에 없는 상품은 한 건 조회하고, 크기 제한을 넘으면 오래 쓰지 않은 상품부터 제거")
+	void get_Miss_ShouldLoadAndEvictLeastRecentlyUsed() {
+		// given
+		ProductCache cache = new ProductCache(jdbcTemplate, 1, "productCacheTest");
+		cache.refresh(Timestamp.valueOf("2025-01-05 00:00:00")); // 가장 최근 상품(2) 만 적재
+
+		// when
+		ProductCache.Product product = cache.get(1L);
+
+		// then
+		assertEquals("노트북", product.name());
+		assertEquals(1, cache.size());
+		assertNull(cache.get(99L)); // 없는 상품
+	}
+}
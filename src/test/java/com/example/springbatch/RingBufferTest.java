@@ -0,0 +1,103 @@
+package com.example.springbatch;
+
+import com.example.springbatch.staged.RingBuffer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTest {
+
+	@Test
+	@DisplayName("용량은 2의 거듭제곱으로 올림, 가득 차면 offer 실패")
+	void offer_Full_ShouldReject() {
+		// given
+		RingBuffer<Integer> ring = new RingBuffer<>(3, 1);
+
+		// when
+		for (int i = 0; i < ring.capacity(); i++) {
+			assertTrue(ring.offer(i));
+		}
+
+		// then
+		assertEquals(4, ring.capacity());
+		assertFalse(ring.offer(99));
+		assertEquals(4, ring.size());
+		assertEquals(0, ring.poll()); // 들어간 순서대로 꺼냄
+		assertTrue(ring.offer(99));
+	}
+
+	@Test
+	@DisplayName("모든 생산자가 닫으면 남은 항목을 꺼낸 뒤 take 가 null 반환")
+	void take_AllProducersClosed_ShouldDrainThenReturnNull() {
+		// given
+		RingBuffer<String> ring = new RingBuffer<>(4, 2);
+		ring.offer("a");
+		ring.closeProducer();
+		ring.closeProducer();
+
+		// when & then
+		assertEquals("a", ring.take(() -> false));
+		assertNull(ring.take(() -> false));
+	}
+
+	@Test
+	@DisplayName("가득 찬 버퍼에서 put 은 중단되면 false 반환")
+	void put_Aborted_ShouldReturnFalse() {
+		// given
+		RingBuffer<Integer> ring = new RingBuffer<>(2, 1);
+		ring.offer(1);
+		ring.offer(2);
+		AtomicBoolean aborted = new AtomicBoolean(true);
+
+		// when & then
+		assertFalse(ring.put(3, aborted::get));
+		assertEquals(2, ring.size());
+	}
+
+	@Test
+	@DisplayName("여러 생산자/소비자가 작은 버퍼로 주고받아도 항목이 빠지거나 중복되지 않음")
+	void putTake_MultipleProducersConsumers_ShouldDeliverEachItemOnce() throws Exception {
+		// given
+		int producers = 4;
+		int consumers = 3;
+		int perProducer = 20_000;
+		RingBuffer<Integer> ring = new RingBuffer<>(8, producers);
+		Set<Integer> received = ConcurrentHashMap.newKeySet();
+		List<Thread> threads = new ArrayList<>();
+
+		// when
+		for (int p = 0; p < producers; p++) {
+			int base = p * perProducer;
+			threads.add(new Thread(() -> {
+				for (int i = 0; i < perProducer; i++) {
+					ring.put(base + i, () -> false);
+				}
+				ring.closeProducer();
+			}));
+		}
+		for (int c = 0; c < consumers; c++) {
+			threads.add(new Thread(() -> {
+				Integer item;
+				while ((item = ring.take(() -> false)) != null) {
+					assertTrue(received.add(item));
+				}
+			}));
+		}
+		threads.forEach(Thread::start);
+		for (Thread thread : threads) {
+			thread.join(30_000);
+		}
+
+		// then
+		assertEquals(producers * perProducer, received.size());
+		assertEquals(0, ring.size());
+	}
+}
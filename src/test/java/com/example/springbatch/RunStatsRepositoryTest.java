@@ -0,0 +1,45 @@
+package com.example.springbatch;
+
+import com.example.springbatch.stats.BatchRunStats;
+import com.example.springbatch.stats.RunStatsRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunStatsRepositoryTest {
+
+	@Test
+	@DisplayName("실행 기록 저장 후 최신순 조회 (테이블이 없으면 생성)")
+	void saveAndFindRecent() {
+		// given
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(
+			new DriverManagerDataSource("jdbc:h2:mem:run_stats;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+		RunStatsRepository repository = new RunStatsRepository(jdbcTemplate);
+		Timestamp from = Timestamp.valueOf("2025-04-29 00:00:00");
+		Timestamp to = Timestamp.valueOf("2025-04-29 01:00:00");
+
+		// when
+		repository.save(BatchRunStats.builder().jobName("testJob").status("COMPLETED").rowsWritten(10).build());
+		repository.save(BatchRunStats.builder().jobName("testJob").status("COMPLETED").rowsWritten(20)
+			.stepExecutionId(2L).loadOutputRows(20L).watermarkFrom(from).watermarkTo(to).build());
+		repository.save(BatchRunStats.builder().jobName("otherJob").status("FAILED").build());
+		List<BatchRunStats> recent = repository.findRecent("testJob", 10);
+
+		// then
+		assertEquals(2, recent.size());
+		BatchRunStats latest = recent.get(0);
+		assertEquals(20, latest.getRowsWritten());
+		assertEquals(2L, latest.getStepExecutionId());
+		assertEquals(20L, latest.getLoadOutputRows());
+		assertNull(latest.getLoadBadRecords());
+		assertEquals(3600, latest.watermarkAdvanceSeconds());
+		assertNull(recent.get(1).getStepExecutionId());
+	}
+}
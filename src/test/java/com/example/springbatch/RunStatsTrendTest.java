@@ -0,0 +1,84 @@
+package com.example.springbatch;
+
+import com.example.springbatch.stats.BatchRunStats;
+import com.example.springbatch.stats.RunStatsTrend;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunStatsTrendTest {
+
+	@Test
+	@DisplayName("최근 실행이 기준 중앙값보다 임계값 이상 느리면 성능 저하로 표시")
+	void analyze_SlowerLatestRun_ShouldFlagRegression() {
+		// given (최신순)
+		List<BatchRunStats> runs = List.of(
+			run(10_000, 20_000, 8_000), // 최근 실행: 두 배 느려짐
+			run(10_000, 10_000, 4_000),
+			run(10_000, 11_000, 4_000),
+			run(10_000, 9_000, 4_000)
+		);
+
+		// when
+		RunStatsTrend.Report report = RunStatsTrend.analyze("testJob", runs, 7, 20);
+
+		// then
+		assertTrue(report.hasRegression());
+		List<String> regressed = report.regressions().stream().map(RunStatsTrend.MetricTrend::name).toList();
+		assertTrue(regressed.contains("rows_per_second"));
+		assertTrue(regressed.contains("step_ms_per_1k_rows"));
+		assertTrue(regressed.contains("read_ms_per_1k_rows"));
+		assertFalse(regressed.contains("upload_ms_per_1k_rows"));
+	}
+
+	@Test
+	@DisplayName("처리 행 수가 늘어서 시간이 늘어난 경우는 성능 저하가 아님")
+	void analyze_MoreRowsSameRate_ShouldNotFlagRegression() {
+		// given
+		List<BatchRunStats> runs = List.of(
+			run(20_000, 20_000, 8_000),
+			run(10_000, 10_000, 4_000),
+			run(10_000, 10_000, 4_000)
+		);
+
+		// when
+		RunStatsTrend.Report report = RunStatsTrend.analyze("testJob", runs, 7, 20);
+
+		// then
+		assertFalse(report.hasRegression());
+		assertEquals(3, report.history().size());
+	}
+
+	@Test
+	@DisplayName("실패한 실행은 비교에서 제외하고, 기준 실행이 없으면 저하 판단 안함")
+	void analyze_OnlyFailedBaseline_ShouldNotFlagRegression() {
+		// given
+		BatchRunStats failed = BatchRunStats.builder().jobName("testJob").status("FAILED").rowsWritten(10).stepMillis(1).build();
+		List<BatchRunStats> runs = List.of(run(10_000, 50_000, 1_000), failed);
+
+		// when
+		RunStatsTrend.Report report = RunStatsTrend.analyze("testJob", runs, 7, 20);
+
+		// then
+		assertFalse(report.hasRegression());
+		assertNotNull(report.latest());
+	}
+
+	private BatchRunStats run(long rowsWritten, long stepMillis, long readMillis) {
+		return BatchRunStats.builder()
+			.jobName("testJob")
+			.status("COMPLETED")
+			.rowsRead(rowsWritten)
+			.rowsWritten(rowsWritten)
+			.stepMillis(stepMillis)
+			.readMillis(readMillis)
+			.encodeMillis(100)
+			.uploadMillis(1_000)
+			.loadMillis(3_000)
+			.build();
+	}
+}
@@ -0,0 +1,194 @@
+package com.example.springbatch;
+
+import com.example.springbatch.shard.ShardedItemReader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedItemReaderTest {
+
+	@Test
+	@DisplayName("모든 샤드의 행을 읽고, 샤드별 재시작 상태와 최신 타임스탬프를 기록")
+	void read_TwoShards_ShouldMergeAndTrackPerShardState() throws Exception {
+		// given
+		StubShardReader a = new StubShardReader("a", 5, null, null);
+		StubShardReader b = new StubShardReader("b", 3, null, null);
+		ShardedItemReader<Row> reader = newReader(a, b);
+		ExecutionContext context = new ExecutionContext();
+
+		// when
+		reader.open(context);
+		List<Row> rows = readAll(reader);
+		reader.update(context);
+		reader.close();
+
+		// then
+		assertEquals(8, rows.size());
+		assertEquals(5, rows.stream().filter(row -> row.shard().equals("a")).count());
+		assertEquals(5, context.getInt("a.read.count"));
+		assertEquals(3, context.getInt("b.read.count"));
+		@SuppressWarnings("unchecked")
+		Map<String, Timestamp> max = (Map<String, Timestamp>)context.get(ShardedItemReader.SHARD_MAX_TIMESTAMPS_KEY);
+		assertEquals(timestamp(5), max.get("a"));
+		assertEquals(timestamp(3), max.get("b"));
+	}
+
+	@Test
+	@DisplayName("페이지 중간에서 update 하면 샤드의 마지막으로 다 소비된 페이지 위치를 저장")
+	void update_MidPage_ShouldSaveLastCompletedPage() throws Exception {
+		// given
+		ShardedItemReader<Row> reader = newReader(new StubShardReader("a", 5, null, null));
+		ExecutionContext context = new ExecutionContext();
+
+		// when
+		reader.open(context);
+		for (int i = 0; i < 3; i++) {
+			reader.read();
+		}
+		reader.update(context);
+		reader.close();
+
+		// then: 3 은 재시작 시 다시 읽음
+		assertEquals(2, context.getInt("a.read.count"));
+	}
+
+	@Test
+	@DisplayName("느린 샤드가 멈춰 있어도 다른 샤드의 행은 계속 소비")
+	void read_SlowShard_ShouldNotStallOthers() {
+		// given
+		CountDownLatch release = new CountDownLatch(1);
+		StubShardReader fast = new StubShardReader("fast", 6, null, null);
+		StubShardReader slow = new StubShardReader("slow", 2, release, null);
+		ShardedItemReader<Row> reader = newReader(fast, slow);
+
+		// when & then
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			reader.open(new ExecutionContext());
+			for (int i = 0; i < 6; i++) {
+				assertEquals("fast", reader.read().shard()); // 느린 샤드는 아직 첫 행도 못 읽음
+			}
+			release.countDown();
+			assertEquals("slow", reader.read().shard());
+			assertEquals("slow", reader.read().shard());
+			assertNull(reader.read());
+			reader.close();
+		});
+	}
+
+	@Test
+	@DisplayName("샤드 읽기 실패는 소비하는 쪽에서 그대로 던짐")
+	void read_ShardFails_ShouldPropagate() {
+		// given
+		IllegalStateException failure = new IllegalStateException("connection reset");
+		ShardedItemReader<Row> reader = newReader(new StubShardReader("a", 0, null, failure));
+
+		// when & then
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			reader.open(new ExecutionContext());
+			Exception thrown = assertThrows(Exception.class, reader::read);
+			assertSame(failure, thrown);
+			reader.close();
+		});
+	}
+
+	@Test
+	@DisplayName("재시작 시 저장된 샤드별 최신 타임스탬프를 이어서 사용")
+	void open_Restart_ShouldRestorePerShardMax() throws Exception {
+		// given
+		ExecutionContext context = new ExecutionContext();
+		context.put(ShardedItemReader.SHARD_MAX_TIMESTAMPS_KEY, new HashMap<>(Map.of("b", timestamp(50))));
+		ShardedItemReader<Row> reader = newReader(new StubShardReader("a", 2, null, null),
+			new StubShardReader("b", 2, null, null));
+
+		// when
+		reader.open(context);
+		readAll(reader);
+		reader.update(context);
+		reader.close();
+
+		// then
+		@SuppressWarnings("unchecked")
+		Map<String, Timestamp> max = (Map<String, Timestamp>)context.get(ShardedItemReader.SHARD_MAX_TIMESTAMPS_KEY);
+		assertEquals(timestamp(2), max.get("a"));
+		assertEquals(timestamp(50), max.get("b")); // 이전 실행 값이 더 최신
+	}
+
+	private static ShardedItemReader<Row> newReader(StubShardReader... shards) {
+		List<ShardedItemReader.ShardSource<Row>> sources = new ArrayList<>();
+		for (StubShardReader shard : shards) {
+			sources.add(new ShardedItemReader.ShardSource<>(shard.name, shard));
+		}
+		return new ShardedItemReader<>("shardTestJob", sources, Row::modifiedAt, 2, 1);
+	}
+
+	private static List<Row> readAll(ShardedItemReader<Row> reader) throws Exception {
+		List<Row> rows = new ArrayList<>();
+		Row row;
+		while ((row = reader.read()) != null) {
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	private static Timestamp timestamp(int second) {
+		return new Timestamp(1_700_000_000_000L + second * 1000L);
+	}
+
+	private record Row(String shard, int id, Timestamp modifiedAt) {
+	}
+
+	// 샤드 하나를 흉내내는 Reader => gate 가 있으면 풀릴 때까지 첫 행을 내주지 않음
+	private static class StubShardReader implements ItemStreamReader<Row> {
+
+		private final String name;
+		private final int rows;
+		private final CountDownLatch gate;
+		private final RuntimeException failure;
+		private int count;
+
+		StubShardReader(String name, int rows, CountDownLatch gate, RuntimeException failure) {
+			this.name = name;
+			this.rows = rows;
+			this.gate = gate;
+			this.failure = failure;
+		}
+
+		@Override
+		public Row read() throws Exception {
+			if (gate != null && !gate.await(10, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("gate timeout");
+			}
+			if (failure != null) {
+				throw failure;
+			}
+			if (count == rows) {
+				return null;
+			}
+			count++;
+			return new Row(name, count, timestamp(count));
+		}
+
+		@Override
+		public void open(ExecutionContext executionContext) {
+			count = executionContext.getInt(name + ".read.count", 0);
+		}
+
+		@Override
+		public void update(ExecutionContext executionContext) {
+			executionContext.putInt(name + ".read.count", count);
+		}
+	}
+}
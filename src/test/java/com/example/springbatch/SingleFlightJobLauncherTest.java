@@ -0,0 +1,176 @@
+package com.example.springbatch;
+
+import com.example.springbatch.lease.JobLeaseRepository;
+import com.example.springbatch.lease.SingleFlightJobLauncher;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightJobLauncherTest {
+
+	private static final String JOB_NAME = "leaseTestJob";
+
+	@Mock
+	private JobLauncher jobLauncher;
+
+	@Mock
+	private Job job;
+
+	private JdbcTemplate jdbcTemplate;
+	private JobLeaseRepository repository;
+	private SingleFlightJobLauncher launcher;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(
+			new DriverManagerDataSource("jdbc:h2:mem:lease;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+		jdbcTemplate.execute("DROP TABLE IF EXISTS batch_job_lease");
+		repository = new JobLeaseRepository(jdbcTemplate);
+		// heartbeat 는 테스트에서 직접 호출 => 주기를 길게
+		launcher = new SingleFlightJobLauncher(jdbcTemplate, true, 60, 3600);
+	}
+
+	@AfterEach
+	void tearDown() {
+		launcher.destroy();
+	}
+
+	@Test
+	@DisplayName("다른 owner 가 유효한 lease 를 보유 중이면 Job 을 실행하지 않고 거절")
+	void run_LeaseHeld_ShouldReject() {
+		// given
+		assertTrue(repository.tryAcquire(JOB_NAME, "other-node", 60));
+		when(job.getName()).thenReturn(JOB_NAME);
+
+		// when & then
+		assertThrows(JobExecutionAlreadyRunningException.class,
+			() -> launcher.run(jobLauncher, job, new JobParameters()));
+		verifyNoInteractions(jobLauncher);
+		assertEquals("other-node", repository.findOwner(JOB_NAME));
+	}
+
+	@Test
+	@DisplayName("만료된 lease 는 인수해서 실행하고, 동기 실행이 끝나면 반납")
+	void run_ExpiredLease_ShouldTakeOverAndReleaseAfterRun() throws Exception {
+		// given
+		assertTrue(repository.tryAcquire(JOB_NAME, "dead-node", 60));
+		jdbcTemplate.update("UPDATE batch_job_lease SET expires_at = TIMESTAMP '2000-01-01 00:00:00'");
+		when(job.getName()).thenReturn(JOB_NAME);
+		JobExecution execution = new JobExecution(1L);
+		execution.setStatus(BatchStatus.COMPLETED);
+		when(jobLauncher.run(any(), any())).thenReturn(execution);
+
+		// when
+		JobExecution result = launcher.run(jobLauncher, job, new JobParameters());
+
+		// then
+		assertSame(execution, result);
+		assertNull(repository.findOwner(JOB_NAME));
+	}
+
+	@Test
+	@DisplayName("Job 실행이 예외로 끝나도 lease 반납")
+	void run_LauncherThrows_ShouldRelease() throws Exception {
+		// given
+		when(job.getName()).thenReturn(JOB_NAME);
+		when(jobLauncher.run(any(), any())).thenThrow(new IllegalStateException("boom"));
+
+		// when & then
+		assertThrows(IllegalStateException.class, () -> launcher.run(jobLauncher, job, new JobParameters()));
+		assertNull(repository.findOwner(JOB_NAME));
+	}
+
+	@Test
+	@DisplayName("비동기 실행은 실행 중에는 lease 를 유지하고, 종료 후 heartbeat 가 반납")
+	void run_AsyncExecution_ShouldHoldUntilFinished() throws Exception {
+		// given
+		when(job.getName()).thenReturn(JOB_NAME);
+		JobExecution execution = new JobExecution(1L);
+		execution.setStatus(BatchStatus.STARTED);
+		when(jobLauncher.run(any(), any())).thenReturn(execution);
+
+		// when
+		launcher.run(jobLauncher, job, new JobParameters());
+		launcher.heartbeatAll();
+
+		// then: 실행 중 => 유지, 같은 이름의 다음 실행은 거절
+		assertNotNull(repository.findOwner(JOB_NAME));
+		assertThrows(JobExecutionAlreadyRunningException.class,
+			() -> launcher.run(jobLauncher, job, new JobParameters()));
+
+		// when: 실행 종료
+		execution.setStatus(BatchStatus.COMPLETED);
+		launcher.heartbeatAll();
+
+		// then
+		assertNull(repository.findOwner(JOB_NAME));
+	}
+
+	@Test
+	@DisplayName("heartbeat 중 다른 노드가 lease 를 인수했으면 실행 중인 스텝에 중단 요청")
+	void heartbeat_LeaseLost_ShouldTerminateSteps() throws Exception {
+		// given
+		when(job.getName()).thenReturn(JOB_NAME);
+		JobExecution execution = new JobExecution(1L);
+		execution.setStatus(BatchStatus.STARTED);
+		StepExecution stepExecution = execution.createStepExecution("step");
+		when(jobLauncher.run(any(), any())).thenReturn(execution);
+		launcher.run(jobLauncher, job, new JobParameters());
+		jdbcTemplate.update("UPDATE batch_job_lease SET owner = 'other-node'");
+
+		// when
+		launcher.heartbeatAll();
+
+		// then
+		assertTrue(stepExecution.isTerminateOnly());
+		assertEquals("other-node", repository.findOwner(JOB_NAME));
+	}
+
+	@Test
+	@DisplayName("동기 실행 중에 lease 를 잃어도 run() 반환 전에 스텝에 중단 요청")
+	void heartbeat_LeaseLostDuringSyncRun_ShouldTerminateSteps() throws Exception {
+		// given
+		when(job.getName()).thenReturn(JOB_NAME);
+		JobExecution execution = new JobExecution(1L);
+		execution.setStatus(BatchStatus.STARTED);
+		StepExecution stepExecution = execution.createStepExecution("step");
+		doAnswer(invocation -> {
+			// 스텝 실행 도중 다른 노드가 인수하고 heartbeat 가 돎
+			jdbcTemplate.update("UPDATE batch_job_lease SET owner = 'other-node'");
+			launcher.heartbeatAll();
+			return null;
+		}).when(job).execute(execution);
+		when(jobLauncher.run(any(), any())).thenAnswer(invocation -> {
+			Job launched = invocation.getArgument(0);
+			launched.execute(execution);
+			execution.setStatus(BatchStatus.STOPPED);
+			return execution;
+		});
+
+		// when
+		launcher.run(jobLauncher, job, new JobParameters());
+
+		// then
+		assertTrue(stepExecution.isTerminateOnly());
+		assertEquals("other-node", repository.findOwner(JOB_NAME));
+	}
+}
@@ -0,0 +1,109 @@
+package com.example.springbatch;
+
+import com.example.springbatch.reader.SourceThrottle;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SourceThrottleTest {
+
+	private SourceThrottle throttle;
+
+	@AfterEach
+	void tearDown() {
+		if (throttle != null) {
+			throttle.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("Threads_running 이 높으면 한도를 절반으로 줄이고 최소 비율 아래로는 내려가지 않음")
+	void adjust_Pressured_ShouldHalveDownToMinFraction() {
+		// given
+		throttle = newThrottle(20000, 20, 0.2);
+
+		// when
+		throttle.adjust(40, null);
+		double afterFirst = throttle.getFraction();
+		throttle.adjust(40, null);
+		throttle.adjust(40, null);
+
+		// then
+		assertEquals(0.5, afterFirst, 1e-9);
+		assertEquals(0.2, throttle.getFraction(), 1e-9);
+		assertEquals(4000, throttle.getRowsPerSecondLimit(), 1e-6);
+	}
+
+	@Test
+	@DisplayName("DB 가 한가하면 한도를 조금씩 올리고, 복제 지연이 크면 Threads_running 과 관계없이 줄임")
+	void adjust_IdleThenReplicaLag_ShouldIncreaseThenDecrease() {
+		// given
+		throttle = newThrottle(20000, 20, 0.05);
+		throttle.adjust(40, null); // 0.5
+
+		// when & then
+		throttle.adjust(2, 0L);
+		assertEquals(0.6, throttle.getFraction(), 1e-9);
+
+		throttle.adjust(20, null); // low 와 high 사이 => 유지
+		assertEquals(0.6, throttle.getFraction(), 1e-9);
+
+		throttle.adjust(2, 45L); // 복제 지연 한도(30s) 초과
+		assertEquals(0.3, throttle.getFraction(), 1e-9);
+
+		throttle.adjust(null, null); // 상태 조회 실패 => 유지
+		assertEquals(0.3, throttle.getFraction(), 1e-9);
+	}
+
+	@Test
+	@DisplayName("queries/sec 한도만큼 페이지 쿼리 시작 간격을 벌림")
+	void beforeQuery_OverQueryLimit_ShouldWait() {
+		// given
+		throttle = newThrottle(0, 10, 0.05); // 쿼리 간격 100ms, 행 한도 없음
+
+		// when
+		long start = System.nanoTime();
+		for (int i = 0; i < 4; i++) {
+			throttle.beforeQuery();
+			throttle.afterQuery(1000);
+		}
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// then
+		assertTrue(elapsedMillis >= 250, "elapsed = " + elapsedMillis);
+	}
+
+	@Test
+	@DisplayName("비활성화 상태에서는 대기하지 않음")
+	void beforeQuery_Disabled_ShouldNotWait() {
+		// given
+		throttle = new SourceThrottle(dataSource(), false, 1, 1, 0.05, 32, 8, 30, 3600, "", "", "");
+
+		// when
+		long start = System.nanoTime();
+		for (int i = 0; i < 5; i++) {
+			throttle.beforeQuery();
+			throttle.afterQuery(1000);
+		}
+
+		// then
+		assertFalse(throttle.isEnabled());
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500);
+	}
+
+	private static SourceThrottle newThrottle(double rowsPerSecond, double queriesPerSecond, double minFraction) {
+		// H2 는 SHOW GLOBAL STATUS 가 없음 => 주기 검사는 조회 실패로 한도 유지
+		return new SourceThrottle(dataSource(), true, rowsPerSecond, queriesPerSecond, minFraction, 32, 8, 30, 3600,
+			"", "", "");
+	}
+
+	private static DriverManagerDataSource dataSource() {
+		return new DriverManagerDataSource("jdbc:h2:mem:throttle;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+	}
+}
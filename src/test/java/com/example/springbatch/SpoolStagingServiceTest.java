@@ -0,0 +1,148 @@
+package com.example.springbatch;
+
+import com.example.springbatch.staging.DirectBufferPool;
+import com.example.springbatch.staging.GcsCompositeUploader;
+import com.example.springbatch.staging.PooledBufferOutputStream;
+import com.example.springbatch.staging.SpoolStagingService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpoolStagingServiceTest {
+
+	@Mock
+	private GcsCompositeUploader mockUploader;
+
+	@TempDir
+	Path spoolDirectory;
+
+	private DirectBufferPool bufferPool;
+	private StepExecution stepExecution;
+
+	// 업로드 시점의 스풀 파일 내용
+	private final List<String> uploadedContents = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		bufferPool = new DirectBufferPool(8, 8, 60);
+		stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+		lenient().when(mockUploader.upload(any(Path.class), anyString(), eq("text/csv"))).thenAnswer(invocation -> {
+			Path file = invocation.getArgument(0);
+			uploadedContents.add(Files.readString(file, StandardCharsets.UTF_8));
+			return "gs://test-bucket/" + invocation.getArgument(1);
+		});
+	}
+
+	@Test
+	@DisplayName("한도 전에는 스풀에 모으고, flush 시 하나의 객체로 업로드")
+	void append_BelowThreshold_ShouldUploadOnFlush() throws Exception {
+		// given
+		SpoolStagingService service = newService(1024);
+
+		// when
+		String first = service.append(stepExecution, encode("1,a\n"), timestamp(1));
+		String second = service.append(stepExecution, encode("2,b\n"), timestamp(2));
+		String flushed = service.flush(stepExecution);
+
+		// then
+		assertNull(first);
+		assertNull(second);
+		assertNotNull(flushed);
+		assertEquals(List.of("1,a\n2,b\n"), uploadedContents);
+	}
+
+	@Test
+	@DisplayName("한도에 도달하면 바로 업로드하고 다음 스풀 파일로 전환")
+	void append_OverThreshold_ShouldUploadSegment() throws Exception {
+		// given
+		SpoolStagingService service = newService(4);
+
+		// when
+		String first = service.append(stepExecution, encode("1,a\n"), timestamp(1));
+		String second = service.append(stepExecution, encode("2,b\n"), timestamp(2));
+
+		// then
+		assertNotNull(first);
+		assertNotNull(second);
+		assertNotEquals(first, second);
+		assertEquals(List.of("1,a\n", "2,b\n"), uploadedContents);
+		assertNull(service.flush(stepExecution)); // 남은 데이터 없음
+	}
+
+	@Test
+	@DisplayName("비정상 종료 후 새 인스턴스에서 커밋된 스풀을 업로드하고 최신 타임스탬프 반환")
+	void recover_AfterCrash_ShouldUploadCommittedSpool() throws Exception {
+		// given: 스텝 도중 종료되어 스풀만 남은 상태
+		SpoolStagingService crashed = newService(1024);
+		crashed.append(stepExecution, encode("1,a\n"), timestamp(1));
+		crashed.append(stepExecution, encode("2,b\n"), timestamp(2));
+
+		// when: 재시작 후 복구
+		SpoolStagingService restarted = newService(1024);
+		SpoolStagingService.SpoolRecovery recovery = restarted.recover();
+
+		// then
+		assertEquals(1, recovery.gcsFileUris().size());
+		assertEquals(timestamp(2), recovery.maxTimestamp());
+		assertEquals(List.of("1,a\n2,b\n"), uploadedContents);
+
+		// 로드 완료 후 manifest 정리 => 다시 복구할 대상 없음
+		restarted.completeRecovered();
+		assertTrue(restarted.recover().gcsFileUris().isEmpty());
+	}
+
+	@Test
+	@DisplayName("실패한 스텝의 스풀은 해제 후 같은 인스턴스의 다음 복구에서 업로드")
+	void release_AfterFailedStep_ShouldRecoverInSameInstance() throws Exception {
+		// given: 스텝이 실패해 flush/complete 없이 끝난 상태
+		SpoolStagingService service = newService(1024);
+		service.append(stepExecution, encode("1,a\n"), timestamp(1));
+		assertTrue(service.recover().gcsFileUris().isEmpty()); // 실행 중인 스풀은 복구 대상이 아님
+
+		// when
+		service.release(stepExecution);
+		SpoolStagingService.SpoolRecovery recovery = service.recover();
+
+		// then
+		assertEquals(1, recovery.gcsFileUris().size());
+		assertEquals(timestamp(1), recovery.maxTimestamp());
+		assertEquals(List.of("1,a\n"), uploadedContents);
+	}
+
+	private SpoolStagingService newService(long uploadThresholdBytes) {
+		return new SpoolStagingService("spool", spoolDirectory.toString(), uploadThresholdBytes, 4096, "testJob",
+			mockUploader);
+	}
+
+	private PooledBufferOutputStream encode(String csv) throws Exception {
+		PooledBufferOutputStream out = new PooledBufferOutputStream(bufferPool);
+		out.write(csv.getBytes(StandardCharsets.UTF_8));
+		out.close();
+		return out;
+	}
+
+	private Timestamp timestamp(int hour) {
+		return Timestamp.valueOf(LocalDateTime.of(2025, 4, 28, hour, 0, 0));
+	}
+}
@@ -0,0 +1,104 @@
+package com.example.springbatch;
+
+import com.example.springbatch.metrics.EtlMetrics;
+import com.example.springbatch.metrics.StageMetricsListener;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StageMetricsListenerTest {
+
+	// 전역 레지스트리에 실제 레지스트리가 없으면 메트릭 값이 기록되지 않음 => 테스트 동안 추가
+	private static final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@BeforeAll
+	static void addRegistry() {
+		Metrics.addRegistry(registry);
+	}
+
+	@AfterAll
+	static void removeRegistry() {
+		Metrics.removeRegistry(registry);
+	}
+
+	@Test
+	@DisplayName("chunk 마다 StepExecution 누적 카운트의 증가분만 단계별 카운터에 반영")
+	void afterChunk_ShouldIncrementByDelta() {
+		// given
+		String jobName = "stageMetricsTestJob";
+		StageMetricsListener listener = new StageMetricsListener(jobName);
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+
+		// when
+		stepExecution.setReadCount(100);
+		stepExecution.setFilterCount(10);
+		stepExecution.setWriteCount(90);
+		listener.afterChunk(chunkContext);
+
+		stepExecution.setReadCount(150);
+		stepExecution.setFilterCount(10);
+		stepExecution.setWriteCount(140);
+		listener.afterChunk(chunkContext);
+
+		// then
+		assertEquals(150, EtlMetrics.stageRows(jobName, "read").count());
+		assertEquals(140, EtlMetrics.stageRows(jobName, "process").count());
+		assertEquals(140, EtlMetrics.stageRows(jobName, "write").count());
+	}
+
+	@Test
+	@DisplayName("process 카운터는 읽은 행에서 필터/처리 건너뜀을 뺀 값 => 쓰기 결과와 무관")
+	void afterChunk_ProcessCount_ShouldExcludeFilteredAndProcessSkipped() {
+		// given
+		String jobName = "stageMetricsProcessTestJob";
+		StageMetricsListener listener = new StageMetricsListener(jobName);
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+
+		// when
+		stepExecution.setReadCount(100);
+		stepExecution.setFilterCount(10);
+		stepExecution.setProcessSkipCount(5);
+		stepExecution.setWriteSkipCount(3);
+		stepExecution.setWriteCount(82);
+		listener.afterChunk(chunkContext);
+
+		// then
+		assertEquals(100, EtlMetrics.stageRows(jobName, "read").count());
+		assertEquals(85, EtlMetrics.stageRows(jobName, "process").count());
+		assertEquals(82, EtlMetrics.stageRows(jobName, "write").count());
+	}
+
+	@Test
+	@DisplayName("워터마크 지연 게이지는 현재 시각 - 마지막 처리 타임스탬프")
+	void recordWatermark_ShouldExposeLag() {
+		// given
+		String jobName = "watermarkLagTestJob";
+		Timestamp watermark = new Timestamp(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(5));
+
+		// when
+		EtlMetrics.recordWatermark(jobName, watermark);
+
+		// then
+		TimeGauge gauge = Metrics.globalRegistry.find(EtlMetrics.WATERMARK_LAG).tag("job", jobName).timeGauge();
+		assertNotNull(gauge);
+		double lagSeconds = gauge.value(TimeUnit.SECONDS);
+		assertTrue(lagSeconds >= 300 && lagSeconds < 360, "lag = " + lagSeconds);
+	}
+}
@@ -0,0 +1,29 @@
+package com.example.springbatch;
+
+import com.example.springbatch.stats.StepRunStats;
+import com.example.springbatch.stats.StepRunStatsCleanupListener;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StepRunStatsCleanupListenerTest {
+
+	@Test
+	@DisplayName("스텝 종료 시 누적된 StepRunStats 를 제거")
+	void afterStep_ShouldRemoveStats() {
+		// given
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution("snapshotWorkerStep", 4242L);
+		StepRunStats.forStep(stepExecution).addEncode(1_000, 2_048);
+		assertNotNull(StepRunStats.find(4242L));
+
+		// when
+		new StepRunStatsCleanupListener().afterStep(stepExecution);
+
+		// then
+		assertNull(StepRunStats.find(4242L));
+	}
+}
@@ -0,0 +1,167 @@
+package com.example.springbatch;
+
+import com.example.springbatch.job.mysql_to_bigquery.processor.DataTransformerProcessor;
+import com.example.springbatch.reader.SourceThrottle;
+import com.example.springbatch.streaming.StreamingTasklet;
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.BigQueryError;
+import com.google.cloud.bigquery.InsertAllRequest;
+import com.google.cloud.bigquery.InsertAllResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingTaskletTest {
+
+	private static final String JOB_NAME = "streamingTestJob";
+
+	@Mock
+	private BigQuery bigquery;
+
+	@Mock
+	private InsertAllResponse insertAllResponse;
+
+	private DriverManagerDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private StreamingTasklet tasklet;
+	private StepExecution stepExecution;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource("jdbc:h2:mem:streaming;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("DROP TABLE IF EXISTS auctions");
+		jdbcTemplate.execute("DROP TABLE IF EXISTS product");
+		jdbcTemplate.execute("DROP TABLE IF EXISTS batch_job_metadata");
+		jdbcTemplate.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, product_name VARCHAR(100), "
+			+ "category VARCHAR(100), modified_at TIMESTAMP)");
+		jdbcTemplate.execute("CREATE TABLE auctions (id BIGINT PRIMARY KEY, product_id BIGINT, max_price DECIMAL(19, 2), "
+			+ "start_time TIMESTAMP, end_time TIMESTAMP, modified_at TIMESTAMP)");
+		jdbcTemplate.execute("CREATE TABLE batch_job_metadata (job_name VARCHAR(100) PRIMARY KEY, "
+			+ "last_processed_timestamp TIMESTAMP)");
+		jdbcTemplate.update("INSERT INTO product VALUES (1, '노트북', '전자', TIMESTAMP '2025-01-01 00:00:00')");
+		jdbcTemplate.update("INSERT INTO batch_job_metadata VALUES (?, TIMESTAMP '2025-01-01 00:00:00')", JOB_NAME);
+
+		// 정착 시간 0 (H2 시각과 무관하게 모두 읽음), micro-batch 2 행, 변경 없으면 1초 뒤 반환
+		tasklet = new StreamingTasklet(dataSource, jdbcTemplate, bigquery, new DataTransformerProcessor(),
+			new SourceThrottle(dataSource, false, 0, 0, 0.05, 32, 8, 30, 3600, "", "", ""),
+			JOB_NAME, "dataset", "table", true, 10, 0, 1, 2, 500);
+		stepExecution = MetaDataInstanceFactory.createStepExecution();
+		tasklet.beforeStep(stepExecution);
+	}
+
+	@AfterEach
+	void tearDown() {
+		tasklet.afterStep(stepExecution);
+	}
+
+	@Test
+	@DisplayName("반복마다 micro-batch 하나를 적재하고, 페이지 경계에서 끝까지 읽은 타임스탬프까지만 watermark 진행")
+	void execute_ShouldStreamPagesAndAdvanceWatermarkPerCommit() throws Exception {
+		// given
+		insertAuction(1, "2025-01-02 00:00:00");
+		insertAuction(2, "2025-01-03 00:00:00");
+		insertAuction(3, "2025-01-03 00:00:00"); // 2 와 같은 타임스탬프 => 다음 페이지로 나뉨
+		when(bigquery.insertAll(any())).thenReturn(insertAllResponse);
+		when(insertAllResponse.hasErrors()).thenReturn(false);
+
+		// when & then
+		assertEquals(RepeatStatus.CONTINUABLE, execute());
+		assertEquals(Timestamp.valueOf("2025-01-02 00:00:00"), watermark()); // 2025-01-03 은 아직 남은 행이 있을 수 있음
+
+		assertEquals(RepeatStatus.CONTINUABLE, execute());
+		assertEquals(Timestamp.valueOf("2025-01-03 00:00:00"), watermark());
+
+		ArgumentCaptor<InsertAllRequest> requests = ArgumentCaptor.forClass(InsertAllRequest.class);
+		verify(bigquery, times(2)).insertAll(requests.capture());
+		assertEquals(2, requests.getAllValues().get(0).getRows().size());
+		assertEquals("3-" + Timestamp.valueOf("2025-01-03 00:00:00").getTime(),
+			requests.getAllValues().get(1).getRows().get(0).getId());
+		assertEquals(3, stepExecution.getWriteCount());
+	}
+
+	@Test
+	@DisplayName("변경이 없으면 Job 저장소에 쓰지 않고 폴링을 이어가다 heartbeat 간격에만 반환")
+	void execute_NoChanges_ShouldPollUntilHeartbeat() throws Exception {
+		// when
+		long start = System.nanoTime();
+		RepeatStatus status = execute();
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		// then
+		assertEquals(RepeatStatus.CONTINUABLE, status);
+		assertTrue(elapsedMillis >= 1000, "elapsed = " + elapsedMillis);
+		verifyNoInteractions(bigquery);
+		assertEquals(Timestamp.valueOf("2025-01-01 00:00:00"), watermark());
+	}
+
+	@Test
+	@DisplayName("멈춤 요청 후에는 조회하지 않고 끝냄")
+	void execute_StopRequested_ShouldFinish() throws Exception {
+		// given
+		insertAuction(1, "2025-01-02 00:00:00");
+		tasklet.requestStop();
+
+		// when
+		RepeatStatus status = execute();
+
+		// then
+		assertEquals(RepeatStatus.FINISHED, status);
+		verifyNoInteractions(bigquery);
+	}
+
+	@Test
+	@DisplayName("insertAll 이 실패하면 예외를 던지고 watermark 는 그대로")
+	void execute_InsertErrors_ShouldThrowAndKeepWatermark() {
+		// given
+		insertAuction(1, "2025-01-02 00:00:00");
+		when(bigquery.insertAll(any())).thenReturn(insertAllResponse);
+		when(insertAllResponse.hasErrors()).thenReturn(true);
+		when(insertAllResponse.getInsertErrors()).thenReturn(
+			Map.of(0L, List.of(new BigQueryError("invalid", "max_price", "bad"))));
+
+		// when & then
+		assertThrows(IllegalStateException.class, this::execute);
+		assertEquals(Timestamp.valueOf("2025-01-01 00:00:00"), watermark());
+	}
+
+	private RepeatStatus execute() throws Exception {
+		StepContribution contribution = stepExecution.createStepContribution();
+		RepeatStatus status = tasklet.execute(contribution, new ChunkContext(new StepContext(stepExecution)));
+		stepExecution.apply(contribution);
+		return status;
+	}
+
+	private void insertAuction(long id, String modifiedAt) {
+		jdbcTemplate.update("INSERT INTO auctions VALUES (?, 1, 1000.00, TIMESTAMP '2025-01-01 00:00:00', "
+			+ "TIMESTAMP '2025-01-01 01:00:00', ?)", id, Timestamp.valueOf(modifiedAt));
+	}
+
+	private Timestamp watermark() {
+		return jdbcTemplate.queryForObject(
+			"SELECT last_processed_timestamp FROM batch_job_metadata WHERE job_name = ?", Timestamp.class, JOB_NAME);
+	}
+}
@@ -0,0 +1,60 @@
+package com.example.springbatch.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.sun.management.ThreadMXBean;
+
+// 실행 중 JVM 전체 스레드의 할당 바이트를 주기적으로 수집
+// 스레드별 누적 할당량의 최대값을 기록 => 측정 중 종료된 스레드(prefetch 등)도 마지막 표본까지 포함 (근사값)
+public class AllocationSampler implements AutoCloseable {
+
+	private final ThreadMXBean threadMXBean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+	private final Map<Long, Long> baseline = new HashMap<>();
+	private final Map<Long, Long> latest = new HashMap<>();
+	private final Thread sampler;
+	private volatile boolean running = true;
+
+	public AllocationSampler(long intervalMillis) {
+		sample(baseline);
+		sampler = new Thread(() -> {
+			while (running) {
+				sample(latest);
+				try {
+					Thread.sleep(intervalMillis);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+		}, "allocation-sampler");
+		sampler.setDaemon(true);
+		sampler.start();
+	}
+
+	private synchronized void sample(Map<Long, Long> target) {
+		long[] threadIds = threadMXBean.getAllThreadIds();
+		long[] allocated = threadMXBean.getThreadAllocatedBytes(threadIds);
+		for (int i = 0; i < threadIds.length; i++) {
+			if (allocated[i] >= 0) {
+				target.merge(threadIds[i], allocated[i], Math::max);
+			}
+		}
+	}
+
+	// 측정 시작 이후 할당된 바이트
+	public synchronized long allocatedBytes() {
+		sample(latest);
+		long total = 0;
+		for (Map.Entry<Long, Long> entry : latest.entrySet()) {
+			total += entry.getValue() - baseline.getOrDefault(entry.getKey(), 0L);
+		}
+		return total;
+	}
+
+	@Override
+	public void close() {
+		running = false;
+		sampler.interrupt();
+	}
+}
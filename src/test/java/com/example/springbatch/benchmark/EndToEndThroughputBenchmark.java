@@ -0,0 +1,159 @@
+package com.example.springbatch.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.example.springbatch.JobRunner;
+import com.example.springbatch.stats.BatchRunStats;
+import com.example.springbatch.stats.RunStatsRepository;
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
+
+// mysqlToBigQueryJob 전체 처리량 측정 (오프라인)
+// 로컬 DB(H2, MySQL 모드) + 메모리 GCS 대역(LocalStorageHelper) + 스테이징 파일을 파싱하는 BigQuery 로드 대역
+// ./gradlew benchmark --tests '*EndToEndThroughputBenchmark' [-Dbenchmark.auctions=1000000] [-Dbenchmark.chunk-size=5000]
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:e2e_benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+	"spring.datasource.username=sa",
+	"spring.datasource.password=",
+	"spring.batch.job.enabled=false",
+	"spring.autoconfigure.exclude="
+		+ "com.google.cloud.spring.autoconfigure.core.GcpContextAutoConfiguration,"
+		+ "com.google.cloud.spring.autoconfigure.bigquery.GcpBigQueryAutoConfiguration,"
+		+ "com.google.cloud.spring.autoconfigure.storage.GcpStorageAutoConfiguration",
+	"spring.cloud.gcp.storage.bucket-name=benchmark-bucket",
+	"spring.cloud.gcp.bigquery.dataset-name=benchmark_dataset",
+	"spring.cloud.gcp.bigquery.table-name=auctions_winning_bid",
+	"app.batch.job-name=mysqlToBigQueryJob",
+	"app.batch.reader.max-item-count=0",
+	"app.batch.reader.index-validation=off"
+})
+class EndToEndThroughputBenchmark {
+
+	private static final int AUCTIONS = Integer.getInteger("benchmark.auctions", 500_000);
+	private static final long SEED = Long.getLong("benchmark.seed", 42L);
+	private static final int CSV_COLUMNS = 7; // AuctionsWinningBidDto 의 CSV 컬럼 수 (lastModified 제외)
+
+	@DynamicPropertySource
+	static void scaleProperties(DynamicPropertyRegistry registry) {
+		registry.add("app.batch.chunk-size", () -> Integer.getInteger("benchmark.chunk-size", 5_000));
+		registry.add("app.batch.staging.mode", () -> System.getProperty("benchmark.staging-mode", "direct"));
+	}
+
+	@TestConfiguration
+	static class LocalFakes {
+
+		@Bean
+		Storage storage() {
+			return LocalStorageHelper.getOptions().getService();
+		}
+
+		@Bean
+		FakeBigQueryLoader fakeBigQueryLoader(Storage storage) {
+			return new FakeBigQueryLoader(storage, CSV_COLUMNS);
+		}
+
+		@Bean
+		BigQuery bigQuery(FakeBigQueryLoader fakeBigQueryLoader) {
+			return fakeBigQueryLoader.bigQuery();
+		}
+	}
+
+	@MockitoBean
+	private JobRunner jobRunner; // 시작 시 자동 실행 방지 => 데이터 적재 후 직접 실행
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private JobLauncher jobLauncher;
+
+	@Autowired
+	private Job mysqlToBigQueryJob;
+
+	@Autowired
+	private FakeBigQueryLoader fakeBigQueryLoader;
+
+	@Value("${app.batch.job-name}")
+	private String jobName;
+
+	@BeforeAll
+	void seed() {
+		long start = System.nanoTime();
+		new SyntheticAuctionDataGenerator(dataSource, SEED).generate(AUCTIONS, jobName);
+		System.out.printf("synthetic data: auctions = %,d, products = %,d, seeded in %,d ms%n",
+			AUCTIONS, AUCTIONS / 20, (System.nanoTime() - start) / 1_000_000);
+	}
+
+	@Test
+	@DisplayName("mysqlToBigQueryJob 전체 처리량")
+	void runJob() throws Exception {
+		JobExecution execution;
+		long allocatedBytes;
+		long start = System.nanoTime();
+		try (AllocationSampler sampler = new AllocationSampler(20)) {
+			execution = jobLauncher.run(mysqlToBigQueryJob, new JobParametersBuilder()
+				.addLocalDateTime("runTime", LocalDateTime.now())
+				.toJobParameters());
+			allocatedBytes = sampler.allocatedBytes();
+		}
+		long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		StepExecution stepExecution = execution.getStepExecutions().iterator().next();
+		assertEquals(AUCTIONS, stepExecution.getWriteCount());
+		assertEquals(AUCTIONS, fakeBigQueryLoader.getLoadedRows()); // 스테이징된 파일에 모든 행이 들어갔는지 확인
+
+		List<BatchRunStats> runs = new RunStatsRepository(new JdbcTemplate(dataSource)).findRecent(jobName, 1);
+		BatchRunStats stats = runs.isEmpty() ? null : runs.get(0);
+
+		System.out.println("==== mysqlToBigQueryJob end-to-end benchmark ====");
+		System.out.printf("rows              : %,d%n", stepExecution.getWriteCount());
+		System.out.printf("elapsed           : %,d ms%n", elapsedMillis);
+		System.out.printf("throughput        : %,.0f rows/s%n", stepExecution.getWriteCount() * 1000.0 / elapsedMillis);
+		System.out.printf("staged bytes      : %,d (%,d files, %.1f bytes/row)%n", fakeBigQueryLoader.getLoadedBytes(),
+			fakeBigQueryLoader.getLoadedFiles(), fakeBigQueryLoader.getLoadedBytes() / (double)AUCTIONS);
+		System.out.printf("allocated         : %,d MB (%,.0f MB/s, %,.0f bytes/row)%n", allocatedBytes >> 20,
+			(allocatedBytes >> 20) * 1000.0 / elapsedMillis, allocatedBytes / (double)AUCTIONS);
+		if (stats != null) {
+			System.out.println("-- per-stage (batch_run_stats) --");
+			System.out.printf("step              : %,d ms%n", stats.getStepMillis());
+			System.out.printf("read (page query) : %,d ms%n", stats.getReadMillis());
+			System.out.printf("csv encode        : %,d ms%n", stats.getEncodeMillis());
+			System.out.printf("gcs upload (fake) : %,d ms%n", stats.getUploadMillis());
+			System.out.printf("load (fake, parse): %,d ms%n", stats.getLoadMillis());
+			System.out.printf("other (process, commit, overlap): %,d ms%n", Math.max(0, stats.getStepMillis()
+				- stats.getReadMillis() - stats.getEncodeMillis() - stats.getUploadMillis() - stats.getLoadMillis()));
+		}
+		System.out.printf("job total         : %s%n", Duration.ofMillis(elapsedMillis));
+	}
+}
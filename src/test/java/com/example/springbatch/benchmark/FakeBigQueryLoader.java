@@ -0,0 +1,111 @@
+package com.example.springbatch.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.Job;
+import com.google.cloud.bigquery.JobId;
+import com.google.cloud.bigquery.JobInfo;
+import com.google.cloud.bigquery.JobStatistics;
+import com.google.cloud.bigquery.JobStatus;
+import com.google.cloud.bigquery.LoadJobConfiguration;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+
+// BigQuery 로드 작업 대역 => 스테이징된 GCS 파일을 실제로 읽고 CSV 를 파싱하여 행 수/컬럼 수 검증
+// (로컬 GCS 대역에서 읽으므로 네트워크 없이 동작)
+public class FakeBigQueryLoader {
+
+	private final Storage storage;
+	private final int expectedColumns;
+	private final CsvMapper csvMapper = new CsvMapper();
+
+	private final AtomicLong loadedRows = new AtomicLong();
+	private final AtomicLong loadedBytes = new AtomicLong();
+	private final AtomicLong loadedFiles = new AtomicLong();
+	private final AtomicLong parseNanos = new AtomicLong();
+
+	public FakeBigQueryLoader(Storage storage, int expectedColumns) {
+		this.storage = storage;
+		this.expectedColumns = expectedColumns;
+		this.csvMapper.enable(CsvParser.Feature.WRAP_AS_ARRAY);
+	}
+
+	// bigquery.create(JobInfo) 호출 시 파일을 파싱하고 완료된 로드 작업 반환
+	public BigQuery bigQuery() {
+		BigQuery bigquery = mock(BigQuery.class);
+		when(bigquery.create(any(JobInfo.class))).thenAnswer(invocation -> load(invocation.getArgument(0)));
+		return bigquery;
+	}
+
+	private Job load(JobInfo jobInfo) throws IOException, InterruptedException {
+		long creationTime = System.currentTimeMillis();
+		LoadJobConfiguration configuration = jobInfo.getConfiguration();
+
+		long start = System.nanoTime();
+		long rows = 0;
+		long bytes = 0;
+		for (String uri : configuration.getSourceUris()) {
+			String[] parts = uri.substring("gs://".length()).split("/", 2);
+			byte[] content = storage.readAllBytes(BlobId.of(parts[0], parts[1]));
+			bytes += content.length;
+			try (MappingIterator<String[]> iterator = csvMapper.readerFor(String[].class).readValues(content)) {
+				while (iterator.hasNext()) {
+					String[] row = iterator.next();
+					if (row.length != expectedColumns) {
+						throw new IllegalStateException("CSV 컬럼 수 불일치: 파일 = " + uri + ", 행 = " + (rows + 1)
+							+ ", 컬럼 수 = " + row.length);
+					}
+					rows++;
+				}
+			}
+		}
+		parseNanos.addAndGet(System.nanoTime() - start);
+		loadedRows.addAndGet(rows);
+		loadedBytes.addAndGet(bytes);
+		loadedFiles.addAndGet(configuration.getSourceUris().size());
+		long endTime = System.currentTimeMillis();
+
+		JobStatistics.LoadStatistics statistics = mock(JobStatistics.LoadStatistics.class);
+		when(statistics.getOutputRows()).thenReturn(rows);
+		when(statistics.getInputBytes()).thenReturn(bytes);
+		when(statistics.getBadRecords()).thenReturn(0L);
+		when(statistics.getCreationTime()).thenReturn(creationTime);
+		when(statistics.getStartTime()).thenReturn(creationTime);
+		when(statistics.getEndTime()).thenReturn(endTime);
+
+		JobStatus status = mock(JobStatus.class);
+		when(status.getError()).thenReturn(null);
+
+		Job job = mock(Job.class);
+		when(job.getJobId()).thenReturn(JobId.of("benchmark", "fake-load-" + loadedFiles.get()));
+		when(job.waitFor()).thenReturn(job);
+		when(job.getStatus()).thenReturn(status);
+		when(job.<JobStatistics.LoadStatistics>getStatistics()).thenReturn(statistics);
+		return job;
+	}
+
+	public long getLoadedRows() {
+		return loadedRows.get();
+	}
+
+	public long getLoadedBytes() {
+		return loadedBytes.get();
+	}
+
+	public long getLoadedFiles() {
+		return loadedFiles.get();
+	}
+
+	public long getParseMillis() {
+		return parseNanos.get() / 1_000_000;
+	}
+}
@@ -0,0 +1,162 @@
+package com.example.springbatch.benchmark;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// auctions/product 합성 데이터 생성기 => 실제 분포와 비슷한 치우침을 가진 데이터를 로컬 DB 에 적재
+// - 카테고리, 상품 인기도: Zipf 분포 (소수 카테고리/상품에 경매 집중)
+// - 상품명: 길이가 다양하고 일부는 쉼표/따옴표 포함 => CSV 이스케이프 비용 반영
+// - 가격: 로그 정규 분포
+// - modified_at: 대부분 경매 종료 시각 근처, 일부는 같은 시각에 몰린 일괄 수정 => 보조 정렬 키(auction_id) 비교 발생
+// - 상품 수정: 일부 상품이 최근 수정됨 => GREATEST(a.modified_at, p.modified_at) 가 상품 시각을 고르는 경우 발생
+// 같은 seed 이면 항상 같은 데이터 생성
+public class SyntheticAuctionDataGenerator {
+
+	private static final String[] CATEGORIES = {"전자기기", "패션", "가구", "도서", "스포츠", "완구", "식품", "뷰티",
+		"자동차용품", "수집품", "악기", "반려동물"};
+	private static final String[] NAME_WORDS = {"프리미엄", "한정판", "중고", "새상품", "빈티지", "Pro", "Max", "Lite",
+		"세트", "에디션", "2025", "정품", "\"특가\"", "무료배송,", "리퍼"};
+	private static final long BASE_TIME = Timestamp.valueOf("2025-01-01 00:00:00").getTime();
+	private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+	private static final int INSERT_BATCH_SIZE = 5_000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final Random random;
+
+	public SyntheticAuctionDataGenerator(DataSource dataSource, long seed) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.random = new Random(seed);
+	}
+
+	// 테이블을 새로 만들고 auctionCount 개의 경매 생성 (상품 수는 경매 수의 1/20)
+	public void generate(int auctionCount, String jobName) {
+		int productCount = Math.max(1, auctionCount / 20);
+		createTables();
+		insertProducts(productCount);
+		insertAuctions(auctionCount, productCount);
+		jdbcTemplate.update("INSERT INTO batch_job_metadata (job_name, last_processed_timestamp) VALUES (?, ?)",
+			jobName, Timestamp.valueOf("2000-01-01 00:00:00"));
+	}
+
+	private void createTables() {
+		jdbcTemplate.execute("DROP TABLE IF EXISTS auctions");
+		jdbcTemplate.execute("DROP TABLE IF EXISTS product");
+		jdbcTemplate.execute("DROP TABLE IF EXISTS batch_job_metadata");
+		jdbcTemplate.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, product_name VARCHAR(255) NOT NULL, "
+			+ "category VARCHAR(50) NOT NULL, modified_at TIMESTAMP(6) NOT NULL)");
+		jdbcTemplate.execute("CREATE TABLE auctions (id BIGINT PRIMARY KEY, product_id BIGINT NOT NULL, "
+			+ "max_price DECIMAL(15, 0) NULL, start_time TIMESTAMP(6) NOT NULL, end_time TIMESTAMP(6) NOT NULL, "
+			+ "modified_at TIMESTAMP(6) NOT NULL)");
+		jdbcTemplate.execute("CREATE INDEX idx_auctions_modified_at ON auctions (modified_at, id)");
+		jdbcTemplate.execute("CREATE INDEX idx_auctions_product_id ON auctions (product_id)");
+		jdbcTemplate.execute("CREATE TABLE batch_job_metadata (job_name VARCHAR(100) PRIMARY KEY, "
+			+ "last_processed_timestamp TIMESTAMP(6) NULL)");
+	}
+
+	private void insertProducts(int productCount) {
+		ZipfSampler categorySampler = new ZipfSampler(CATEGORIES.length, 1.2, random);
+		List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+		for (long id = 1; id <= productCount; id++) {
+			// 5% 의 상품은 최근 수정됨
+			long modifiedAt = random.nextDouble() < 0.05
+				? BASE_TIME + 85 * DAY_MILLIS + (long)(random.nextDouble() * 5 * DAY_MILLIS)
+				: BASE_TIME - (long)(random.nextDouble() * 30 * DAY_MILLIS);
+			batch.add(new Object[] {id, productName(), CATEGORIES[categorySampler.next()], new Timestamp(modifiedAt)});
+			if (batch.size() == INSERT_BATCH_SIZE) {
+				flush("INSERT INTO product (id, product_name, category, modified_at) VALUES (?, ?, ?, ?)", batch);
+			}
+		}
+		flush("INSERT INTO product (id, product_name, category, modified_at) VALUES (?, ?, ?, ?)", batch);
+	}
+
+	private void insertAuctions(int auctionCount, int productCount) {
+		ZipfSampler productSampler = new ZipfSampler(productCount, 1.1, random);
+		String sql = "INSERT INTO auctions (id, product_id, max_price, start_time, end_time, modified_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?)";
+		List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+		long burstTime = 0;
+		int burstRemaining = 0;
+		for (long id = 1; id <= auctionCount; id++) {
+			long startTime = BASE_TIME + (long)(random.nextDouble() * 90 * DAY_MILLIS);
+			long endTime = startTime + (1 + random.nextInt(7)) * DAY_MILLIS;
+
+			long modifiedAt;
+			if (burstRemaining > 0) {
+				modifiedAt = burstTime; // 일괄 수정 => 같은 시각
+				burstRemaining--;
+			} else if (random.nextDouble() < 0.001) {
+				burstTime = BASE_TIME + (long)(random.nextDouble() * 90 * DAY_MILLIS);
+				burstRemaining = 50 + random.nextInt(500);
+				modifiedAt = burstTime;
+			} else {
+				modifiedAt = endTime - (long)(random.nextDouble() * 60 * 60 * 1000);
+			}
+
+			// 10% 는 입찰 없음 (max_price NULL)
+			Long maxPrice = random.nextDouble() < 0.1 ? null : Math.round(Math.exp(9 + random.nextGaussian() * 1.5));
+			batch.add(new Object[] {id, productSampler.next() + 1L, maxPrice, new Timestamp(startTime),
+				new Timestamp(endTime), new Timestamp(modifiedAt)});
+			if (batch.size() == INSERT_BATCH_SIZE) {
+				flush(sql, batch);
+			}
+		}
+		flush(sql, batch);
+	}
+
+	private String productName() {
+		int words = 1 + random.nextInt(6);
+		StringBuilder name = new StringBuilder("상품");
+		for (int i = 0; i < words; i++) {
+			name.append(' ').append(NAME_WORDS[random.nextInt(NAME_WORDS.length)]);
+		}
+		return name.toString();
+	}
+
+	private void flush(String sql, List<Object[]> batch) {
+		if (!batch.isEmpty()) {
+			jdbcTemplate.batchUpdate(sql, batch);
+			batch.clear();
+		}
+	}
+
+	// 0 ~ n-1 범위의 Zipf 분포 표본 (누적 분포 이진 탐색)
+	private static class ZipfSampler {
+
+		private final double[] cumulative;
+		private final Random random;
+
+		ZipfSampler(int n, double exponent, Random random) {
+			this.cumulative = new double[n];
+			this.random = random;
+			double sum = 0;
+			for (int k = 0; k < n; k++) {
+				sum += 1.0 / Math.pow(k + 1, exponent);
+				cumulative[k] = sum;
+			}
+			for (int k = 0; k < n; k++) {
+				cumulative[k] /= sum;
+			}
+		}
+
+		int next() {
+			double u = random.nextDouble();
+			int low = 0;
+			int high = cumulative.length - 1;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (cumulative[mid] < u) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+}